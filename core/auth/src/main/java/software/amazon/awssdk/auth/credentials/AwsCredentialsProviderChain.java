@@ -20,10 +20,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -45,6 +50,13 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * will continue to use that provider when credentials are requested in the future, instead of traversing the chain each time.
  * This behavior can be controlled through the {@link Builder#reuseLastProviderEnabled(Boolean)} method.</p>
  *
+ * <p>{@link #resolveIdentity(ResolveIdentityRequest)} asks each provider for credentials only after the previous one failed to
+ * provide them, without blocking the calling thread to wait for them.</p>
+ *
+ * <p>When {@link Builder#parallelResolutionEnabled(Boolean)} is enabled, all the providers in the chain are asked for credentials
+ * at the same time, so that a slow provider early in the chain does not delay the ones after it. The credentials of the first
+ * provider in the chain that can provide them are still the ones returned.</p>
+ *
  * <p>This chain implements {@link AutoCloseable}. When closed, it will call the {@link AutoCloseable#close()} on any credential
  * providers in the chain that need to be closed.</p>
  */
@@ -59,6 +71,8 @@ public final class AwsCredentialsProviderChain
 
     private final boolean reuseLastProviderEnabled;
 
+    private final boolean parallelResolutionEnabled;
+
     private volatile IdentityProvider<? extends AwsCredentialsIdentity> lastUsedProvider;
 
     /**
@@ -67,6 +81,7 @@ public final class AwsCredentialsProviderChain
     private AwsCredentialsProviderChain(BuilderImpl builder) {
         Validate.notEmpty(builder.credentialsProviders, "No credential providers were specified.");
         this.reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
+        this.parallelResolutionEnabled = builder.parallelResolutionEnabled;
         this.credentialsProviders = Collections.unmodifiableList(builder.credentialsProviders);
     }
 
@@ -100,13 +115,17 @@ public final class AwsCredentialsProviderChain
     @Override
     public AwsCredentials resolveCredentials() {
         if (reuseLastProviderEnabled && lastUsedProvider != null) {
-            return CredentialUtils.toCredentials(CompletableFutureUtils.joinLikeSync(lastUsedProvider.resolveIdentity()));
+            return CredentialUtils.toCredentials(resolveCredentials(lastUsedProvider));
+        }
+
+        if (parallelResolutionEnabled) {
+            return CredentialUtils.toCredentials(CompletableFutureUtils.joinLikeSync(resolveIdentity()));
         }
 
         List<String> exceptionMessages = null;
         for (IdentityProvider<? extends AwsCredentialsIdentity> provider : credentialsProviders) {
             try {
-                AwsCredentialsIdentity credentials = CompletableFutureUtils.joinLikeSync(provider.resolveIdentity());
+                AwsCredentialsIdentity credentials = resolveCredentials(provider);
 
                 log.debug(() -> "Loading credentials from " + provider);
 
@@ -124,10 +143,88 @@ public final class AwsCredentialsProviderChain
             }
         }
 
-        throw SdkClientException.builder()
-                                .message("Unable to load credentials from any of the providers in the chain " +
-                                         this + " : " + exceptionMessages)
-                                .build();
+        throw noCredentialsException(exceptionMessages);
+    }
+
+    private static AwsCredentialsIdentity resolveCredentials(IdentityProvider<? extends AwsCredentialsIdentity> provider) {
+        if (provider instanceof AwsCredentialsProvider) {
+            return ((AwsCredentialsProvider) provider).resolveCredentials();
+        }
+        return CompletableFutureUtils.joinLikeSync(provider.resolveIdentity());
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        IdentityProvider<? extends AwsCredentialsIdentity> provider = lastUsedProvider;
+        if (reuseLastProviderEnabled && provider != null) {
+            return resolveIdentity(provider, request).thenApply(CredentialUtils::toCredentials);
+        }
+
+        if (parallelResolutionEnabled) {
+            List<CompletableFuture<? extends AwsCredentialsIdentity>> results = new ArrayList<>(credentialsProviders.size());
+            credentialsProviders.forEach(p -> results.add(resolveIdentity(p, request)));
+            return firstResolvedIdentity(results::get, 0, null);
+        }
+        return firstResolvedIdentity(i -> resolveIdentity(credentialsProviders.get(i), request), 0, null);
+    }
+
+    /**
+     * Returns the credentials of the first provider, starting at the given index, whose result is successful. The result of
+     * each provider is only requested once the previous provider failed.
+     */
+    private CompletableFuture<AwsCredentialsIdentity> firstResolvedIdentity(
+        IntFunction<CompletableFuture<? extends AwsCredentialsIdentity>> providerResult,
+        int providerIndex,
+        List<String> exceptionMessages) {
+        if (providerIndex == credentialsProviders.size()) {
+            return CompletableFutureUtils.failedFuture(noCredentialsException(exceptionMessages));
+        }
+
+        IdentityProvider<? extends AwsCredentialsIdentity> provider = credentialsProviders.get(providerIndex);
+        return providerResult.apply(providerIndex).handle((credentials, t) -> {
+            if (t == null) {
+                log.debug(() -> "Loading credentials from " + provider);
+
+                lastUsedProvider = provider;
+                return CompletableFuture.completedFuture((AwsCredentialsIdentity) CredentialUtils.toCredentials(credentials));
+            }
+
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (!(cause instanceof RuntimeException)) {
+                return CompletableFutureUtils.<AwsCredentialsIdentity>failedFuture(cause);
+            }
+
+            // Ignore any exceptions and move onto the next provider
+            String message = provider + ": " + cause.getMessage();
+            log.debug(() -> "Unable to load credentials from " + message, cause);
+
+            List<String> messages = exceptionMessages != null ? exceptionMessages : new ArrayList<>();
+            messages.add(message);
+            return firstResolvedIdentity(providerResult, providerIndex + 1, messages);
+        }).thenCompose(Function.identity());
+    }
+
+    private static CompletableFuture<? extends AwsCredentialsIdentity> resolveIdentity(
+        IdentityProvider<? extends AwsCredentialsIdentity> provider, ResolveIdentityRequest request) {
+        try {
+            return provider.resolveIdentity(request);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    /**
+     * The provider that provided the credentials most recently returned by this chain, or null if none was successful yet.
+     */
+    IdentityProvider<? extends AwsCredentialsIdentity> lastUsedProvider() {
+        return lastUsedProvider;
+    }
+
+    private SdkClientException noCredentialsException(List<String> exceptionMessages) {
+        return SdkClientException.builder()
+                                 .message("Unable to load credentials from any of the providers in the chain " +
+                                          this + " : " + exceptionMessages)
+                                 .build();
     }
 
     @Override
@@ -161,6 +258,17 @@ public final class AwsCredentialsProviderChain
          */
         Builder reuseLastProviderEnabled(Boolean reuseLastProviderEnabled);
 
+        /**
+         * Controls whether the chain should ask all of its credentials providers for credentials at the same time, instead of
+         * asking each of them only after the previous one failed. This avoids waiting for the providers that cannot provide
+         * credentials one after another, at the cost of calling providers whose credentials end up not being used. The
+         * credentials of the first provider in the chain that can provide them are returned either way.
+         *
+         * <p>
+         * By default, this is disabled
+         */
+        Builder parallelResolutionEnabled(Boolean parallelResolutionEnabled);
+
         /**
          * Configure the credentials providers that should be checked for credentials, in the order they should be checked.
          */
@@ -205,6 +313,7 @@ public final class AwsCredentialsProviderChain
 
     private static final class BuilderImpl implements Builder {
         private Boolean reuseLastProviderEnabled = true;
+        private Boolean parallelResolutionEnabled = false;
         private List<IdentityProvider<? extends AwsCredentialsIdentity>> credentialsProviders = new ArrayList<>();
 
         private BuilderImpl() {
@@ -212,6 +321,7 @@ public final class AwsCredentialsProviderChain
 
         private BuilderImpl(AwsCredentialsProviderChain provider) {
             this.reuseLastProviderEnabled = provider.reuseLastProviderEnabled;
+            this.parallelResolutionEnabled = provider.parallelResolutionEnabled;
             this.credentialsProviders = provider.credentialsProviders;
         }
 
@@ -225,6 +335,16 @@ public final class AwsCredentialsProviderChain
             reuseLastProviderEnabled(reuseLastProviderEnabled);
         }
 
+        @Override
+        public Builder parallelResolutionEnabled(Boolean parallelResolutionEnabled) {
+            this.parallelResolutionEnabled = parallelResolutionEnabled;
+            return this;
+        }
+
+        public void setParallelResolutionEnabled(Boolean parallelResolutionEnabled) {
+            parallelResolutionEnabled(parallelResolutionEnabled);
+        }
+
         @Override
         public Builder credentialsProviders(Collection<? extends AwsCredentialsProvider> credentialsProviders) {
             this.credentialsProviders = new ArrayList<>(credentialsProviders);
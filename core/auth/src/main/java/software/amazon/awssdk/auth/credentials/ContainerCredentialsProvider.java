@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.internal.ContainerCredentialsRetryPolicy;
@@ -40,6 +41,8 @@ import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader.Lo
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.regions.util.ResourcesEndpointRetryPolicy;
 import software.amazon.awssdk.utils.ComparableUtils;
@@ -165,6 +168,15 @@ public final class ContainerCredentialsProvider
         return credentialsCache.get();
     }
 
+    /**
+     * Resolve the credentials without blocking the calling thread. If they need to be loaded before they can be returned,
+     * the returned future is completed once they have been loaded in the background.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return credentialsCache.getAsync().thenApply(credentials -> credentials);
+    }
+
     @Override
     public void close() {
         credentialsCache.close();
@@ -15,12 +15,22 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.auth.credentials.internal.CredentialSourceCache;
 import software.amazon.awssdk.auth.credentials.internal.LazyAwsCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -38,6 +48,10 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  *   <li>Instance profile credentials delivered through the Amazon EC2 metadata service</li>
  * </ol>
  *
+ * <p>To reduce the time it takes to find credentials when the process starts, the sources can be asked for credentials at the
+ * same time with {@link Builder#parallelResolutionEnabled(Boolean)}, and the source that provided them can be remembered
+ * across processes with {@link Builder#credentialSourceCacheFile(Path)}.</p>
+ *
  * @see SystemPropertyCredentialsProvider
  * @see EnvironmentVariableCredentialsProvider
  * @see ProfileCredentialsProvider
@@ -50,6 +64,8 @@ public final class DefaultCredentialsProvider
     implements AwsCredentialsProvider, SdkAutoCloseable,
                ToCopyableBuilder<DefaultCredentialsProvider.Builder, DefaultCredentialsProvider> {
 
+    private static final Logger log = Logger.loggerFor(DefaultCredentialsProvider.class);
+
     private static final DefaultCredentialsProvider DEFAULT_CREDENTIALS_PROVIDER = new DefaultCredentialsProvider(builder());
 
     private final LazyAwsCredentialsProvider providerChain;
@@ -62,6 +78,10 @@ public final class DefaultCredentialsProvider
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean parallelResolutionEnabled;
+
+    private final Path credentialSourceCacheFile;
+
     /**
      * @see #builder()
      */
@@ -70,6 +90,8 @@ public final class DefaultCredentialsProvider
         this.profileName = builder.profileName;
         this.reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
+        this.parallelResolutionEnabled = builder.parallelResolutionEnabled;
+        this.credentialSourceCacheFile = builder.credentialSourceCacheFile;
         this.providerChain = createChain(builder);
     }
 
@@ -88,6 +110,8 @@ public final class DefaultCredentialsProvider
     private static LazyAwsCredentialsProvider createChain(Builder builder) {
         boolean asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         boolean reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
+        boolean parallelResolutionEnabled = builder.parallelResolutionEnabled;
+        Path credentialSourceCacheFile = builder.credentialSourceCacheFile;
 
         return LazyAwsCredentialsProvider.create(() -> {
             AwsCredentialsProvider[] credentialsProviders = new AwsCredentialsProvider[] {
@@ -110,10 +134,17 @@ public final class DefaultCredentialsProvider
                                                   .build()
             };
 
-            return AwsCredentialsProviderChain.builder()
-                                              .reuseLastProviderEnabled(reuseLastProviderEnabled)
-                                              .credentialsProviders(credentialsProviders)
-                                              .build();
+            AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                           .reuseLastProviderEnabled(reuseLastProviderEnabled)
+                                                                           .parallelResolutionEnabled(parallelResolutionEnabled)
+                                                                           .credentialsProviders(credentialsProviders)
+                                                                           .build();
+            if (credentialSourceCacheFile == null) {
+                return chain;
+            }
+
+            CredentialSourceCache sourceCache = CredentialSourceCache.create(credentialSourceCacheFile, builder.profileName);
+            return new SourceCachingCredentialsProvider(chain, credentialsProviders, sourceCache);
         });
     }
 
@@ -129,6 +160,11 @@ public final class DefaultCredentialsProvider
         return providerChain.resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return providerChain.resolveIdentity(request);
+    }
+
     @Override
     public void close() {
         providerChain.close();
@@ -146,6 +182,102 @@ public final class DefaultCredentialsProvider
         return new Builder(this);
     }
 
+    /**
+     * Tries the source remembered in a {@link CredentialSourceCache} before the chain, and remembers the source of the chain that
+     * provided credentials.
+     */
+    private static final class SourceCachingCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+        private final AwsCredentialsProviderChain chain;
+        private final CredentialSourceCache sourceCache;
+        private volatile AwsCredentialsProvider cachedSource;
+
+        private SourceCachingCredentialsProvider(AwsCredentialsProviderChain chain,
+                                                 AwsCredentialsProvider[] credentialsProviders,
+                                                 CredentialSourceCache sourceCache) {
+            this.chain = chain;
+            this.sourceCache = sourceCache;
+            this.cachedSource = sourceCache.cachedSource()
+                                           .flatMap(source -> Arrays.stream(credentialsProviders)
+                                                                    .filter(p -> sourceName(p).equals(source))
+                                                                    .findFirst())
+                                           .orElse(null);
+        }
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            AwsCredentialsProvider source = cachedSource;
+            if (source != null) {
+                try {
+                    return source.resolveCredentials();
+                } catch (RuntimeException e) {
+                    cachedSourceFailed(source, e);
+                }
+            }
+
+            AwsCredentials credentials = chain.resolveCredentials();
+            rememberSource();
+            return credentials;
+        }
+
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            AwsCredentialsProvider source = cachedSource;
+            if (source == null) {
+                return resolveIdentityFromChain(request);
+            }
+
+            CompletableFuture<AwsCredentialsIdentity> credentials;
+            try {
+                credentials = source.resolveIdentity(request);
+            } catch (RuntimeException e) {
+                credentials = CompletableFutureUtils.failedFuture(e);
+            }
+
+            return credentials.handle((c, t) -> {
+                if (t == null) {
+                    return CompletableFuture.completedFuture(c);
+                }
+                cachedSourceFailed(source, t);
+                return resolveIdentityFromChain(request);
+            }).thenCompose(Function.identity());
+        }
+
+        private CompletableFuture<AwsCredentialsIdentity> resolveIdentityFromChain(ResolveIdentityRequest request) {
+            return chain.resolveIdentity(request).thenApply(credentials -> {
+                rememberSource();
+                return credentials;
+            });
+        }
+
+        private void cachedSourceFailed(AwsCredentialsProvider source, Throwable t) {
+            log.debug(() -> "Unable to load credentials from the cached source " + source + ", searching the chain instead.", t);
+            cachedSource = null;
+        }
+
+        private void rememberSource() {
+            IdentityProvider<? extends AwsCredentialsIdentity> provider = chain.lastUsedProvider();
+            if (provider != null) {
+                sourceCache.cacheSource(sourceName(provider));
+            }
+        }
+
+        private static String sourceName(IdentityProvider<? extends AwsCredentialsIdentity> provider) {
+            return provider.getClass().getSimpleName();
+        }
+
+        @Override
+        public void close() {
+            chain.close();
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("SourceCachingCredentialsProvider")
+                           .add("chain", chain)
+                           .build();
+        }
+    }
+
     /**
      * Configuration that defines the {@link DefaultCredentialsProvider}'s behavior.
      */
@@ -154,6 +286,8 @@ public final class DefaultCredentialsProvider
         private String profileName;
         private Boolean reuseLastProviderEnabled = true;
         private Boolean asyncCredentialUpdateEnabled = false;
+        private Boolean parallelResolutionEnabled = false;
+        private Path credentialSourceCacheFile;
 
         /**
          * Created with {@link #builder()}.
@@ -166,6 +300,8 @@ public final class DefaultCredentialsProvider
             this.profileName = credentialsProvider.profileName;
             this.reuseLastProviderEnabled = credentialsProvider.reuseLastProviderEnabled;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
+            this.parallelResolutionEnabled = credentialsProvider.parallelResolutionEnabled;
+            this.credentialSourceCacheFile = credentialsProvider.credentialSourceCacheFile;
         }
 
         public Builder profileFile(ProfileFile profileFile) {
@@ -207,6 +343,35 @@ public final class DefaultCredentialsProvider
             return this;
         }
 
+        /**
+         * Configure whether all the sources of credentials should be asked for credentials at the same time, instead of one
+         * after another. This avoids waiting for each source that cannot provide credentials, such as the EC2 metadata service
+         * outside of EC2, at the cost of calling sources whose credentials end up not being used. The credentials of the first
+         * source in the order documented on {@link DefaultCredentialsProvider} are returned either way.
+         *
+         * <p>By default, this is disabled.</p>
+         *
+         * @see AwsCredentialsProviderChain.Builder#parallelResolutionEnabled(Boolean)
+         */
+        public Builder parallelResolutionEnabled(Boolean parallelResolutionEnabled) {
+            this.parallelResolutionEnabled = parallelResolutionEnabled;
+            return this;
+        }
+
+        /**
+         * Configure a file in which the source that provided credentials is remembered, so that the next process started with
+         * the same environment variables, system properties and profile files asks that source first. If that source can no
+         * longer provide credentials, the sources are searched as usual.
+         *
+         * <p>The file does not contain any credentials. Problems reading or writing it are ignored.</p>
+         *
+         * <p>By default, no file is used.</p>
+         */
+        public Builder credentialSourceCacheFile(Path credentialSourceCacheFile) {
+            this.credentialSourceCacheFile = credentialSourceCacheFile;
+            return this;
+        }
+
         /**
          * Create a {@link DefaultCredentialsProvider} using the configuration defined in this builder.
          */
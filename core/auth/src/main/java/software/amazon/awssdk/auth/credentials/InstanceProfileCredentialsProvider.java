@@ -27,6 +27,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -38,6 +39,8 @@ import software.amazon.awssdk.auth.credentials.internal.StaticResourcesEndpointP
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
@@ -149,6 +152,15 @@ public final class InstanceProfileCredentialsProvider
         return credentialsCache.get();
     }
 
+    /**
+     * Resolve the credentials without blocking the calling thread. If they need to be loaded before they can be returned,
+     * the returned future is completed once they have been loaded in the background.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return credentialsCache.getAsync().thenApply(credentials -> credentials);
+    }
+
     private RefreshResult<AwsCredentials> refreshCredentials() {
         if (isLocalCredentialLoadingDisabled()) {
             throw SdkClientException.create("IMDS credentials have been disabled by environment variable or system property.");
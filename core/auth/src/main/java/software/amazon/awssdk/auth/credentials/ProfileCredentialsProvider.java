@@ -17,15 +17,19 @@ package software.amazon.awssdk.auth.credentials;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.internal.ProfileCredentialsUtils;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
@@ -114,6 +118,21 @@ public final class ProfileCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        return currentCredentialsProvider().resolveCredentials();
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        AwsCredentialsProvider currentCredentialsProvider;
+        try {
+            currentCredentialsProvider = currentCredentialsProvider();
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return currentCredentialsProvider.resolveIdentity(request);
+    }
+
+    private AwsCredentialsProvider currentCredentialsProvider() {
         if (loadException != null) {
             throw loadException;
         }
@@ -128,7 +147,7 @@ public final class ProfileCredentialsProvider
             }
         }
 
-        return credentialsProvider.resolveCredentials();
+        return credentialsProvider;
     }
 
     private void handleProfileFileReload(ProfileFile profileFile) {
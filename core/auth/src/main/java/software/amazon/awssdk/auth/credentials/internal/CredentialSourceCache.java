@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.profiles.ProfileFileLocation;
+import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Md5Utils;
+import software.amazon.awssdk.utils.SystemSetting;
+
+/**
+ * Remembers, in a small local file, which source of the default credentials chain provided credentials, so that a later
+ * process started in the same environment can go straight to that source.
+ *
+ * <p>The source is remembered along with an environment fingerprint, and is only used while the fingerprint matches. Only the
+ * most recently written fingerprint is kept, so the file does not grow as the environment changes. The fingerprint covers which
+ * of the settings the sources of the chain read are set, the selected profile, and the location and modification time of the
+ * default profile files. It does not cover the contents of a custom profile file. Failures to read or write the file are logged
+ * and otherwise ignored, since the file is only an optimization.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CredentialSourceCache {
+    private static final Logger log = Logger.loggerFor(CredentialSourceCache.class);
+
+    private static final List<SystemSetting> FINGERPRINT_SETTINGS =
+        Arrays.asList(SdkSystemSetting.AWS_ACCESS_KEY_ID,
+                      SdkSystemSetting.AWS_WEB_IDENTITY_TOKEN_FILE,
+                      SdkSystemSetting.AWS_ROLE_ARN,
+                      SdkSystemSetting.AWS_CONTAINER_CREDENTIALS_RELATIVE_URI,
+                      SdkSystemSetting.AWS_CONTAINER_CREDENTIALS_FULL_URI,
+                      SdkSystemSetting.AWS_EC2_METADATA_DISABLED,
+                      ProfileFileSystemSetting.AWS_CONFIG_FILE,
+                      ProfileFileSystemSetting.AWS_SHARED_CREDENTIALS_FILE);
+
+    private final Path cacheFile;
+    private final String fingerprint;
+    private volatile String cachedSource;
+
+    private CredentialSourceCache(Path cacheFile, String fingerprint) {
+        this.cacheFile = cacheFile;
+        this.fingerprint = fingerprint;
+        this.cachedSource = readProperties().getProperty(fingerprint);
+    }
+
+    /**
+     * Create a cache backed by the given file, for the current environment and the given profile name, or the default profile
+     * name if it is null.
+     */
+    public static CredentialSourceCache create(Path cacheFile, String profileName) {
+        return new CredentialSourceCache(cacheFile, fingerprint(profileName));
+    }
+
+    /**
+     * The source remembered for the current environment, if any.
+     */
+    public Optional<String> cachedSource() {
+        return Optional.ofNullable(cachedSource);
+    }
+
+    /**
+     * Remember the given source for the current environment, replacing any source remembered for another environment. The file
+     * is only written when the source changes.
+     */
+    public synchronized void cacheSource(String source) {
+        if (source.equals(cachedSource)) {
+            return;
+        }
+        cachedSource = source;
+
+        Path directory = cacheFile.toAbsolutePath().getParent();
+        Path fileName = cacheFile.getFileName();
+        if (directory == null || fileName == null) {
+            log.debug(() -> "The credential source cache file " + cacheFile + " is not a file, it will not be written.");
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(fingerprint, source);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, fileName.toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, null);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to write the credential source cache file " + cacheFile, e);
+        } finally {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    private static void deleteIfExists(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to delete the temporary file " + tempFile, e);
+        }
+    }
+
+    private Properties readProperties() {
+        Properties properties = new Properties();
+        if (!Files.isRegularFile(cacheFile)) {
+            return properties;
+        }
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            properties.load(in);
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to read the credential source cache file " + cacheFile, e);
+        }
+        return properties;
+    }
+
+    static String fingerprint(String profileName) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (SystemSetting setting : FINGERPRINT_SETTINGS) {
+            fingerprint.append(setting.property()).append('=').append(setting.getNonDefaultStringValue().isPresent())
+                       .append(';');
+        }
+
+        String profile = profileName != null ? profileName : ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow();
+        fingerprint.append("profile=").append(profile).append(';');
+        appendFile(fingerprint, ProfileFileLocation.configurationFilePath());
+        appendFile(fingerprint, ProfileFileLocation.credentialsFilePath());
+
+        byte[] hash = Md5Utils.computeMD5Hash(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+        return BinaryUtils.toHex(hash);
+    }
+
+    private static void appendFile(StringBuilder fingerprint, Path file) {
+        long lastModified = 0;
+        try {
+            if (Files.exists(file)) {
+                lastModified = Files.getLastModifiedTime(file).toMillis();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to read the modification time of " + file, e);
+        }
+        fingerprint.append(file).append('=').append(lastModified).append(';');
+    }
+}
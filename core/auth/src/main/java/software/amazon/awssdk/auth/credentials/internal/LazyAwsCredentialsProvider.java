@@ -15,10 +15,13 @@
 
 package software.amazon.awssdk.auth.credentials.internal;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -45,6 +48,11 @@ public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAu
         return delegate.getValue().resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return delegate.getValue().resolveIdentity(request);
+    }
+
     @Override
     public void close() {
         IoUtils.closeIfCloseable(delegate, null);
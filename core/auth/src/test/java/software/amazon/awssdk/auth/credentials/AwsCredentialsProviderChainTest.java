@@ -16,15 +16,18 @@
 package software.amazon.awssdk.auth.credentials;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Test;
 import org.junit.jupiter.api.function.Executable;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.utils.StringInputStream;
 
@@ -120,6 +123,71 @@ public class AwsCredentialsProviderChainTest {
         assertThat(e.getMessage()).contains(provider2.exceptionMessage);
     }
 
+    @Test
+    public void resolveIdentity_firstProviderFails_usesNextProviderWithoutBlocking() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        PendingIdentityProvider provider2 = new PendingIdentityProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> credentials = chain.resolveIdentity();
+        assertThat(credentials).isNotDone();
+
+        provider2.credentials.complete(AwsBasicCredentials.create("accessKey", "secretKey"));
+        assertThat(credentials.join().accessKeyId()).isEqualTo("accessKey");
+        assertEquals(1, provider1.getCredentialsCallCount);
+
+        // The provider that provided the credentials is reused.
+        assertThat(chain.resolveIdentity().join().accessKeyId()).isEqualTo("accessKey");
+        assertEquals(1, provider1.getCredentialsCallCount);
+    }
+
+    @Test
+    public void resolveIdentity_allProvidersFail_failsWithMessageFromAllProviders() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        PendingIdentityProvider provider2 = new PendingIdentityProvider();
+        provider2.credentials.completeExceptionally(new RuntimeException("Bad!"));
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        assertThatThrownBy(() -> chain.resolveIdentity().join()).hasCauseInstanceOf(SdkClientException.class)
+                                                                .hasMessageContaining("Failed!")
+                                                                .hasMessageContaining("Bad!");
+    }
+
+    @Test
+    public void resolveIdentity_parallelResolution_asksAllProvidersButReturnsFirstProviderCredentials() {
+        PendingIdentityProvider provider1 = new PendingIdentityProvider();
+        MockCredentialsProvider provider2 = new MockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .parallelResolutionEnabled(true)
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> credentials = chain.resolveIdentity();
+        assertThat(credentials).isNotDone();
+        assertEquals(1, provider2.getCredentialsCallCount);
+
+        provider1.credentials.complete(AwsBasicCredentials.create("accessKey", "secretKey"));
+        assertThat(credentials.join().accessKeyId()).isEqualTo("accessKey");
+    }
+
+    @Test
+    public void resolveCredentials_parallelResolution_firstProviderFails_returnsNextProviderCredentials() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        MockCredentialsProvider provider2 = new MockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .parallelResolutionEnabled(true)
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        assertEquals("accessKey", chain.resolveCredentials().accessKeyId());
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(1, provider2.getCredentialsCallCount);
+    }
+
     @Test
     public void resolveCredentials_emptyChain_throwsException() {
         assertThrowsIllegalArgument(() -> AwsCredentialsProviderChain.of());
@@ -172,6 +240,20 @@ public class AwsCredentialsProviderChainTest {
         assertThat(credentials.secretAccessKey()).isEqualTo("secretKey");
     }
 
+    private static final class PendingIdentityProvider implements IdentityProvider<AwsCredentialsIdentity> {
+        private final CompletableFuture<AwsCredentialsIdentity> credentials = new CompletableFuture<>();
+
+        @Override
+        public Class<AwsCredentialsIdentity> identityType() {
+            return AwsCredentialsIdentity.class;
+        }
+
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            return credentials;
+        }
+    }
+
     private static final class MockCredentialsProvider implements AwsCredentialsProvider {
         private final StaticCredentialsProvider staticCredentialsProvider;
         private final String exceptionMessage;
@@ -17,10 +17,13 @@ package software.amazon.awssdk.auth.credentials;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.internal.CredentialSourceCache;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.utils.StringInputStream;
@@ -97,6 +100,21 @@ class DefaultCredentialsProviderTest {
         });
     }
 
+    @Test
+    void resolveCredentials_credentialSourceCacheFile_remembersSourceAcrossProviders(@TempDir Path tempDir) {
+        Path cacheFile = tempDir.resolve("credential-sources");
+        DefaultCredentialsProvider.Builder builder = DefaultCredentialsProvider.builder()
+                                                                               .profileFile(credentialFile("test", "access", "secret"))
+                                                                               .profileName("test")
+                                                                               .parallelResolutionEnabled(true)
+                                                                               .credentialSourceCacheFile(cacheFile);
+
+        assertThat(builder.build().resolveCredentials().accessKeyId()).isEqualTo("access");
+        assertThat(CredentialSourceCache.create(cacheFile, "test").cachedSource()).contains("ProfileCredentialsProvider");
+
+        assertThat(builder.build().resolveIdentity().join().accessKeyId()).isEqualTo("access");
+    }
+
     private ProfileFile credentialFile(String credentialFile) {
         return ProfileFile.builder()
                           .content(new StringInputStream(credentialFile))
@@ -45,6 +45,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
@@ -56,6 +57,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileProperty;
@@ -141,6 +143,19 @@ public class InstanceProfileCredentialsProviderTest {
         verifyImdsCallWithToken();
     }
 
+    @Test
+    public void resolveIdentity_loadsCredentialsWithoutBlocking() {
+        stubSecureCredentialsResponse(aResponse().withBody(STUB_CREDENTIALS).withFixedDelay(500));
+        InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.builder().build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> credentials = provider.resolveIdentity();
+        assertThat(credentials).isNotDone();
+
+        assertThat(credentials.join().accessKeyId()).isEqualTo("ACCESS_KEY_ID");
+        assertThat(provider.resolveIdentity()).isDone();
+        verifyImdsCallWithToken();
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {403, 404, 405})
     public void resolveCredentials_queriesTokenResource_40xError_fallbackToInsecure(int statusCode) {
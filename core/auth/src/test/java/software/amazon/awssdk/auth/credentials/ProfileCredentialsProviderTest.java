@@ -24,7 +24,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -93,6 +95,20 @@ public class ProfileCredentialsProviderTest {
         assertThatThrownBy(provider::resolveCredentials).isInstanceOf(SdkClientException.class);
     }
 
+    @Test
+    void missingProfileFailsFutureInResolveIdentity() {
+        ProfileFile file = profileFile("[default]\n"
+                                       + "aws_access_key_id = defaultAccessKey\n"
+                                       + "aws_secret_access_key = defaultSecretAccessKey");
+
+        ProfileCredentialsProvider provider =
+            ProfileCredentialsProvider.builder().profileFile(file).profileName("foo").build();
+
+        assertThat(provider.resolveIdentity()).failsWithin(Duration.ZERO)
+                                              .withThrowableOfType(ExecutionException.class)
+                                              .withCauseInstanceOf(SdkClientException.class);
+    }
+
     @Test
     void profileWithoutCredentialsThrowsExceptionInResolveCredentials() {
         ProfileFile file = profileFile("[default]");
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CredentialSourceCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachedSource_noFile_returnsEmpty() {
+        CredentialSourceCache cache = CredentialSourceCache.create(tempDir.resolve("sources"), "test");
+
+        assertThat(cache.cachedSource()).isEmpty();
+    }
+
+    @Test
+    void cacheSource_sameEnvironment_isReturnedByNewCache() {
+        Path file = tempDir.resolve("cache").resolve("sources");
+        CredentialSourceCache.create(file, "test").cacheSource("ProfileCredentialsProvider");
+
+        assertThat(CredentialSourceCache.create(file, "test").cachedSource()).contains("ProfileCredentialsProvider");
+    }
+
+    @Test
+    void cacheSource_differentProfile_isNotReturned() {
+        Path file = tempDir.resolve("sources");
+        CredentialSourceCache.create(file, "test").cacheSource("ProfileCredentialsProvider");
+
+        assertThat(CredentialSourceCache.create(file, "other").cachedSource()).isEmpty();
+    }
+
+    @Test
+    void cacheSource_differentEnvironment_replacesPreviousSource() throws IOException {
+        Path file = tempDir.resolve("sources");
+        CredentialSourceCache.create(file, "test").cacheSource("ProfileCredentialsProvider");
+        CredentialSourceCache.create(file, "other").cacheSource("InstanceProfileCredentialsProvider");
+
+        assertThat(CredentialSourceCache.create(file, "test").cachedSource()).isEmpty();
+        assertThat(CredentialSourceCache.create(file, "other").cachedSource()).contains("InstanceProfileCredentialsProvider");
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        assertThat(properties).hasSize(1);
+    }
+
+    @Test
+    void cacheSource_writeFails_deletesTemporaryFile() throws IOException {
+        // A non-empty directory cannot be replaced by the written file
+        Path file = Files.createDirectory(tempDir.resolve("sources"));
+        Files.createFile(file.resolve("child"));
+
+        CredentialSourceCache.create(file, "test").cacheSource("ProfileCredentialsProvider");
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    void cachedSource_corruptFile_returnsEmpty() throws IOException {
+        Path file = tempDir.resolve("sources");
+        Files.write(file, "\\u00zz".getBytes(StandardCharsets.UTF_8));
+
+        CredentialSourceCache cache = CredentialSourceCache.create(file, "test");
+        assertThat(cache.cachedSource()).isEmpty();
+
+        cache.cacheSource("ProfileCredentialsProvider");
+        assertThat(CredentialSourceCache.create(file, "test").cachedSource()).contains("ProfileCredentialsProvider");
+    }
+}
@@ -32,6 +32,11 @@ public final class CredentialScope {
     private final String service;
     private final Instant instant;
 
+    // Computed lazily, because the signers ask for these several times per request. Racing threads compute equal strings.
+    private String date;
+    private String datetime;
+    private String scope;
+
     public CredentialScope(String region, String service, Instant instant) {
         this.region = region;
         this.service = service;
@@ -51,15 +56,24 @@ public final class CredentialScope {
     }
 
     public String getDate() {
-        return formatDate(instant);
+        if (date == null) {
+            date = formatDate(instant);
+        }
+        return date;
     }
 
     public String getDatetime() {
-        return formatDateTime(instant);
+        if (datetime == null) {
+            datetime = formatDateTime(instant);
+        }
+        return datetime;
     }
 
     public String scope() {
-        return getDate() + "/" + region + "/" + service + "/" + AWS4_TERMINATOR;
+        if (scope == null) {
+            scope = getDate() + "/" + region + "/" + service + "/" + AWS4_TERMINATOR;
+        }
+        return scope;
     }
 
     public String scope(AwsCredentialsIdentity credentials) {
@@ -17,12 +17,11 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_SIGNING_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
-import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningWorkspace;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -33,6 +32,9 @@ import software.amazon.awssdk.utils.Logger;
  * All signing information, such as signature, signing key, canonical request, etc. is present in result object that is returned.
  * This can be used by the caller to add the auth info to the request, such as adding the signature as a query parameter or
  * building an authorization header using the signature and canonical request headers.
+ * <p>
+ * The canonical request and string-to-sign are built in the {@link SigningWorkspace} of the signing thread and hashed from
+ * there, so the canonical request string is only created if it is logged or asked for through the result.
  */
 @SdkInternalApi
 public final class DefaultV4RequestSigner implements V4RequestSigner {
@@ -49,22 +51,25 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
 
     @Override
     public V4RequestSigningResult sign(SdkHttpRequest.Builder requestBuilder) {
+        SigningWorkspace workspace = SigningWorkspace.get();
+
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        StringBuilder canonicalRequestString = workspace.text();
+        canonicalRequest.appendCanonicalRequest(canonicalRequestString);
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        byte[] canonicalRequestHash = workspace.sha256(canonicalRequestString);
 
-        // Step 2: Create a hash of the canonical request
-        String stringToSign = createSignString(canonicalRequestHash);
+        // Step 3: Create a string to sign, reusing the buffer of the canonical request
+        StringBuilder stringToSign = createSignString(workspace, canonicalRequestHash);
 
         // Step 4: Calculate the signature
         byte[] signingKey = createSigningKey();
 
-        String signature = createSignature(stringToSign, signingKey);
+        String signature = BinaryUtils.toHex(workspace.hmacSha256(stringToSign, signingKey));
 
         // Step 5: Return the results (including signature) of request signing
         return new V4RequestSigningResult(contentHash, signingKey, signature, canonicalRequest, requestBuilder);
@@ -77,16 +82,17 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         ));
     }
 
-    private String createSignString(String canonicalRequestHash) {
-        LOG.debug(() -> "AWS4 Canonical Request Hash: " + canonicalRequestHash);
+    private StringBuilder createSignString(SigningWorkspace workspace, byte[] canonicalRequestHash) {
+        LOG.debug(() -> "AWS4 Canonical Request Hash: " + BinaryUtils.toHex(canonicalRequestHash));
 
-        String stringToSign = AWS4_SIGNING_ALGORITHM +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().getDatetime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().scope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              canonicalRequestHash;
+        StringBuilder stringToSign = workspace.text();
+        stringToSign.append(AWS4_SIGNING_ALGORITHM)
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(properties.getCredentialScope().getDatetime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(properties.getCredentialScope().scope())
+                    .append(SignerConstant.LINE_SEPARATOR);
+        SigningWorkspace.appendHex(stringToSign, canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
@@ -95,8 +101,4 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
     private byte[] createSigningKey() {
         return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
     }
-
-    private String createSignature(String stringToSign, byte[] signingKey) {
-        return BinaryUtils.toHex(SignerUtils.computeSignature(stringToSign, signingKey));
-    }
 }
@@ -45,6 +45,8 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
+    private static final Comparator<Pair<String, List<String>>> HEADER_NAME_ORDER = Comparator.comparing(Pair::left);
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -53,8 +55,6 @@ public final class V4CanonicalRequest {
     private String canonicalUri;
     private SortedMap<String, List<String>> canonicalParams;
     private List<Pair<String, List<String>>> canonicalHeaders;
-    private String canonicalQueryString;
-    private String canonicalHeadersString;
     private String signedHeadersString;
     private String canonicalRequestString;
 
@@ -87,13 +87,31 @@ public final class V4CanonicalRequest {
      */
     public String getCanonicalRequestString() {
         if (canonicalRequestString == null) {
-            canonicalRequestString = getCanonicalRequestString(request.method().toString(), canonicalUri(),
-                                                               canonicalQueryString(), canonicalHeadersString(),
-                                                               getSignedHeadersString(), contentHash);
+            StringBuilder result = new StringBuilder(2048);
+            appendCanonicalRequest(result);
+            canonicalRequestString = result.toString();
         }
         return canonicalRequestString;
     }
 
+    /**
+     * Append the canonical request string to the given builder, without creating a string for it or for any of its parts other
+     * than the canonical URI and the signed headers. This lets a signer hash the canonical request straight out of a reusable
+     * buffer.
+     * <p>
+     * Each part is separated by a newline character.
+     */
+    public void appendCanonicalRequest(StringBuilder result) {
+        result.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR);
+        result.append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR);
+        SdkHttpUtils.flattenQueryParameters(result, canonicalQueryParams());
+        result.append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalHeaders(result, canonicalHeaders());
+        result.append(SignerConstant.LINE_SEPARATOR);
+        result.append(getSignedHeadersString()).append(SignerConstant.LINE_SEPARATOR);
+        result.append(contentHash);
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -115,20 +133,6 @@ public final class V4CanonicalRequest {
         return canonicalUri;
     }
 
-    private String canonicalQueryString() {
-        if (canonicalQueryString == null) {
-            canonicalQueryString = getCanonicalQueryString(canonicalQueryParams());
-        }
-        return canonicalQueryString;
-    }
-
-    private String canonicalHeadersString() {
-        if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
-        }
-        return canonicalHeadersString;
-    }
-
     /**
      * Get the list of headers that are to be signed.
      * <p>
@@ -146,7 +150,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        result.sort(HEADER_NAME_ORDER);
 
         return result;
     }
@@ -164,7 +168,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        result.sort(HEADER_NAME_ORDER);
 
         return result;
     }
@@ -185,7 +189,12 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
+        appendCanonicalHeaders(result, canonicalHeaders);
+        return result.toString();
+    }
+
+    private static void appendCanonicalHeaders(StringBuilder result, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
             result.append(header.left());
             result.append(":");
             for (String headerValue : header.right()) {
@@ -194,8 +203,7 @@ public final class V4CanonicalRequest {
             }
             result.setLength(result.length() - 1);
             result.append("\n");
-        });
-        return result.toString();
+        }
     }
 
     /**
@@ -219,22 +227,6 @@ public final class V4CanonicalRequest {
         return signedHeadersString;
     }
 
-    /**
-     * Get the canonical request string.
-     * <p>
-     * Each {@link String} parameter is separated by a newline character.
-     */
-    private static String getCanonicalRequestString(String httpMethod, String canonicalUri, String canonicalParamsString,
-                                                    String canonicalHeadersString, String signedHeadersString,
-                                                    String contentHash) {
-        return httpMethod + SignerConstant.LINE_SEPARATOR +
-               canonicalUri + SignerConstant.LINE_SEPARATOR +
-               canonicalParamsString + SignerConstant.LINE_SEPARATOR +
-               canonicalHeadersString + SignerConstant.LINE_SEPARATOR +
-               signedHeadersString + SignerConstant.LINE_SEPARATOR +
-               contentHash;
-    }
-
     /**
      * "The addAndTrim function removes excess white space before and after values, and converts sequential spaces to a single
      * space."
@@ -358,25 +350,6 @@ public final class V4CanonicalRequest {
         return sorted;
     }
 
-    /**
-     * Get the string representing query string parameters. Parameters are URL-encoded and separated by an ampersand.
-     * <p>
-     * Reserved characters are percent-encoded, names and values are encoded separately and empty parameters have an equals-sign
-     * appended before encoding.
-     * <p>
-     * After encoding, parameters are sorted alphabetically by key name.
-     * <p>
-     * If no query string is given, an empty string ("") is returned.
-     */
-    private static String getCanonicalQueryString(SortedMap<String, List<String>> canonicalParams) {
-        if (canonicalParams.isEmpty()) {
-            return "";
-        }
-        StringBuilder stringBuilder = new StringBuilder(512);
-        SdkHttpUtils.flattenQueryParameters(stringBuilder, canonicalParams);
-        return stringBuilder.toString();
-    }
-
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.DigestAlgorithm;
+
+/**
+ * Per-thread scratch space used while computing a SigV4 signature, so that the canonical request and string-to-sign of
+ * every request can be built, hashed and signed without allocating intermediate strings or byte arrays.
+ * <p>
+ * Text is built in a reusable {@link StringBuilder} and encoded to UTF-8 in fixed-size chunks directly into the
+ * {@link MessageDigest} or {@link Mac}, which produces the same bytes as {@code String.getBytes(StandardCharsets.UTF_8)}.
+ * <p>
+ * A workspace must only be used by the thread that obtained it from {@link #get()}, and the arrays it returns are only valid
+ * until it is used again.
+ */
+@SdkInternalApi
+public final class SigningWorkspace {
+    private static final ThreadLocal<SigningWorkspace> WORKSPACE = ThreadLocal.withInitial(SigningWorkspace::new);
+
+    // The same initial capacity as the canonical headers, which usually make up most of a canonical request.
+    private static final int INITIAL_TEXT_CAPACITY = 2048;
+
+    // Don't keep a buffer that an unusually large request grew around for the rest of the thread's life.
+    private static final int MAX_RETAINED_TEXT_CAPACITY = 64 * 1024;
+
+    private static final int ENCODE_BUFFER_SIZE = 4096;
+    private static final int SHA256_LENGTH = 32;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private StringBuilder text = new StringBuilder(INITIAL_TEXT_CAPACITY);
+    private final byte[] encodeBuffer = new byte[ENCODE_BUFFER_SIZE];
+    private final byte[] hash = new byte[SHA256_LENGTH];
+    private final byte[] signature = new byte[SHA256_LENGTH];
+
+    private SigningWorkspace() {
+    }
+
+    /**
+     * Returns the workspace of the current thread.
+     */
+    public static SigningWorkspace get() {
+        return WORKSPACE.get();
+    }
+
+    /**
+     * Returns the reusable text buffer of this workspace, emptied.
+     */
+    public StringBuilder text() {
+        if (text.capacity() > MAX_RETAINED_TEXT_CAPACITY) {
+            text = new StringBuilder(INITIAL_TEXT_CAPACITY);
+        } else {
+            text.setLength(0);
+        }
+        return text;
+    }
+
+    /**
+     * Computes the SHA-256 hash of the UTF-8 encoding of the given text. The returned array is owned by this workspace.
+     */
+    public byte[] sha256(CharSequence data) {
+        try {
+            MessageDigest digest = DigestAlgorithm.SHA256.getDigest();
+            encode(data, digest, null);
+            digest.digest(hash, 0, hash.length);
+            return hash;
+        } catch (DigestException e) {
+            throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        }
+    }
+
+    /**
+     * Computes the HMAC-SHA256 of the UTF-8 encoding of the given text with the given key. The returned array is owned by this
+     * workspace.
+     */
+    public byte[] hmacSha256(CharSequence data, byte[] key) {
+        try {
+            Mac mac = SigningAlgorithm.HMAC_SHA256.getMac();
+            mac.init(new SecretKeySpec(key, SigningAlgorithm.HMAC_SHA256.getAlgorithmName()));
+            encode(data, null, mac);
+            mac.doFinal(signature, 0);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+    }
+
+    /**
+     * Appends the lower-case hex encoding of the given bytes to the given builder.
+     */
+    public static void appendHex(StringBuilder builder, byte[] data) {
+        for (byte b : data) {
+            builder.append(HEX_DIGITS[(b >> 4) & 0xF]);
+            builder.append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
+    /**
+     * Encodes the given text to UTF-8 and feeds it to either the digest or the mac. Unpaired surrogates are encoded as '?',
+     * like {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private void encode(CharSequence data, MessageDigest digest, Mac mac) {
+        byte[] buffer = encodeBuffer;
+        int position = 0;
+        int length = data.length();
+        for (int i = 0; i < length; i++) {
+            if (position > buffer.length - 4) {
+                update(digest, mac, position);
+                position = 0;
+            }
+
+            char c = data.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = (byte) '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        update(digest, mac, position);
+    }
+
+    private void update(MessageDigest digest, Mac mac, int length) {
+        if (digest != null) {
+            digest.update(encodeBuffer, 0, length);
+        } else {
+            mac.update(encodeBuffer, 0, length);
+        }
+    }
+}
@@ -183,6 +183,31 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void appendCanonicalRequest_matchesCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .encodedPath("/foo/bar")
+                                               .putRawQueryParameter("b", Arrays.asList("2", "1"))
+                                               .putRawQueryParameter("a", "x y")
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("X-Amz-Meta", Arrays.asList(" a  b ", "c"))
+                                               .putHeader("User-Agent", "ignored")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        StringBuilder builder = new StringBuilder("prefix");
+        cr.appendCanonicalRequest(builder);
+
+        assertEquals("GET\n/foo/bar\na=x%20y&b=1&b=2\nhost:localhost\nx-amz-meta:a b,c\n\nhost;x-amz-meta\nsha-256",
+                     cr.getCanonicalRequestString());
+        assertEquals("prefix" + cr.getCanonicalRequestString(), builder.toString());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.StringUtils;
+
+public class SigningWorkspaceTest {
+    private static final byte[] KEY = "signing-key".getBytes(StandardCharsets.UTF_8);
+
+    public static List<String> texts() {
+        return Arrays.asList(
+            "",
+            "GET\n/\n\nhost:localhost\n\nhost\nUNSIGNED-PAYLOAD",
+            "caf\u00e9 \u00fcber \u20ac",
+            "emoji \ud83d\ude00 pair",
+            "unpaired \ud83d high and \ude00 low",
+            "ends with high \ud83d",
+            StringUtils.repeat("abc\u00e9\u20ac\ud83d\ude00", 1000)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    public void sha256_matchesHashOfUtf8Bytes(String text) {
+        SigningWorkspace workspace = SigningWorkspace.get();
+        StringBuilder builder = workspace.text().append(text);
+
+        assertThat(workspace.sha256(builder)).isEqualTo(SignerUtils.hash(text));
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    public void hmacSha256_matchesComputeSignature(String text) {
+        SigningWorkspace workspace = SigningWorkspace.get();
+
+        assertThat(workspace.hmacSha256(text, KEY)).isEqualTo(SignerUtils.computeSignature(text, KEY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    public void appendHex_matchesToHex(String text) {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        StringBuilder builder = new StringBuilder();
+
+        SigningWorkspace.appendHex(builder, data);
+
+        assertThat(builder.toString()).isEqualTo(BinaryUtils.toHex(data));
+    }
+
+    @ParameterizedTest
+    @MethodSource("texts")
+    public void text_isEmptiedOnEveryCall(String text) {
+        SigningWorkspace workspace = SigningWorkspace.get();
+        workspace.text().append(text);
+
+        assertThat(workspace.text()).isEmpty();
+    }
+}
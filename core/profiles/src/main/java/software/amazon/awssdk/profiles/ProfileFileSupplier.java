@@ -16,8 +16,10 @@
 package software.amazon.awssdk.profiles;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +27,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.profiles.internal.ProfileFileRefresher;
+import software.amazon.awssdk.profiles.internal.ProfileFileWatcher;
 
 /**
  * Encapsulates the logic for supplying either a single or multiple ProfileFile instances.
@@ -97,6 +100,47 @@ public interface ProfileFileSupplier extends Supplier<ProfileFile> {
         };
     }
 
+    /**
+     * Creates a {@link ProfileFileSupplier} capable of producing multiple profile objects by aggregating the default
+     * credentials and configuration files as determined by {@link ProfileFileLocation#credentialsFileLocation()} and
+     * {@link ProfileFileLocation#configurationFileLocation()}. Unlike {@link #defaultSupplier()}, the files are reloaded in the
+     * background when they change, as described in {@link #reloadWhenChanged(Path, ProfileFile.Type)}, so calls to the
+     * supplier do not check the files.
+     *
+     * @return Implementation of {@link ProfileFileSupplier} that is capable of supplying a new aggregate profile when either file
+     *         has changed.
+     */
+    static ProfileFileSupplier defaultWatchingSupplier() {
+        List<ProfileFileSupplier> suppliers = new ArrayList<>(2);
+        ProfileFileLocation.credentialsFileLocation()
+                           .ifPresent(path -> suppliers.add(reloadWhenChanged(path, ProfileFile.Type.CREDENTIALS)));
+        ProfileFileLocation.configurationFileLocation()
+                           .ifPresent(path -> suppliers.add(reloadWhenChanged(path, ProfileFile.Type.CONFIGURATION)));
+
+        if (suppliers.isEmpty()) {
+            return () -> ProfileFile.builder().build();
+        }
+        return aggregate(suppliers.toArray(new ProfileFileSupplier[0]));
+    }
+
+    /**
+     * Creates a {@link ProfileFileSupplier} capable of producing multiple profile objects from a file. The file is loaded on
+     * the first call to the supplier, and is then reloaded in the background whenever it changes. Changes are detected with a
+     * {@link java.nio.file.WatchService} when the file system supports it, or by polling the modification time of the file
+     * every few seconds otherwise. Calls to the supplier return the most recently loaded profile without any I/O.
+     *
+     * <p>If the file cannot be loaded after it changed, for example while it is being rewritten, the previously loaded profile
+     * keeps being supplied.
+     *
+     * @param path Path to the file to read from.
+     * @param type The type of file. See {@link ProfileFile.Type} for possible values.
+     * @return Implementation of {@link ProfileFileSupplier} that is capable of supplying a new profile when the file
+     *         has changed.
+     */
+    static ProfileFileSupplier reloadWhenChanged(Path path, ProfileFile.Type type) {
+        return ProfileFileWatcher.create(path, type)::get;
+    }
+
     /**
      * Creates a {@link ProfileFileSupplier} that produces an existing profile.
      *
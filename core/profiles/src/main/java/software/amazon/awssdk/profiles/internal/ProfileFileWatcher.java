@@ -0,0 +1,312 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Supplies the {@link ProfileFile} loaded from a file on disk, and reloads it in the background when the file changes.
+ *
+ * <p>Changes are detected with a {@link WatchService} on the directory of the file and, when the file is a symbolic link, on
+ * the directory of the file it resolves to. A change to any symbolic link in those directories also reloads the file, so that
+ * files in mounts that are updated by swapping a symbolic link, like Kubernetes secrets, are reloaded. Because a link can be
+ * changed to point somewhere that is not watched, the modification time of the file is also polled in the background, which is
+ * the only way changes are detected when the file system cannot watch the directory. Either way, {@link #get()} does no I/O
+ * once the file has been loaded: it returns the most recently loaded {@link ProfileFile}, which is swapped atomically when the
+ * file is reloaded.
+ *
+ * <p>If the file cannot be loaded when it changes, for example because it was deleted or because it is being written, the
+ * previously loaded {@link ProfileFile} keeps being returned until the file can be loaded again.
+ *
+ * <p>The background threads only hold weak references to the watchers, so a watcher stops being watched once it is no longer
+ * used.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ProfileFileWatcher implements Supplier<ProfileFile> {
+    private static final Logger log = Logger.loggerFor(ProfileFileWatcher.class);
+
+    private final Path path;
+    private final Supplier<ProfileFile> loader;
+    private final boolean watchServiceEnabled;
+    private volatile ProfileFile profileFile;
+    private volatile FileTime loadedModificationTime;
+    private volatile Path realPath;
+    private boolean watching;
+
+    private ProfileFileWatcher(Path path, ProfileFile.Type type, boolean watchServiceEnabled) {
+        this.path = path.toAbsolutePath().normalize();
+        ProfileFile.Builder builder = ProfileFile.builder()
+                                                 .content(this.path)
+                                                 .type(type);
+        this.loader = builder::build;
+        this.watchServiceEnabled = watchServiceEnabled;
+    }
+
+    /**
+     * Create a watcher for the profile file of the given type at the given path. The file is loaded when the watcher is first
+     * used.
+     */
+    public static ProfileFileWatcher create(Path path, ProfileFile.Type type) {
+        return new ProfileFileWatcher(path, type, true);
+    }
+
+    /**
+     * Create a watcher that polls the modification time of the file, instead of using a {@link WatchService}.
+     */
+    static ProfileFileWatcher createPolling(Path path, ProfileFile.Type type) {
+        return new ProfileFileWatcher(path, type, false);
+    }
+
+    /**
+     * Returns the most recently loaded profile file. The first call loads the file, and fails if it cannot be loaded.
+     */
+    @Override
+    public ProfileFile get() {
+        ProfileFile current = profileFile;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (profileFile == null) {
+                // Watch before loading, so that a change made while the file is loaded is not missed
+                if (!watching) {
+                    Monitor.INSTANCE.watch(this);
+                    watching = true;
+                }
+                loadedModificationTime = modificationTime();
+                profileFile = loader.get();
+            }
+            return profileFile;
+        }
+    }
+
+    /**
+     * Whether a change to the given file, in a watched directory, may have changed this watcher's file.
+     */
+    private boolean affectedBy(Path changedFile) {
+        return changedFile.equals(path) || changedFile.equals(realPath) || Files.isSymbolicLink(changedFile);
+    }
+
+    private void reloadIfModified() {
+        FileTime modificationTime = modificationTime();
+        if (modificationTime != null && !modificationTime.equals(loadedModificationTime)) {
+            reload();
+        }
+    }
+
+    private void reload() {
+        try {
+            FileTime modificationTime = modificationTime();
+            ProfileFile reloaded = loader.get();
+            loadedModificationTime = modificationTime;
+            if (!reloaded.equals(profileFile)) {
+                log.debug(() -> "Reloaded profile file " + path);
+                profileFile = reloaded;
+            }
+        } catch (RuntimeException e) {
+            log.debug(() -> "Unable to reload profile file " + path + ", the previously loaded file will be used.", e);
+        }
+    }
+
+    private FileTime modificationTime() {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException | RuntimeException e) {
+            // The file may be missing or its file system closed; it is reloaded once its modification time can be read again
+            return null;
+        }
+    }
+
+    /**
+     * Watches the files of all watchers on a single background thread, and polls the files that cannot be watched on another.
+     */
+    private static final class Monitor {
+        private static final Monitor INSTANCE = new Monitor();
+
+        private static final long POLL_INTERVAL_SECONDS = 2;
+
+        private final Map<WatchKey, List<WeakReference<ProfileFileWatcher>>> watchersByKey = new HashMap<>();
+        private final List<WeakReference<ProfileFileWatcher>> polledWatchers = new ArrayList<>();
+        private WatchService watchService;
+        private ScheduledExecutorService poller;
+
+        private synchronized void watch(ProfileFileWatcher watcher) {
+            if (watcher.watchServiceEnabled) {
+                register(watcher);
+            }
+            // Also poll when the directory is watched, to catch changes through symbolic links that point elsewhere
+            poll(watcher);
+        }
+
+        private void register(ProfileFileWatcher watcher) {
+            if (watcher.path.getParent() == null || watcher.path.getFileSystem() != FileSystems.getDefault()) {
+                return;
+            }
+
+            Set<Path> directories = new LinkedHashSet<>();
+            directories.add(watcher.path.getParent());
+            try {
+                watcher.realPath = watcher.path.toRealPath();
+                directories.add(watcher.realPath.getParent());
+            } catch (IOException | RuntimeException e) {
+                // The file does not exist yet; it is found by watching its directory or by polling once it is created
+            }
+            directories.forEach(directory -> register(watcher, directory));
+        }
+
+        private void register(ProfileFileWatcher watcher, Path directory) {
+            try {
+                if (watchService == null) {
+                    watchService = FileSystems.getDefault().newWatchService();
+                    Thread thread = new ThreadFactoryBuilder().threadNamePrefix("sdk-profile-file-watcher")
+                                                              .daemonThreads(true)
+                                                              .build()
+                                                              .newThread(this::processEvents);
+                    thread.start();
+                }
+                WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+                watchersByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(new WeakReference<>(watcher));
+            } catch (IOException | RuntimeException e) {
+                log.debug(() -> "Unable to watch " + directory + " for changes, the modification time of the profile file will "
+                                + "only be polled.", e);
+            }
+        }
+
+        private void poll(ProfileFileWatcher watcher) {
+            if (poller == null) {
+                poller = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().threadNamePrefix("sdk-profile-file-poller").daemonThreads(true).build());
+                poller.scheduleWithFixedDelay(this::pollWatchers, POLL_INTERVAL_SECONDS, POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            }
+            polledWatchers.add(new WeakReference<>(watcher));
+        }
+
+        private void pollWatchers() {
+            for (ProfileFileWatcher watcher : liveWatchers(polledWatchers)) {
+                watcher.reloadIfModified();
+            }
+        }
+
+        private void processEvents() {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    Path directory = (Path) key.watchable();
+                    List<Path> changedFiles = new ArrayList<>();
+                    boolean overflow = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            overflow = true;
+                        } else {
+                            changedFiles.add(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    boolean valid = key.reset();
+
+                    List<ProfileFileWatcher> watchers = watchers(key);
+                    if (!valid) {
+                        // The directory can no longer be watched, for example because it was deleted; the file is still polled
+                        unregister(key);
+                    }
+                    for (ProfileFileWatcher watcher : watchers) {
+                        if (overflow) {
+                            watcher.reloadIfModified();
+                        } else if (changedFiles.stream().anyMatch(watcher::affectedBy)) {
+                            watcher.reload();
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException e) {
+                log.debug(() -> "The profile file watch service was closed.", e);
+            }
+        }
+
+        private synchronized void unregister(WatchKey key) {
+            watchersByKey.remove(key);
+        }
+
+        private synchronized List<ProfileFileWatcher> watchers(WatchKey key) {
+            List<WeakReference<ProfileFileWatcher>> references = watchersByKey.get(key);
+            if (references == null) {
+                return new ArrayList<>();
+            }
+
+            List<ProfileFileWatcher> watchers = liveWatchers(references);
+            if (watchers.isEmpty()) {
+                key.cancel();
+                watchersByKey.remove(key);
+            }
+            return watchers;
+        }
+
+        private List<ProfileFileWatcher> liveWatchers(List<WeakReference<ProfileFileWatcher>> references) {
+            List<ProfileFileWatcher> watchers = new ArrayList<>();
+            synchronized (this) {
+                Iterator<WeakReference<ProfileFileWatcher>> iterator = references.iterator();
+                while (iterator.hasNext()) {
+                    ProfileFileWatcher watcher = iterator.next().get();
+                    if (watcher == null) {
+                        iterator.remove();
+                    } else {
+                        watchers.add(watcher);
+                    }
+                }
+            }
+            return watchers;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ProfileFileWatcher")
+                       .add("path", path)
+                       .build();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.ProfileFileSupplier;
+
+class ProfileFileWatcherTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get_fileUnchanged_returnsSameInstance() throws IOException {
+        Path path = writeCredentials(tempDir.resolve("credentials"), "first");
+        ProfileFileWatcher watcher = ProfileFileWatcher.create(path, ProfileFile.Type.CREDENTIALS);
+
+        assertThat(accessKeyId(watcher.get())).contains("first");
+        assertThat(watcher.get()).isSameAs(watcher.get());
+    }
+
+    @Test
+    void get_fileChanged_reloadsProfileFileInBackground() throws IOException {
+        Path path = writeCredentials(tempDir.resolve("credentials"), "first");
+        ProfileFileWatcher watcher = ProfileFileWatcher.create(path, ProfileFile.Type.CREDENTIALS);
+        assertThat(accessKeyId(watcher.get())).contains("first");
+
+        writeCredentials(path, "second");
+
+        awaitAccessKeyId(watcher, "second");
+    }
+
+    @Test
+    void get_fileReplaced_reloadsProfileFileInBackground() throws IOException {
+        Path path = writeCredentials(tempDir.resolve("credentials"), "first");
+        ProfileFileSupplier supplier = ProfileFileSupplier.reloadWhenChanged(path, ProfileFile.Type.CREDENTIALS);
+        assertThat(accessKeyId(supplier.get())).contains("first");
+
+        Files.delete(path);
+        assertThat(accessKeyId(supplier.get())).contains("first");
+
+        writeCredentials(path, "second");
+        awaitAccessKeyId(supplier, "second");
+    }
+
+    @Test
+    void get_symbolicLinkTargetChanged_reloadsProfileFileInBackground() throws IOException {
+        Path target = writeCredentials(Files.createDirectory(tempDir.resolve("target")).resolve("credentials"), "first");
+        Path path = Files.createSymbolicLink(Files.createDirectory(tempDir.resolve("aws")).resolve("credentials"), target);
+        ProfileFileWatcher watcher = ProfileFileWatcher.create(path, ProfileFile.Type.CREDENTIALS);
+        assertThat(accessKeyId(watcher.get())).contains("first");
+
+        writeCredentials(target, "second");
+
+        awaitAccessKeyId(watcher, "second");
+    }
+
+    @Test
+    void get_symbolicLinkedDirectorySwapped_reloadsProfileFileInBackground() throws IOException {
+        // The layout of a Kubernetes secret or config map volume, which is updated by replacing the ..data link
+        writeCredentials(Files.createDirectory(tempDir.resolve("..2024_01")).resolve("credentials"), "first");
+        writeCredentials(Files.createDirectory(tempDir.resolve("..2024_02")).resolve("credentials"), "second");
+        Files.createSymbolicLink(tempDir.resolve("..data"), tempDir.resolve("..2024_01").getFileName());
+        Path path = Files.createSymbolicLink(tempDir.resolve("credentials"), Paths.get("..data", "credentials"));
+        ProfileFileWatcher watcher = ProfileFileWatcher.create(path, ProfileFile.Type.CREDENTIALS);
+        assertThat(accessKeyId(watcher.get())).contains("first");
+
+        Path newData = Files.createSymbolicLink(tempDir.resolve("..data_tmp"), tempDir.resolve("..2024_02").getFileName());
+        Files.move(newData, tempDir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+        awaitAccessKeyId(watcher, "second");
+    }
+
+    @Test
+    void get_pollingWatcher_reloadsProfileFileInBackground() throws IOException {
+        Path path = writeCredentials(tempDir.resolve("credentials"), "first");
+        ProfileFileWatcher watcher = ProfileFileWatcher.createPolling(path, ProfileFile.Type.CREDENTIALS);
+        assertThat(accessKeyId(watcher.get())).contains("first");
+
+        writeCredentials(path, "second");
+        touch(path);
+
+        awaitAccessKeyId(watcher, "second");
+    }
+
+    @Test
+    void get_fileOnOtherFileSystem_pollsForChanges() throws IOException {
+        try (FileSystem fileSystem = Jimfs.newFileSystem()) {
+            Path path = writeCredentials(fileSystem.getPath("credentials"), "first");
+            ProfileFileWatcher watcher = ProfileFileWatcher.create(path, ProfileFile.Type.CREDENTIALS);
+            assertThat(accessKeyId(watcher.get())).contains("first");
+
+            writeCredentials(path, "second");
+            touch(path);
+
+            awaitAccessKeyId(watcher, "second");
+        }
+    }
+
+    private static Path writeCredentials(Path path, String accessKeyId) throws IOException {
+        String contents = String.format("[default]\naws_access_key_id = %s\naws_secret_access_key = secret\n", accessKeyId);
+        return Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Makes sure that the modification time of a file that was just rewritten differs from the one it was loaded with.
+     */
+    private static void touch(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().plusSeconds(10)));
+    }
+
+    private static Optional<String> accessKeyId(ProfileFile profileFile) {
+        return profileFile.profile("default").flatMap(p -> p.property("aws_access_key_id"));
+    }
+
+    private static void awaitAccessKeyId(Supplier<ProfileFile> supplier, String accessKeyId) {
+        Instant deadline = Instant.now().plus(TIMEOUT);
+        while (!accessKeyId(supplier.get()).filter(accessKeyId::equals).isPresent()) {
+            assertThat(Instant.now()).as("Time waiting for the profile file to be reloaded").isBefore(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -15,40 +15,119 @@
 
 package software.amazon.awssdk.regions.providers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 /**
  * Composite {@link AwsRegionProvider} that sequentially delegates to a chain of providers looking
  * for region information.
  *
  * Throws an {@link SdkClientException} if region could not be find in any of the providers.
+ *
+ * When parallel resolution is enabled, the providers are asked for the region on background threads. Each provider is given a
+ * short head start before the next one is asked, and no more providers are asked once one has found a region, so slow
+ * providers, like the EC2 metadata service, are only asked when the providers before them have not already answered. The
+ * region of the first provider in the chain that finds one is returned.
  */
 @SdkProtectedApi
 public class AwsRegionProviderChain implements AwsRegionProvider {
 
     private static final Logger log = LoggerFactory.getLogger(AwsRegionProviderChain.class);
 
+    private static final ExecutorService PARALLEL_RESOLUTION_EXECUTOR =
+        Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-region-provider")
+                                                                .daemonThreads(true)
+                                                                .build());
+
+    /**
+     * How long a provider is given to answer before the next provider in the chain is also asked, when resolving in parallel.
+     */
+    private static final Duration PARALLEL_RESOLUTION_HEAD_START = Duration.ofMillis(100);
+
     private final List<AwsRegionProvider> providers;
 
+    private final boolean parallelResolutionEnabled;
+
     public AwsRegionProviderChain(AwsRegionProvider... providers) {
+        this(false, providers);
+    }
+
+    AwsRegionProviderChain(boolean parallelResolutionEnabled, AwsRegionProvider... providers) {
         this.providers = new ArrayList<>(providers.length);
         Collections.addAll(this.providers, providers);
+        this.parallelResolutionEnabled = parallelResolutionEnabled;
     }
 
     @Override
     public Region getRegion() throws SdkClientException {
+        if (parallelResolutionEnabled) {
+            List<CompletableFuture<Region>> regions = new ArrayList<>(providers.size());
+            for (AwsRegionProvider provider : providers) {
+                if (regions.stream().anyMatch(AwsRegionProviderChain::foundRegion)) {
+                    // The providers that were not asked come later in the chain, so their region would not be used
+                    break;
+                }
+                CompletableFuture<Region> region = CompletableFuture.supplyAsync(provider::getRegion,
+                                                                                 PARALLEL_RESOLUTION_EXECUTOR);
+                regions.add(region);
+                awaitHeadStart(region);
+            }
+            return firstRegion(regions.size(), i -> joinRegion(regions.get(i)));
+        }
+        return firstRegion(providers.size(), i -> providers.get(i).getRegion());
+    }
+
+    private static boolean foundRegion(CompletableFuture<Region> region) {
+        return region.isDone() && !region.isCompletedExceptionally() && region.join() != null;
+    }
+
+    private static void awaitHeadStart(CompletableFuture<Region> region) {
+        try {
+            region.get(PARALLEL_RESOLUTION_HEAD_START.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // The outcome is handled when the regions are joined in chain order
+        }
+    }
+
+    private static Region joinRegion(CompletableFuture<Region> region) {
+        try {
+            return CompletableFutureUtils.joinLikeSync(region);
+        } catch (CompletionException e) {
+            // Errors short circuit the chain, like they do when the providers are asked one after another
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private Region firstRegion(int providerCount, IntFunction<Region> providerRegion) {
         List<String> exceptionMessages = null;
 
-        for (AwsRegionProvider provider : providers) {
+        for (int i = 0; i < providerCount; i++) {
+            AwsRegionProvider provider = providers.get(i);
             try {
-                Region region = provider.getRegion();
+                Region region = providerRegion.apply(i);
                 if (region != null) {
                     return region;
                 }
@@ -37,7 +37,8 @@ public final class DefaultAwsRegionProviderChain extends AwsRegionProviderChain
     }
 
     private DefaultAwsRegionProviderChain(Builder builder) {
-        super(new SystemSettingsRegionProvider(),
+        super(builder.parallelResolutionEnabled,
+              new SystemSettingsRegionProvider(),
               new AwsProfileRegionProvider(builder.profileFile, builder.profileName),
               new InstanceProfileRegionProvider());
     }
@@ -49,6 +50,7 @@ public final class DefaultAwsRegionProviderChain extends AwsRegionProviderChain
     public static final class Builder {
         private Supplier<ProfileFile> profileFile;
         private String profileName;
+        private boolean parallelResolutionEnabled;
 
         private Builder() {
         }
@@ -63,6 +65,20 @@ public final class DefaultAwsRegionProviderChain extends AwsRegionProviderChain
             return this;
         }
 
+        /**
+         * Configure whether the sources of the region should be checked on background threads, with each source given a short
+         * head start before the next one is also checked, instead of waiting for each source in turn. Sources are no longer
+         * checked once one has found a region, so the EC2 metadata service is not called when the region is already configured.
+         * When it is called, the call overlaps with any source before it that is slow to answer. The region of the first
+         * source in the order documented above is returned either way.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        public Builder parallelResolutionEnabled(boolean parallelResolutionEnabled) {
+            this.parallelResolutionEnabled = parallelResolutionEnabled;
+            return this;
+        }
+
         public DefaultAwsRegionProviderChain build() {
             return new DefaultAwsRegionProviderChain(this);
         }
@@ -21,6 +21,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.regions.Region;
@@ -84,6 +86,63 @@ public class AwsRegionProviderChainTest {
        chain.getRegion();
     }
 
+    @Test
+    public void parallelResolution_providersAreAskedAtTheSameTime_ReturnsRegionOfFirstProvider() {
+        CountDownLatch secondProviderAsked = new CountDownLatch(1);
+        Region expectedRegion = Region.of("some-region-string");
+        AwsRegionProviderChain chain = new AwsRegionProviderChain(true,
+                                                                  () -> {
+                                                                      awaitUninterruptibly(secondProviderAsked);
+                                                                      return expectedRegion;
+                                                                  },
+                                                                  () -> {
+                                                                      secondProviderAsked.countDown();
+                                                                      return Region.of("other-region-string");
+                                                                  });
+        assertEquals(expectedRegion, chain.getRegion());
+    }
+
+    @Test
+    public void parallelResolution_firstProviderFindsRegion_DoesNotAskLaterProviders() {
+        AwsRegionProvider laterProvider = mock(AwsRegionProvider.class);
+        Region expectedRegion = Region.of("some-region-string");
+        AwsRegionProviderChain chain = new AwsRegionProviderChain(true,
+                                                                  new StaticAwsRegionProvider(expectedRegion),
+                                                                  laterProvider);
+        assertEquals(expectedRegion, chain.getRegion());
+        verify(laterProvider, never()).getRegion();
+    }
+
+    @Test
+    public void parallelResolution_providerThrowsException_ContinuesToNextInChain() {
+        final Region expectedRegion = Region.of("some-region-string");
+        AwsRegionProviderChain chain = new AwsRegionProviderChain(true,
+                                                                  new NeverAwsRegionProvider(),
+                                                                  new FaultyAwsRegionProvider(),
+                                                                  new StaticAwsRegionProvider(expectedRegion));
+        assertEquals(expectedRegion, chain.getRegion());
+    }
+
+    @Test(expected = Error.class)
+    public void parallelResolution_providerThrowsError_DoesNotContinueChain() {
+        AwsRegionProviderChain chain = new AwsRegionProviderChain(true,
+                                                                  new NeverAwsRegionProvider(),
+                                                                  new FatalAwsRegionProvider(),
+                                                                  new StaticAwsRegionProvider(Region.of("some-region-string")));
+        chain.getRegion();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Providers were not asked at the same time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static class NeverAwsRegionProvider implements AwsRegionProvider {
         @Override
         public Region getRegion() throws SdkClientException {
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.PREWARM_CONNECTIONS;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
@@ -81,6 +82,7 @@ import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
@@ -110,6 +112,7 @@ import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
@@ -135,6 +138,7 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
  */
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
 
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
@@ -206,6 +210,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        prewarmConnections(configuration);
+
         return configuration;
     }
 
@@ -237,9 +243,38 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        prewarmConnections(configuration);
+
         return configuration;
     }
 
+    /**
+     * Open the connections requested with {@link SdkAdvancedClientOption#PREWARM_CONNECTIONS} to the client endpoint, without
+     * waiting for them to be established.
+     */
+    private void prewarmConnections(SdkClientConfiguration configuration) {
+        Integer connections = configuration.option(PREWARM_CONNECTIONS);
+        ClientEndpointProvider endpointProvider = configuration.option(SdkClientOption.CLIENT_ENDPOINT_PROVIDER);
+        if (connections == null || connections <= 0 || endpointProvider == null) {
+            return;
+        }
+
+        URI endpoint = endpointProvider.clientEndpoint();
+        try {
+            CompletableFuture<Void> prewarmFuture =
+                configuration.option(CLIENT_TYPE) == ASYNC
+                ? configuration.option(ASYNC_HTTP_CLIENT).prewarm(endpoint, connections)
+                : configuration.option(SYNC_HTTP_CLIENT).prewarm(endpoint, connections);
+            prewarmFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    log.debug(() -> "Failed to prewarm connections to " + endpoint, t);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug(() -> "Failed to prewarm connections to " + endpoint, e);
+        }
+    }
+
     /**
      * Apply the client override configuration to the provided configuration. This generally does not need to be overridden by
      * child classes, but some previous client versions override it.
@@ -666,6 +701,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         public String clientName() {
             return delegate.clientName();
         }
+
+        @Override
+        public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+            return delegate.prewarm(endpoint, connections);
+        }
     }
 
     /**
@@ -691,6 +731,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.clientName();
         }
 
+        @Override
+        public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+            return delegate.prewarm(endpoint, connections);
+        }
+
         @Override
         public void close() {
             // Do nothing, this client is managed by the customer.
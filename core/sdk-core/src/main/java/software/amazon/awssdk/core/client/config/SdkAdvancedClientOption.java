@@ -64,6 +64,17 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * The number of connections to open to the client endpoint when the client is built, so the first requests do not have to
+     * wait for the TCP and TLS handshakes. The connections are opened in the background with
+     * {@code SdkHttpClient#prewarm} or {@code SdkAsyncHttpClient#prewarm}, and building the client does not wait for them. A
+     * failure to open them is logged and otherwise ignored.
+     * <p>
+     * Requests whose endpoint differs from the client endpoint, such as S3 requests addressed to a bucket virtual host, do not
+     * benefit from these connections. By default, no connections are opened.
+     */
+    public static final SdkAdvancedClientOption<Integer> PREWARM_CONNECTIONS = new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
@@ -20,19 +20,19 @@ import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.LAST_C
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.calculateChecksumTrailerLength;
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.calculateChunkLength;
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChecksumTrailer;
-import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChunk;
+import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChunkHeader;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
-import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.async.DelegatingSubscriber;
@@ -41,11 +41,13 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 /**
  * Wrapper class to wrap an AsyncRequestBody.
  * This will read the data in chunk format and append Checksum as trailer at the end.
+ * <p>
+ * The data of each chunk is published as the buffer it was read in, preceded by a small buffer with the chunk header, rather
+ * than copied into a new buffer together with its header. HTTP clients write the buffers out one after the other.
  */
 @SdkInternalApi
 public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
-    private static final byte[] FINAL_BYTE = new byte[0];
     private final AsyncRequestBody wrapped;
     private final SdkChecksum sdkChecksum;
     private final Algorithm algorithm;
@@ -152,89 +154,72 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             sdkChecksum.reset();
         }
         SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes);
+        ChunkFramer chunkFramer = new ChunkFramer(sdkChecksum, trailerHeader, totalBytes);
         alwaysInvokeOnNext(wrapped).flatMapIterable(synchronousChunkBuffer::buffer)
-               .subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes));
+                                   .flatMapIterable(chunkFramer::frame)
+                                   .subscribe(s);
     }
 
     private SdkPublisher<ByteBuffer> alwaysInvokeOnNext(SdkPublisher<ByteBuffer> source) {
         return subscriber -> source.subscribe(new OnNextGuaranteedSubscriber(subscriber));
     }
 
-    private static final class ChecksumCalculatingSubscriber implements Subscriber<ByteBuffer> {
-
-        private final Subscriber<? super ByteBuffer> wrapped;
+    /**
+     * Frames each chunk of data as: chunk-size CRLF chunk-data CRLF, and ends the body with the last chunk and the checksum
+     * trailer once all the data has been framed. The checksum is computed over the buffers of the data as they are.
+     * <p>
+     * The CRLF after the data of a chunk is sent with the header of the next chunk, or with the last chunk, so that a chunk
+     * only takes two buffers. The last chunk and the trailer are sent together in one buffer.
+     */
+    private static final class ChunkFramer {
         private final SdkChecksum checksum;
         private final String trailerHeader;
-        private byte[] checksumBytes;
-        private final AtomicLong remainingBytes;
-        private Subscription subscription;
-
-        ChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
-                                      SdkChecksum checksum,
-                                      String trailerHeader, long totalBytes) {
-            this.wrapped = wrapped;
+        private long remainingBytes;
+        private boolean chunkDataPending;
+        private boolean trailerSent;
+
+        ChunkFramer(SdkChecksum checksum, String trailerHeader, long totalBytes) {
             this.checksum = checksum;
             this.trailerHeader = trailerHeader;
-            this.remainingBytes = new AtomicLong(totalBytes);
+            this.remainingBytes = totalBytes;
         }
 
-        @Override
-        public void onSubscribe(Subscription subscription) {
-            this.subscription = subscription;
-            wrapped.onSubscribe(subscription);
-        }
+        private Iterable<ByteBuffer> frame(ByteBuffer byteBuffer) {
+            remainingBytes -= byteBuffer.remaining();
+            boolean lastByte = remainingBytes <= 0;
 
-        @Override
-        public void onNext(ByteBuffer byteBuffer) {
-            boolean lastByte = this.remainingBytes.addAndGet(-byteBuffer.remaining()) <= 0;
-            try {
-                if (checksum != null) {
-                    byteBuffer.mark();
-                    checksum.update(byteBuffer);
-                    byteBuffer.reset();
-                }
-                if (lastByte && checksumBytes == null && checksum != null) {
-                    checksumBytes = checksum.getChecksumBytes();
-                    ByteBuffer allocatedBuffer = getFinalChecksumAppendedChunk(byteBuffer);
-                    wrapped.onNext(allocatedBuffer);
-                } else if (byteBuffer.hasRemaining()) {
-                    ByteBuffer allocatedBuffer = createChunk(byteBuffer, false);
-                    wrapped.onNext(allocatedBuffer);
-                } else {
-                    wrapped.onNext(byteBuffer);
-                }
-            } catch (SdkException sdkException) {
-                this.subscription.cancel();
-                onError(sdkException);
+            if (checksum != null) {
+                byteBuffer.mark();
+                checksum.update(byteBuffer);
+                byteBuffer.reset();
             }
-        }
 
-        private ByteBuffer getFinalChecksumAppendedChunk(ByteBuffer byteBuffer) {
-            ByteBuffer finalChunkedByteBuffer = createChunk(ByteBuffer.wrap(FINAL_BYTE), true);
-            ByteBuffer checksumTrailerByteBuffer = createChecksumTrailer(
-                    BinaryUtils.toBase64(checksumBytes), trailerHeader);
-            ByteBuffer contentChunk = byteBuffer.hasRemaining() ? createChunk(byteBuffer, false) : byteBuffer;
-
-            ByteBuffer checksumAppendedBuffer = ByteBuffer.allocate(
-                    contentChunk.remaining()
-                    + finalChunkedByteBuffer.remaining()
-                    + checksumTrailerByteBuffer.remaining());
-            checksumAppendedBuffer
-                    .put(contentChunk)
-                    .put(finalChunkedByteBuffer)
-                    .put(checksumTrailerByteBuffer);
-            checksumAppendedBuffer.flip();
-            return checksumAppendedBuffer;
-        }
+            boolean appendTrailer = lastByte && !trailerSent && checksum != null;
+            if (!byteBuffer.hasRemaining() && !appendTrailer) {
+                return Collections.singletonList(byteBuffer);
+            }
 
-        @Override
-        public void onError(Throwable t) {
-            wrapped.onError(t);
+            List<ByteBuffer> buffers = new ArrayList<>(3);
+            if (byteBuffer.hasRemaining()) {
+                buffers.add(createChunkHeader(byteBuffer.remaining(), chunkDataPending));
+                buffers.add(byteBuffer);
+                chunkDataPending = true;
+            }
+            if (appendTrailer) {
+                trailerSent = true;
+                buffers.add(createLastChunkAndTrailer());
+                chunkDataPending = false;
+            }
+            return buffers;
         }
 
-        @Override
-        public void onComplete() {
-            wrapped.onComplete();
+        private ByteBuffer createLastChunkAndTrailer() {
+            ByteBuffer lastChunk = createChunkHeader(0, chunkDataPending);
+            ByteBuffer trailer = createChecksumTrailer(BinaryUtils.toBase64(checksum.getChecksumBytes()), trailerHeader);
+            ByteBuffer result = ByteBuffer.allocate(lastChunk.remaining() + trailer.remaining());
+            result.put(lastChunk).put(trailer);
+            result.flip();
+            return result;
         }
     }
 
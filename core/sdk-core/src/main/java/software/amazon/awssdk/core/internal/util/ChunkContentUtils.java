@@ -19,7 +19,6 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.Algorithm;
-import software.amazon.awssdk.core.exception.SdkClientException;
 
 @SdkInternalApi
 public final class ChunkContentUtils {
@@ -104,28 +103,30 @@ public final class ChunkContentUtils {
     }
 
     /**
-     * Creates ChunkEncoded data for an given chunk data.
-     * @param chunkData chunk data that needs to be converted to chunk encoded format.
-     * @param isLastByte if true then additional CRLF will not be appended.
-     * @return Chunk encoded format of a given data.
+     * Creates the header of a chunk with the given data length: chunk-size CRLF. The data of the chunk can then be sent as is,
+     * without copying it into a new buffer.
+     * <p>
+     * To avoid a separate buffer for the CRLF that terminates the data of the previous chunk, it is prepended to this header
+     * when terminatePreviousChunk is true.
+     *
+     * @param chunkLength length of the chunk data, 0 for the last chunk.
+     * @param terminatePreviousChunk if true then the CRLF that terminates the previous chunk data is prepended.
+     * @return Chunk header for the given length.
      */
-    public static ByteBuffer createChunk(ByteBuffer chunkData, boolean isLastByte) {
-        int chunkLength = chunkData.remaining();
-        StringBuilder chunkHeader = new StringBuilder(Integer.toHexString(chunkLength));
-        chunkHeader.append(CRLF);
-        try {
-            byte[] header = chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-            byte[] trailer = !isLastByte ? CRLF.getBytes(StandardCharsets.UTF_8)
-                    : "".getBytes(StandardCharsets.UTF_8);
-            ByteBuffer chunkFormattedBuffer = ByteBuffer.allocate(header.length + chunkLength + trailer.length);
-            chunkFormattedBuffer.put(header).put(chunkData).put(trailer);
-            chunkFormattedBuffer.flip();
-            return chunkFormattedBuffer;
-        } catch (Exception e) {
-            throw SdkClientException.builder()
-                    .message("Unable to create chunked data. " + e.getMessage())
-                    .cause(e)
-                    .build();
+    public static ByteBuffer createChunkHeader(int chunkLength, boolean terminatePreviousChunk) {
+        String chunkSize = Integer.toHexString(chunkLength);
+        int prefixLength = terminatePreviousChunk ? CRLF.length() : 0;
+        byte[] header = new byte[prefixLength + chunkSize.length() + CRLF.length()];
+        int position = 0;
+        if (terminatePreviousChunk) {
+            header[position++] = '\r';
+            header[position++] = '\n';
+        }
+        for (int i = 0; i < chunkSize.length(); i++) {
+            header[position++] = (byte) chunkSize.charAt(i);
         }
+        header[position++] = '\r';
+        header[position] = '\n';
+        return ByteBuffer.wrap(header);
     }
 }
\ No newline at end of file
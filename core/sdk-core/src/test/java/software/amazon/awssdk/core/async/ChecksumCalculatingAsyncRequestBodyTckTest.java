@@ -34,8 +34,13 @@ public class ChecksumCalculatingAsyncRequestBodyTckTest extends PublisherVerific
 
     @Override
     public Publisher<ByteBuffer> createPublisher(long n) {
+        // Each chunk is published as its header and its data, and the body ends with one buffer for the last chunk and the
+        // trailer. An empty buffer is published as is, so it makes up the difference when n is even.
+        long nChunks = Math.max(0, (n - 1) / 2);
+        AsyncRequestBody body = n > 0 && n % 2 == 0 ? bytesOfNChunksAfterEmptyBuffer(nChunks)
+                                                    : AsyncRequestBody.fromFile(fileOfNChunks(nChunks));
         return  ChecksumCalculatingAsyncRequestBody.builder()
-                .asyncRequestBody(AsyncRequestBody.fromFile(fileOfNChunks(n)))
+                .asyncRequestBody(body)
                 .algorithm(Algorithm.CRC32)
                 .trailerHeader("x-amz-checksum-crc32")
                 .build();
@@ -56,6 +61,15 @@ public class ChecksumCalculatingAsyncRequestBodyTckTest extends PublisherVerific
         return p;
     }
 
+    private AsyncRequestBody bytesOfNChunksAfterEmptyBuffer(long nChunks) {
+        ByteBuffer[] buffers = new ByteBuffer[(int) nChunks + 1];
+        buffers[0] = ByteBuffer.allocate(0);
+        for (int i = 1; i < buffers.length; ++i) {
+            buffers[i] = ByteBuffer.wrap(chunkData);
+        }
+        return AsyncRequestBody.fromByteBuffersUnsafe(buffers);
+    }
+
     @Override
     public Publisher<ByteBuffer> createFailedPublisher() {
         return null;
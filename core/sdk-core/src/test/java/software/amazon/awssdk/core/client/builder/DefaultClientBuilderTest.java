@@ -18,12 +18,14 @@ package software.amazon.awssdk.core.client.builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.PREWARM_CONNECTIONS;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -44,6 +46,7 @@ import com.google.common.collect.ImmutableSet;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.time.Duration;
@@ -54,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
@@ -378,6 +382,42 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void prewarmConnectionsConfigured_syncClient_prewarmsClientEndpoint() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(httpClient.prewarm(any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+
+        testClientBuilder().httpClient(httpClient)
+                           .overrideConfiguration(c -> c.putAdvancedOption(PREWARM_CONNECTIONS, 3))
+                           .build();
+
+        verify(httpClient).prewarm(DEFAULT_ENDPOINT, 3);
+    }
+
+    @Test
+    public void prewarmConnectionsConfigured_asyncClient_prewarmsClientEndpoint() {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        CompletableFuture<Void> failedPrewarm = new CompletableFuture<>();
+        failedPrewarm.completeExceptionally(new IOException("Connection refused"));
+        when(httpClient.prewarm(any(), anyInt())).thenReturn(failedPrewarm);
+
+        TestAsyncClient client = testAsyncClientBuilder().httpClient(httpClient)
+                                                         .overrideConfiguration(c -> c.putAdvancedOption(PREWARM_CONNECTIONS, 3))
+                                                         .build();
+
+        verify(httpClient).prewarm(DEFAULT_ENDPOINT, 3);
+        assertThat(client.clientConfiguration.option(SdkClientOption.ASYNC_HTTP_CLIENT)).isNotNull();
+    }
+
+    @Test
+    public void prewarmConnectionsNotConfigured_doesNotPrewarm() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+
+        testClientBuilder().httpClient(httpClient).build();
+
+        verify(httpClient, never()).prewarm(any(), anyInt());
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         // Mutating properties might not have bean equivalents. This is probably fine, since very few customers require
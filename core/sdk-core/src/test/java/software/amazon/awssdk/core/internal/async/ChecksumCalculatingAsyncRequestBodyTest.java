@@ -41,6 +41,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.http.async.SimpleSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -276,8 +277,39 @@ public class ChecksumCalculatingAsyncRequestBodyTest {
         for (int i = 0; i < toModify.length; ++i) {
             toModify[i]++;
         }
-        ByteBuffer publishedBb = Flowable.fromPublisher(body).toList().blockingGet().get(0);
-        assertThat(BinaryUtils.copyAllBytesFrom(publishedBb)).isEqualTo(expected);
+        List<ByteBuffer> publishedBbs = Flowable.fromPublisher(body).toList().blockingGet();
+        assertThat(concat(publishedBbs)).isEqualTo(expected);
+    }
+
+    @Test
+    public void publish_multipleChunks_publishesChunkDataWithoutCopying() {
+        byte[] data = RandomStringUtils.randomAscii(40 * 1024).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer source = ByteBuffer.wrap(data);
+        AsyncRequestBody body = checksumPublisher(AsyncRequestBody.fromRemainingByteBufferUnsafe(source));
+
+        List<ByteBuffer> published = Flowable.fromPublisher(body).toList().blockingGet();
+
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32);
+        checksum.update(data);
+        String expected = "4000\r\n" + new String(data, 0, 16384, StandardCharsets.UTF_8) + "\r\n"
+                          + "4000\r\n" + new String(data, 16384, 16384, StandardCharsets.UTF_8) + "\r\n"
+                          + "2000\r\n" + new String(data, 32768, 8192, StandardCharsets.UTF_8) + "\r\n"
+                          + "0\r\n"
+                          + "x-amz-checksum-crc32:" + BinaryUtils.toBase64(checksum.getChecksumBytes()) + "\r\n\r\n";
+        assertThat(new String(concat(published), StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        // header and data for each of the three chunks, then the last chunk with the trailer
+        assertThat(published).hasSize(7);
+        // the chunk data is a view of the source buffer rather than a copy
+        assertThat(published.get(1).isReadOnly()).isTrue();
+        assertThat(published.get(1).remaining()).isEqualTo(16384);
+    }
+
+    private static byte[] concat(List<ByteBuffer> buffers) {
+        int length = buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+        ByteBuffer result = ByteBuffer.allocate(length);
+        buffers.forEach(b -> result.put(b.duplicate()));
+        return result.array();
     }
 
     static class EmptyBufferPublisher implements AsyncRequestBody {
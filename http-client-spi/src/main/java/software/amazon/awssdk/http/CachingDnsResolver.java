@@ -0,0 +1,370 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * An {@link SdkDnsResolver} that caches the addresses of each host, and spreads new connections across them.
+ *
+ * <p>
+ * The addresses of a host are looked up with a delegate resolver, {@link SdkDnsResolver#systemDefault()} by default, and
+ * cached for the configured {@link Builder#ttl(Duration) TTL}. A resolution that finds an entry in the last quarter of its TTL
+ * refreshes it in the background, so the addresses of a host that is in use are kept up to date without blocking the callers.
+ * Only the first resolution of a host, or of a host that has not been used for longer than its TTL, waits for the lookup.
+ *
+ * <p>
+ * Each resolution returns the cached addresses starting at the next one in turn, so new connections are spread across all the
+ * addresses of a host instead of being opened to the first one. Addresses {@link #reportFailure(InetAddress) reported} as failed
+ * are moved to the end of the list for the configured {@link Builder#failedAddressPenalty(Duration) penalty}, so connections
+ * are opened to the other addresses first.
+ *
+ * <p>
+ * When looking up an expired entry fails, the previous addresses are still returned for up to
+ * {@link Builder#maxStaleness(Duration)} after they expired, so that a DNS outage does not fail requests to hosts whose
+ * addresses are still valid.
+ *
+ * <p>
+ * A resolver can be shared by several HTTP clients. It does not need to be closed.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class CachingDnsResolver implements SdkDnsResolver {
+    private static final Logger log = Logger.loggerFor(CachingDnsResolver.class);
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MAX_STALENESS = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_FAILED_ADDRESS_PENALTY = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_HOSTS = 1000;
+
+    private final SdkDnsResolver delegate;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final Duration maxStaleness;
+    private final Duration failedAddressPenalty;
+    private final int maxHosts;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final LruCache<String, HostEntry> hosts;
+    private final Map<InetAddress, Instant> failedAddresses = new ConcurrentHashMap<>();
+
+    private CachingDnsResolver(DefaultBuilder builder) {
+        this.delegate = builder.delegate != null ? builder.delegate : SdkDnsResolver.systemDefault();
+        this.ttl = Validate.isPositive(builder.ttl != null ? builder.ttl : DEFAULT_TTL, "ttl");
+        this.refreshAfter = ttl.minus(ttl.dividedBy(4));
+        this.maxStaleness = Validate.isNotNegative(builder.maxStaleness != null ? builder.maxStaleness
+                                                                                 : DEFAULT_MAX_STALENESS,
+                                                   "maxStaleness");
+        this.failedAddressPenalty = Validate.isNotNegative(builder.failedAddressPenalty != null
+                                                           ? builder.failedAddressPenalty
+                                                           : DEFAULT_FAILED_ADDRESS_PENALTY,
+                                                           "failedAddressPenalty");
+        this.maxHosts = Validate.isPositive(builder.maxHosts != null ? builder.maxHosts : DEFAULT_MAX_HOSTS, "maxHosts");
+        this.refreshExecutor = builder.refreshExecutor != null ? builder.refreshExecutor : DefaultRefreshExecutor.INSTANCE;
+        this.clock = builder.clock != null ? builder.clock : Clock.systemUTC();
+        this.hosts = LruCache.builder(HostEntry::new).maxSize(maxHosts).build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a resolver with the default configuration.
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        HostEntry entry = hosts.get(StringUtils.lowerCase(host));
+        Instant now = clock.instant();
+
+        Resolution resolution = entry.resolution;
+        if (resolution == null || !now.isBefore(resolution.resolvedAt.plus(ttl))) {
+            resolution = entry.resolveBlocking(now);
+        } else if (!now.isBefore(resolution.resolvedAt.plus(refreshAfter))) {
+            entry.refreshInBackground();
+        }
+
+        return order(resolution.addresses, entry.nextAddress.getAndIncrement(), now);
+    }
+
+    @Override
+    public void reportFailure(InetAddress address) {
+        Instant now = clock.instant();
+        if (failedAddresses.size() >= maxHosts) {
+            failedAddresses.values().removeIf(penaltyEnd -> !penaltyEnd.isAfter(now));
+        }
+        failedAddresses.put(address, now.plus(failedAddressPenalty));
+    }
+
+    /**
+     * Returns the addresses starting at the given position, with the addresses that are serving a failure penalty moved to the
+     * end.
+     */
+    private InetAddress[] order(InetAddress[] addresses, int start, Instant now) {
+        InetAddress[] rotated = new InetAddress[addresses.length];
+        boolean[] penalized = new boolean[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            rotated[i] = addresses[Math.floorMod(start + i, addresses.length)];
+            penalized[i] = isPenalized(rotated[i], now);
+        }
+
+        InetAddress[] result = new InetAddress[addresses.length];
+        int next = 0;
+        for (int i = 0; i < rotated.length; i++) {
+            if (!penalized[i]) {
+                result[next++] = rotated[i];
+            }
+        }
+        for (int i = 0; i < rotated.length; i++) {
+            if (penalized[i]) {
+                result[next++] = rotated[i];
+            }
+        }
+        return result;
+    }
+
+    private boolean isPenalized(InetAddress address, Instant now) {
+        if (failedAddresses.isEmpty()) {
+            return false;
+        }
+        Instant penaltyEnd = failedAddresses.get(address);
+        if (penaltyEnd == null) {
+            return false;
+        }
+        if (!penaltyEnd.isAfter(now)) {
+            failedAddresses.remove(address, penaltyEnd);
+            return false;
+        }
+        return true;
+    }
+
+    private Resolution lookUp(String host) throws UnknownHostException {
+        InetAddress[] addresses = delegate.resolve(host);
+        if (addresses == null || addresses.length == 0) {
+            throw new UnknownHostException("No address was resolved for " + host);
+        }
+        return new Resolution(addresses.clone(), clock.instant());
+    }
+
+    /**
+     * The cached state of one host.
+     */
+    private final class HostEntry {
+        private final String host;
+        private final Object lookUpLock = new Object();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private final AtomicInteger nextAddress = new AtomicInteger(0);
+        private volatile Resolution resolution;
+
+        private HostEntry(String host) {
+            this.host = host;
+        }
+
+        /**
+         * Looks up the addresses of the host, unless another caller did so while this one was waiting.
+         */
+        private Resolution resolveBlocking(Instant now) throws UnknownHostException {
+            synchronized (lookUpLock) {
+                Resolution current = resolution;
+                if (current != null && now.isBefore(current.resolvedAt.plus(ttl))) {
+                    return current;
+                }
+                try {
+                    resolution = lookUp(host);
+                    return resolution;
+                } catch (UnknownHostException | RuntimeException e) {
+                    if (current != null && now.isBefore(current.resolvedAt.plus(ttl).plus(maxStaleness))) {
+                        log.warn(() -> "Failed to resolve " + host + ", so its addresses resolved at " + current.resolvedAt
+                                       + " will be used.", e);
+                        return current;
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private void refreshInBackground() {
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        resolution = lookUp(host);
+                    } catch (UnknownHostException | RuntimeException e) {
+                        log.debug(() -> "Failed to refresh the addresses of " + host + " in the background.", e);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The entry will be refreshed on a later resolution, or when it expires
+                refreshing.set(false);
+            }
+        }
+    }
+
+    private static final class Resolution {
+        private final InetAddress[] addresses;
+        private final Instant resolvedAt;
+
+        private Resolution(InetAddress[] addresses, Instant resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+
+    /**
+     * The executor refreshing the entries of the resolvers that were not given one. Refreshes are skipped while all its threads
+     * are busy.
+     */
+    private static final class DefaultRefreshExecutor {
+        private static final int MAX_THREADS = 8;
+
+        private static final Executor INSTANCE =
+            new ThreadPoolExecutor(0, MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-dns-refresh")
+                                                             .daemonThreads(true)
+                                                             .build());
+    }
+
+    public interface Builder {
+        /**
+         * The resolver used to look up the addresses of a host. By default, {@link SdkDnsResolver#systemDefault()} is used.
+         */
+        Builder delegate(SdkDnsResolver delegate);
+
+        /**
+         * How long the addresses of a host are cached for. Entries are refreshed in the background when they are used during
+         * the last quarter of this time. By default, this is 30 seconds.
+         * <p>
+         * The TTLs of the DNS records themselves are not used, because the JDK's resolver does not expose them, so this should
+         * not be longer than the TTLs of the hosts the clients connect to.
+         */
+        Builder ttl(Duration ttl);
+
+        /**
+         * How long after they expired the addresses of a host are still used when they cannot be looked up again. By default,
+         * this is 5 minutes.
+         */
+        Builder maxStaleness(Duration maxStaleness);
+
+        /**
+         * How long an address reported as failed is tried after the other addresses of its host. By default, this is 30
+         * seconds.
+         */
+        Builder failedAddressPenalty(Duration failedAddressPenalty);
+
+        /**
+         * The maximum number of hosts whose addresses are cached. The least recently used host is evicted when it is exceeded.
+         * By default, this is 1000.
+         */
+        Builder maxHosts(Integer maxHosts);
+
+        /**
+         * The executor that entries are refreshed in the background with. By default, a small pool of daemon threads shared by
+         * all resolvers is used.
+         */
+        Builder refreshExecutor(Executor refreshExecutor);
+
+        CachingDnsResolver build();
+    }
+
+    static final class DefaultBuilder implements Builder {
+        private SdkDnsResolver delegate;
+        private Duration ttl;
+        private Duration maxStaleness;
+        private Duration failedAddressPenalty;
+        private Integer maxHosts;
+        private Executor refreshExecutor;
+        private Clock clock;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder delegate(SdkDnsResolver delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        @Override
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        @Override
+        public Builder maxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        @Override
+        public Builder failedAddressPenalty(Duration failedAddressPenalty) {
+            this.failedAddressPenalty = failedAddressPenalty;
+            return this;
+        }
+
+        @Override
+        public Builder maxHosts(Integer maxHosts) {
+            this.maxHosts = maxHosts;
+            return this;
+        }
+
+        @Override
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        @Override
+        public CachingDnsResolver build() {
+            return new CachingDnsResolver(this);
+        }
+    }
+}
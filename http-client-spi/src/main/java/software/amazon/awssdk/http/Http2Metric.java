@@ -42,6 +42,22 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The local HTTP/2 window size in bytes for the connection that this request was executed on.
+     *
+     * <p>See https://http2.github.io/http2-spec/#FlowControl for more information on HTTP/2 window sizes.
+     */
+    public static final SdkMetric<Integer> LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES =
+        metric("LocalConnectionWindowSize", Integer.class, MetricLevel.TRACE);
+
+    /**
+     * The remote HTTP/2 window size in bytes for the connection that this request was executed on.
+     *
+     * <p>See https://http2.github.io/http2-spec/#FlowControl for more information on HTTP/2 window sizes.
+     */
+    public static final SdkMetric<Integer> REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES =
+        metric("RemoteConnectionWindowSize", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
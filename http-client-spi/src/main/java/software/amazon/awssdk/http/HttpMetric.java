@@ -121,6 +121,17 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the TLS handshake of the connection that this request was executed on resumed a previously established TLS
+     * session.
+     *
+     * <p>This is only reported by the request that caused a new TLS connection to be established, so the number of values
+     * reported is the number of TLS handshakes performed, and the proportion of {@code true} values is the session resumption
+     * rate.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
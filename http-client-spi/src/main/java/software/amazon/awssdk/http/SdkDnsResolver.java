@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Resolves the host names the HTTP client connects to into IP addresses. It can be configured on the HTTP clients that support
+ * it with {@link SdkHttpConfigurationOption#DNS_RESOLVER}.
+ *
+ * <p>
+ * A new connection is opened to the first of the returned addresses, and clients that support it fall back to the following
+ * ones when that fails. Returning the addresses of a host in a different order on each call therefore spreads connections
+ * across them. See {@link CachingDnsResolver} for a resolver that does this.
+ */
+@SdkPublicApi
+@ThreadSafe
+@FunctionalInterface
+public interface SdkDnsResolver {
+
+    /**
+     * Resolve the IP addresses of the given host.
+     *
+     * @param host The host name, or the textual representation of an IP address.
+     * @return The addresses of the host, in the order they should be tried. Never empty.
+     * @throws UnknownHostException If no address could be found for the host.
+     */
+    InetAddress[] resolve(String host) throws UnknownHostException;
+
+    /**
+     * Called by the HTTP client when a connection could not be opened to an address returned by this resolver. This can be
+     * used to try the other addresses of the host first for a while. By default, this does nothing.
+     *
+     * @param address The address that a connection could not be opened to.
+     */
+    default void reportFailure(InetAddress address) {
+    }
+
+    /**
+     * Create a resolver that resolves every host with {@link InetAddress#getAllByName(String)}, which is subject to the
+     * caching of the JVM.
+     */
+    static SdkDnsResolver systemDefault() {
+        return InetAddress::getAllByName;
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -55,6 +57,23 @@ public interface SdkHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Opens {@code connections} pooled connections to the given endpoint ahead of time, so the first requests sent to it do
+     * not have to wait for the TCP and TLS handshakes. The connections are established concurrently and returned to the pool,
+     * where they are subject to the usual idle timeouts. Implementations may open fewer connections than requested, for
+     * example when the pool is smaller.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that is completed once the connections have been established, or completed exceptionally if one of
+     * them could not be.
+     */
+    default CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
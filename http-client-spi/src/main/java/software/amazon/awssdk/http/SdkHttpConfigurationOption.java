@@ -131,6 +131,47 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<Duration> TLS_NEGOTIATION_TIMEOUT =
         new SdkHttpConfigurationOption<>("TlsNegotiationTimeout", Duration.class);
 
+    /**
+     * The maximum number of TLS sessions the HTTP client caches for resumption. Resuming a session skips most of the cost
+     * of a full TLS handshake when a new connection is opened to a host the client has connected to before.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+        new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * The amount of time a cached TLS session can be resumed for.
+     *
+     * <p>
+     * If not specified, the default of the TLS implementation is used.
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+        new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
+    /**
+     * Option to share the TLS session cache with the other HTTP clients of the same type in the JVM that use the same TLS
+     * configuration, so that a session established by one client can be resumed by another. By default, this option is off
+     * and each client has its own cache.
+     *
+     * <p>
+     * Sessions are only shared between clients that use the default trust managers and no key managers, since a session
+     * established with one set of credentials should not be resumed with another.
+     */
+    public static final SdkHttpConfigurationOption<Boolean> SHARED_TLS_SESSION_CACHE =
+        new SdkHttpConfigurationOption<>("SharedTlsSessionCache", Boolean.class);
+
+    /**
+     * The {@link SdkDnsResolver} that will be used by the HTTP client to resolve the addresses of the hosts it connects to,
+     * for example a {@link CachingDnsResolver} shared by several clients.
+     *
+     * <p>
+     * If not specified, the client resolves hosts the way it does by default.
+     */
+    public static final SdkHttpConfigurationOption<SdkDnsResolver> DNS_RESOLVER =
+        new SdkHttpConfigurationOption<>("DnsResolver", SdkDnsResolver.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
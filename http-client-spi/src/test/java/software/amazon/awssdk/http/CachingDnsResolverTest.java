@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingDnsResolverTest {
+    private static final String HOST = "example.com";
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger lookUps = new AtomicInteger();
+    private InetAddress[] addresses;
+    private UnknownHostException lookUpFailure;
+    private CachingDnsResolver resolver;
+
+    @BeforeEach
+    public void setup() throws UnknownHostException {
+        addresses = addresses(1, 2, 3);
+        lookUpFailure = null;
+        CachingDnsResolver.DefaultBuilder builder = (CachingDnsResolver.DefaultBuilder) CachingDnsResolver.builder();
+        builder.clock(clock);
+        resolver = builder.delegate(host -> {
+                              lookUps.incrementAndGet();
+                              if (lookUpFailure != null) {
+                                  throw lookUpFailure;
+                              }
+                              return addresses;
+                          })
+                          .ttl(Duration.ofSeconds(40))
+                          .maxStaleness(Duration.ofSeconds(60))
+                          .failedAddressPenalty(Duration.ofSeconds(10))
+                          .refreshExecutor(Runnable::run)
+                          .build();
+    }
+
+    @Test
+    public void resolve_withinTtl_looksUpOnce() throws UnknownHostException {
+        resolver.resolve(HOST);
+        clock.advance(Duration.ofSeconds(29));
+        resolver.resolve(HOST);
+
+        assertThat(lookUps).hasValue(1);
+    }
+
+    @Test
+    public void resolve_hostNamesDifferingInCase_shareEntry() throws UnknownHostException {
+        resolver.resolve(HOST);
+        resolver.resolve("EXAMPLE.com");
+
+        assertThat(lookUps).hasValue(1);
+    }
+
+    @Test
+    public void resolve_rotatesAcrossAddresses() throws UnknownHostException {
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(1, 2, 3));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(2, 3, 1));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(3, 1, 2));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(1, 2, 3));
+    }
+
+    @Test
+    public void resolve_inLastQuarterOfTtl_refreshesInBackground() throws UnknownHostException {
+        resolver.resolve(HOST);
+        addresses = addresses(4);
+        clock.advance(Duration.ofSeconds(31));
+
+        // The refresh ran on the calling thread, but the entry it replaced was returned
+        assertThat(resolver.resolve(HOST)).hasSize(3);
+        assertThat(lookUps).hasValue(2);
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(4));
+    }
+
+    @Test
+    public void resolve_afterTtl_looksUpAgain() throws UnknownHostException {
+        resolver.resolve(HOST);
+        addresses = addresses(4);
+        clock.advance(Duration.ofSeconds(40));
+
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(4));
+        assertThat(lookUps).hasValue(2);
+    }
+
+    @Test
+    public void resolve_lookUpFailsAfterTtl_returnsStaleAddressesUntilMaxStaleness() throws UnknownHostException {
+        resolver.resolve(HOST);
+        lookUpFailure = new UnknownHostException(HOST);
+
+        clock.advance(Duration.ofSeconds(99));
+        assertThat(resolver.resolve(HOST)).hasSize(3);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(() -> resolver.resolve(HOST)).isSameAs(lookUpFailure);
+    }
+
+    @Test
+    public void resolve_firstLookUpFails_throws() {
+        lookUpFailure = new UnknownHostException(HOST);
+
+        assertThatThrownBy(() -> resolver.resolve(HOST)).isSameAs(lookUpFailure);
+    }
+
+    @Test
+    public void resolve_delegateReturnsNoAddress_throws() {
+        addresses = new InetAddress[0];
+
+        assertThatThrownBy(() -> resolver.resolve(HOST)).isInstanceOf(UnknownHostException.class);
+    }
+
+    @Test
+    public void reportFailure_movesAddressToEndUntilPenaltyEnds() throws UnknownHostException {
+        resolver.reportFailure(addresses[0]);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(2, 3, 1));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(2, 3, 1));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(3, 2, 1));
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(resolver.resolve(HOST)).containsExactly(addresses(1, 2, 3));
+    }
+
+    private static InetAddress[] addresses(int... lastOctets) throws UnknownHostException {
+        InetAddress[] result = new InetAddress[lastOctets.length];
+        for (int i = 0; i < lastOctets.length; i++) {
+            result[i] = InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastOctets[i]});
+        }
+        return result;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -25,12 +25,24 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -39,16 +51,24 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
 import org.apache.http.HeaderIterator;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.config.SocketConfig;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
@@ -57,6 +77,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
@@ -67,6 +88,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -78,8 +100,10 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.DnsFailureReportingSocketFactory;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
+import software.amazon.awssdk.http.apache.internal.conn.SdkDnsResolverAdapter;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
@@ -88,7 +112,9 @@ import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -111,6 +137,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +146,15 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = Optional.ofNullable(resolveRoutePlanner(builder))
+                                    .orElseGet(() -> new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
     }
 
     public static Builder builder() {
@@ -179,14 +209,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
         }
+        HttpRoutePlanner routePlanner = resolveRoutePlanner(configuration);
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
@@ -202,6 +228,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        return configuration.httpRoutePlanner;
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -240,6 +277,117 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The connections are opened on a small pool of daemon threads shared by all clients, and each connection is returned to
+     * the connection pool as soon as it is established. No more than {@link Builder#maxConnections(Integer)} connections are
+     * opened. Connections are not prewarmed when the endpoint is reached through a proxy.
+     */
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        int connectionsToOpen = Math.min(connections, resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
+        if (connectionsToOpen <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRoute route;
+        try {
+            route = determineRoute(endpoint);
+        } catch (HttpException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        if (route.getHopCount() > 1) {
+            log.debug(() -> "Not prewarming connections to " + endpoint + ", as it is reached through a proxy.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.debug(() -> "Prewarming " + connectionsToOpen + " connections to " + endpoint);
+        Executor executor = PrewarmExecutor.INSTANCE;
+        return CompletableFuture.supplyAsync(() -> leaseConnections(route, connectionsToOpen), executor)
+                                .thenCompose(leased -> CompletableFuture.allOf(
+                                    leased.stream()
+                                          .map(c -> CompletableFuture.runAsync(() -> connectAndRelease(route, c), executor))
+                                          .toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * Lease all the connections up front, so that the pool creates new ones instead of handing out the ones being prewarmed
+     * again. Leasing does not open the connections, so they are only held until the last one is leased.
+     */
+    private List<HttpClientConnection> leaseConnections(HttpRoute route, int connections) {
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        List<HttpClientConnection> leased = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                ConnectionRequest connectionRequest = cm.requestConnection(route, null);
+                leased.add(connectionRequest.get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS));
+            }
+            return leased;
+        } catch (ExecutionException | ConnectionPoolTimeoutException e) {
+            leased.forEach(this::releaseOrAbortConnection);
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            leased.forEach(this::releaseOrAbortConnection);
+            throw new CompletionException(e);
+        } catch (RuntimeException e) {
+            leased.forEach(this::releaseOrAbortConnection);
+            throw e;
+        }
+    }
+
+    private HttpRoute determineRoute(URI endpoint) throws HttpException {
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+        return routePlanner.determineRoute(target, new HttpGet(endpoint), context);
+    }
+
+    private void connectAndRelease(HttpRoute route, HttpClientConnection connection) {
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        try {
+            if (!connection.isOpen()) {
+                HttpClientContext context = HttpClientContext.create();
+                cm.connect(connection, route, saturatedCast(requestConfig.connectionTimeout().toMillis()), context);
+                cm.routeComplete(connection, route, context);
+            }
+            releaseConnection(connection);
+        } catch (IOException e) {
+            abortConnection(connection);
+            throw new CompletionException(e);
+        } catch (RuntimeException e) {
+            abortConnection(connection);
+            throw e;
+        }
+    }
+
+    private void releaseOrAbortConnection(HttpClientConnection connection) {
+        if (connection.isOpen()) {
+            releaseConnection(connection);
+        } else {
+            abortConnection(connection);
+        }
+    }
+
+    private void releaseConnection(HttpClientConnection connection) {
+        long maxIdleMillis = resolvedOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+        httpClient.getHttpClientConnectionManager().releaseConnection(connection, null, maxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void abortConnection(HttpClientConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.shutdown();
+        } catch (IOException e) {
+            log.debug(() -> "Failed to shut down a connection that could not be prewarmed.", e);
+        }
+        httpClient.getHttpClientConnectionManager().releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -401,9 +549,21 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
         /**
          * Configuration that defines a DNS resolver. If no matches are found, the default resolver is used.
+         * May not be used in conjunction with {@link #sdkDnsResolver(SdkDnsResolver)}.
          */
         Builder dnsResolver(DnsResolver dnsResolver);
 
+        /**
+         * Configure the {@link SdkDnsResolver} that resolves the addresses of the hosts this client connects to, for example a
+         * {@link software.amazon.awssdk.http.CachingDnsResolver} shared with other clients. A connection is opened to the
+         * addresses in the order the resolver returns them until one succeeds, and the addresses that a connection could not be
+         * opened to are reported back to the resolver.
+         * <p>
+         * May not be used in conjunction with {@link #dnsResolver(DnsResolver)}. By default, hosts are resolved with
+         * {@link InetAddress#getAllByName(String)}.
+         */
+        Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver);
+
         /**
          * Configuration that defines a custom Socket factory. If set to a null value, a default factory is used.
          * <p>
@@ -451,6 +611,31 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions this client caches for resumption. Resuming a session skips most of the
+         * cost of a full TLS handshake when a new connection is opened to a host the client has connected to before.
+         *
+         * <p>If not configured, the default of the JDK is used.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time a cached TLS session can be resumed for.
+         *
+         * <p>If not configured, the default of the JDK is used.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure whether this client shares its TLS session cache with the other Apache clients in the JVM that use the same
+         * TLS configuration, so that a session established by one client can be resumed by another. This reduces the number of
+         * full TLS handshakes when clients are created and closed often, or when several clients talk to the same hosts.
+         *
+         * <p>Sessions are only shared between clients that use the default trust managers and no key managers. By default, this
+         * is disabled and each client has its own cache.
+         */
+        Builder sharedTlsSessionCache(Boolean sharedTlsSessionCache);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -582,6 +767,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             dnsResolver(dnsResolver);
         }
 
+        @Override
+        public Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            standardOptions.put(SdkHttpConfigurationOption.DNS_RESOLVER, sdkDnsResolver);
+            return this;
+        }
+
+        public void setSdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            sdkDnsResolver(sdkDnsResolver);
+        }
+
         @Override
         public Builder socketFactory(ConnectionSocketFactory socketFactory) {
             this.socketFactory = socketFactory;
@@ -642,6 +837,38 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isPositiveOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder sharedTlsSessionCache(Boolean sharedTlsSessionCache) {
+            standardOptions.put(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE, sharedTlsSessionCache);
+            return this;
+        }
+
+        public void setSharedTlsSessionCache(Boolean sharedTlsSessionCache) {
+            sharedTlsSessionCache(sharedTlsSessionCache);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -652,16 +879,25 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
     private static class ApacheConnectionManagerFactory {
 
+        /**
+         * The contexts shared by the clients that enabled {@link SdkHttpConfigurationOption#SHARED_TLS_SESSION_CACHE}, by
+         * session cache size and timeout.
+         */
+        private static final Map<List<Object>, SSLContext> SHARED_SSL_CONTEXTS = new ConcurrentHashMap<>();
+
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            SdkDnsResolver sdkDnsResolver = standardOptions.get(SdkHttpConfigurationOption.DNS_RESOLVER);
+            Validate.isTrue(sdkDnsResolver == null || configuration.dnsResolver == null,
+                            "A dnsResolver and an sdkDnsResolver cannot both be configured.");
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
+                    createSocketFactoryRegistry(sslsf, sdkDnsResolver),
                     null,
                     DefaultSchemePortResolver.INSTANCE,
-                    configuration.dnsResolver,
+                    sdkDnsResolver != null ? new SdkDnsResolverAdapter(sdkDnsResolver) : configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
@@ -704,10 +940,32 @@ public final class ApacheHttpClient implements SdkHttpClient {
             TlsKeyManagersProvider provider = standardOptions.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
             KeyManager[] keyManagers = provider.keyManagers();
 
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (Boolean.TRUE.equals(standardOptions.get(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE))) {
+                if (trustManagers == null && keyManagers == null) {
+                    // The TLS session cache belongs to the context, so clients resume each other's sessions by sharing it
+                    return SHARED_SSL_CONTEXTS.computeIfAbsent(Arrays.asList(sessionCacheSize, sessionTimeout),
+                                                               k -> createSslContext(null, null, sessionCacheSize,
+                                                                                     sessionTimeout));
+                }
+                log.debug(() -> "The TLS session cache is not shared because custom trust or key managers are configured.");
+            }
+            return createSslContext(keyManagers, trustManagers, sessionCacheSize, sessionTimeout);
+        }
+
+        private static SSLContext createSslContext(KeyManager[] keyManagers, TrustManager[] trustManagers,
+                                                   Integer sessionCacheSize, Duration sessionTimeout) {
             try {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                if (sessionCacheSize != null) {
+                    sslcontext.getClientSessionContext().setSessionCacheSize(sessionCacheSize);
+                }
+                if (sessionTimeout != null) {
+                    sslcontext.getClientSessionContext().setSessionTimeout(saturatedCast(sessionTimeout.getSeconds()));
+                }
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
@@ -748,11 +1006,36 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                .build();
         }
 
-        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory) {
+        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory,
+                                                                              SdkDnsResolver sdkDnsResolver) {
+            ConnectionSocketFactory plainSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
+            if (sdkDnsResolver != null) {
+                plainSocketFactory = DnsFailureReportingSocketFactory.wrap(plainSocketFactory, sdkDnsResolver);
+                sslSocketFactory = DnsFailureReportingSocketFactory.wrap(sslSocketFactory, sdkDnsResolver);
+            }
             return RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("http", plainSocketFactory)
                     .register("https", sslSocketFactory)
                     .build();
         }
     }
+
+    /**
+     * The threads that open prewarmed connections, shared by all clients and only created when connections are prewarmed.
+     */
+    private static final class PrewarmExecutor {
+        private static final int THREADS = 4;
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                       new ThreadFactoryBuilder().threadNamePrefix("sdk-apache-prewarm")
+                                                                 .daemonThreads(true)
+                                                                 .build());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
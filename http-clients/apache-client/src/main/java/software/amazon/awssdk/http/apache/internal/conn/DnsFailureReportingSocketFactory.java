@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Reports the addresses that a connection could not be opened to back to the {@link SdkDnsResolver} that resolved them, so
+ * that it can try the other addresses of the host first.
+ */
+@SdkInternalApi
+public class DnsFailureReportingSocketFactory implements ConnectionSocketFactory {
+    private final ConnectionSocketFactory delegate;
+    private final SdkDnsResolver resolver;
+
+    private DnsFailureReportingSocketFactory(ConnectionSocketFactory delegate, SdkDnsResolver resolver) {
+        this.delegate = delegate;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Wraps the given factory, keeping it usable to upgrade connections to TLS when it was.
+     */
+    public static ConnectionSocketFactory wrap(ConnectionSocketFactory delegate, SdkDnsResolver resolver) {
+        if (delegate instanceof LayeredConnectionSocketFactory) {
+            return new Layered((LayeredConnectionSocketFactory) delegate, resolver);
+        }
+        return new DnsFailureReportingSocketFactory(delegate, resolver);
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) throws IOException {
+        return delegate.createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout, Socket sock, HttpHost host, InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress, HttpContext context) throws IOException {
+        try {
+            return delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+        } catch (SocketException | SocketTimeoutException e) {
+            if (remoteAddress != null && remoteAddress.getAddress() != null) {
+                resolver.reportFailure(remoteAddress.getAddress());
+            }
+            throw e;
+        }
+    }
+
+    private static final class Layered extends DnsFailureReportingSocketFactory implements LayeredConnectionSocketFactory {
+        private final LayeredConnectionSocketFactory delegate;
+
+        private Layered(LayeredConnectionSocketFactory delegate, SdkDnsResolver resolver) {
+            super(delegate, resolver);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return delegate.createLayeredSocket(socket, target, port, context);
+        }
+    }
+}
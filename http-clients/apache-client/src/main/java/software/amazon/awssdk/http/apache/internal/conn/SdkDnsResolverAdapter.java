@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.apache.http.conn.DnsResolver;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Adapts an {@link SdkDnsResolver} to the resolver used by the Apache connection manager, which tries the returned addresses
+ * in order until a connection is established.
+ */
+@SdkInternalApi
+public final class SdkDnsResolverAdapter implements DnsResolver {
+    private final SdkDnsResolver resolver;
+
+    public SdkDnsResolverAdapter(SdkDnsResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        return resolver.resolve(host);
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory.THREAD_LOCAL_REQUEST_METRIC_COLLECTOR;
+
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
@@ -26,9 +28,11 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.InputShutdownCheckingSslSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
@@ -51,6 +55,29 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
                                       Arrays.toString(socket.getEnabledProtocols())));
     }
 
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+        long handshakeStartMillis = System.currentTimeMillis();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        if (layeredSocket instanceof SSLSocket) {
+            recordSessionResumption((SSLSocket) layeredSocket, handshakeStartMillis);
+        }
+        return layeredSocket;
+    }
+
+    /**
+     * Reports whether the handshake resumed a previous session, which is the case when the session was created before the
+     * handshake started. The handshake happens while the connection for a request is being established, on the thread
+     * executing that request.
+     */
+    private static void recordSessionResumption(SSLSocket socket, long handshakeStartMillis) {
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            boolean resumed = socket.getSession().getCreationTime() < handshakeStartMillis;
+            metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, resumed);
+        }
+    }
+
     @Override
     public Socket connectSocket(int connectTimeout,
             Socket socket,
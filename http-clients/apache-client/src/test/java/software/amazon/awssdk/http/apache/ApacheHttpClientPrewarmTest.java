@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ApacheHttpClientPrewarmTest {
+    private static WireMockServer wireMockServer;
+    private SdkHttpClient client;
+
+    @BeforeClass
+    public static void setUp() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @Before
+    public void methodSetup() {
+        wireMockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200).withBody("{}")));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        wireMockServer.stop();
+    }
+
+    @After
+    public void methodTeardown() {
+        if (client != null) {
+            client.close();
+        }
+        client = null;
+    }
+
+    @Test
+    public void prewarm_opensConnectionsAheadOfRequests() throws Exception {
+        client = ApacheHttpClient.builder().maxConnections(10).build();
+        client.prewarm(endpoint(), 3).get(10, TimeUnit.SECONDS);
+
+        MetricCollection metrics = makeRequestWithMetrics();
+
+        assertThat(metrics.metricValues(LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(2);
+    }
+
+    @Test
+    public void prewarm_moreConnectionsThanPrewarmThreads_opensAllConnections() throws Exception {
+        client = ApacheHttpClient.builder().maxConnections(10).build();
+        client.prewarm(endpoint(), 8).get(10, TimeUnit.SECONDS);
+
+        MetricCollection metrics = makeRequestWithMetrics();
+
+        assertThat(metrics.metricValues(LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(7);
+    }
+
+    @Test
+    public void prewarm_moreConnectionsThanMaxConnections_opensMaxConnections() throws Exception {
+        client = ApacheHttpClient.builder().maxConnections(2).build();
+        client.prewarm(endpoint(), 5).get(10, TimeUnit.SECONDS);
+
+        MetricCollection metrics = makeRequestWithMetrics();
+
+        assertThat(metrics.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(1);
+    }
+
+    @Test
+    public void prewarm_endpointReachedThroughProxy_doesNotOpenConnections() throws Exception {
+        client = ApacheHttpClient.builder()
+                                 .proxyConfiguration(ProxyConfiguration.builder()
+                                                                       .endpoint(URI.create("http://localhost:1"))
+                                                                       .build())
+                                 .build();
+
+        client.prewarm(endpoint(), 3).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void prewarm_connectionFails_completesExceptionally() {
+        client = ApacheHttpClient.create();
+
+        assertThatThrownBy(() -> client.prewarm(URI.create("http://localhost:1"), 2).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + wireMockServer.port());
+    }
+
+    private MetricCollection makeRequestWithMetrics() throws IOException {
+        SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .uri(endpoint())
+                                                       .build();
+        MetricCollector collector = MetricCollector.create("test");
+        HttpExecuteRequest request = HttpExecuteRequest.builder()
+                                                       .request(httpRequest)
+                                                       .metricCollector(collector)
+                                                       .build();
+
+        client.prepareRequest(request).call();
+        return collector.collect();
+    }
+}
@@ -19,6 +19,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
@@ -31,6 +32,9 @@ import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
@@ -46,6 +50,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -179,6 +185,51 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
         overrideDnsResolver("localhost", true);
     }
 
+    @Test
+    public void sdkDnsResolver_firstAddressUnreachable_connectsToNextAddressAndReportsFailure() throws Exception {
+        // 192.0.2.0/24 is reserved for documentation, so nothing answers there
+        InetAddress unreachable = InetAddress.getByAddress("magic.local.host", new byte[] {(byte) 192, 0, 2, 1});
+        InetAddress loopback = InetAddress.getByAddress("magic.local.host", new byte[] {127, 0, 0, 1});
+        List<InetAddress> failedAddresses = new CopyOnWriteArrayList<>();
+        SdkDnsResolver sdkDnsResolver = new SdkDnsResolver() {
+            @Override
+            public InetAddress[] resolve(String host) {
+                return new InetAddress[] {unreachable, loopback};
+            }
+
+            @Override
+            public void reportFailure(InetAddress address) {
+                failedAddresses.add(address);
+            }
+        };
+
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .sdkDnsResolver(sdkDnsResolver)
+                                               .connectionTimeout(Duration.ofMillis(500))
+                                               .build();
+
+        mockProxyServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_OK)));
+        URI uri = URI.create("http://magic.local.host:" + mockProxyServer.port());
+        SdkHttpFullRequest req = SdkHttpFullRequest.builder()
+                                                   .uri(uri)
+                                                   .method(SdkHttpMethod.GET)
+                                                   .putHeader("Host", uri.getHost())
+                                                   .build();
+
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call();
+
+        assertThat(response.httpResponse().statusCode()).isEqualTo(HttpURLConnection.HTTP_OK);
+        assertThat(failedAddresses).containsExactly(unreachable);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sdkDnsResolverAndDnsResolver_bothConfigured_throwsException() {
+        ApacheHttpClient.builder()
+                        .dnsResolver(new SystemDefaultDnsResolver())
+                        .sdkDnsResolver(SdkDnsResolver.systemDefault())
+                        .build();
+    }
+
     private void overrideDnsResolver(String hostName) throws IOException {
         overrideDnsResolver(hostName, false);
     }
@@ -18,8 +18,10 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
@@ -33,11 +35,14 @@ import org.junit.rules.ExpectedException;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 
 public class ApacheMetricsTest {
@@ -49,7 +54,7 @@ public class ApacheMetricsTest {
 
     @BeforeClass
     public static void setUp() throws IOException {
-        wireMockServer = new WireMockServer();
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
         wireMockServer.start();
     }
 
@@ -82,11 +87,48 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void tlsSessionResumed_newConnectionToSameHost_resumesSession() throws IOException {
+        wireMockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200)
+                                                                           .withHeader("Connection", "close")
+                                                                           .withBody("{}")));
+        client = ApacheHttpClient.builder().buildWithDefaults(trustAllCertificates());
+
+        assertThat(makeHttpsRequestAndCollectMetrics().metricValues(TLS_SESSION_RESUMED)).containsExactly(false);
+        assertThat(makeHttpsRequestAndCollectMetrics().metricValues(TLS_SESSION_RESUMED)).containsExactly(true);
+    }
+
+    @Test
+    public void tlsSessionResumed_pooledConnection_notReported() throws IOException {
+        client = ApacheHttpClient.builder().buildWithDefaults(trustAllCertificates());
+
+        assertThat(makeHttpsRequestAndCollectMetrics().metricValues(TLS_SESSION_RESUMED)).containsExactly(false);
+        assertThat(makeHttpsRequestAndCollectMetrics().metricValues(TLS_SESSION_RESUMED)).isEmpty();
+    }
+
+    private MetricCollection makeHttpsRequestAndCollectMetrics() throws IOException {
+        MetricCollector collector = MetricCollector.create("test");
+        HttpExecuteResponse response = makeRequestWithMetrics(client, collector, "https", wireMockServer.httpsPort());
+        response.responseBody().ifPresent(IoUtils::drainInputStream);
+        return collector.collect();
+    }
+
+    private static AttributeMap trustAllCertificates() {
+        return AttributeMap.builder()
+                           .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                           .build();
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
+        return makeRequestWithMetrics(httpClient, metricCollector, "http", wireMockServer.port());
+    }
+
+    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector,
+                                                       String protocol, int port) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
-                                                       .protocol("http")
-                                                       .host("localhost:" + wireMockServer.port())
+                                                       .protocol(protocol)
+                                                       .host("localhost:" + port)
                                                        .build();
 
         HttpExecuteRequest request = HttpExecuteRequest.builder()
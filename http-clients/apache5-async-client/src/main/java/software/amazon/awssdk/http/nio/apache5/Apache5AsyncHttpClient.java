@@ -0,0 +1,607 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.nio.apache5.internal.Apache5Utils;
+import software.amazon.awssdk.http.nio.apache5.internal.RequestBodyProducer;
+import software.amazon.awssdk.http.nio.apache5.internal.SdkConnectionReuseStrategy;
+import software.amazon.awssdk.http.nio.apache5.internal.SdkDnsResolverAdapter;
+import software.amazon.awssdk.http.nio.apache5.internal.StreamingResponseConsumer;
+import software.amazon.awssdk.http.nio.apache5.internal.TlsStrategyFactory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the asynchronous engine of Apache HttpClient 5 to communicate with
+ * the service. Requests are sent and responses received without blocking a thread per request, on a small number of I/O
+ * threads, so that applications that standardize on Apache get the same scalability as with the Netty based client.
+ * <p>
+ * With {@link Protocol#HTTP1_1}, the default, each request leases a connection from a pool of up to
+ * {@link Builder#maxConcurrency(Integer)} connections. With {@link Protocol#HTTP2}, the requests to a host are multiplexed as
+ * streams of a single connection; the service must support HTTP/2, as the client does not fall back to HTTP/1.1.
+ * <p>
+ * Proxies are not supported yet.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ * {@snippet :
+    SdkAsyncHttpClient client = Apache5AsyncHttpClient.builder()
+                                                      .maxConcurrency(100)
+                                                      .connectionTimeout(Duration.ofSeconds(1))
+                                                      .readTimeout(Duration.ofSeconds(30))
+                                                      .build();
+ * }
+ */
+@SdkPublicApi
+public final class Apache5AsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(Apache5AsyncHttpClient.class);
+    private static final String CLIENT_NAME = "Apache5Async";
+    private static final int HTTP2_INITIAL_WINDOW_SIZE = 1_048_576; // 1MiB
+
+    private final Protocol protocol;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private Apache5AsyncHttpClient(DefaultBuilder builder, AttributeMap standardOptions) {
+        this.protocol = standardOptions.get(SdkHttpConfigurationOption.PROTOCOL);
+        TlsStrategy tlsStrategy = TlsStrategyFactory.create(standardOptions);
+        IOReactorConfig ioReactorConfig = ioReactorConfig(builder, standardOptions);
+        RequestConfig requestConfig = requestConfig(standardOptions);
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-Apache5AsyncIo")
+                                                                .daemonThreads(true)
+                                                                .build();
+
+        if (protocol == Protocol.HTTP2) {
+            this.connectionManager = null;
+            H2AsyncClientBuilder clientBuilder =
+                H2AsyncClientBuilder.create()
+                                    .setTlsStrategy(tlsStrategy)
+                                    .setH2Config(H2Config.custom().setInitialWindowSize(HTTP2_INITIAL_WINDOW_SIZE).build())
+                                    .setIOReactorConfig(ioReactorConfig)
+                                    .setDefaultRequestConfig(requestConfig)
+                                    .setThreadFactory(threadFactory)
+                                    // Retries and redirects are handled by the SDK
+                                    .disableAutomaticRetries()
+                                    .disableRedirectHandling()
+                                    .disableCookieManagement()
+                                    .disableAuthCaching();
+            idleConnectionTimeout(standardOptions).ifPresent(clientBuilder::evictIdleConnections);
+            dnsResolver(standardOptions).ifPresent(clientBuilder::setDnsResolver);
+            this.httpClient = clientBuilder.build();
+        } else {
+            this.connectionManager = connectionManager(tlsStrategy, standardOptions);
+            HttpAsyncClientBuilder clientBuilder =
+                HttpAsyncClientBuilder.create()
+                                      .setConnectionManager(connectionManager)
+                                      .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                                      .setConnectionReuseStrategy(SdkConnectionReuseStrategy.INSTANCE)
+                                      .setIOReactorConfig(ioReactorConfig)
+                                      .setDefaultRequestConfig(requestConfig)
+                                      .setThreadFactory(threadFactory)
+                                      // Retries and redirects are handled by the SDK
+                                      .disableAutomaticRetries()
+                                      .disableRedirectHandling()
+                                      .disableCookieManagement()
+                                      .disableAuthCaching()
+                                      .disableConnectionState();
+            idleConnectionTimeout(standardOptions).ifPresent(clientBuilder::evictIdleConnections);
+            this.httpClient = clientBuilder.build();
+        }
+        this.httpClient.start();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link Apache5AsyncHttpClient} client with the default configuration
+     *
+     * @return an {@link SdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest asyncRequest) {
+        paramNotNull(asyncRequest, "asyncRequest");
+        paramNotNull(asyncRequest.request(), "SdkHttpRequest");
+        paramNotNull(asyncRequest.requestContentPublisher(), "RequestContentPublisher");
+        paramNotNull(asyncRequest.responseHandler(), "ResponseHandler");
+
+        SdkHttpRequest request = asyncRequest.request();
+        SdkAsyncHttpResponseHandler responseHandler = asyncRequest.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        HttpRequest apacheRequest;
+        try {
+            apacheRequest = Apache5Utils.toApacheRequest(request, protocol);
+        } catch (RuntimeException e) {
+            failRequest(responseHandler, executeFuture, e);
+            return executeFuture;
+        }
+
+        asyncRequest.metricCollector().ifPresent(this::reportMetrics);
+        inFlightRequests.incrementAndGet();
+
+        StreamingResponseConsumer responseConsumer = new StreamingResponseConsumer(responseHandler, executeFuture);
+        BasicRequestProducer requestProducer =
+            new BasicRequestProducer(apacheRequest, entityProducer(request, asyncRequest.requestContentPublisher()));
+
+        Future<Void> exchangeFuture = httpClient.execute(requestProducer, responseConsumer,
+                                                         new ExchangeCallback(responseHandler, executeFuture));
+
+        executeFuture.whenComplete((r, t) -> {
+            inFlightRequests.decrementAndGet();
+            // Aborts the exchange when the caller cancelled the request, or the subscriber cancelled the response body
+            if (!responseConsumer.isResponseComplete()) {
+                exchangeFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private void reportMetrics(MetricCollector metricCollector) {
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        if (connectionManager != null) {
+            PoolStats totalStats = connectionManager.getTotalStats();
+            metricCollector.reportMetric(MAX_CONCURRENCY, totalStats.getMax());
+            metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
+            metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
+            metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, totalStats.getPending());
+        } else {
+            // HTTP/2 streams do not lease a connection of their own, so the concurrency is the number of streams in flight
+            metricCollector.reportMetric(LEASED_CONCURRENCY, inFlightRequests.get());
+        }
+    }
+
+    private static AsyncEntityProducer entityProducer(SdkHttpRequest request, SdkHttpContentPublisher content) {
+        Optional<Long> headerContentLength = Apache5Utils.contentLength(request);
+        if (headerContentLength.isPresent()) {
+            return new RequestBodyProducer(content, headerContentLength.get());
+        }
+        Optional<Long> contentLength = content.contentLength();
+        if (contentLength.isPresent() && contentLength.get() == 0) {
+            return null;
+        }
+        return new RequestBodyProducer(content, contentLength.orElse(-1L));
+    }
+
+    private static void failRequest(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture,
+                                    Throwable t) {
+        if (executeFuture.isDone()) {
+            // The request already completed, or was cancelled, before the exchange failed
+            return;
+        }
+        try {
+            responseHandler.onError(t);
+        } finally {
+            executeFuture.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Fails the request when the exchange fails. The execute future is completed once the response body has been consumed
+     * when the exchange succeeds.
+     */
+    private static final class ExchangeCallback implements FutureCallback<Void> {
+        private final SdkAsyncHttpResponseHandler responseHandler;
+        private final CompletableFuture<Void> executeFuture;
+
+        private ExchangeCallback(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture) {
+            this.responseHandler = responseHandler;
+            this.executeFuture = executeFuture;
+        }
+
+        @Override
+        public void completed(Void result) {
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            failRequest(responseHandler, executeFuture, ex);
+        }
+
+        @Override
+        public void cancelled() {
+            failRequest(responseHandler, executeFuture, new IOException("The request was cancelled"));
+        }
+    }
+
+    private static IOReactorConfig ioReactorConfig(DefaultBuilder builder, AttributeMap standardOptions) {
+        IOReactorConfig.Builder ioReactorConfig =
+            IOReactorConfig.custom()
+                           .setSoKeepAlive(standardOptions.get(SdkHttpConfigurationOption.TCP_KEEPALIVE))
+                           .setTcpNoDelay(true);
+        if (builder.ioThreadCount != null) {
+            ioReactorConfig.setIoThreadCount(builder.ioThreadCount);
+        }
+        return ioReactorConfig.build();
+    }
+
+    private static RequestConfig requestConfig(AttributeMap standardOptions) {
+        return RequestConfig.custom()
+                            .setConnectTimeout(timeout(standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT)))
+                            .setConnectionRequestTimeout(
+                                timeout(standardOptions.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT)))
+                            .setResponseTimeout(timeout(standardOptions.get(SdkHttpConfigurationOption.READ_TIMEOUT)))
+                            .setRedirectsEnabled(false)
+                            .setAuthenticationEnabled(false)
+                            .build();
+    }
+
+    private static PoolingAsyncClientConnectionManager connectionManager(TlsStrategy tlsStrategy,
+                                                                         AttributeMap standardOptions) {
+        int maxConnections = standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        PoolingAsyncClientConnectionManagerBuilder builder =
+            PoolingAsyncClientConnectionManagerBuilder.create()
+                                                      .setTlsStrategy(tlsStrategy)
+                                                      .setMaxConnTotal(maxConnections)
+                                                      .setMaxConnPerRoute(maxConnections);
+        dnsResolver(standardOptions).ifPresent(builder::setDnsResolver);
+        Duration timeToLive = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE);
+        if (timeToLive != null && !timeToLive.isZero()) {
+            builder.setConnectionTimeToLive(TimeValue.ofMilliseconds(timeToLive.toMillis()));
+        }
+        return builder.build();
+    }
+
+    private static Optional<DnsResolver> dnsResolver(AttributeMap standardOptions) {
+        return Optional.ofNullable(standardOptions.get(SdkHttpConfigurationOption.DNS_RESOLVER))
+                       .map(SdkDnsResolverAdapter::new);
+    }
+
+    private static Optional<TimeValue> idleConnectionTimeout(AttributeMap standardOptions) {
+        if (!standardOptions.get(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS)) {
+            return Optional.empty();
+        }
+        Duration maxIdleTime = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT);
+        return Optional.of(TimeValue.ofMilliseconds(maxIdleTime.toMillis()));
+    }
+
+    /**
+     * Converts a SDK timeout to an Apache timeout, for which 0 also means that there is no timeout.
+     */
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(saturatedCast(duration.toMillis()));
+    }
+
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+        log.debug(() -> "Closed the Apache async client");
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @SdkTestInternalApi
+    PoolingAsyncClientConnectionManager connectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Builder that allows configuration of the Apache HttpClient 5 based implementation. Use {@link #builder()} to configure
+     * and construct a client.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<Apache5AsyncHttpClient.Builder> {
+
+        /**
+         * Maximum number of allowed concurrent requests with HTTP/1.1, which is the number of connections of the pool.
+         * Requests that are sent while all the connections are in use wait for one to be released, for up to
+         * {@link #connectionAcquisitionTimeout(Duration)}. This has no effect with HTTP/2, for which the number of concurrent
+         * streams of a connection is set by the service.
+         *
+         * @param maxConcurrency New value for max concurrency.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The amount of time to wait for data to be received on a connection, once the request has been sent, before an
+         * exception is thrown. Specify {@code Duration.ZERO} to disable.
+         *
+         * @param readTimeout timeout duration
+         * @return This builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         *
+         * @param connectionTimeout timeout duration
+         * @return This builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait when acquiring a connection from the pool before giving up and timing out.
+         *
+         * @param connectionAcquisitionTimeout timeout duration
+         * @return This builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The maximum amount of time that a HTTP/1.1 connection should be allowed to remain open, regardless of usage
+         * frequency. A connection in use is not closed, but it is not reused once released.
+         */
+        Builder connectionTimeToLive(Duration connectionTimeToLive);
+
+        /**
+         * Configure the maximum amount of time that a connection should be allowed to remain open while idle. Has no effect
+         * if {@link #useIdleConnectionReaper(Boolean)} is false.
+         */
+        Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout);
+
+        /**
+         * Configure whether the idle connections in the connection pool should be closed.
+         * <p>
+         * When enabled, connections left idling for longer than {@link #connectionMaxIdleTime(Duration)} will be
+         * closed. This will not close connections currently in use. By default, this is enabled.
+         */
+        Builder useIdleConnectionReaper(Boolean useConnectionReaper);
+
+        /**
+         * Configure whether to enable or disable TCP KeepAlive. The configuration will be passed to the socket option
+         * {@link java.net.SocketOptions#SO_KEEPALIVE}.
+         * <p>
+         * By default, this is disabled.
+         */
+        Builder tcpKeepAlive(Boolean keepConnectionAlive);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The number of I/O threads that send the requests and receive the responses. By default, this is the number of
+         * available processors. The response handlers are invoked on these threads, and must not block them.
+         *
+         * @param ioThreadCount the number of I/O threads
+         * @return This builder for method chaining.
+         */
+        Builder ioThreadCount(Integer ioThreadCount);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the {@link SdkDnsResolver} that resolves the addresses of the hosts this client connects to, for example a
+         * {@link software.amazon.awssdk.http.CachingDnsResolver} shared with other clients. A connection is opened to the
+         * addresses in the order the resolver returns them until one succeeds. By default, hosts are resolved with
+         * {@link java.net.InetAddress#getAllByName(String)}.
+         */
+        Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Integer ioThreadCount;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            Validate.isNotNegative(readTimeout, "readTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isPositive(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isPositive(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            Validate.isNotNegative(connectionTimeToLive, "connectionTimeToLive");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE, connectionTimeToLive);
+            return this;
+        }
+
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+            connectionTimeToLive(connectionTimeToLive);
+        }
+
+        @Override
+        public Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout) {
+            Validate.isPositive(maxIdleConnectionTimeout, "connectionMaxIdleTime");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, maxIdleConnectionTimeout);
+            return this;
+        }
+
+        public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+
+        @Override
+        public Builder useIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            standardOptions.put(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS, useIdleConnectionReaper);
+            return this;
+        }
+
+        public void setUseIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            useIdleConnectionReaper(useIdleConnectionReaper);
+        }
+
+        @Override
+        public Builder tcpKeepAlive(Boolean keepConnectionAlive) {
+            standardOptions.put(SdkHttpConfigurationOption.TCP_KEEPALIVE, keepConnectionAlive);
+            return this;
+        }
+
+        public void setTcpKeepAlive(Boolean keepConnectionAlive) {
+            tcpKeepAlive(keepConnectionAlive);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder ioThreadCount(Integer ioThreadCount) {
+            Validate.isPositiveOrNull(ioThreadCount, "ioThreadCount");
+            this.ioThreadCount = ioThreadCount;
+            return this;
+        }
+
+        public void setIoThreadCount(Integer ioThreadCount) {
+            ioThreadCount(ioThreadCount);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            standardOptions.put(SdkHttpConfigurationOption.DNS_RESOLVER, sdkDnsResolver);
+            return this;
+        }
+
+        public void setSdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            sdkDnsResolver(sdkDnsResolver);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new Apache5AsyncHttpClient(this, standardOptions.build()
+                                                                   .merge(serviceDefaults)
+                                                                   .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Conversions between the SDK HTTP types and the Apache HttpClient 5 types.
+ */
+@SdkInternalApi
+public final class Apache5Utils {
+
+    /**
+     * Headers that the client derives from the body of the request, and refuses to send if they are already set.
+     */
+    private static final Set<String> BODY_HEADERS = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList("content-length", "transfer-encoding")));
+
+    /**
+     * Headers that are specific to a HTTP/1.1 connection, and are not allowed in HTTP/2. The host is sent in the
+     * :authority pseudo-header instead.
+     */
+    private static final Set<String> CONNECTION_HEADERS = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList("connection", "host", "keep-alive", "proxy-connection", "upgrade")));
+
+    private Apache5Utils() {
+    }
+
+    /**
+     * Creates an Apache request with the method, URI and headers of the given request.
+     *
+     * @throws IllegalArgumentException if a header name or value contains a line break, which would allow one header to
+     * be smuggled into the request as several
+     */
+    public static HttpRequest toApacheRequest(SdkHttpRequest request, Protocol protocol) {
+        BasicHttpRequest apacheRequest = new BasicHttpRequest(request.method().name(), request.getUri());
+        boolean http2 = protocol == Protocol.HTTP2;
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+            if (BODY_HEADERS.contains(lowerCaseName) || (http2 && CONNECTION_HEADERS.contains(lowerCaseName))) {
+                return;
+            }
+            validateHeader(name);
+            values.forEach(value -> {
+                validateHeader(value);
+                apacheRequest.addHeader(name, value);
+            });
+        });
+        return apacheRequest;
+    }
+
+    /**
+     * Returns the length of the request body from its Content-Length header, if any.
+     */
+    public static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(software.amazon.awssdk.http.Header.CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    public static SdkHttpResponse toSdkHttpResponse(HttpResponse response) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder()
+                                                         .statusCode(response.getCode())
+                                                         .statusText(response.getReasonPhrase());
+        for (Header header : response.getHeaders()) {
+            builder.appendHeader(header.getName(), header.getValue());
+        }
+        return builder.build();
+    }
+
+    private static void validateHeader(String nameOrValue) {
+        if (nameOrValue.indexOf('\r') >= 0 || nameOrValue.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Header names and values must not contain line breaks");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Writes the buffers of a request body {@link Publisher} to the stream of an Apache exchange.
+ * <p>
+ * The publisher is subscribed to when the stream asks for data for the first time, and a small number of buffers is
+ * requested ahead of the stream, so that the I/O thread always has something to write without the whole body being held in
+ * memory. More buffers are requested as the stream accepts them.
+ */
+@SdkInternalApi
+public final class RequestBodyProducer implements AsyncEntityProducer {
+    private static final int BUFFERS_REQUESTED_AHEAD = 4;
+
+    private final Publisher<ByteBuffer> publisher;
+    private final long contentLength;
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+    // All fields below are guarded by this
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private DataStreamChannel channel;
+    private boolean subscribed;
+    private boolean complete;
+    private Throwable error;
+
+    /**
+     * @param publisher the publisher of the request body
+     * @param contentLength the length of the body, or -1 if it is unknown, in which case the body is sent chunked
+     */
+    public RequestBodyProducer(Publisher<ByteBuffer> publisher, long contentLength) {
+        this.publisher = publisher;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getContentType() {
+        // The Content-Type header of the request is copied as is
+        return null;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        // The Content-Encoding header of the request is copied as is
+        return null;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return contentLength < 0;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        // Retries are done by the SDK, which resubscribes to the publisher
+        return false;
+    }
+
+    @Override
+    public synchronized int available() {
+        // The stream only asks for data when some is available, so this has to be positive for the publisher to be
+        // subscribed to, and for the end of the stream or an error to be signalled
+        if (!subscribed || error != null || complete) {
+            return 1;
+        }
+        int available = 0;
+        for (ByteBuffer buffer : buffers) {
+            available += buffer.remaining();
+        }
+        return available;
+    }
+
+    @Override
+    public void produce(DataStreamChannel dataStreamChannel) throws IOException {
+        boolean subscribe = false;
+        int buffersWritten = 0;
+        synchronized (this) {
+            this.channel = dataStreamChannel;
+            if (!subscribed) {
+                subscribed = true;
+                subscribe = true;
+            }
+            if (error != null) {
+                throw new IOException("The request body could not be read", error);
+            }
+            while (!buffers.isEmpty()) {
+                ByteBuffer buffer = buffers.peek();
+                dataStreamChannel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    // The stream is full, it asks for more data once it has room again
+                    break;
+                }
+                buffers.poll();
+                buffersWritten++;
+            }
+            if (complete && buffers.isEmpty()) {
+                dataStreamChannel.endStream();
+            }
+        }
+
+        if (subscribe) {
+            publisher.subscribe(new BodySubscriber());
+        } else if (buffersWritten > 0) {
+            Subscription s = subscription.get();
+            if (s != null) {
+                s.request(buffersWritten);
+            }
+        }
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        releaseResources();
+    }
+
+    @Override
+    public void releaseResources() {
+        Subscription s = subscription.getAndSet(null);
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    private void signalData() {
+        DataStreamChannel dataStreamChannel;
+        synchronized (this) {
+            dataStreamChannel = channel;
+        }
+        if (dataStreamChannel != null) {
+            dataStreamChannel.requestOutput();
+        }
+    }
+
+    private final class BodySubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (!subscription.compareAndSet(null, s)) {
+                s.cancel();
+                return;
+            }
+            s.request(BUFFERS_REQUESTED_AHEAD);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (!byteBuffer.hasRemaining()) {
+                Subscription s = subscription.get();
+                if (s != null) {
+                    s.request(1);
+                }
+                return;
+            }
+            synchronized (RequestBodyProducer.this) {
+                buffers.add(byteBuffer);
+            }
+            signalData();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            subscription.set(null);
+            synchronized (RequestBodyProducer.this) {
+                error = t;
+            }
+            signalData();
+        }
+
+        @Override
+        public void onComplete() {
+            subscription.set(null);
+            synchronized (RequestBodyProducer.this) {
+                complete = true;
+            }
+            signalData();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Publishes the body of a response as it is received by an Apache exchange, with back-pressure.
+ * <p>
+ * Apache only reads as many bytes of a stream as the consumer gave it capacity for. The capacity of the bytes received is
+ * handed back once they are delivered to the subscriber, so the bytes buffered here never exceed the initial window of the
+ * stream, however slow the subscriber is.
+ * <p>
+ * The execute future is completed once the whole body has been delivered, or the subscriber cancelled its subscription.
+ * Failures of the exchange are only signalled to the subscriber, as the client fails the execute future itself.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private static final Logger log = Logger.loggerFor(ResponseBodyPublisher.class);
+
+    private final CompletableFuture<Void> executeFuture;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicInteger deliveredBytes = new AtomicInteger();
+
+    private volatile Subscriber<? super ByteBuffer> subscriber;
+    private volatile CapacityChannel capacityChannel;
+    private volatile boolean complete;
+    private volatile Throwable error;
+    private volatile boolean errorFailsExecution;
+    private volatile boolean done;
+
+    public ResponseBodyPublisher(CompletableFuture<Void> executeFuture) {
+        this.executeFuture = executeFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (subscriber != null) {
+            s.onSubscribe(new NoOpSubscription());
+            s.onError(new IllegalStateException("The response body can only be subscribed to once"));
+            return;
+        }
+        subscriber = s;
+        s.onSubscribe(new BodySubscription());
+        drain();
+    }
+
+    void updateCapacity(CapacityChannel channel) {
+        this.capacityChannel = channel;
+        drain();
+    }
+
+    void onData(ByteBuffer data) {
+        buffers.add(data);
+        drain();
+    }
+
+    void onComplete() {
+        complete = true;
+        drain();
+    }
+
+    /**
+     * Signals a failure of the exchange. The execute future is failed by the client, which also notifies the response
+     * handler.
+     */
+    void onError(Throwable t) {
+        error = t;
+        drain();
+    }
+
+    /**
+     * Signals a failure that the exchange does not know about, which fails the execute future and so aborts the exchange.
+     */
+    private void failExecution(Throwable t) {
+        errorFailsExecution = true;
+        error = t;
+    }
+
+    /**
+     * Delivers the buffers the subscriber asked for, then the terminal signal once every buffer has been delivered. Only one
+     * thread drains at a time; the threads that signal in the meantime make it loop once more.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Subscriber<? super ByteBuffer> s = subscriber;
+            if (s != null && !done) {
+                ByteBuffer next;
+                while (!done && demand.get() > 0 && (next = buffers.poll()) != null) {
+                    demand.decrementAndGet();
+                    deliveredBytes.addAndGet(next.remaining());
+                    s.onNext(next);
+                }
+                signalTerminalOrCapacity(s);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void signalTerminalOrCapacity(Subscriber<? super ByteBuffer> s) {
+        if (done) {
+            return;
+        }
+        Throwable t = error;
+        if (t != null) {
+            done = true;
+            buffers.clear();
+            s.onError(t);
+            if (errorFailsExecution) {
+                executeFuture.completeExceptionally(t);
+            }
+        } else if (complete && buffers.isEmpty()) {
+            done = true;
+            s.onComplete();
+            executeFuture.complete(null);
+        } else {
+            releaseCapacity();
+        }
+    }
+
+    private void releaseCapacity() {
+        CapacityChannel channel = capacityChannel;
+        if (channel == null) {
+            return;
+        }
+        int increment = deliveredBytes.getAndSet(0);
+        if (increment > 0) {
+            try {
+                channel.update(increment);
+            } catch (IOException e) {
+                failExecution(e);
+                // Loop once more in drain() to signal the error
+                drainRequests.incrementAndGet();
+            }
+        }
+    }
+
+    private final class BodySubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failExecution(new IllegalArgumentException("Demand must be positive, but was " + n));
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (done) {
+                return;
+            }
+            log.debug(() -> "The subscriber cancelled the response body");
+            done = true;
+            buffers.clear();
+            executeFuture.complete(null);
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import org.apache.hc.core5.http.ConnectionReuseStrategy;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Do not reuse connections that returned a 5xx error.
+ *
+ * <p>This is the same policy as the one of the Apache 4 based client: the connection of a 5xx response may be to a host that
+ * is unhealthy or about to be taken out of service, so the next request is sent on a fresh connection.
+ */
+@SdkInternalApi
+public final class SdkConnectionReuseStrategy implements ConnectionReuseStrategy {
+    public static final SdkConnectionReuseStrategy INSTANCE = new SdkConnectionReuseStrategy();
+
+    private SdkConnectionReuseStrategy() {
+    }
+
+    @Override
+    public boolean keepAlive(HttpRequest request, HttpResponse response, HttpContext context) {
+        if (!DefaultConnectionReuseStrategy.INSTANCE.keepAlive(request, response, context)) {
+            return false;
+        }
+        return response.getCode() / 100 != 5;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+/**
+ * Hands the response of an Apache exchange to a {@link SdkAsyncHttpResponseHandler}: the headers as soon as they are
+ * received, then the body as a {@link ResponseBodyPublisher}.
+ */
+@SdkInternalApi
+public final class StreamingResponseConsumer implements AsyncResponseConsumer<Void> {
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final ResponseBodyPublisher bodyPublisher;
+
+    private volatile FutureCallback<Void> resultCallback;
+    private volatile boolean responseComplete;
+
+    public StreamingResponseConsumer(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture) {
+        this.responseHandler = responseHandler;
+        this.bodyPublisher = new ResponseBodyPublisher(executeFuture);
+    }
+
+    /**
+     * Whether the whole response was received from the server. The response may not have been consumed by the response
+     * handler yet.
+     */
+    public boolean isResponseComplete() {
+        return responseComplete;
+    }
+
+    @Override
+    public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                                FutureCallback<Void> callback) {
+        this.resultCallback = callback;
+        responseHandler.onHeaders(Apache5Utils.toSdkHttpResponse(response));
+        responseHandler.onStream(bodyPublisher);
+        if (entityDetails == null) {
+            // HEAD requests, and 204 and 304 responses
+            completeResponse();
+        }
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+        // 100 Continue responses are handled by Apache
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) {
+        bodyPublisher.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+        // Apache reuses its buffers once this returns
+        ByteBuffer copy = ByteBuffer.allocate(src.remaining());
+        copy.put(src);
+        copy.flip();
+        bodyPublisher.onData(copy);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        completeResponse();
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        bodyPublisher.onError(cause);
+    }
+
+    @Override
+    public void releaseResources() {
+    }
+
+    private void completeResponse() {
+        responseComplete = true;
+        // Completing the exchange first lets Apache release the connection while the subscriber catches up
+        FutureCallback<Void> callback = resultCallback;
+        if (callback != null) {
+            callback.completed(null);
+        }
+        bodyPublisher.onComplete();
+    }
+}
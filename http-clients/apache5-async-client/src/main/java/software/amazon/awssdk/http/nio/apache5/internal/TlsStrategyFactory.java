@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5.internal;
+
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link TlsStrategy} of a client from the resolved SDK options.
+ */
+@SdkInternalApi
+public final class TlsStrategyFactory {
+    private static final Logger log = Logger.loggerFor(TlsStrategyFactory.class);
+
+    private TlsStrategyFactory() {
+    }
+
+    public static TlsStrategy create(AttributeMap standardOptions) {
+        boolean trustAllCertificates = standardOptions.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        ClientTlsStrategyBuilder builder = ClientTlsStrategyBuilder.create()
+                                                                   .setSslContext(createSslContext(standardOptions));
+        if (trustAllCertificates) {
+            builder.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        }
+        return builder.build();
+    }
+
+    private static SSLContext createSslContext(AttributeMap standardOptions) {
+        TlsTrustManagersProvider trustManagersProvider =
+            standardOptions.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = standardOptions.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] {TrustAllManager.INSTANCE};
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = standardOptions.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider != null ? keyManagersProvider.keyManagers() : null;
+
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagers, trustManagers, null);
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            if (sessionCacheSize != null) {
+                sslContext.getClientSessionContext().setSessionCacheSize(sessionCacheSize);
+            }
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (sessionTimeout != null) {
+                sslContext.getClientSessionContext().setSessionTimeout(saturatedCast(sessionTimeout.getSeconds()));
+            }
+            return sslContext;
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     */
+    private static final class TrustAllManager implements X509TrustManager {
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a client certificate: " + chain[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            log.debug(() -> "Accepting a server certificate: " + chain[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+/**
+ * Tests the client against a cleartext HTTP/2 server, which it talks to with prior knowledge.
+ */
+public class Apache5AsyncHttpClientH2Test {
+    private static final int CONCURRENT_REQUESTS = 10;
+
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private HttpAsyncServer server;
+    private int port;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+                                  .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                                  .register("*", new EchoHandler(clientAddresses))
+                                  .create();
+        server.start();
+        port = ((InetSocketAddress) server.listen(new InetSocketAddress(0), URIScheme.HTTP).get().getAddress()).getPort();
+        client = Apache5AsyncHttpClient.builder()
+                                       .protocol(Protocol.HTTP2)
+                                       .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void execute_concurrentRequests_areMultiplexedOnOneConnection() {
+        List<RecordingResponseHandler> handlers = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            RecordingResponseHandler handler = new RecordingResponseHandler();
+            handlers.add(handler);
+            futures.add(execute("request-" + i, handler));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            RecordingResponseHandler handler = handlers.get(i);
+            handler.completeFuture().join();
+            assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+            assertThat(handler.fullResponseAsString()).isEqualTo("HTTP/2.0 request-" + i);
+        }
+        assertThat(clientAddresses).hasSize(1);
+    }
+
+    private CompletableFuture<Void> execute(String body, RecordingResponseHandler handler) {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + port))
+                                                       .method(SdkHttpMethod.POST)
+                                                       .putHeader("Host", "localhost")
+                                                       .putHeader("Content-Length", String.valueOf(content.length))
+                                                       .build();
+        return client.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(new SimpleHttpContentPublisher(content))
+                                                 .responseHandler(handler)
+                                                 .build());
+    }
+
+    /**
+     * Responds with the protocol the request was received over, followed by the request body, and records the address of
+     * the connection it was received on.
+     */
+    private static final class EchoHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+        private final Set<SocketAddress> clientAddresses;
+
+        private EchoHandler(Set<SocketAddress> clientAddresses) {
+            this.clientAddresses = clientAddresses;
+        }
+
+        @Override
+        public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(HttpRequest request, EntityDetails entityDetails,
+                                                                          HttpContext context) {
+            return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> message, ResponseTrigger responseTrigger, HttpContext context)
+            throws HttpException, IOException {
+            clientAddresses.add(HttpCoreContext.adapt(context).getEndpointDetails().getRemoteAddress());
+            String protocol = context.getProtocolVersion().format();
+            responseTrigger.submitResponse(new BasicResponseProducer(200, protocol + " " + message.getBody()), context);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.apache5;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+
+public class Apache5AsyncHttpClientWireMockTest {
+    private static final String BODY = "hello world";
+
+    private WireMockServer mockServer;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        mockServer.start();
+        client = Apache5AsyncHttpClient.create();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        mockServer.stop();
+    }
+
+    @Test
+    public void execute_withContentLength_sendsBodyWithThatLength() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("response")));
+
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        execute(postRequest(true), new SimpleHttpContentPublisher(BODY.getBytes(StandardCharsets.UTF_8)), handler).join();
+        handler.completeFuture().join();
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.fullResponseAsString()).isEqualTo("response");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                              .withHeader("Transfer-Encoding", absent())
+                              .withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void execute_withoutContentLength_sendsBodyChunked() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        SdkHttpContentPublisher content = new SimpleHttpContentPublisher(BODY.getBytes(StandardCharsets.UTF_8));
+        SdkHttpContentPublisher unknownLengthContent = new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.empty();
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                content.subscribe(subscriber);
+            }
+        };
+
+        execute(postRequest(false), unknownLengthContent, new RecordingResponseHandler()).join();
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Transfer-Encoding", equalTo("chunked"))
+                              .withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void execute_withLargeResponse_streamsWholeBody() {
+        byte[] responseBody = new byte[4 * 1024 * 1024];
+        for (int i = 0; i < responseBody.length; i++) {
+            responseBody[i] = (byte) ('a' + i % 26);
+        }
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody(responseBody)));
+
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        execute(postRequest(true), new SimpleHttpContentPublisher(BODY.getBytes(StandardCharsets.UTF_8)), handler).join();
+        handler.completeFuture().join();
+
+        assertThat(handler.fullResponseAsString()).isEqualTo(new String(responseBody, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_withMetricCollector_reportsMetrics() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(postRequest(true))
+                                          .requestContentPublisher(new SimpleHttpContentPublisher(
+                                              BODY.getBytes(StandardCharsets.UTF_8)))
+                                          .responseHandler(handler)
+                                          .metricCollector(handler.collector())
+                                          .build())
+              .join();
+
+        MetricCollection metrics = handler.collector().collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("Apache5Async");
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(50);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+    }
+
+    @Test
+    public void execute_subscriberCancelsResponseBody_nextRequestSucceeds() {
+        byte[] responseBody = new byte[1024 * 1024];
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody(responseBody)));
+
+        CompletableFuture<Void> cancelled = new CompletableFuture<>();
+        SdkAsyncHttpResponseHandler cancellingHandler = new SdkAsyncHttpResponseHandler() {
+            @Override
+            public void onHeaders(SdkHttpResponse headers) {
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> stream) {
+                stream.subscribe(new Subscriber<ByteBuffer>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        subscription.cancel();
+                        cancelled.complete(null);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer byteBuffer) {
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                cancelled.completeExceptionally(error);
+            }
+        };
+        execute(postRequest(true), new SimpleHttpContentPublisher(BODY.getBytes(StandardCharsets.UTF_8)), cancellingHandler)
+            .join();
+        cancelled.join();
+
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        execute(postRequest(true), new SimpleHttpContentPublisher(BODY.getBytes(StandardCharsets.UTF_8)), handler).join();
+        handler.completeFuture().join();
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.fullResponseAsString()).hasSize(responseBody.length);
+    }
+
+    @Test
+    public void execute_connectionRefused_failsFutureAndNotifiesHandler() throws Exception {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + unusedPort))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        CompletableFuture<Void> executeFuture = execute(request, new SimpleHttpContentPublisher(new byte[0]), handler);
+
+        assertThatThrownBy(executeFuture::join).isInstanceOf(CompletionException.class)
+                                               .hasCauseInstanceOf(ConnectException.class);
+        assertThatThrownBy(() -> handler.completeFuture().get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    public void execute_withSdkDnsResolver_fallsBackToNextAddressWhenConnectionFails() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("response")));
+        // 192.0.2.0/24 is reserved for documentation, so nothing answers there
+        InetAddress unreachable = InetAddress.getByAddress("magic.local.host", new byte[] {(byte) 192, 0, 2, 1});
+        InetAddress loopback = InetAddress.getByAddress("magic.local.host", new byte[] {127, 0, 0, 1});
+
+        try (SdkAsyncHttpClient dnsClient = Apache5AsyncHttpClient.builder()
+                                                                  .sdkDnsResolver(host -> new InetAddress[] {unreachable, loopback})
+                                                                  .connectionTimeout(Duration.ofMillis(500))
+                                                                  .build()) {
+            SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                           .uri(URI.create("http://magic.local.host:" + mockServer.port()))
+                                                           .method(SdkHttpMethod.GET)
+                                                           .putHeader("Host", "magic.local.host")
+                                                           .build();
+            RecordingResponseHandler handler = new RecordingResponseHandler();
+            dnsClient.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(new SimpleHttpContentPublisher(new byte[0]))
+                                                 .responseHandler(handler)
+                                                 .build())
+                     .join();
+            handler.completeFuture().join();
+
+            assertThat(handler.fullResponseAsString()).isEqualTo("response");
+        }
+    }
+
+    private CompletableFuture<Void> execute(SdkHttpFullRequest request, SdkHttpContentPublisher content,
+                                            SdkAsyncHttpResponseHandler handler) {
+        return client.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(content)
+                                                 .responseHandler(handler)
+                                                 .build());
+    }
+
+    private SdkHttpFullRequest postRequest(boolean withContentLength) {
+        SdkHttpFullRequest.Builder builder = SdkHttpFullRequest.builder()
+                                                               .uri(URI.create("http://localhost:" + mockServer.port()))
+                                                               .method(SdkHttpMethod.POST)
+                                                               .putHeader("Host", "localhost");
+        if (withContentLength) {
+            builder.putHeader("Content-Length", String.valueOf(BODY.length()));
+        }
+        return builder.build();
+    }
+}
@@ -21,13 +21,18 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL;
 import static software.amazon.awssdk.http.crt.internal.AwsCrtConfigurationUtils.buildSocketOptions;
 import static software.amazon.awssdk.http.crt.internal.AwsCrtConfigurationUtils.resolveCipherPreference;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManagerOptions;
 import software.amazon.awssdk.crt.http.HttpMonitoringOptions;
@@ -38,6 +43,7 @@ import software.amazon.awssdk.crt.io.TlsContext;
 import software.amazon.awssdk.crt.io.TlsContextOptions;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.crt.internal.AwsCrtClientBuilderBase;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -158,6 +164,35 @@ abstract class AwsCrtHttpClientBase implements SdkAutoCloseable {
         }
     }
 
+    /**
+     * Opens up to {@code connections} connections to the endpoint concurrently, and returns them to the pool once they are all
+     * established. No more than the maximum number of connections per endpoint are opened.
+     */
+    CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        paramNotNull(endpoint, "endpoint");
+        int connectionsToOpen = Math.min(connections, maxConnectionsPerEndpoint);
+        if (connectionsToOpen <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        SdkHttpRequest request = SdkHttpRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        log.debug(() -> "Prewarming " + connectionsToOpen + " connections to " + endpoint);
+
+        // See the note on getOrCreateConnectionPool(), the pool is only needed until the acquisitions are submitted
+        try (HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(poolKey(request))) {
+            List<CompletableFuture<HttpClientConnection>> acquireFutures = new ArrayList<>(connectionsToOpen);
+            for (int i = 0; i < connectionsToOpen; i++) {
+                acquireFutures.add(crtConnPool.acquireConnection());
+            }
+
+            // Hold on to all the connections until every one is established, otherwise the pool would hand the first ones out
+            // again instead of opening new ones
+            return CompletableFuture.allOf(acquireFutures.toArray(new CompletableFuture[0]))
+                                    .whenComplete((r, t) -> acquireFutures.forEach(
+                                        f -> f.thenAccept(HttpClientConnection::close)));
+        }
+    }
+
     URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -24,13 +24,20 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.crt.http.HttpRequestBodyStream;
 import software.amazon.awssdk.http.ContentStreamProvider;
 
+/**
+ * Adapts the {@link ContentStreamProvider} of a request to the body stream the CRT reads from.
+ *
+ * <p>The stream is read straight into the buffer provided by the CRT when that buffer is backed by an array. The CRT usually
+ * provides a direct buffer though, in which case the bytes go through a read buffer, which is only allocated once it is
+ * needed.
+ */
 @SdkInternalApi
 final class CrtRequestInputStreamAdapter implements HttpRequestBodyStream {
     private static final int READ_BUFFER_SIZE = 16 * 1024;
 
     private final ContentStreamProvider provider;
     private volatile InputStream providerStream;
-    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private byte[] readBuffer;
 
     CrtRequestInputStreamAdapter(ContentStreamProvider provider) {
         this.provider = provider;
@@ -38,24 +45,50 @@ final class CrtRequestInputStreamAdapter implements HttpRequestBodyStream {
 
     @Override
     public boolean sendRequestBody(ByteBuffer bodyBytesOut) {
-        int read;
-
         try {
             if (providerStream == null) {
                 createNewStream();
             }
 
-            int toRead = min(READ_BUFFER_SIZE, bodyBytesOut.remaining());
-            read = providerStream.read(readBuffer, 0, toRead);
-
-            if (read > 0) {
-                bodyBytesOut.put(readBuffer, 0, read);
+            // Keep reading while the stream fills every read, to limit the number of calls from the CRT. A short read means
+            // the stream has no more data at hand, so what was read is sent right away instead of blocking for more.
+            while (bodyBytesOut.hasRemaining()) {
+                int requested = bodyBytesOut.hasArray() ? bodyBytesOut.remaining()
+                                                        : min(READ_BUFFER_SIZE, bodyBytesOut.remaining());
+                int read = bodyBytesOut.hasArray() ? readIntoArray(bodyBytesOut, requested)
+                                                   : readThroughBuffer(bodyBytesOut, requested);
+                if (read < 0) {
+                    return true;
+                }
+                if (read < requested) {
+                    return false;
+                }
             }
         } catch (IOException ioe) {
             throw new RuntimeException(ioe);
         }
 
-        return read < 0;
+        return false;
+    }
+
+    private int readIntoArray(ByteBuffer bodyBytesOut, int length) throws IOException {
+        int read = providerStream.read(bodyBytesOut.array(), bodyBytesOut.arrayOffset() + bodyBytesOut.position(), length);
+        if (read > 0) {
+            bodyBytesOut.position(bodyBytesOut.position() + read);
+        }
+        return read;
+    }
+
+    private int readThroughBuffer(ByteBuffer bodyBytesOut, int length) throws IOException {
+        if (readBuffer == null) {
+            readBuffer = new byte[READ_BUFFER_SIZE];
+        }
+
+        int read = providerStream.read(readBuffer, 0, length);
+        if (read > 0) {
+            bodyBytesOut.put(readBuffer, 0, read);
+        }
+        return read;
     }
 
     @Override
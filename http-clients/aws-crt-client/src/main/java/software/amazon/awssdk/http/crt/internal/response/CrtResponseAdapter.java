@@ -92,6 +92,7 @@ public final class CrtResponseAdapter implements HttpStreamResponseHandler {
 
     @Override
     public int onResponseBody(HttpStream stream, byte[] bodyBytesIn) {
+        // The CRT allocates a new array for every call, so it is handed downstream as is rather than copied
         CompletableFuture<Void> writeFuture = responsePublisher.send(ByteBuffer.wrap(bodyBytesIn));
 
         if (writeFuture.isDone() && !writeFuture.isCompletedExceptionally()) {
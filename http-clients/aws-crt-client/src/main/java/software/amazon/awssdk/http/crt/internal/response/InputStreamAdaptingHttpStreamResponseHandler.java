@@ -96,6 +96,7 @@ public final class InputStreamAdaptingHttpStreamResponseHandler implements HttpS
             requestCompletionFuture.complete(responseBuilder.build());
         }
 
+        // The CRT allocates a new array for every call, so it is handed downstream as is rather than copied
         CompletableFuture<Void> writeFuture = simplePublisher.send(ByteBuffer.wrap(bodyBytesIn));
 
         if (writeFuture.isDone() && !writeFuture.isCompletedExceptionally()) {
@@ -104,6 +104,33 @@ public class AwsCrtHttpClientWireMockTest {
         }
     }
 
+    @Test
+    public void prewarm_shouldOpenConnectionsAheadOfRequests() throws Exception {
+        try (SdkHttpClient client = AwsCrtHttpClient.builder().maxConcurrency(10).build()) {
+            client.prewarm(URI.create("http://localhost:" + mockServer.port()), 3).get(10, TimeUnit.SECONDS);
+
+            MetricCollector collector = MetricCollector.create("test");
+            makeSimpleRequest(client, collector);
+            MetricCollection metrics = collector.collect();
+
+            assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(2);
+        }
+    }
+
+    @Test
+    public void prewarm_moreConnectionsThanMaxConcurrency_shouldOpenMaxConcurrency() throws Exception {
+        try (SdkHttpClient client = AwsCrtHttpClient.builder().maxConcurrency(2).build()) {
+            client.prewarm(URI.create("http://localhost:" + mockServer.port()), 5).get(10, TimeUnit.SECONDS);
+
+            MetricCollector collector = MetricCollector.create("test");
+            makeSimpleRequest(client, collector);
+            MetricCollection metrics = collector.collect();
+
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+        }
+    }
+
     @Test
     public void sharedEventLoopGroup_closeOneClient_shouldNotAffectOtherClients() throws Exception {
         try (SdkHttpClient client = AwsCrtHttpClient.create()) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CrtRequestInputStreamAdapterTest {
+    private static final byte[] BODY = body(100_000);
+
+    public static Stream<Function<Integer, ByteBuffer>> bufferAllocators() {
+        return Stream.of(ByteBuffer::allocate, ByteBuffer::allocateDirect);
+    }
+
+    @ParameterizedTest
+    @MethodSource("bufferAllocators")
+    public void sendRequestBody_sendsWholeBody(Function<Integer, ByteBuffer> allocator) {
+        CrtRequestInputStreamAdapter adapter = new CrtRequestInputStreamAdapter(() -> new ByteArrayInputStream(BODY));
+
+        assertThat(sendAll(adapter, allocator.apply(64 * 1024))).isEqualTo(BODY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("bufferAllocators")
+    public void sendRequestBody_fillsBufferLargerThanReadBuffer(Function<Integer, ByteBuffer> allocator) {
+        CrtRequestInputStreamAdapter adapter = new CrtRequestInputStreamAdapter(() -> new ByteArrayInputStream(BODY));
+
+        ByteBuffer out = allocator.apply(64 * 1024);
+        assertThat(adapter.sendRequestBody(out)).isFalse();
+        assertThat(out.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void sendRequestBody_shortRead_returnsWithWhatWasRead() {
+        CrtRequestInputStreamAdapter adapter = new CrtRequestInputStreamAdapter(() -> new OneByteAtATimeInputStream(BODY));
+
+        ByteBuffer out = ByteBuffer.allocateDirect(1024);
+        assertThat(adapter.sendRequestBody(out)).isFalse();
+        assertThat(out.position()).isEqualTo(1);
+    }
+
+    @Test
+    public void resetPosition_startsOverFromTheBeginning() {
+        CrtRequestInputStreamAdapter adapter = new CrtRequestInputStreamAdapter(() -> new ByteArrayInputStream(BODY));
+
+        adapter.sendRequestBody(ByteBuffer.allocateDirect(1024));
+        assertThat(adapter.resetPosition()).isTrue();
+
+        assertThat(sendAll(adapter, ByteBuffer.allocateDirect(4096))).isEqualTo(BODY);
+    }
+
+    private static byte[] sendAll(CrtRequestInputStreamAdapter adapter, ByteBuffer out) {
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        boolean done;
+        do {
+            out.clear();
+            done = adapter.sendRequestBody(out);
+            out.flip();
+            byte[] chunk = new byte[out.remaining()];
+            out.get(chunk);
+            sent.write(chunk, 0, chunk.length);
+        } while (!done);
+        return sent.toByteArray();
+    }
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) i;
+        }
+        return body;
+    }
+
+    private static final class OneByteAtATimeInputStream extends FilterInputStream {
+        private OneByteAtATimeInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
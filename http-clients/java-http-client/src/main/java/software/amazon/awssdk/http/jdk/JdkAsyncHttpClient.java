@@ -0,0 +1,237 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientBuilderBase;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpUtils;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link java.net.http.HttpClient} of the JDK to communicate
+ * with the service. It needs Java 11 or later, and is a lightweight alternative to the Netty and CRT based clients that has
+ * no dependency outside of the JDK, in exchange for less configurability.
+ * <p>
+ * Request and response bodies are streamed, and HTTP/2 is used when {@link Protocol#HTTP2} is configured and the service
+ * supports it. Connections are pooled by the JDK, which does not bound their number nor allow them to be configured per
+ * client. Proxies are not supported.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ * {@snippet :
+    SdkAsyncHttpClient client = JdkAsyncHttpClient.builder()
+                                                  .connectionTimeout(Duration.ofSeconds(1))
+                                                  .readTimeout(Duration.ofSeconds(30))
+                                                  .build();
+ * }
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient extends JdkHttpClientBase implements SdkAsyncHttpClient {
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private JdkAsyncHttpClient(DefaultAsyncBuilder builder, AttributeMap config) {
+        super(config, builder.getExecutor());
+    }
+
+    public static JdkAsyncHttpClient.Builder builder() {
+        return new DefaultAsyncBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} client with the default configuration
+     *
+     * @return an {@link SdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultAsyncBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest asyncRequest) {
+        paramNotNull(asyncRequest, "asyncRequest");
+        paramNotNull(asyncRequest.request(), "SdkHttpRequest");
+        paramNotNull(asyncRequest.requestContentPublisher(), "RequestContentPublisher");
+        paramNotNull(asyncRequest.responseHandler(), "ResponseHandler");
+
+        SdkHttpRequest request = asyncRequest.request();
+        SdkAsyncHttpResponseHandler responseHandler = asyncRequest.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = JdkHttpUtils.toHttpRequestBuilder(request, readTimeout)
+                                      .method(request.method().name(),
+                                              bodyPublisher(request, asyncRequest.requestContentPublisher()))
+                                      .build();
+        } catch (RuntimeException e) {
+            // HttpClient rejects some header names and values, such as ones containing line breaks
+            failRequest(responseHandler, executeFuture, e);
+            return executeFuture;
+        }
+
+        int leasedConcurrency = inFlightRequests.incrementAndGet();
+        asyncRequest.metricCollector().ifPresent(metricCollector -> {
+            metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+            metricCollector.reportMetric(LEASED_CONCURRENCY, leasedConcurrency);
+        });
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofPublisher());
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t != null) {
+                failRequest(responseHandler, executeFuture, JdkHttpUtils.unwrapFutureException(t));
+                return;
+            }
+            try {
+                responseHandler.onHeaders(JdkHttpUtils.toSdkHttpResponse(response));
+                responseHandler.onStream(new ResponseBodyPublisher(response.body(), executeFuture));
+            } catch (RuntimeException e) {
+                failRequest(responseHandler, executeFuture, e);
+            }
+        });
+
+        executeFuture.whenComplete((r, t) -> {
+            inFlightRequests.decrementAndGet();
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(SdkHttpRequest request, SdkHttpContentPublisher content) {
+        Optional<Long> contentLength = JdkHttpUtils.contentLength(request);
+        if (!contentLength.isPresent()) {
+            contentLength = content.contentLength();
+        }
+        if (contentLength.isPresent() && contentLength.get() == 0) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+
+        Flow.Publisher<ByteBuffer> flowPublisher = FlowAdapters.toFlowPublisher(content);
+        return contentLength.map(length -> HttpRequest.BodyPublishers.fromPublisher(flowPublisher, length))
+                            .orElseGet(() -> HttpRequest.BodyPublishers.fromPublisher(flowPublisher));
+    }
+
+    private static void failRequest(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture,
+                                    Throwable t) {
+        try {
+            responseHandler.onError(t);
+        } finally {
+            executeFuture.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the {@link java.net.http.HttpClient} based implementation.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         *
+         * @param connectionTimeout timeout
+         * @return The builder of the method chaining.
+         */
+        JdkAsyncHttpClient.Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers once the request has been sent, before giving up and timing
+         * out. A duration of 0 means infinity, and is not recommended.
+         * <p>
+         * Unlike the read timeout of the other clients, this does not bound the time between two reads of the response body,
+         * as {@link java.net.http.HttpClient} has no such timeout.
+         *
+         * @param readTimeout timeout
+         * @return The builder of the method chaining.
+         */
+        JdkAsyncHttpClient.Builder readTimeout(Duration readTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2. When HTTP/2 is
+         * configured, the client falls back to HTTP/1.1 for the services that do not support it.
+         *
+         * @param protocol Protocol to use.
+         * @return The builder of the method chaining.
+         */
+        JdkAsyncHttpClient.Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        JdkAsyncHttpClient.Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        JdkAsyncHttpClient.Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor {@link java.net.http.HttpClient} uses to run its asynchronous tasks, and on which the response handler
+         * is invoked. When not set, the client creates its own cached thread pool. An executor provided here is not shut
+         * down when the client is closed.
+         *
+         * @param executor the executor
+         * @return The builder of the method chaining.
+         */
+        JdkAsyncHttpClient.Builder executor(Executor executor);
+    }
+
+    private static final class DefaultAsyncBuilder
+        extends JdkHttpClientBuilderBase<JdkAsyncHttpClient.Builder> implements Builder {
+
+        @Override
+        public SdkAsyncHttpClient build() {
+            return new JdkAsyncHttpClient(this, getAttributeMap().build()
+                                                                 .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(this, getAttributeMap().build()
+                                                                 .merge(serviceDefaults)
+                                                                 .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientBuilderBase;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpUtils;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link java.net.http.HttpClient} of the JDK to communicate with
+ * the service. It needs Java 11 or later. Unlike {@code UrlConnectionHttpClient}, it supports HTTP/2 and can be aborted at
+ * any time, while still having no dependency outside of the JDK.
+ *
+ * <p>See {@link JdkAsyncHttpClient} for the asynchronous version of this client.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ * {@snippet :
+    SdkHttpClient client = JdkHttpClient.builder()
+                                        .connectionTimeout(Duration.ofSeconds(1))
+                                        .readTimeout(Duration.ofSeconds(30))
+                                        .build();
+ * }
+ */
+@SdkPublicApi
+public final class JdkHttpClient extends JdkHttpClientBase implements SdkHttpClient {
+
+    private JdkHttpClient(DefaultBuilder builder, AttributeMap config) {
+        super(config, builder.getExecutor());
+    }
+
+    public static JdkHttpClient.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} client with the default configuration
+     *
+     * @return an {@link SdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        paramNotNull(request, "request");
+        paramNotNull(request.httpRequest(), "SdkHttpRequest");
+
+        request.metricCollector()
+               .ifPresent(metricCollector -> metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName()));
+
+        SdkHttpRequest sdkRequest = request.httpRequest();
+        HttpRequest httpRequest = JdkHttpUtils.toHttpRequestBuilder(sdkRequest, readTimeout)
+                                              .method(sdkRequest.method().name(),
+                                                      bodyPublisher(sdkRequest, request.contentStreamProvider()))
+                                              .build();
+        return new RequestCallable(sdkRequest, httpRequest);
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(SdkHttpRequest request, Optional<ContentStreamProvider> content) {
+        if (!content.isPresent()) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        HttpRequest.BodyPublisher streamPublisher = HttpRequest.BodyPublishers.ofInputStream(content.get()::newStream);
+        return JdkHttpUtils.contentLength(request)
+                           .map(length -> length == 0
+                                          ? HttpRequest.BodyPublishers.noBody()
+                                          : HttpRequest.BodyPublishers.fromPublisher(streamPublisher, length))
+                           .orElse(streamPublisher);
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final SdkHttpRequest sdkRequest;
+        private final HttpRequest httpRequest;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile boolean aborted;
+
+        private RequestCallable(SdkHttpRequest sdkRequest, HttpRequest httpRequest) {
+            this.sdkRequest = sdkRequest;
+            this.httpRequest = httpRequest;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            // Send asynchronously and wait, so that the request can be aborted from another thread before the response
+            // arrives
+            responseFuture = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+            if (aborted) {
+                responseFuture.cancel(true);
+            }
+
+            HttpResponse<InputStream> response = awaitResponse();
+            InputStream body = response.body();
+
+            AbortableInputStream responseBody = null;
+            if (JdkHttpUtils.responseNeverHasPayload(sdkRequest.method(), response.statusCode())) {
+                IoUtils.closeQuietly(body, null);
+            } else {
+                responseBody = AbortableInputStream.create(body, () -> IoUtils.closeQuietly(body, null));
+            }
+
+            return HttpExecuteResponse.builder()
+                                      .response(JdkHttpUtils.toSdkHttpResponse(response))
+                                      .responseBody(responseBody)
+                                      .build();
+        }
+
+        private HttpResponse<InputStream> awaitResponse() throws IOException {
+            try {
+                return responseFuture.get();
+            } catch (InterruptedException e) {
+                responseFuture.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the response");
+                exception.initCause(e);
+                throw exception;
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = JdkHttpUtils.unwrapFutureException(e);
+                // HttpClient may also fail the future, rather than cancel it, when it is cancelled
+                if (cause instanceof CancellationException) {
+                    throw new IOException("The request was aborted", cause);
+                }
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the {@link java.net.http.HttpClient} of the JDK. A builder
+     * can be created via {@link #builder()}.
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         *
+         * @param connectionTimeout timeout
+         * @return The builder of the method chaining.
+         */
+        JdkHttpClient.Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers once the request has been sent, before giving up and timing
+         * out. A duration of 0 means infinity, and is not recommended.
+         * <p>
+         * Unlike the socket timeout of the other clients, this does not bound the time between two reads of the response
+         * body, as {@link java.net.http.HttpClient} has no such timeout.
+         *
+         * @param readTimeout timeout
+         * @return The builder of the method chaining.
+         */
+        JdkHttpClient.Builder readTimeout(Duration readTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2. When HTTP/2 is
+         * configured, the client falls back to HTTP/1.1 for the services that do not support it.
+         *
+         * @param protocol Protocol to use.
+         * @return The builder of the method chaining.
+         */
+        JdkHttpClient.Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        JdkHttpClient.Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        JdkHttpClient.Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor {@link java.net.http.HttpClient} uses to run its asynchronous tasks. When not set, the client creates
+         * its own cached thread pool. An executor provided here is not shut down when the client is closed.
+         *
+         * @param executor the executor
+         * @return The builder of the method chaining.
+         */
+        JdkHttpClient.Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder extends JdkHttpClientBuilderBase<JdkHttpClient.Builder> implements Builder {
+
+        @Override
+        public SdkHttpClient build() {
+            return new JdkHttpClient(this, getAttributeMap().build()
+                                                            .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(this, getAttributeMap().build()
+                                                            .merge(serviceDefaults)
+                                                            .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Common functionality and configuration for the synchronous and asynchronous clients backed by {@link HttpClient}.
+ */
+@SdkProtectedApi
+abstract class JdkHttpClientBase implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(JdkHttpClientBase.class);
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    protected final HttpClient httpClient;
+    protected final Duration readTimeout;
+
+    JdkHttpClientBase(AttributeMap config, Executor executor) {
+        this.httpClient = JdkHttpClientFactory.createHttpClient(config, executor);
+        this.readTimeout = config.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        // HttpClient only has a way to release its resources eagerly from Java 21, before that they are released once it
+        // is no longer referenced.
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                log.debug(() -> "Failed to close the HttpClient.", e);
+            }
+        }
+    }
+}
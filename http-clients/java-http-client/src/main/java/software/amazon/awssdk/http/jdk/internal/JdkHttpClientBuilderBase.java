@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The configuration shared by the builders of the synchronous and asynchronous clients backed by
+ * {@link java.net.http.HttpClient}.
+ */
+@SdkInternalApi
+public class JdkHttpClientBuilderBase<BuilderT> {
+    private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+    private Executor executor;
+
+    protected JdkHttpClientBuilderBase() {
+    }
+
+    protected AttributeMap.Builder getAttributeMap() {
+        return standardOptions;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    private BuilderT thisBuilder() {
+        return (BuilderT) this;
+    }
+
+    public BuilderT connectionTimeout(Duration connectionTimeout) {
+        Validate.isPositive(connectionTimeout, "connectionTimeout");
+        standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+        return thisBuilder();
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        connectionTimeout(connectionTimeout);
+    }
+
+    public BuilderT readTimeout(Duration readTimeout) {
+        Validate.isNotNegative(readTimeout, "readTimeout");
+        standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+        return thisBuilder();
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        readTimeout(readTimeout);
+    }
+
+    public BuilderT protocol(Protocol protocol) {
+        standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+        return thisBuilder();
+    }
+
+    public void setProtocol(Protocol protocol) {
+        protocol(protocol);
+    }
+
+    public BuilderT tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+        standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+        return thisBuilder();
+    }
+
+    public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+        tlsKeyManagersProvider(tlsKeyManagersProvider);
+    }
+
+    public BuilderT tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+        standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+        return thisBuilder();
+    }
+
+    public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+        tlsTrustManagersProvider(tlsTrustManagersProvider);
+    }
+
+    public BuilderT executor(Executor executor) {
+        this.executor = executor;
+        return thisBuilder();
+    }
+
+    public void setExecutor(Executor executor) {
+        executor(executor);
+    }
+}
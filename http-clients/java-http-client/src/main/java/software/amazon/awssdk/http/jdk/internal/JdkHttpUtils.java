@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Conversions between the SDK HTTP types and the {@link java.net.http} types.
+ */
+@SdkInternalApi
+public final class JdkHttpUtils {
+
+    /**
+     * Headers that HttpClient sets itself, and rejects when set on a request. Transfer-Encoding is not rejected, but
+     * HttpClient adds it itself whenever the length of the body is unknown.
+     */
+    private static final Set<String> HEADERS_SET_BY_CLIENT = Collections.unmodifiableSet(new HashSet<>(
+        Arrays.asList("connection", "content-length", "expect", "host", "transfer-encoding", "upgrade")));
+
+    private JdkHttpUtils() {
+    }
+
+    /**
+     * Creates a builder for a request to the URI and with the headers of the given request. The method and body are left
+     * for the caller to set.
+     */
+    public static HttpRequest.Builder toHttpRequestBuilder(SdkHttpRequest request, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri());
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+            if ("expect".equals(lowerCaseName)) {
+                builder.expectContinue(values.stream().anyMatch("100-continue"::equalsIgnoreCase));
+            } else if (!HEADERS_SET_BY_CLIENT.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        // HttpClient has no way to express an infinite timeout other than not setting one
+        if (readTimeout != null && !readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the length of the request body from its Content-Length header, if any.
+     */
+    public static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(Header.CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    public static SdkHttpResponse toSdkHttpResponse(HttpResponse<?> response) {
+        // HTTP/2 pseudo-headers such as :status are not headers as far as the SDK is concerned
+        Map<String, List<String>> headers = response.headers().map().entrySet().stream()
+                                                    .filter(e -> !e.getKey().startsWith(":"))
+                                                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return SdkHttpResponse.builder()
+                              .statusCode(response.statusCode())
+                              .headers(headers)
+                              .build();
+    }
+
+    /**
+     * Whether the response to the given request can never have a body, whatever its headers say.
+     */
+    public static boolean responseNeverHasPayload(SdkHttpMethod method, int statusCode) {
+        return method == SdkHttpMethod.HEAD || statusCode == 204 || statusCode == 304
+               || (statusCode >= 100 && statusCode < 200);
+    }
+
+    /**
+     * Unwraps the exception a {@link java.util.concurrent.CompletableFuture} of HttpClient failed with.
+     */
+    public static Throwable unwrapFutureException(Throwable t) {
+        Throwable result = t;
+        while ((result instanceof CompletionException || result instanceof ExecutionException) && result.getCause() != null) {
+            result = result.getCause();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.async.EventListeningSubscriber;
+import software.amazon.awssdk.utils.async.FilteringSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Adapts the response body publisher of {@link java.net.http.HttpClient}, which publishes lists of buffers, to the publisher
+ * of buffers expected by {@link software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler}.
+ * <p>
+ * The given future is completed once the body has been fully delivered, has failed, or the subscriber cancelled; and the
+ * subscription to the body is cancelled if the future is cancelled first.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Flow.Publisher<List<ByteBuffer>> body;
+    private final CompletableFuture<Void> completionFuture;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> completionFuture) {
+        this.body = body;
+        this.completionFuture = completionFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        // HttpClient may publish empty buffers, which the SDK does not expect
+        Subscriber<ByteBuffer> listeningSubscriber =
+            new EventListeningSubscriber<>(new FilteringSubscriber<>(subscriber, ByteBuffer::hasRemaining),
+                                           () -> completionFuture.complete(null),
+                                           completionFuture::completeExceptionally,
+                                           () -> completionFuture.complete(null));
+
+        Flow.Subscriber<Iterable<ByteBuffer>> flowSubscriber =
+            FlowAdapters.toFlowSubscriber(new FlatteningSubscriber<>(listeningSubscriber));
+
+        body.subscribe(new Flow.Subscriber<List<ByteBuffer>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                completionFuture.whenComplete((r, t) -> {
+                    if (completionFuture.isCancelled()) {
+                        subscription.cancel();
+                    }
+                });
+                flowSubscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> item) {
+                flowSubscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                flowSubscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                flowSubscriber.onComplete();
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.Header.CHUNKED;
+import static software.amazon.awssdk.http.Header.TRANSFER_ENCODING;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public final class JdkHttpClientWireMockTest extends SdkHttpClientTestSuite {
+
+    @Override
+    protected SdkHttpClient createSdkHttpClient(SdkHttpClientOptions options) {
+        JdkHttpClient.Builder builder = JdkHttpClient.builder();
+        AttributeMap.Builder attributeMap = AttributeMap.builder();
+
+        if (options.tlsTrustManagersProvider() != null) {
+            builder.tlsTrustManagersProvider(options.tlsTrustManagersProvider());
+        }
+
+        if (options.trustAll()) {
+            attributeMap.put(TRUST_ALL_CERTIFICATES, options.trustAll());
+        }
+
+        return builder.buildWithDefaults(attributeMap.build());
+    }
+
+    @Override
+    public void connectionsAreNotReusedOn5xxErrors() {
+        // We cannot support this because java.net.http.HttpClient doesn't allow us to disable connection reuse
+    }
+
+    @Test
+    public void requestWithoutContentLength_isSentChunked() throws IOException {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            stubForMockRequest(200);
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST, true);
+            req = req.toBuilder().putHeader(TRANSFER_ENCODING, CHUNKED).build();
+            client.prepareRequest(HttpExecuteRequest.builder()
+                                                    .request(req)
+                                                    .contentStreamProvider(req.contentStreamProvider().orElse(null))
+                                                    .build())
+                  .call();
+
+            mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader(TRANSFER_ENCODING, equalTo(CHUNKED)));
+            mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("Body")));
+        }
+    }
+
+    @Test
+    public void abort_beforeResponse_failsCall() throws Exception {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(5_000)));
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST);
+            ExecutableHttpRequest executableRequest =
+                client.prepareRequest(HttpExecuteRequest.builder()
+                                                        .request(req)
+                                                        .contentStreamProvider(req.contentStreamProvider().orElse(null))
+                                                        .build());
+
+            CompletableFuture<Void> abort = CompletableFuture.runAsync(() -> {
+                sleep(500);
+                executableRequest.abort();
+            });
+
+            long start = System.nanoTime();
+            assertThatThrownBy(executableRequest::call).isInstanceOf(IOException.class);
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(4));
+            abort.join();
+        }
+    }
+
+    @Test
+    public void call_withMetricCollector_reportsClientName() throws IOException {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            stubForMockRequest(200);
+
+            MetricCollector collector = MetricCollector.create("test");
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST);
+            client.prepareRequest(HttpExecuteRequest.builder()
+                                                    .request(req)
+                                                    .contentStreamProvider(req.contentStreamProvider().orElse(null))
+                                                    .metricCollector(collector)
+                                                    .build())
+                  .call();
+
+            MetricCollection metrics = collector.collect();
+            assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("JdkHttp");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
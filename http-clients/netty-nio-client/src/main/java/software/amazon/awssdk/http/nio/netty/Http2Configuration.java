@@ -29,11 +29,15 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Double connectionUtilizationThreshold;
+    private final Boolean adaptiveWindowSizeEnabled;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.connectionUtilizationThreshold = builder.connectionUtilizationThreshold;
+        this.adaptiveWindowSizeEnabled = builder.adaptiveWindowSizeEnabled;
     }
 
     /**
@@ -57,6 +61,20 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The fraction of a connection's streams in use above which a new HTTP/2 connection is opened ahead of time.
+     */
+    public Double connectionUtilizationThreshold() {
+        return connectionUtilizationThreshold;
+    }
+
+    /**
+     * @return Whether the flow-control windows of HTTP/2 connections are grown to match their bandwidth-delay product.
+     */
+    public Boolean adaptiveWindowSizeEnabled() {
+        return adaptiveWindowSizeEnabled;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,7 +96,17 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        if (connectionUtilizationThreshold != null ? !connectionUtilizationThreshold.equals(that.connectionUtilizationThreshold)
+                                                   : that.connectionUtilizationThreshold != null) {
+            return false;
+        }
+
+        return adaptiveWindowSizeEnabled != null ? adaptiveWindowSizeEnabled.equals(that.adaptiveWindowSizeEnabled)
+                                                 : that.adaptiveWindowSizeEnabled == null;
 
     }
 
@@ -86,6 +114,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (connectionUtilizationThreshold != null ? connectionUtilizationThreshold.hashCode() : 0);
+        result = 31 * result + (adaptiveWindowSizeEnabled != null ? adaptiveWindowSizeEnabled.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +157,42 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the fraction of the streams of a connection that may be in use before the Netty client starts opening another
+         * connection in the background. Streams are spread across the open connections, so this is reached when all of them
+         * are busy; opening the next connection early saves new streams from waiting for a TCP and TLS handshake once the
+         * connections are full. The value must be greater than 0 and at most 1.
+         *
+         * <p>By default, this is not set, and a new connection is only opened when a stream cannot be created on any of
+         * the existing connections.</p>
+         *
+         * @param connectionUtilizationThreshold The stream utilization above which a new connection is opened ahead of time.
+         * @return This builder for method chaining.
+         */
+        Builder connectionUtilizationThreshold(Double connectionUtilizationThreshold);
+
+        /**
+         * Sets whether the Netty client grows the flow-control windows of each HTTP/2 connection to match its
+         * bandwidth-delay product. The client estimates it from the data received during the round trip of a {@code PING}
+         * frame. When that fills most of the current window, the stream and connection windows are grown, up to 16 MiB.
+         * The windows start at {@link #initialWindowSize(Integer)} and are never shrunk.
+         *
+         * <p>This allows high-latency connections to reach their full throughput without configuring a large window for
+         * every connection. By default, this is disabled and windows keep their initial size.</p>
+         *
+         * @param adaptiveWindowSizeEnabled Whether to grow the flow-control windows of HTTP/2 connections.
+         * @return This builder for method chaining.
+         */
+        Builder adaptiveWindowSizeEnabled(Boolean adaptiveWindowSizeEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Double connectionUtilizationThreshold;
+        private Boolean adaptiveWindowSizeEnabled;
 
         private DefaultBuilder() {
         }
@@ -141,6 +201,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.connectionUtilizationThreshold = http2Configuration.connectionUtilizationThreshold;
+            this.adaptiveWindowSizeEnabled = http2Configuration.adaptiveWindowSizeEnabled;
         }
 
         @Override
@@ -173,6 +235,31 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder connectionUtilizationThreshold(Double connectionUtilizationThreshold) {
+            if (connectionUtilizationThreshold != null) {
+                Validate.isTrue(connectionUtilizationThreshold > 0 && connectionUtilizationThreshold <= 1,
+                                "connectionUtilizationThreshold must be greater than 0 and at most 1, but was %s",
+                                connectionUtilizationThreshold);
+            }
+            this.connectionUtilizationThreshold = connectionUtilizationThreshold;
+            return this;
+        }
+
+        public void setConnectionUtilizationThreshold(Double connectionUtilizationThreshold) {
+            connectionUtilizationThreshold(connectionUtilizationThreshold);
+        }
+
+        @Override
+        public Builder adaptiveWindowSizeEnabled(Boolean adaptiveWindowSizeEnabled) {
+            this.adaptiveWindowSizeEnabled = adaptiveWindowSizeEnabled;
+            return this;
+        }
+
+        public void setAdaptiveWindowSizeEnabled(Boolean adaptiveWindowSizeEnabled) {
+            adaptiveWindowSizeEnabled(adaptiveWindowSizeEnabled);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -22,13 +22,20 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.runAndLogError;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import java.net.SocketOptions;
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -37,13 +44,16 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.internal.AffinityEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
@@ -82,9 +92,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final EventLoopGroup requestEventLoopGroup;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Validate.isTrue(configuration.dnsResolver() == null || !Boolean.TRUE.equals(builder.useNonBlockingDnsResolver),
+                        "useNonBlockingDnsResolver and an sdkDnsResolver cannot both be configured.");
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
@@ -100,11 +113,18 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .connectionUtilizationThreshold(
+                                                 resolveConnectionUtilizationThreshold(http2Configuration))
+                                             .adaptiveWindowSizeEnabled(resolveAdaptiveWindowSizeEnabled(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .useNonBlockingDnsResolver(builder.useNonBlockingDnsResolver)
+                                             .eventLoopAffinity(builder.eventLoopAffinity)
                                              .build();
+        this.requestEventLoopGroup = Boolean.TRUE.equals(builder.eventLoopAffinity)
+                                     ? new AffinityEventLoopGroup(sdkEventLoopGroup.eventLoopGroup())
+                                     : sdkEventLoopGroup.eventLoopGroup();
     }
 
     @SdkTestInternalApi
@@ -114,6 +134,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.requestEventLoopGroup = sdkEventLoopGroup.eventLoopGroup();
     }
 
     @Override
@@ -138,7 +159,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         SdkChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
+        return new RequestContext(pool, requestEventLoopGroup, request, configuration);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
@@ -149,6 +170,72 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                      .orElseGet(SharedSdkEventLoopGroup::get);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The connections are acquired from every event loop in turn. No more than {@link Builder#maxConcurrency(Integer)}
+     * connections are opened. With HTTP/2, connections are only opened as needed to carry the requested number of streams.
+     */
+    @Override
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        int connectionsToOpen = Math.min(connections, configuration.maxConnections());
+        if (connectionsToOpen <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        SdkHttpRequest request = SdkHttpRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        SdkChannelPool pool = pools.get(poolKey(request));
+        log.debug(null, () -> "Prewarming " + connectionsToOpen + " connections to " + endpoint);
+
+        List<CompletableFuture<Channel>> acquireFutures = new ArrayList<>(connectionsToOpen);
+        for (int i = 0; i < connectionsToOpen; i++) {
+            EventLoop eventLoop = sdkEventLoopGroup.eventLoopGroup().next();
+            Promise<Channel> acquirePromise = eventLoop.newPromise();
+            // Acquire from the event loop itself, so that with event loop affinity the connections are spread over the pools of
+            // all the event loops
+            eventLoop.execute(() -> pool.acquire(acquirePromise));
+            acquireFutures.add(awaitHandshake(pool, acquirePromise));
+        }
+
+        // Hold on to all the channels until every one is established, otherwise the pool would hand the first ones out again
+        // instead of opening new ones
+        return CompletableFuture.allOf(acquireFutures.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> acquireFutures.forEach(f -> f.thenAccept(pool::release)));
+    }
+
+    /**
+     * Completes with the acquired channel once its TLS handshake, if any, is done. A channel whose handshake fails is released
+     * to the pool, which closes it.
+     */
+    private static CompletableFuture<Channel> awaitHandshake(SdkChannelPool pool, Future<Channel> acquireFuture) {
+        CompletableFuture<Channel> handshakeFuture = new CompletableFuture<>();
+        acquireFuture.addListener(f -> {
+            if (!acquireFuture.isSuccess()) {
+                handshakeFuture.completeExceptionally(acquireFuture.cause());
+                return;
+            }
+
+            Channel channel = acquireFuture.getNow();
+            SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                handshakeFuture.complete(channel);
+                return;
+            }
+            // Acquired channels do not read on their own, and the handshake needs the server's replies to be read
+            channel.config().setAutoRead(true);
+            sslHandler.handshakeFuture().addListener(h -> {
+                if (h.isSuccess()) {
+                    handshakeFuture.complete(channel);
+                } else {
+                    pool.release(channel);
+                    handshakeFuture.completeExceptionally(h.cause());
+                }
+            });
+        });
+        return handshakeFuture;
+    }
+
     private static URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -188,6 +275,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private Double resolveConnectionUtilizationThreshold(Http2Configuration http2Configuration) {
+        if (http2Configuration != null) {
+            return http2Configuration.connectionUtilizationThreshold();
+        }
+        return null;
+    }
+
+    private boolean resolveAdaptiveWindowSizeEnabled(Http2Configuration http2Configuration) {
+        return http2Configuration != null && Boolean.TRUE.equals(http2Configuration.adaptiveWindowSizeEnabled());
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -416,6 +514,10 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          *
          * <p>If not configured, {@link SslContext#defaultClientProvider()} will be used to determine the SslProvider.
          *
+         * <p>{@link SslProvider#OPENSSL} performs TLS in native code through netty-tcnative, on pooled direct buffers, which
+         * is usually cheaper than the JDK's engine for both handshakes and bulk encryption. It is chosen automatically when
+         * netty-tcnative is on the classpath.
+         *
          * <p>Note that you might need to add other dependencies if not using JDK's default Ssl Provider.
          * See https://netty.io/wiki/requirements-for-4.x.html#transport-security-tls
          *
@@ -455,6 +557,40 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
 
+        /**
+         * Configure the maximum number of TLS sessions this client caches for resumption. Resuming a session skips most of the
+         * cost of a full TLS handshake when a new connection is opened to a host the client has connected to before.
+         *
+         * <p>If not configured, the default of the {@link SslProvider} is used.
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return The builder for method chaining.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time a cached TLS session can be resumed for.
+         *
+         * <p>If not configured, the default of the {@link SslProvider} is used.
+         *
+         * @param tlsSessionTimeout The amount of time a TLS session can be resumed for.
+         * @return The builder for method chaining.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure whether this client shares its TLS session cache with the other Netty clients in the JVM that use the same
+         * TLS configuration, so that a session established by one client can be resumed by another. This reduces the number of
+         * full TLS handshakes when clients are created and closed often, or when several clients talk to the same hosts.
+         *
+         * <p>Sessions are only shared between clients that use the default trust managers and no key managers. By default, this
+         * is disabled and each client has its own cache.
+         *
+         * @param sharedTlsSessionCache Whether to share the TLS session cache with other clients.
+         * @return The builder for method chaining.
+         */
+        Builder sharedTlsSessionCache(Boolean sharedTlsSessionCache);
+
         /**
          * Set the HTTP/2 specific configuration for this client.
          * <p>
@@ -485,6 +621,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure the {@link SdkDnsResolver} that resolves the addresses of the hosts this client connects to, for example a
+         * {@link software.amazon.awssdk.http.CachingDnsResolver} shared with other clients. A new connection tries the
+         * addresses in the order the resolver returns them until one connects, and the addresses that a connection could not be
+         * opened to are reported back to the resolver.
+         * <p>
+         * The resolver is called on a small thread pool shared by all clients rather than on the event loop, but it should still
+         * answer from a cache when it can. May not be used in conjunction with {@link #useNonBlockingDnsResolver(Boolean)}.
+         *
+         * @param sdkDnsResolver The DNS resolver.
+         * @return The builder for method chaining.
+         */
+        Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver);
+
+        /**
+         * Configure whether connections should be kept on the event loop of the requests that use them. False by default.
+         * <p>
+         * By default, connections are shared by all the event loops, so a request is often started on one event loop and
+         * written and read on another, which hands tasks from one thread to another several times per request. When enabled,
+         * the connection pool is split into one pool per event loop: a request made from an event loop thread uses a
+         * connection of that event loop, and every other thread is consistently assigned one event loop. The request then
+         * runs on a single thread from start to end.
+         * <p>
+         * Connections are no longer shared between event loops, so {@link #maxConcurrency(Integer)} and
+         * {@link #maxPendingConnectionAcquires(Integer)} are divided as evenly as possible between them, without exceeding the
+         * configured totals. If either is lower than the number of event loops, the pool is not split. This works best when
+         * requests are made from many threads, or from the event loops themselves, and the maximum concurrency is large
+         * compared to the number of event loops.
+         */
+        Builder eventLoopAffinity(Boolean eventLoopAffinity);
     }
 
     /**
@@ -503,6 +670,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private Boolean eventLoopAffinity;
 
         private DefaultBuilder() {
         }
@@ -710,6 +878,38 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isPositiveOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositiveOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder sharedTlsSessionCache(Boolean sharedTlsSessionCache) {
+            standardOptions.put(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE, sharedTlsSessionCache);
+            return this;
+        }
+
+        public void setSharedTlsSessionCache(Boolean sharedTlsSessionCache) {
+            sharedTlsSessionCache(sharedTlsSessionCache);
+        }
+
         @Override
         public Builder http2Configuration(Http2Configuration http2Configuration) {
             this.http2Configuration = http2Configuration;
@@ -737,6 +937,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder sdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            standardOptions.put(SdkHttpConfigurationOption.DNS_RESOLVER, sdkDnsResolver);
+            return this;
+        }
+
+        public void setSdkDnsResolver(SdkDnsResolver sdkDnsResolver) {
+            sdkDnsResolver(sdkDnsResolver);
+        }
+
+        @Override
+        public Builder eventLoopAffinity(Boolean eventLoopAffinity) {
+            this.eventLoopAffinity = eventLoopAffinity;
+            return this;
+        }
+
+        public void setEventLoopAffinity(Boolean eventLoopAffinity) {
+            eventLoopAffinity(eventLoopAffinity);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
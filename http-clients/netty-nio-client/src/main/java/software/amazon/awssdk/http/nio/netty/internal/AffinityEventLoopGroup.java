@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.SUCCEEDED_FUTURE;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Decorator around {@link EventLoopGroup} whose {@link #next()} returns the same {@link EventLoop} every time it is called
+ * from the same thread, instead of cycling through the event loops. When called from one of the event loops of the group,
+ * it returns that event loop, so work started from an event loop stays on it. Other threads are each assigned a fixed event
+ * loop.
+ * <p>
+ * This is only a view of the group, it cannot be used to shut the group down.
+ */
+@SdkInternalApi
+public final class AffinityEventLoopGroup extends DelegatingEventLoopGroup {
+    private final List<EventLoop> eventLoops;
+
+    public AffinityEventLoopGroup(EventLoopGroup delegate) {
+        super(delegate);
+        List<EventLoop> loops = new ArrayList<>();
+        for (EventExecutor executor : delegate) {
+            if (executor instanceof EventLoop) {
+                loops.add((EventLoop) executor);
+            }
+        }
+        this.eventLoops = Collections.unmodifiableList(loops);
+    }
+
+    /**
+     * @return The event loops of the group, in iteration order.
+     */
+    public List<EventLoop> eventLoops() {
+        return eventLoops;
+    }
+
+    @Override
+    public EventLoop next() {
+        if (eventLoops.isEmpty()) {
+            return super.next();
+        }
+
+        for (EventLoop eventLoop : eventLoops) {
+            if (eventLoop.inEventLoop()) {
+                return eventLoop;
+            }
+        }
+
+        return eventLoops.get((int) (Thread.currentThread().getId() % eventLoops.size()));
+    }
+
+    @Override
+    public Future<?> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        return SUCCEEDED_FUTURE;
+    }
+
+    @Override
+    @Deprecated
+    public void shutdown() {
+    }
+}
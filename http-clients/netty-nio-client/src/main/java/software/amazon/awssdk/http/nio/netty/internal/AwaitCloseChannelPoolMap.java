@@ -19,6 +19,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.handler.ssl.SslContext;
@@ -26,8 +27,11 @@ import io.netty.handler.ssl.SslProvider;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -79,11 +83,14 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final long maxStreams;
     private final Duration healthCheckPingPeriod;
     private final int initialWindowSize;
+    private final Double connectionUtilizationThreshold;
+    private final boolean adaptiveWindowSizeEnabled;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
     private final SslContextProvider sslContextProvider;
     private final Boolean useNonBlockingDnsResolver;
+    private final AffinityEventLoopGroup affinityEventLoopGroup;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
@@ -91,11 +98,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.maxStreams = builder.maxStreams;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
         this.initialWindowSize = builder.initialWindowSize;
+        this.connectionUtilizationThreshold = builder.connectionUtilizationThreshold;
+        this.adaptiveWindowSizeEnabled = builder.adaptiveWindowSizeEnabled;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
         this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
         this.useNonBlockingDnsResolver = builder.useNonBlockingDnsResolver;
+        this.affinityEventLoopGroup = Boolean.TRUE.equals(builder.eventLoopAffinity)
+                                      ? new AffinityEventLoopGroup(builder.sdkEventLoopGroup.eventLoopGroup())
+                                      : null;
     }
 
     private AwaitCloseChannelPoolMap(Builder builder) {
@@ -123,6 +135,51 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         Bootstrap bootstrap = createBootstrap(key);
 
+        int maxConnections = configuration.maxConnections();
+        int maxPendingAcquires = configuration.maxPendingConnectionAcquires();
+        if (affinityEventLoopGroup == null || affinityEventLoopGroup.eventLoops().isEmpty()) {
+            return newPool(key, sslContext, bootstrap, maxConnections, maxPendingAcquires);
+        }
+
+        List<EventLoop> eventLoops = affinityEventLoopGroup.eventLoops();
+        int eventLoopCount = eventLoops.size();
+        if (maxConnections < eventLoopCount || maxPendingAcquires < eventLoopCount) {
+            log.debug(null, () -> String.format("Not splitting the connection pool of %s between %d event loops, because "
+                                                + "maxConcurrency (%d) or maxPendingConnectionAcquires (%d) is lower than the "
+                                                + "number of event loops.",
+                                                key, eventLoopCount, maxConnections, maxPendingAcquires));
+            return newPool(key, sslContext, bootstrap, maxConnections, maxPendingAcquires);
+        }
+
+        // One pool per event loop, each creating its channels on its own event loop. The connection and pending acquire limits
+        // are split between them, giving the remainder to the first pools, so that the pools add up to the configured limits.
+        Map<EventLoop, SimpleChannelPoolAwareChannelPool> pools = new LinkedHashMap<>();
+        Map<EventLoop, Integer> poolMaxConnections = new LinkedHashMap<>();
+        List<BetterSimpleChannelPool> simpleChannelPools = new ArrayList<>();
+        for (int i = 0; i < eventLoopCount; i++) {
+            EventLoop eventLoop = eventLoops.get(i);
+            int shareOfMaxConnections = shareOf(maxConnections, eventLoopCount, i);
+            SimpleChannelPoolAwareChannelPool pool = newPool(key, sslContext, bootstrap.clone(eventLoop),
+                                                             shareOfMaxConnections,
+                                                             shareOf(maxPendingAcquires, eventLoopCount, i));
+            pools.put(eventLoop, pool);
+            poolMaxConnections.put(eventLoop, shareOfMaxConnections);
+            simpleChannelPools.add(pool.underlyingSimpleChannelPool());
+        }
+
+        return new SimpleChannelPoolAwareChannelPool(
+            new EventLoopAffinityChannelPool(affinityEventLoopGroup, pools, poolMaxConnections), simpleChannelPools);
+    }
+
+    /**
+     * The part of {@code total} given to the {@code index}-th of {@code count} pools.
+     */
+    static int shareOf(int total, int count, int index) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    private SimpleChannelPoolAwareChannelPool newPool(URI key, SslContext sslContext, Bootstrap bootstrap, int maxConnections,
+                                                      int maxPendingAcquires) {
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
         ChannelPipelineInitializer pipelineInitializer = new ChannelPipelineInitializer(protocol,
@@ -130,6 +187,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         sslProvider,
                                                                                         maxStreams,
                                                                                         initialWindowSize,
+                                                                                        adaptiveWindowSizeEnabled,
                                                                                         healthCheckPingPeriod,
                                                                                         channelPoolRef,
                                                                                         configuration,
@@ -147,7 +205,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             baseChannelPool = tcpChannelPool;
         }
 
-        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool);
+        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool, maxConnections, maxPendingAcquires);
 
         channelPoolRef.set(wrappedPool);
         return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
@@ -167,7 +225,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         try {
             CompletableFuture.allOf(channelPools.stream()
-                                                .map(pool -> pool.underlyingSimpleChannelPool().closeFuture())
+                                                .flatMap(pool -> pool.underlyingSimpleChannelPools().stream())
+                                                .map(BetterSimpleChannelPool::closeFuture)
                                                 .toArray(CompletableFuture[]::new))
                              .get(CHANNEL_POOL_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
@@ -228,7 +287,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
-    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool) {
+    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool, int maxConnections,
+                                               int maxPendingAcquires) {
 
         // Wrap the channel pool such that the ChannelAttributeKey.CLOSE_ON_RELEASE flag is honored.
         channelPool = new HonorCloseOnReleaseChannelPool(channelPool);
@@ -236,8 +296,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // Wrap the channel pool such that HTTP 2 channels won't be released to the underlying pool while they're still in use.
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
-                                                                   configuration.maxConnections(),
-                                                                   configuration);
+                                                                   maxConnections,
+                                                                   maxPendingAcquires,
+                                                                   configuration,
+                                                                   connectionUtilizationThreshold);
 
 
         sdkChannelPool = new ListenerInvokingChannelPool(bootstrap.config().group(), sdkChannelPool, Arrays.asList(
@@ -285,9 +347,12 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private long maxStreams;
         private int initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Double connectionUtilizationThreshold;
+        private boolean adaptiveWindowSizeEnabled;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
+        private Boolean eventLoopAffinity;
 
         private Builder() {
         }
@@ -327,6 +392,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder connectionUtilizationThreshold(Double connectionUtilizationThreshold) {
+            this.connectionUtilizationThreshold = connectionUtilizationThreshold;
+            return this;
+        }
+
+        public Builder adaptiveWindowSizeEnabled(boolean adaptiveWindowSizeEnabled) {
+            this.adaptiveWindowSizeEnabled = adaptiveWindowSizeEnabled;
+            return this;
+        }
+
         public Builder sslProvider(SslProvider sslProvider) {
             this.sslProvider = sslProvider;
             return this;
@@ -342,6 +417,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder eventLoopAffinity(Boolean eventLoopAffinity) {
+            this.eventLoopAffinity = eventLoopAffinity;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -16,8 +16,10 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.resolver.AddressResolverGroup;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
@@ -33,6 +35,18 @@ public final class BetterSimpleChannelPool extends SimpleChannelPool {
         closeFuture = new CompletableFuture<>();
     }
 
+    /**
+     * Hosts resolved by an {@link SdkDnsAddressResolverGroup} are connected to by trying each of their addresses in turn.
+     */
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        AddressResolverGroup<?> resolver = bs.config().resolver();
+        if (resolver instanceof SdkDnsAddressResolverGroup) {
+            return ((SdkDnsAddressResolverGroup) resolver).connect(bs);
+        }
+        return super.connectChannel(bs);
+    }
+
     @Override
     public void close() {
         super.close();
@@ -31,6 +31,7 @@ public class BootstrapProvider {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final NettyConfiguration nettyConfiguration;
     private final SdkChannelOptions sdkChannelOptions;
+    private final SdkDnsAddressResolverGroup sdkDnsResolverGroup;
 
 
     BootstrapProvider(SdkEventLoopGroup sdkEventLoopGroup,
@@ -39,6 +40,9 @@ public class BootstrapProvider {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.nettyConfiguration = nettyConfiguration;
         this.sdkChannelOptions = sdkChannelOptions;
+        this.sdkDnsResolverGroup = nettyConfiguration.dnsResolver() != null
+                                   ? new SdkDnsAddressResolverGroup(nettyConfiguration.dnsResolver())
+                                   : null;
     }
 
     /**
@@ -46,8 +50,9 @@ public class BootstrapProvider {
      *
      * @param host                      The unresolved remote hostname
      * @param port                      The remote port
-     * @param useNonBlockingDnsResolver If true, uses the default non-blocking DNS resolver from Netty. Otherwise, the default
-     *                                  JDK blocking DNS resolver will be used.
+     * @param useNonBlockingDnsResolver If true, uses the default non-blocking DNS resolver from Netty. Otherwise, the configured
+     *                                  {@link software.amazon.awssdk.http.SdkDnsResolver}, or the default JDK blocking DNS
+     *                                  resolver if there is none, will be used.
      * @return A newly created Bootstrap using the configuration this provider was initialized with, and having an unresolved
      * remote address.
      */
@@ -62,6 +67,8 @@ public class BootstrapProvider {
 
         if (Boolean.TRUE.equals(useNonBlockingDnsResolver)) {
             bootstrap.resolver(DnsResolverLoader.init(sdkEventLoopGroup.datagramChannelFactory()));
+        } else if (sdkDnsResolverGroup != null) {
+            bootstrap.resolver(sdkDnsResolverGroup);
         }
 
         sdkChannelOptions.channelOptions().forEach(bootstrap::option);
@@ -95,6 +95,13 @@ public final class ChannelAttributeKey {
     static final AttributeKey<Subscriber<? super ByteBuffer>> SUBSCRIBER_KEY = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.subscriber");
 
+    /**
+     * Whether the TLS handshake of the connection resumed a previous session. Set once the handshake completes, and cleared
+     * once it has been reported as a metric by the first request on the connection.
+     */
+    static final AttributeKey<Boolean> TLS_SESSION_RESUMED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsSessionResumed");
+
     static final AttributeKey<Boolean> RESPONSE_COMPLETE_KEY = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.responseComplete");
 
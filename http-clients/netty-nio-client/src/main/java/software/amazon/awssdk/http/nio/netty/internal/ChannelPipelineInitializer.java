@@ -19,6 +19,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_SESSION_RESUMED;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.newSslHandler;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
@@ -39,6 +40,7 @@ import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslProvider;
@@ -46,8 +48,10 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.net.ssl.SSLSession;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlWindowTuner;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -62,6 +66,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final SslProvider sslProvider;
     private final long clientMaxStreams;
     private final int clientInitialWindowSize;
+    private final boolean adaptiveWindowSizeEnabled;
     private final Duration healthCheckPingPeriod;
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
@@ -72,6 +77,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                       SslProvider sslProvider,
                                       long clientMaxStreams,
                                       int clientInitialWindowSize,
+                                      boolean adaptiveWindowSizeEnabled,
                                       Duration healthCheckPingPeriod,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
@@ -81,6 +87,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.sslProvider = sslProvider;
         this.clientMaxStreams = clientMaxStreams;
         this.clientInitialWindowSize = clientInitialWindowSize;
+        this.adaptiveWindowSizeEnabled = adaptiveWindowSizeEnabled;
         this.healthCheckPingPeriod = healthCheckPingPeriod;
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
@@ -92,11 +99,17 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        if (configuration.dnsResolver() != null) {
+            pipeline.addLast(new DnsFailureReportingHandler(configuration.dnsResolver()));
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
 
+            recordSessionResumption(ch, sslHandler);
+
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
@@ -133,6 +146,22 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         pipeline.addLast(new LoggingHandler(LogLevel.DEBUG));
     }
 
+    /**
+     * Records whether the handshake resumed a previous session, which is the case when the session was created before the
+     * handshake started. OpenSSL reports creation times in whole seconds, so with it a session resumed within the second it was
+     * created is recorded as a new one.
+     */
+    private static void recordSessionResumption(Channel ch, SslHandler sslHandler) {
+        long now = System.currentTimeMillis();
+        long handshakeStartMillis = sslHandler.engine() instanceof ReferenceCountedOpenSslEngine ? now - now % 1000 : now;
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                SSLSession session = sslHandler.engine().getSession();
+                ch.attr(TLS_SESSION_RESUMED).set(session.getCreationTime() < handshakeStartMillis);
+            }
+        });
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
@@ -153,6 +182,10 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(HTTP2_CONNECTION).set(codec.connection());
 
         ch.attr(HTTP2_INITIAL_WINDOW_SIZE).set(clientInitialWindowSize);
+        if (adaptiveWindowSizeEnabled) {
+            // Must come before the multiplex handler, which hands the DATA frames over to the stream channels
+            pipeline.addLast(new Http2FlowControlWindowTuner(clientInitialWindowSize));
+        }
         pipeline.addLast(new Http2MultiplexHandler(new NoOpChannelInitializer()));
         pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
         if (healthCheckPingPeriod == null) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Reports the addresses that a channel could not connect to back to the {@link SdkDnsResolver} that resolved them, so that
+ * the next connections to the host are opened to its other addresses first.
+ */
+@SdkInternalApi
+public final class DnsFailureReportingHandler extends ChannelOutboundHandlerAdapter {
+    private final SdkDnsResolver resolver;
+
+    public DnsFailureReportingHandler(SdkDnsResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) {
+        if (remoteAddress instanceof InetSocketAddress) {
+            InetAddress address = ((InetSocketAddress) remoteAddress).getAddress();
+            if (address != null) {
+                promise.addListener(future -> {
+                    if (!future.isSuccess() && !future.isCancelled()) {
+                        resolver.reportFailure(address);
+                    }
+                });
+            }
+        }
+        ctx.connect(remoteAddress, localAddress, promise);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link SdkChannelPool} made of one pool per {@link EventLoop}, where each pool only creates channels on its own event
+ * loop. Channels are acquired from the pool of the event loop that {@link AffinityEventLoopGroup#next()} picks for the
+ * calling thread, which is also the event loop the request promise is created on, so acquiring the channel, writing the
+ * request and completing the response run on a single thread instead of being handed from one event loop to another.
+ * <p>
+ * The trade-off is that channels are not shared between event loops: a request waits for a channel of its own event loop
+ * even if another event loop has an idle one.
+ */
+@SdkInternalApi
+public final class EventLoopAffinityChannelPool implements SdkChannelPool {
+    private final AffinityEventLoopGroup eventLoopGroup;
+    private final Map<EventLoop, Shard> shards;
+
+    /**
+     * @param eventLoopGroup The group picking the event loop of each acquire.
+     * @param pools The pool of each event loop.
+     * @param maxConcurrency The maximum concurrency of each event loop's pool, reported for the pools that have not been used
+     * yet.
+     */
+    public EventLoopAffinityChannelPool(AffinityEventLoopGroup eventLoopGroup,
+                                        Map<EventLoop, ? extends SdkChannelPool> pools,
+                                        Map<EventLoop, Integer> maxConcurrency) {
+        Validate.notEmpty(pools, "pools");
+        this.eventLoopGroup = eventLoopGroup;
+        this.shards = new HashMap<>();
+        pools.forEach((eventLoop, pool) -> shards.put(eventLoop, new Shard(pool, maxConcurrency.getOrDefault(eventLoop, 0))));
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return shard(eventLoopGroup.next()).acquire();
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return shard(eventLoopGroup.next()).acquire(promise);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, channel.eventLoop().newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        Shard shard = shards.get(channel.eventLoop());
+        if (shard == null) {
+            channel.close();
+            return promise.setFailure(new IllegalArgumentException("Channel (" + channel + ") is not registered on an event "
+                                                                   + "loop of this pool."));
+        }
+        return shard.pool.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(shard -> shard.pool.close());
+    }
+
+    /**
+     * Collects the metrics of every pool that has been used, and reports their sum. Pools that have never been used may not
+     * be able to report anything before their first connection is established, so only their maximum concurrency is added,
+     * which keeps {@link HttpMetric#MAX_CONCURRENCY} equal to the limit of the whole pool.
+     */
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        List<MetricCollector> shardCollectors = new ArrayList<>();
+        List<CompletableFuture<Void>> shardFutures = new ArrayList<>();
+        int unusedMaxConcurrency = 0;
+        for (Shard shard : shards.values()) {
+            if (shard.used) {
+                MetricCollector shardCollector = MetricCollector.create("EventLoopChannelPool");
+                shardCollectors.add(shardCollector);
+                shardFutures.add(shard.pool.collectChannelPoolMetrics(shardCollector));
+            } else {
+                unusedMaxConcurrency += shard.maxConcurrency;
+            }
+        }
+
+        int unusedShardsMaxConcurrency = unusedMaxConcurrency;
+        return CompletableFuture.allOf(shardFutures.toArray(new CompletableFuture[0]))
+                                .thenRun(() -> reportSums(metrics, shardCollectors, unusedShardsMaxConcurrency));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reportSums(MetricCollector metrics, List<MetricCollector> shardCollectors, int unusedMaxConcurrency) {
+        Map<SdkMetric<Integer>, Integer> sums = new LinkedHashMap<>();
+        if (unusedMaxConcurrency > 0) {
+            sums.put(HttpMetric.MAX_CONCURRENCY, unusedMaxConcurrency);
+        }
+        for (MetricCollector shardCollector : shardCollectors) {
+            MetricCollection shardMetrics = shardCollector.collect();
+            for (MetricRecord<?> record : shardMetrics) {
+                if (record.metric().valueClass() == Integer.class) {
+                    sums.merge((SdkMetric<Integer>) record.metric(), (Integer) record.value(), Integer::sum);
+                }
+            }
+        }
+        sums.forEach(metrics::reportMetric);
+    }
+
+    private SdkChannelPool shard(EventLoop eventLoop) {
+        Shard shard = shards.get(eventLoop);
+        if (shard == null) {
+            // The event loop group changed under us, which should not happen. Any pool is better than failing the request.
+            shard = shards.values().iterator().next();
+        }
+        if (!shard.used) {
+            shard.used = true;
+        }
+        return shard.pool;
+    }
+
+    private static final class Shard {
+        private final SdkChannelPool pool;
+        private final int maxConcurrency;
+        private volatile boolean used;
+
+        private Shard(SdkChannelPool pool, int maxConcurrency) {
+            this.pool = pool;
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
@@ -107,4 +108,20 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public Integer tlsSessionCacheSize() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public Duration tlsSessionTimeout() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+    }
+
+    public boolean sharedTlsSessionCache() {
+        return Boolean.TRUE.equals(configuration.get(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE));
+    }
+
+    public SdkDnsResolver dnsResolver() {
+        return configuration.get(SdkHttpConfigurationOption.DNS_RESOLVER);
+    }
 }
@@ -247,6 +247,8 @@ public final class NettyRequestExecutor {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
                    if (wireCall.isSuccess()) {
+                       // The request can only be written once the TLS handshake is done, so its outcome is known here
+                       NettyRequestMetrics.publishTlsSessionMetrics(context.metricCollector(), channel);
                        NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
 
                        if (context.executeRequest().fullDuplex()) {
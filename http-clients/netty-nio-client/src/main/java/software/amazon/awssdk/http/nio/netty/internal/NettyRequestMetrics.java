@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +64,18 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publishes whether the TLS handshake of the connection resumed a previous session, if this is the first request to be
+     * sent on the connection since the handshake.
+     */
+    public static void publishTlsSessionMetrics(MetricCollector metricCollector, Channel channel) {
+        Channel connection = channel.parent() != null ? channel.parent() : channel;
+        Boolean sessionResumed = connection.attr(ChannelAttributeKey.TLS_SESSION_RESUMED).getAndSet(null);
+        if (sessionResumed != null && metricsAreEnabled(metricCollector)) {
+            metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, sessionResumed);
+        }
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -82,6 +95,12 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+
+        Http2Stream connectionStream = http2Connection.connectionStream();
+        metricCollector.reportMetric(Http2Metric.LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.local().flowController().windowSize(connectionStream));
+        metricCollector.reportMetric(Http2Metric.REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.remote().flowController().windowSize(connectionStream));
     }
 
     /**
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Resolves the addresses of the hosts the client connects to with an {@link SdkDnsResolver}.
+ *
+ * <p>
+ * The resolver may block, so it is called on a small thread pool shared by all clients rather than on the event loop. A new
+ * connection tries the addresses in the order the resolver returns them until one of them connects, so a resolver that
+ * rotates the addresses of a host spreads the connections across them, and an unreachable address only costs a connect
+ * timeout instead of failing the request.
+ */
+@SdkInternalApi
+public final class SdkDnsAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(SdkDnsAddressResolverGroup.class);
+
+    private static final int RESOLVER_THREADS = 4;
+
+    private static final Executor RESOLVER_EXECUTOR = resolverExecutor();
+
+    private final SdkDnsResolver resolver;
+
+    public SdkDnsAddressResolverGroup(SdkDnsResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new SdkDnsNameResolver(executor, resolver).asAddressResolver();
+    }
+
+    /**
+     * Connects the bootstrap to the first of its remote host's addresses that accepts the connection. The returned future
+     * completes with the connected channel, or with the failure of the last address.
+     */
+    ChannelFuture connect(Bootstrap bootstrap) {
+        SocketAddress remoteAddress = bootstrap.config().remoteAddress();
+        if (!(remoteAddress instanceof InetSocketAddress) || !((InetSocketAddress) remoteAddress).isUnresolved()) {
+            return bootstrap.connect();
+        }
+
+        // Every attempt uses the same event loop, which is also the one the connect future notifies its listeners on
+        EventLoop eventLoop = bootstrap.config().group().next();
+        Bootstrap eventLoopBootstrap = bootstrap.clone(eventLoop);
+        FailoverChannelPromise result = new FailoverChannelPromise(eventLoop);
+        getResolver(eventLoop).resolveAll(remoteAddress).addListener((Future<List<InetSocketAddress>> resolved) -> {
+            if (!resolved.isSuccess()) {
+                result.tryFailure(resolved.cause());
+            } else if (resolved.getNow().isEmpty()) {
+                result.tryFailure(new UnknownHostException(((InetSocketAddress) remoteAddress).getHostString()));
+            } else {
+                connect(eventLoopBootstrap, resolved.getNow(), 0, result);
+            }
+        });
+        return result;
+    }
+
+    private static void connect(Bootstrap bootstrap, List<InetSocketAddress> addresses, int index,
+                                FailoverChannelPromise result) {
+        bootstrap.connect(addresses.get(index)).addListener((ChannelFuture attempt) -> {
+            if (attempt.isSuccess()) {
+                result.connected(attempt.channel());
+            } else if (index + 1 < addresses.size() && !result.isDone()) {
+                log.debug(null, () -> "Failed to connect to " + addresses.get(index) + ", trying " + addresses.get(index + 1),
+                          attempt.cause());
+                connect(bootstrap, addresses, index + 1, result);
+            } else {
+                result.tryFailure(attempt.cause());
+            }
+        });
+    }
+
+    private static Executor resolverExecutor() {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(RESOLVER_THREADS, RESOLVER_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-netty-dns-resolver")
+                                                             .daemonThreads(true)
+                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class SdkDnsNameResolver extends InetNameResolver {
+        private final SdkDnsResolver resolver;
+
+        private SdkDnsNameResolver(EventExecutor executor, SdkDnsResolver resolver) {
+            super(executor);
+            this.resolver = resolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            RESOLVER_EXECUTOR.execute(() -> {
+                try {
+                    promise.trySuccess(resolver.resolve(inetHost)[0]);
+                } catch (Exception e) {
+                    promise.tryFailure(e);
+                }
+            });
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            RESOLVER_EXECUTOR.execute(() -> {
+                try {
+                    promise.trySuccess(Arrays.asList(resolver.resolve(inetHost)));
+                } catch (Exception e) {
+                    promise.tryFailure(e);
+                }
+            });
+        }
+    }
+}
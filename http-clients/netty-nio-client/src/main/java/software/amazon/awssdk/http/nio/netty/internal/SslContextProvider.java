@@ -21,7 +21,11 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLException;
@@ -36,31 +40,69 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class SslContextProvider {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(SslContextProvider.class);
+
+    /**
+     * The contexts shared by the clients that enabled {@link NettyConfiguration#sharedTlsSessionCache()}. The TLS session
+     * cache belongs to the context, so clients resume each other's sessions by using the same context.
+     */
+    private static final Map<SharedContextKey, SslContext> SHARED_CONTEXTS = new ConcurrentHashMap<>();
+
     private final Protocol protocol;
     private final SslProvider sslProvider;
     private final TrustManagerFactory trustManagerFactory;
     private final KeyManagerFactory keyManagerFactory;
+    private final Integer sessionCacheSize;
+    private final Duration sessionTimeout;
+    private final boolean sharedSessionCache;
 
     public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider) {
         this.protocol = protocol;
         this.sslProvider = sslProvider;
         this.trustManagerFactory = getTrustManager(configuration);
         this.keyManagerFactory = getKeyManager(configuration);
+        this.sessionCacheSize = configuration.tlsSessionCacheSize();
+        this.sessionTimeout = configuration.tlsSessionTimeout();
+        this.sharedSessionCache = resolveSharedSessionCache(configuration);
     }
 
     public SslContext sslContext() {
+        if (sharedSessionCache) {
+            return SHARED_CONTEXTS.computeIfAbsent(new SharedContextKey(protocol, sslProvider, sessionCacheSize, sessionTimeout),
+                                                   k -> createSslContext());
+        }
+        return createSslContext();
+    }
+
+    private SslContext createSslContext() {
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(trustManagerFactory)
-                                    .keyManager(keyManagerFactory)
-                                    .build();
+            SslContextBuilder builder = SslContextBuilder.forClient()
+                                                         .sslProvider(sslProvider)
+                                                         .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
+                                                         .trustManager(trustManagerFactory)
+                                                         .keyManager(keyManagerFactory);
+            if (sessionCacheSize != null) {
+                builder.sessionCacheSize(sessionCacheSize);
+            }
+            if (sessionTimeout != null) {
+                builder.sessionTimeout(sessionTimeout.getSeconds());
+            }
+            return builder.build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private boolean resolveSharedSessionCache(NettyConfiguration configuration) {
+        if (!configuration.sharedTlsSessionCache()) {
+            return false;
+        }
+        if (trustManagerFactory != null || keyManagerFactory != null) {
+            log.debug(null, () -> "The TLS session cache is not shared because custom trust or key managers are configured.");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * HTTP/2: per Rfc7540, there is a blocked list of cipher suites for HTTP/2, so setting
      * the recommended cipher suites directly here
@@ -103,4 +145,42 @@ public final class SslContextProvider {
         KeyManager[] systemPropertyKeyManagers = SystemPropertyTlsKeyManagersProvider.create().keyManagers();
         return systemPropertyKeyManagers == null ? null : StaticKeyManagerFactory.create(systemPropertyKeyManagers);
     }
+
+    private static final class SharedContextKey {
+        private final Protocol protocol;
+        private final SslProvider sslProvider;
+        private final Integer sessionCacheSize;
+        private final Duration sessionTimeout;
+
+        private SharedContextKey(Protocol protocol, SslProvider sslProvider, Integer sessionCacheSize, Duration sessionTimeout) {
+            this.protocol = protocol;
+            this.sslProvider = sslProvider;
+            this.sessionCacheSize = sessionCacheSize;
+            this.sessionTimeout = sessionTimeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedContextKey that = (SharedContextKey) o;
+            return protocol == that.protocol
+                   && sslProvider == that.sslProvider
+                   && Objects.equals(sessionCacheSize, that.sessionCacheSize)
+                   && Objects.equals(sessionTimeout, that.sessionTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(protocol);
+            result = 31 * result + Objects.hashCode(sslProvider);
+            result = 31 * result + Objects.hashCode(sessionCacheSize);
+            result = 31 * result + Objects.hashCode(sessionTimeout);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.DefaultHttp2SettingsFrame;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.handler.codec.http2.Http2Settings;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+
+/**
+ * Grows the flow-control windows of an HTTP/2 connection to match its bandwidth-delay product, so that a fixed window does not
+ * cap the throughput of high-latency connections.
+ * <p>
+ * When data starts arriving, a {@code PING} is sent and the bytes received until it is acknowledged are counted. That count is
+ * a sample of the bandwidth-delay product: it is how much the server could send in one round trip. When a sample fills most of
+ * the current window, the window is limiting the throughput, so the stream and connection windows are grown to twice the
+ * sample, up to {@link #MAX_WINDOW_SIZE}. Windows are never shrunk, and are only grown while the measured bandwidth keeps
+ * increasing.
+ * <p>
+ * Must be added to the pipeline of the connection between the {@code Http2FrameCodec} and the {@code Http2MultiplexHandler},
+ * so that it sees the {@code DATA} frames of all the streams. Acknowledgements of its own {@code PING}s are passed on to the
+ * {@link Http2PingHandler}, which counts them as proof that the connection is healthy.
+ */
+@SdkInternalApi
+public final class Http2FlowControlWindowTuner extends ChannelDuplexHandler {
+    /**
+     * The largest window the tuner grows to, which bounds the memory a connection may buffer.
+     */
+    static final int MAX_WINDOW_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Payload of the {@code PING}s sent to sample the bandwidth-delay product, to tell their acknowledgements apart from the
+     * health check ones.
+     */
+    static final long BDP_PING_PAYLOAD = 0x42445050L;
+
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(Http2FlowControlWindowTuner.class);
+    private static final double WINDOW_FILL_THRESHOLD = 2.0 / 3;
+
+    private final LongSupplier nanoClock;
+
+    private int windowSize;
+    private boolean pingInFlight;
+    private long pingSentNanos;
+    private long sampleBytes;
+    private double maxBandwidth;
+
+    public Http2FlowControlWindowTuner(int initialWindowSize) {
+        this(initialWindowSize, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    Http2FlowControlWindowTuner(int initialWindowSize, LongSupplier nanoClock) {
+        this.windowSize = initialWindowSize;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof Http2DataFrame) {
+            onData(ctx, (Http2DataFrame) msg);
+        } else if (msg instanceof Http2PingFrame) {
+            Http2PingFrame ping = (Http2PingFrame) msg;
+            if (ping.ack() && ping.content() == BDP_PING_PAYLOAD) {
+                onPingAck(ctx);
+            }
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void onData(ChannelHandlerContext ctx, Http2DataFrame frame) {
+        if (windowSize >= MAX_WINDOW_SIZE) {
+            return;
+        }
+        if (!pingInFlight) {
+            pingInFlight = true;
+            sampleBytes = 0;
+            pingSentNanos = nanoClock.getAsLong();
+            ctx.writeAndFlush(new DefaultHttp2PingFrame(BDP_PING_PAYLOAD)).addListener(f -> {
+                if (!f.isSuccess()) {
+                    log.debug(ctx.channel(), () -> "Failed to send bandwidth-delay product PING", f.cause());
+                }
+            });
+        }
+        sampleBytes += frame.initialFlowControlledBytes();
+    }
+
+    private void onPingAck(ChannelHandlerContext ctx) {
+        if (!pingInFlight) {
+            return;
+        }
+        pingInFlight = false;
+
+        long rttNanos = Math.max(1, nanoClock.getAsLong() - pingSentNanos);
+        double bandwidth = sampleBytes / (double) rttNanos;
+        if (bandwidth < maxBandwidth) {
+            // The bandwidth is no longer growing, a larger window would only buffer more data
+            return;
+        }
+        maxBandwidth = bandwidth;
+
+        if (sampleBytes < windowSize * WINDOW_FILL_THRESHOLD) {
+            return;
+        }
+
+        int newWindowSize = (int) Math.min(MAX_WINDOW_SIZE, 2 * sampleBytes);
+        if (newWindowSize > windowSize) {
+            growWindows(ctx, newWindowSize);
+        }
+    }
+
+    private void growWindows(ChannelHandlerContext ctx, int newWindowSize) {
+        int delta = newWindowSize - windowSize;
+        log.debug(ctx.channel(), () -> String.format("Growing HTTP/2 flow-control windows from %d to %d bytes after receiving %d "
+                                                      + "bytes in %d us", windowSize, newWindowSize, sampleBytes,
+                                                      TimeUnit.NANOSECONDS.toMicros(nanoClock.getAsLong() - pingSentNanos)));
+        windowSize = newWindowSize;
+
+        // The stream windows change once the server acknowledges the new settings
+        ctx.writeAndFlush(new DefaultHttp2SettingsFrame(new Http2Settings().initialWindowSize(newWindowSize)));
+
+        Http2Connection http2Connection = ctx.channel().attr(HTTP2_CONNECTION).get();
+        try {
+            http2Connection.local().flowController().incrementWindowSize(http2Connection.connectionStream(), delta);
+        } catch (Http2Exception e) {
+            log.warn(ctx.channel(), () -> "Failed to increment the connection window size", e);
+        }
+    }
+
+    /**
+     * @return The window size the streams of this connection have been grown to.
+     */
+    int windowSize() {
+        return windowSize;
+    }
+}
@@ -43,10 +43,12 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -68,6 +70,14 @@ import software.amazon.awssdk.utils.Validate;
  * when the max concurrency for a connection is reached then a new connection will be opened.
  *
  * <p>
+ * Streams are placed using "power of two choices": two connections are sampled at random and the stream goes to the one
+ * with more available streams. This spreads the streams evenly across connections in constant time, rather than filling
+ * connections one after the other. If a connection utilization threshold is configured, a spare connection is opened in
+ * the background as soon as the connection chosen for a stream is busier than the threshold, so that streams do not have
+ * to wait for a new connection to be established once all the existing ones are full.
+ * </p>
+ *
+ * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
  * to enforce max concurrency which gives a bunch of other good features like timeouts, max pending acquires, etc.
  * </p>
@@ -92,6 +102,18 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Double connectionUtilizationThreshold;
+
+    /**
+     * A copy of {@link #connections} that can be indexed, so that connections can be sampled at random. Replaced whenever
+     * a connection is added or removed, which is rare compared to stream acquisitions.
+     */
+    private volatile List<MultiplexedChannelRecord> connectionSnapshot = Collections.emptyList();
+
+    /**
+     * Whether a spare connection is being established, so that at most one is opened at a time.
+     */
+    private final AtomicBoolean openingSpareConnection = new AtomicBoolean(false);
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +123,23 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, null);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param connectionUtilizationThreshold The fraction of the streams of a connection in use above which a spare connection
+     * is opened, or null to only open connections when no stream is available.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Double connectionUtilizationThreshold) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.connectionUtilizationThreshold = connectionUtilizationThreshold;
     }
 
     @SdkTestInternalApi
@@ -112,8 +147,17 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
-        this.connections.addAll(connections);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, null);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                Double connectionUtilizationThreshold) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, connectionUtilizationThreshold);
+        connections.forEach(this::addConnection);
     }
 
     @Override
@@ -127,15 +171,122 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
-            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
-                return promise;
+        MultiplexedChannelRecord multiplexedChannel = acquireStreamOnLeastLoadedConnection(promise);
+        if (multiplexedChannel == null) {
+            // No available streams on existing connections, establish new connection and add it to list
+            acquireStreamOnNewConnection(promise);
+        } else if (isAboveUtilizationThreshold(multiplexedChannel)) {
+            openSpareConnection();
+        }
+        return promise;
+    }
+
+    /**
+     * Acquire a stream on the less loaded of two connections picked at random, falling back to any connection with an
+     * available stream when both are full.
+     *
+     * @return the connection the stream was acquired on, or null if no connection has an available stream.
+     */
+    private MultiplexedChannelRecord acquireStreamOnLeastLoadedConnection(Promise<Channel> promise) {
+        List<MultiplexedChannelRecord> snapshot = connectionSnapshot;
+        int count = snapshot.size();
+        if (count == 0) {
+            return null;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = first;
+        if (count > 1) {
+            second = (first + 1 + random.nextInt(count - 1)) % count;
+            if (snapshot.get(second).availableStreams() > snapshot.get(first).availableStreams()) {
+                int swap = first;
+                first = second;
+                second = swap;
             }
         }
 
-        // No available streams on existing connections, establish new connection and add it to list
-        acquireStreamOnNewConnection(promise);
-        return promise;
+        if (acquireStreamOnInitializedConnection(snapshot.get(first), promise)) {
+            return snapshot.get(first);
+        }
+        if (second != first && acquireStreamOnInitializedConnection(snapshot.get(second), promise)) {
+            return snapshot.get(second);
+        }
+
+        // Both samples were full, which means most connections are. Check the others before opening a new one.
+        for (int i = 1; i < count; i++) {
+            int index = (first + i) % count;
+            if (index != second && acquireStreamOnInitializedConnection(snapshot.get(index), promise)) {
+                return snapshot.get(index);
+            }
+        }
+        return null;
+    }
+
+    private boolean isAboveUtilizationThreshold(MultiplexedChannelRecord multiplexedChannel) {
+        return connectionUtilizationThreshold != null
+               && multiplexedChannel.utilization() >= connectionUtilizationThreshold;
+    }
+
+    /**
+     * Establish a connection that is not needed by any stream yet, and add it to the pool once it is ready for streams. This
+     * does nothing if a spare connection is already being established. A spare connection that ends up unused is closed by
+     * the idle connection timeout, like any other connection.
+     */
+    private void openSpareConnection() {
+        if (closed.get() || !openingSpareConnection.compareAndSet(false, true)) {
+            return;
+        }
+
+        Future<Channel> newConnectionAcquire;
+        try {
+            newConnectionAcquire = connectionPool.acquire();
+        } catch (Throwable e) {
+            openingSpareConnection.set(false);
+            throw e;
+        }
+
+        newConnectionAcquire.addListener(f -> {
+            if (!newConnectionAcquire.isSuccess()) {
+                openingSpareConnection.set(false);
+                log.debug(null, () -> "Failed to open a spare connection", newConnectionAcquire.cause());
+                return;
+            }
+
+            Channel parentChannel = newConnectionAcquire.getNow();
+            try {
+                parentChannel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(this);
+                parentChannel.attr(PROTOCOL_FUTURE).get()
+                             .thenAccept(protocol -> cacheSpareConnection(parentChannel, protocol))
+                             .exceptionally(throwable -> discardSpareConnection(parentChannel, throwable));
+            } catch (Throwable e) {
+                discardSpareConnection(parentChannel, e);
+            }
+        });
+    }
+
+    private void cacheSpareConnection(Channel parentChannel, Protocol protocol) {
+        try {
+            MultiplexedChannelRecord multiplexedChannel = newChannelRecord(parentChannel, protocol);
+            parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
+            multiplexedChannel.enableCloseIfIdle();
+            addConnection(multiplexedChannel);
+            openingSpareConnection.set(false);
+            log.debug(parentChannel, () -> "Opened spare connection " + parentChannel);
+
+            if (closed.get()) {
+                closeAndReleaseParent(parentChannel);
+            }
+        } catch (Throwable e) {
+            discardSpareConnection(parentChannel, e);
+        }
+    }
+
+    private Void discardSpareConnection(Channel parentChannel, Throwable exception) {
+        log.debug(parentChannel, () -> "Failed to open a spare connection, closing connection " + parentChannel, exception);
+        openingSpareConnection.set(false);
+        closeAndReleaseParent(parentChannel);
+        return null;
     }
 
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
@@ -163,19 +314,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
         try {
-            Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
-
-            Validate.isTrue(protocol == Protocol.HTTP2,
-                            "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
-                            + "was %s.", parentChannel, Protocol.HTTP1_1);
-            Validate.isTrue(maxStreams != null,
-                            "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
-                            + "streams was not initialized.", parentChannel);
-            Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
-
-            MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
-                                                                                       idleConnectionTimeout);
-            parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+            MultiplexedChannelRecord multiplexedChannel = newChannelRecord(parentChannel, protocol);
 
             Promise<Channel> streamPromise = parentChannel.eventLoop().newPromise();
 
@@ -199,6 +338,39 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         }
     }
 
+    private MultiplexedChannelRecord newChannelRecord(Channel parentChannel, Protocol protocol) {
+        Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
+
+        Validate.isTrue(protocol == Protocol.HTTP2,
+                        "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
+                        + "was %s.", parentChannel, Protocol.HTTP1_1);
+        Validate.isTrue(maxStreams != null,
+                        "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
+                        + "streams was not initialized.", parentChannel);
+        Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
+
+        MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
+                                                                                   idleConnectionTimeout);
+        parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+        return multiplexedChannel;
+    }
+
+    private void addConnection(MultiplexedChannelRecord multiplexedChannel) {
+        synchronized (connections) {
+            if (connections.add(multiplexedChannel)) {
+                connectionSnapshot = Collections.unmodifiableList(new ArrayList<>(connections));
+            }
+        }
+    }
+
+    private void removeConnection(MultiplexedChannelRecord multiplexedChannel) {
+        synchronized (connections) {
+            if (connections.remove(multiplexedChannel)) {
+                connectionSnapshot = Collections.unmodifiableList(new ArrayList<>(connections));
+            }
+        }
+    }
+
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
                                                  Promise<Channel> promise) {
@@ -206,7 +378,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
         // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
         parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
-        connections.add(multiplexedChannel);
+        addConnection(multiplexedChannel);
 
         if (closed.get()) {
             // Whoops, we were closed while we were setting up. Make sure everything here is cleaned up properly.
@@ -352,7 +524,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 multiplexedChannel.closeChildChannels(cause);
             }
-            connections.remove(multiplexedChannel);
+            removeConnection(multiplexedChannel);
         }
 
         parentChannel.close();
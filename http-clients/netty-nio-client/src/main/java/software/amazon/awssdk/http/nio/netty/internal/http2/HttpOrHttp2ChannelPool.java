@@ -45,9 +45,11 @@ import software.amazon.awssdk.metrics.MetricCollector;
 public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final ChannelPool delegatePool;
     private final int maxConcurrency;
+    private final int maxPendingAcquires;
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final Double connectionUtilizationThreshold;
 
     private boolean protocolImplPromiseInitializationStarted = false;
     private Promise<ChannelPool> protocolImplPromise;
@@ -58,11 +60,31 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                   EventLoopGroup group,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
+        this(delegatePool, group, maxConcurrency, configuration, null);
+    }
+
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  NettyConfiguration configuration,
+                                  Double connectionUtilizationThreshold) {
+        this(delegatePool, group, maxConcurrency, configuration.maxPendingConnectionAcquires(), configuration,
+             connectionUtilizationThreshold);
+    }
+
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  int maxPendingAcquires,
+                                  NettyConfiguration configuration,
+                                  Double connectionUtilizationThreshold) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
+        this.maxPendingAcquires = maxPendingAcquires;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.connectionUtilizationThreshold = connectionUtilizationThreshold;
         this.protocolImplPromise = eventLoop.newPromise();
     }
 
@@ -165,19 +187,20 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .maxPendingAcquires(maxPendingAcquires)
                                                  .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                   connectionUtilizationThreshold);
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
                                                  .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .maxPendingAcquires(maxPendingAcquires)
                                                  .build();
         }
         // Give the channel back so it can be acquired again by protocolImpl
@@ -73,6 +73,7 @@ public class MultiplexedChannelRecord {
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableChildChannels = new AtomicLong(maxConcurrencyPerConnection);
         this.allowedIdleConnectionTimeMillis = allowedIdleConnectionTime == null ? null : allowedIdleConnectionTime.toMillis();
+        this.lastReserveAttemptTimeMillis = System.currentTimeMillis();
     }
 
     boolean acquireStream(Promise<Channel> promise) {
@@ -123,6 +124,18 @@ public class MultiplexedChannelRecord {
         }, promise);
     }
 
+    /**
+     * Start closing this connection once it has been idle for the allowed idle connection time, even if no stream has been
+     * acquired on it yet. Used for connections that are opened ahead of demand.
+     */
+    void enableCloseIfIdle() {
+        doInEventLoop(connection.eventLoop(), () -> {
+            if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
+                enableCloseIfIdleTask();
+            }
+        });
+    }
+
     private void enableCloseIfIdleTask() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -300,6 +313,20 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return the number of streams that can currently be acquired on this connection.
+     */
+    long availableStreams() {
+        return state == RecordState.OPEN ? Math.max(0, availableChildChannels.get()) : 0;
+    }
+
+    /**
+     * @return the fraction of the streams of this connection that are in use, 1 if no new stream can be acquired on it.
+     */
+    double utilization() {
+        return 1 - (double) availableStreams() / maxConcurrencyPerConnection;
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
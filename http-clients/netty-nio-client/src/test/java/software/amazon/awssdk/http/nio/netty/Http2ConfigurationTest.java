@@ -38,10 +38,12 @@ public class Http2ConfigurationTest {
         Http2Configuration config = Http2Configuration.builder()
                 .maxStreams(maxStreams)
                 .initialWindowSize(initialWindowSize)
+                .adaptiveWindowSizeEnabled(true)
                 .build();
 
         assertThat(config.maxStreams()).isEqualTo(maxStreams);
         assertThat(config.initialWindowSize()).isEqualTo(initialWindowSize);
+        assertThat(config.adaptiveWindowSizeEnabled()).isTrue();
     }
 
     @Test
@@ -49,6 +51,8 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .connectionUtilizationThreshold(0.8)
+                .adaptiveWindowSizeEnabled(true)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
@@ -89,4 +93,21 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_connectionUtilizationThreshold_nullValue_doesNotThrow() {
+        Http2Configuration.builder().connectionUtilizationThreshold(null);
+    }
+
+    @Test
+    public void builder_connectionUtilizationThreshold_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().connectionUtilizationThreshold(0.0);
+    }
+
+    @Test
+    public void builder_connectionUtilizationThreshold_aboveOne_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().connectionUtilizationThreshold(1.5);
+    }
 }
@@ -94,6 +94,8 @@ public class Http2MetricsTest {
             // stream is used (i.e. not previously pooled)
             assertThat(metrics.metricValues(Http2Metric.LOCAL_STREAM_WINDOW_SIZE_IN_BYTES).get(0)).isIn(H2_DEFAULT_WINDOW_SIZE, 65535 * 3);
             assertThat(metrics.metricValues(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES)).containsExactly(SERVER_INITIAL_WINDOW_SIZE);
+            assertThat(metrics.metricValues(Http2Metric.LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES).get(0)).isPositive();
+            assertThat(metrics.metricValues(Http2Metric.REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES).get(0)).isPositive();
         }
     }
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.assertCanReceiveBasicRequest;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createProvider;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createRequest;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class NettyNioAsyncHttpClientSdkDnsResolverTest {
+    private static final String HOST = "magic.local.host";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkAsyncHttpClient client;
+
+    @After
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void sdkDnsResolver_resolvesHostForConnection() throws Exception {
+        client = clientWith(host -> new InetAddress[] {address(127, 0, 0, 1)});
+
+        assertCanReceiveBasicRequest(client, uri(), randomAlphabetic(10));
+    }
+
+    @Test
+    public void sdkDnsResolver_connectionToFirstAddressFails_reportsFailureAndConnectsToNextAddress() throws Exception {
+        // 192.0.2.0/24 is reserved for documentation, so nothing answers there
+        InetAddress unreachable = address(192, 0, 2, 1);
+        InetAddress loopback = address(127, 0, 0, 1);
+        List<InetAddress> failedAddresses = new CopyOnWriteArrayList<>();
+        client = clientWith(new SdkDnsResolver() {
+            @Override
+            public InetAddress[] resolve(String host) {
+                return new InetAddress[] {unreachable, loopback};
+            }
+
+            @Override
+            public void reportFailure(InetAddress address) {
+                failedAddresses.add(address);
+            }
+        });
+
+        assertCanReceiveBasicRequest(client, uri(), randomAlphabetic(10));
+        assertThat(failedAddresses).containsExactly(unreachable);
+    }
+
+    @Test
+    public void sdkDnsResolver_noAddressConnects_reportsEveryAddressAndFailsRequest() throws Exception {
+        InetAddress[] unreachable = {address(192, 0, 2, 1), address(192, 0, 2, 3)};
+        List<InetAddress> failedAddresses = new CopyOnWriteArrayList<>();
+        client = clientWith(new SdkDnsResolver() {
+            @Override
+            public InetAddress[] resolve(String host) {
+                return unreachable;
+            }
+
+            @Override
+            public void reportFailure(InetAddress address) {
+                failedAddresses.add(address);
+            }
+        });
+
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(createRequest(uri()))
+                                          .requestContentPublisher(createProvider(""))
+                                          .responseHandler(recorder)
+                                          .build());
+        assertThatThrownBy(() -> recorder.completeFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(failedAddresses).containsExactly(unreachable);
+    }
+
+    @Test
+    public void sdkDnsResolver_isNotCalledOnEventLoop() throws Exception {
+        List<String> resolvingThreads = new CopyOnWriteArrayList<>();
+        client = clientWith(host -> {
+            resolvingThreads.add(Thread.currentThread().getName());
+            return new InetAddress[] {address(127, 0, 0, 1)};
+        });
+
+        assertCanReceiveBasicRequest(client, uri(), randomAlphabetic(10));
+        assertThat(resolvingThreads).isNotEmpty().allMatch(name -> name.startsWith("sdk-netty-dns-resolver"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sdkDnsResolverAndNonBlockingDnsResolver_bothConfigured_throwsException() {
+        NettyNioAsyncHttpClient.builder()
+                               .sdkDnsResolver(SdkDnsResolver.systemDefault())
+                               .useNonBlockingDnsResolver(true)
+                               .build();
+    }
+
+    private SdkAsyncHttpClient clientWith(SdkDnsResolver sdkDnsResolver) {
+        return NettyNioAsyncHttpClient.builder()
+                                      .sdkDnsResolver(sdkDnsResolver)
+                                      .connectionTimeout(Duration.ofMillis(500))
+                                      .build();
+    }
+
+    private URI uri() {
+        return URI.create("http://" + HOST + ":" + mockServer.port());
+    }
+
+    private static InetAddress address(int... octets) throws UnknownHostException {
+        byte[] bytes = new byte[octets.length];
+        for (int i = 0; i < octets.length; i++) {
+            bytes[i] = (byte) octets[i];
+        }
+        return InetAddress.getByAddress(HOST, bytes);
+    }
+}
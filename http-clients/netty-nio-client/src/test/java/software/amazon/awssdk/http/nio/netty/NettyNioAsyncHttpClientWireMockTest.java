@@ -58,6 +58,8 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.util.AttributeKey;
 import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.time.Duration;
@@ -223,6 +225,50 @@ public class NettyNioAsyncHttpClientWireMockTest {
         }
     }
 
+    @Test
+    public void eventLoopAffinityEnabled_requestsSucceed() throws Exception {
+        try (SdkAsyncHttpClient customClient =
+                 NettyNioAsyncHttpClient.builder()
+                                        .eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(2))
+                                        .eventLoopAffinity(true)
+                                        .build()) {
+            for (int i = 0; i < 3; i++) {
+                makeSimpleRequest(customClient, mockServer);
+            }
+        }
+    }
+
+    @Test
+    public void prewarm_opensRequestedConnections() throws Exception {
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder().maxConcurrency(10).build()) {
+            assertThat(prewarmAndCountConnections(customClient, 3, 3)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void prewarm_moreConnectionsThanMaxConcurrency_opensMaxConcurrency() throws Exception {
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder().maxConcurrency(2).build()) {
+            assertThat(prewarmAndCountConnections(customClient, 5, 2)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void prewarm_httpsEndpoint_completesAfterHandshake() throws Exception {
+        client.prewarm(URI.create("https://localhost:" + mockServer.httpsPort()), 2).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void prewarm_connectionRefused_completesExceptionally() throws Exception {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        assertThatThrownBy(() -> client.prewarm(URI.create("http://localhost:" + closedPort), 2).get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseInstanceOf(IOException.class);
+    }
+
     @Test
     public void defaultThreadFactoryUsesHelpfulName() throws Exception {
         // Make a request to ensure a thread is primed
@@ -295,6 +341,44 @@ public class NettyNioAsyncHttpClientWireMockTest {
         customEventLoopGroup.shutdownGracefully().awaitUninterruptibly();
     }
 
+    /**
+     * Prewarms connections to a plain socket server, and returns the number of connections it accepted.
+     */
+    private static int prewarmAndCountConnections(SdkAsyncHttpClient httpClient, int connections, int expectedConnections)
+        throws Exception {
+        List<Socket> accepted = Collections.synchronizedList(new ArrayList<>());
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            Thread acceptor = new Thread(() -> {
+                try {
+                    while (true) {
+                        accepted.add(serverSocket.accept());
+                    }
+                } catch (IOException e) {
+                    // The server socket was closed
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            httpClient.prewarm(URI.create("http://localhost:" + serverSocket.getLocalPort()), connections)
+                      .get(10, TimeUnit.SECONDS);
+
+            // The server may accept the connections a little after the client sees them as connected
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (accepted.size() < expectedConnections && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+            return accepted.size();
+        } finally {
+            synchronized (accepted) {
+                for (Socket socket : accepted) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
     @Test
     public void closeClient_shouldCloseUnderlyingResources() {
         SdkEventLoopGroup eventLoopGroup = SdkEventLoopGroup.builder().build();
@@ -712,6 +796,37 @@ public class NettyNioAsyncHttpClientWireMockTest {
         customClient.close();
     }
 
+    @Test
+    public void tlsSessionResumedMetric_newConnectionToSameHost_resumesSession() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close").withBody("hello")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                      .sslProvider(SslProvider.JDK)
+                                                                      .buildWithDefaults(mapWithTrustAllCerts())) {
+            assertThat(makeRequestAndCollectMetrics(customClient, uri).metricValues(HttpMetric.TLS_SESSION_RESUMED))
+                .containsExactly(false);
+            assertThat(makeRequestAndCollectMetrics(customClient, uri).metricValues(HttpMetric.TLS_SESSION_RESUMED))
+                .containsExactly(true);
+        }
+    }
+
+    @Test
+    public void tlsSessionResumedMetric_pooledConnection_notReported() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                      .maxConcurrency(1)
+                                                                      .sslProvider(SslProvider.JDK)
+                                                                      .buildWithDefaults(mapWithTrustAllCerts())) {
+            assertThat(makeRequestAndCollectMetrics(customClient, uri).metricValues(HttpMetric.TLS_SESSION_RESUMED))
+                .containsExactly(false);
+            assertThat(makeRequestAndCollectMetrics(customClient, uri).metricValues(HttpMetric.TLS_SESSION_RESUMED))
+                .isEmpty();
+        }
+    }
+
     @Test
     public void metricsAreCollectedForClosedClientCalls() throws Exception {
         SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
@@ -760,6 +875,18 @@ public class NettyNioAsyncHttpClientWireMockTest {
         return recorder;
     }
 
+    private static MetricCollection makeRequestAndCollectMetrics(SdkAsyncHttpClient client, URI uri) throws Exception {
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(createRequest(uri))
+                                          .requestContentPublisher(createProvider(""))
+                                          .responseHandler(recorder)
+                                          .metricCollector(recorder.collector)
+                                          .build());
+        recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        return recorder.collector.collect();
+    }
+
     private static AttributeMap mapWithTrustAllCerts() {
         return AttributeMap.builder()
                            .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
@@ -97,6 +98,53 @@ public class AwaitCloseChannelPoolMapTest {
         });
     }
 
+    @Test
+    public void get_eventLoopAffinityEnabled_createsOnePoolPerEventLoop() {
+        channelPoolMap = AwaitCloseChannelPoolMap.builder()
+                                                 .sdkChannelOptions(new SdkChannelOptions())
+                                                 .sdkEventLoopGroup(SdkEventLoopGroup.builder().numberOfThreads(3).build())
+                                                 .configuration(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS))
+                                                 .protocol(Protocol.HTTP1_1)
+                                                 .maxStreams(100)
+                                                 .sslProvider(SslProvider.JDK)
+                                                 .eventLoopAffinity(true)
+                                                 .build();
+
+        SimpleChannelPoolAwareChannelPool channelPool = channelPoolMap.get(URI.create("http://localhost:" + mockProxy.port()));
+        assertThat(channelPool.underlyingSimpleChannelPools()).hasSize(3);
+
+        channelPoolMap.close();
+        channelPool.underlyingSimpleChannelPools().forEach(pool -> assertThat(pool.closeFuture().join()).isTrue());
+    }
+
+    @Test
+    public void get_eventLoopAffinityWithFewerConnectionsThanEventLoops_createsOnePool() {
+        AttributeMap config = AttributeMap.builder().put(MAX_CONNECTIONS, 2).build().merge(GLOBAL_HTTP_DEFAULTS);
+        channelPoolMap = AwaitCloseChannelPoolMap.builder()
+                                                 .sdkChannelOptions(new SdkChannelOptions())
+                                                 .sdkEventLoopGroup(SdkEventLoopGroup.builder().numberOfThreads(3).build())
+                                                 .configuration(new NettyConfiguration(config))
+                                                 .protocol(Protocol.HTTP1_1)
+                                                 .maxStreams(100)
+                                                 .sslProvider(SslProvider.JDK)
+                                                 .eventLoopAffinity(true)
+                                                 .build();
+
+        SimpleChannelPoolAwareChannelPool channelPool = channelPoolMap.get(URI.create("http://localhost:" + mockProxy.port()));
+        assertThat(channelPool.underlyingSimpleChannelPools()).hasSize(1);
+    }
+
+    @Test
+    public void shareOf_splitsTotalWithoutExceedingIt() {
+        List<Integer> shares = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            shares.add(AwaitCloseChannelPoolMap.shareOf(50, 16, i));
+        }
+
+        assertThat(shares.stream().mapToInt(Integer::intValue).sum()).isEqualTo(50);
+        assertThat(shares).containsOnly(3, 4);
+    }
+
     @Test
     public void get_callsInjectedBootstrapProviderCorrectly() {
         BootstrapProvider bootstrapProvider = Mockito.spy(
@@ -60,6 +60,7 @@ public class ChannelPipelineInitializerTest {
                                                              SslProvider.JDK,
                                                              100,
                                                              1024,
+                                                             false,
                                                              Duration.ZERO,
                                                              channelPoolRef,
                                                              nettyConfiguration,
@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.Promise;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class EventLoopAffinityChannelPoolTest {
+    private static NioEventLoopGroup eventLoopGroup;
+    private static AffinityEventLoopGroup affinityEventLoopGroup;
+    private static EventLoop eventLoop1;
+    private static EventLoop eventLoop2;
+
+    private SdkChannelPool pool1;
+    private SdkChannelPool pool2;
+    private EventLoopAffinityChannelPool affinityPool;
+
+    @BeforeAll
+    public static void setupEventLoops() {
+        eventLoopGroup = new NioEventLoopGroup(2);
+        affinityEventLoopGroup = new AffinityEventLoopGroup(eventLoopGroup);
+        List<EventLoop> eventLoops = affinityEventLoopGroup.eventLoops();
+        assertThat(eventLoops).hasSize(2);
+        eventLoop1 = eventLoops.get(0);
+        eventLoop2 = eventLoops.get(1);
+    }
+
+    @AfterAll
+    public static void shutdownEventLoops() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @BeforeEach
+    public void setup() {
+        pool1 = mock(SdkChannelPool.class);
+        pool2 = mock(SdkChannelPool.class);
+        Map<EventLoop, SdkChannelPool> pools = new LinkedHashMap<>();
+        pools.put(eventLoop1, pool1);
+        pools.put(eventLoop2, pool2);
+        Map<EventLoop, Integer> maxConcurrency = new LinkedHashMap<>();
+        maxConcurrency.put(eventLoop1, 3);
+        maxConcurrency.put(eventLoop2, 2);
+        affinityPool = new EventLoopAffinityChannelPool(affinityEventLoopGroup, pools, maxConcurrency);
+    }
+
+    @Test
+    public void next_fromEventLoop_returnsThatEventLoop() throws Exception {
+        assertThat(eventLoop1.submit(affinityEventLoopGroup::next).get()).isSameAs(eventLoop1);
+        assertThat(eventLoop2.submit(affinityEventLoopGroup::next).get()).isSameAs(eventLoop2);
+    }
+
+    @Test
+    public void next_fromOtherThread_alwaysReturnsSameEventLoop() {
+        EventLoop eventLoop = affinityEventLoopGroup.next();
+        for (int i = 0; i < 10; i++) {
+            assertThat(affinityEventLoopGroup.next()).isSameAs(eventLoop);
+        }
+    }
+
+    @Test
+    public void shutdownGracefully_doesNotShutDownDelegate() {
+        affinityEventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+        assertThat(eventLoopGroup.isShuttingDown()).isFalse();
+    }
+
+    @Test
+    public void acquire_fromEventLoop_usesPoolOfThatEventLoop() throws Exception {
+        Promise<Channel> promise = eventLoop2.newPromise();
+        eventLoop2.submit(() -> affinityPool.acquire(promise)).get();
+
+        verify(pool2).acquire(promise);
+        verify(pool1, never()).acquire(any());
+    }
+
+    @Test
+    public void acquire_fromOtherThread_usesPoolOfItsEventLoop() {
+        for (int i = 0; i < 3; i++) {
+            affinityPool.acquire(affinityEventLoopGroup.next().newPromise());
+        }
+
+        SdkChannelPool expectedPool = affinityEventLoopGroup.next() == eventLoop1 ? pool1 : pool2;
+        SdkChannelPool otherPool = expectedPool == pool1 ? pool2 : pool1;
+        verify(expectedPool, times(3)).acquire(any());
+        verify(otherPool, never()).acquire(any());
+    }
+
+    @Test
+    public void release_usesPoolOfChannelEventLoop() {
+        Channel channel = mock(Channel.class);
+        when(channel.eventLoop()).thenReturn(eventLoop1);
+        Promise<Void> promise = eventLoop1.newPromise();
+
+        affinityPool.release(channel, promise);
+
+        verify(pool1).release(channel, promise);
+        verify(pool2, never()).release(any(), any());
+    }
+
+    @Test
+    public void collectChannelPoolMetrics_sumsMetricsOfUsedPools() throws Exception {
+        when(pool1.collectChannelPoolMetrics(any())).thenAnswer(i -> reportLeased(i.getArgument(0), 1));
+        when(pool2.collectChannelPoolMetrics(any())).thenAnswer(i -> reportLeased(i.getArgument(0), 2));
+
+        MetricCollector unusedCollector = MetricCollector.create("test");
+        affinityPool.collectChannelPoolMetrics(unusedCollector).join();
+        assertThat(unusedCollector.collect().metricValues(HttpMetric.LEASED_CONCURRENCY)).isEmpty();
+        verify(pool1, never()).collectChannelPoolMetrics(any());
+
+        eventLoop1.submit(() -> affinityPool.acquire(eventLoop1.newPromise())).get();
+        eventLoop2.submit(() -> affinityPool.acquire(eventLoop2.newPromise())).get();
+
+        MetricCollector collector = MetricCollector.create("test");
+        affinityPool.collectChannelPoolMetrics(collector).join();
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(3);
+    }
+
+    @Test
+    public void collectChannelPoolMetrics_includesMaxConcurrencyOfUnusedPools() throws Exception {
+        when(pool1.collectChannelPoolMetrics(any())).thenAnswer(i -> {
+            MetricCollector collector = i.getArgument(0);
+            collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 3);
+            return reportLeased(collector, 1);
+        });
+
+        MetricCollector unusedCollector = MetricCollector.create("test");
+        affinityPool.collectChannelPoolMetrics(unusedCollector).join();
+        assertThat(unusedCollector.collect().metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(5);
+
+        eventLoop1.submit(() -> affinityPool.acquire(eventLoop1.newPromise())).get();
+
+        MetricCollector collector = MetricCollector.create("test");
+        affinityPool.collectChannelPoolMetrics(collector).join();
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(5);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+        verify(pool2, never()).collectChannelPoolMetrics(any());
+    }
+
+    private static CompletableFuture<Void> reportLeased(MetricCollector collector, int leased) {
+        collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        return CompletableFuture.completedFuture(null);
+    }
+}
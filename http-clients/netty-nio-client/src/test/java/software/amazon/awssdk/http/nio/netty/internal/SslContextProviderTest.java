@@ -22,7 +22,9 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_M
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -61,6 +63,66 @@ public class SslContextProviderTest {
         assertThat(sslContextProvider.sslContext().cipherSuites()).isNotIn(Http2SecurityUtil.CIPHERS);
     }
 
+    @Test
+    public void sslContext_sessionCacheConfigured_shouldBeApplied() {
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(
+            AttributeMap.builder()
+                        .put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, 123)
+                        .put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, Duration.ofMinutes(2))
+                        .build()
+                        .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS)),
+                                                                       Protocol.HTTP1_1,
+                                                                       SslProvider.JDK);
+
+        SslContext sslContext = sslContextProvider.sslContext();
+        assertThat(sslContext.sessionCacheSize()).isEqualTo(123);
+        assertThat(sslContext.sessionTimeout()).isEqualTo(120);
+    }
+
+    @Test
+    public void sslContext_sharedSessionCache_shouldReuseContextAcrossProviders() {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE, true)
+                                                 .put(TLS_KEY_MANAGERS_PROVIDER, TlsKeyManagersProvider.noneProvider())
+                                                 .build()
+                                                 .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+
+        SslContext first = new SslContextProvider(new NettyConfiguration(configuration), Protocol.HTTP1_1, SslProvider.JDK)
+            .sslContext();
+        SslContext second = new SslContextProvider(new NettyConfiguration(configuration), Protocol.HTTP1_1, SslProvider.JDK)
+            .sslContext();
+        SslContext otherProtocol = new SslContextProvider(new NettyConfiguration(configuration), Protocol.HTTP2, SslProvider.JDK)
+            .sslContext();
+
+        assertThat(second).isSameAs(first);
+        assertThat(otherProtocol).isNotSameAs(first);
+    }
+
+    @Test
+    public void sslContext_sharedSessionCacheWithCustomTrustManagers_shouldNotShareContext() {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(SdkHttpConfigurationOption.SHARED_TLS_SESSION_CACHE, true)
+                                                 .put(TRUST_ALL_CERTIFICATES, true)
+                                                 .build()
+                                                 .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+
+        SslContext first = new SslContextProvider(new NettyConfiguration(configuration), Protocol.HTTP1_1, SslProvider.JDK)
+            .sslContext();
+        SslContext second = new SslContextProvider(new NettyConfiguration(configuration), Protocol.HTTP1_1, SslProvider.JDK)
+            .sslContext();
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void sslContext_sessionCacheNotShared_shouldCreateNewContexts() {
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                                                       Protocol.HTTP1_1,
+                                                                       SslProvider.JDK);
+
+        assertThat(sslContextProvider.sslContext()).isNotSameAs(sslContextProvider.sslContext());
+    }
+
     @Test
     public void customizedKeyManagerPresent_shouldUseCustomized() {
         TlsKeyManagersProvider mockProvider = Mockito.mock(TlsKeyManagersProvider.class);
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2Stream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class Http2FlowControlWindowTunerTest {
+    private static final int INITIAL_WINDOW_SIZE = 3000;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final Http2Connection http2Connection = mock(Http2Connection.class);
+    private final Http2Connection.Endpoint<Http2LocalFlowController> localEndpoint = mock(Http2Connection.Endpoint.class);
+    private final Http2LocalFlowController localFlowController = mock(Http2LocalFlowController.class);
+    private final Http2Stream connectionStream = mock(Http2Stream.class);
+
+    private Http2FlowControlWindowTuner tuner;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setup() {
+        when(http2Connection.local()).thenReturn(localEndpoint);
+        when(localEndpoint.flowController()).thenReturn(localFlowController);
+        when(http2Connection.connectionStream()).thenReturn(connectionStream);
+
+        tuner = new Http2FlowControlWindowTuner(INITIAL_WINDOW_SIZE, nanoTime::get);
+        channel = new EmbeddedChannel(tuner);
+        channel.attr(HTTP2_CONNECTION).set(http2Connection);
+    }
+
+    @Test
+    public void dataReceived_sendsOnePingPerRoundTrip() {
+        receiveData(100);
+        receiveData(100);
+
+        Http2PingFrame ping = channel.readOutbound();
+        assertThat(ping.ack()).isFalse();
+        assertThat(ping.content()).isEqualTo(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void sampleFillsWindow_growsStreamAndConnectionWindows() throws Exception {
+        receiveData(1000);
+        receiveData(1000);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+
+        channel.readOutbound();
+        Http2SettingsFrame settings = channel.readOutbound();
+        assertThat(settings.settings().initialWindowSize()).isEqualTo(4000);
+        verify(localFlowController).incrementWindowSize(connectionStream, 1000);
+        assertThat(tuner.windowSize()).isEqualTo(4000);
+    }
+
+    @Test
+    public void sampleBelowThreshold_doesNotGrowWindows() throws Exception {
+        receiveData(1000);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+
+        channel.readOutbound();
+        assertThat((Object) channel.readOutbound()).isNull();
+        verify(localFlowController, never()).incrementWindowSize(any(), anyInt());
+        assertThat(tuner.windowSize()).isEqualTo(INITIAL_WINDOW_SIZE);
+    }
+
+    @Test
+    public void bandwidthDecreased_doesNotGrowWindows() throws Exception {
+        receiveData(2000);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+        assertThat(tuner.windowSize()).isEqualTo(4000);
+
+        // Fills the grown window, but at a lower bandwidth than the first sample
+        receiveData(3000);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+
+        assertThat(tuner.windowSize()).isEqualTo(4000);
+    }
+
+    @Test
+    public void largeSample_capsWindowAtMaximum() throws Exception {
+        tuner = new Http2FlowControlWindowTuner(12 * 1024 * 1024, nanoTime::get);
+        channel = new EmbeddedChannel(tuner);
+        channel.attr(HTTP2_CONNECTION).set(http2Connection);
+
+        receiveData(10 * 1024 * 1024);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+
+        assertThat(tuner.windowSize()).isEqualTo(Http2FlowControlWindowTuner.MAX_WINDOW_SIZE);
+        verify(localFlowController).incrementWindowSize(connectionStream, 4 * 1024 * 1024);
+
+        // No more samples are taken once the maximum is reached
+        channel.readOutbound();
+        channel.readOutbound();
+        receiveData(100);
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void healthCheckPingAck_isIgnoredAndPassedOn() throws Exception {
+        receiveData(2500);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        receivePingAck(0);
+
+        assertThat(tuner.windowSize()).isEqualTo(INITIAL_WINDOW_SIZE);
+        verify(localFlowController, never()).incrementWindowSize(any(), anyInt());
+    }
+
+    @Test
+    public void bdpPingAck_isPassedOn() {
+        receiveData(100);
+        receivePingAck(Http2FlowControlWindowTuner.BDP_PING_PAYLOAD);
+
+        channel.readInbound();
+        Http2PingFrame ack = channel.readInbound();
+        assertThat(ack.ack()).isTrue();
+    }
+
+    private void receiveData(int bytes) {
+        channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(new byte[bytes])));
+    }
+
+    private void receivePingAck(long content) {
+        channel.writeInbound(new DefaultHttp2PingFrame(content, true));
+    }
+}
@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.http2.utils.Http2TestUtils.newHttp2Channel;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -38,7 +39,9 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -330,6 +333,72 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_shouldSpreadStreamsAcrossConnections() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 4, null);
+            MultiplexedChannelRecord record2 = new MultiplexedChannelRecord(channel2, 4, null);
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, new HashSet<>(Arrays.asList(record1, record2)),
+                                                null);
+
+            for (int i = 0; i < 4; i++) {
+                assertThat(doAcquire(channel1, channel2, h2Pool)).isNotNull();
+            }
+
+            assertThat(record1.availableStreams()).isEqualTo(2);
+            assertThat(record2.availableStreams()).isEqualTo(2);
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void acquire_aboveUtilizationThreshold_shouldOpenSpareConnection() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+
+            EventLoop connectionEventLoop = loopGroup.next();
+            Promise<Channel> channel2Promise = new DefaultPromise<>(connectionEventLoop);
+            Mockito.when(connectionPool.acquire()).thenReturn(channel2Promise);
+
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 2, null);
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.singleton(record1), null, 0.5);
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isEqualTo(channel1);
+            Mockito.verify(connectionPool, Mockito.times(1)).acquire();
+
+            // Only one spare connection is opened at a time
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isEqualTo(channel1);
+            Mockito.verify(connectionPool, Mockito.times(1)).acquire();
+
+            channel2Promise.setSuccess(channel2);
+            // The spare connection is added by a listener on the connection acquire future, wait for it to run
+            connectionEventLoop.submit(() -> { }).awaitUninterruptibly();
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isEqualTo(channel2);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
@@ -28,6 +28,7 @@ import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.internal.TransferManagerFactory;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
@@ -780,6 +781,20 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Specifies a {@link BandwidthLimit} shared by all transfers of this {@link S3TransferManager}. Concurrent transfers
+         * share the limit evenly, and individual transfers may be further limited with a limit on their request. The rate can
+         * be changed with {@link BandwidthLimit#updateBytesPerSecond(long)} while transfers are running.
+         *
+         * <p>
+         * Default to no limit
+         *
+         * @param bandwidthLimit the limit applied to all transfers
+         * @return This builder for method chaining.
+         * @see BandwidthLimit#create(long)
+         */
+        Builder bandwidthLimit(BandwidthLimit bandwidthLimit);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
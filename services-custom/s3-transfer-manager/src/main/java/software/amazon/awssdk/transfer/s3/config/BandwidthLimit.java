@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.bandwidth.TokenBucketBandwidthLimit;
+
+/**
+ * A limit on the number of bytes per second transferred by the transfers it is applied to, enforced with a token bucket.
+ * <p>
+ * A limit can be configured for all transfers of a {@link S3TransferManager} with
+ * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit)}, and for individual transfers on their request, for example
+ * with {@code UploadFileRequest.Builder#bandwidthLimit(BandwidthLimit)}. When both apply, the transfer is held to the stricter
+ * of the two. The same instance may be shared by several requests to cap a group of transfers together.
+ * <p>
+ * Concurrent transfers draw from the bucket in small slices in the order they ask for them, so transfers that are limited
+ * by the same instance share its bandwidth evenly. The rate can be changed with {@link #updateBytesPerSecond(long)} while
+ * transfers are running; in-progress transfers pick up the new rate within one slice.
+ * <p>
+ * Limits apply to the bytes of request and response bodies flowing through the transfer manager. Uploads of a file with an
+ * AWS CRT-based S3 client are read by the CRT directly, so when a limit applies to such an upload it is sent through the
+ * SDK's request body instead.
+ *
+ * <pre>{@code
+ * BandwidthLimit limit = BandwidthLimit.create(100 * SizeConstant.MB);
+ * S3TransferManager transferManager = S3TransferManager.builder().bandwidthLimit(limit).build();
+ * // later, without restarting transfers
+ * limit.updateBytesPerSecond(20 * SizeConstant.MB);
+ * }</pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BandwidthLimit {
+
+    /**
+     * Creates a limit of {@code bytesPerSecond}, allowing bursts of up to one second worth of bytes.
+     *
+     * @param bytesPerSecond the maximum sustained rate, must be positive
+     */
+    static BandwidthLimit create(long bytesPerSecond) {
+        return new TokenBucketBandwidthLimit(bytesPerSecond);
+    }
+
+    /**
+     * @return the current maximum sustained rate, in bytes per second.
+     */
+    long bytesPerSecond();
+
+    /**
+     * Changes the maximum sustained rate, in bytes per second. The new rate applies to transfers that are already running
+     * as well as to new transfers.
+     *
+     * @param bytesPerSecond the new rate, must be positive
+     */
+    void updateBytesPerSecond(long bytesPerSecond);
+}
@@ -57,6 +57,10 @@ class CrtS3TransferManager extends GenericS3TransferManager {
     @Override
     public FileUpload uploadFile(UploadFileRequest uploadFileRequest) {
         Validate.paramNotNull(uploadFileRequest, "uploadFileRequest");
+        if (bandwidthThrottler(uploadFileRequest).isPresent()) {
+            // The CRT reads files directly, so the bytes can only be throttled by going through a request body
+            return super.uploadFile(uploadFileRequest);
+        }
         S3MetaRequestPauseObservable observable = new S3MetaRequestPauseObservable();
 
         Long fileContentLength = AsyncRequestBody.fromFile(uploadFileRequest.source()).contentLength().orElse(null);
@@ -21,6 +21,8 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PAUSE_OBSERVABLE;
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.RESUME_TOKEN;
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.BANDWIDTH_LIMIT;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.BANDWIDTH_SCHEDULER;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
 import java.util.Optional;
@@ -53,6 +55,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.multipart.PauseObservable;
 import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.bandwidth.BandwidthThrottler;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultCopy;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
@@ -81,6 +84,7 @@ import software.amazon.awssdk.transfer.s3.model.FileDownload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.model.Upload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
@@ -140,7 +144,7 @@ class GenericS3TransferManager implements S3TransferManager {
         TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadRequest,
                                                                               requestBody.contentLength().orElse(null));
         progressUpdater.transferInitiated();
-        requestBody = progressUpdater.wrapRequestBody(requestBody);
+        requestBody = progressUpdater.wrapRequestBody(bandwidthThrottled(uploadRequest, requestBody));
         progressUpdater.registerCompletion(returnFuture);
 
         PutObjectRequest putObjectRequest = uploadRequest.putObjectRequest();
@@ -188,7 +192,7 @@ class GenericS3TransferManager implements S3TransferManager {
         TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest,
                                                                               requestBody.contentLength().orElse(null));
         progressUpdater.transferInitiated();
-        requestBody = progressUpdater.wrapRequestBody(requestBody);
+        requestBody = progressUpdater.wrapRequestBody(bandwidthThrottled(uploadFileRequest, requestBody));
         progressUpdater.registerCompletion(returnFuture);
 
         PutObjectRequest putObjectRequest = uploadFileRequest.putObjectRequest();
@@ -236,6 +240,32 @@ class GenericS3TransferManager implements S3TransferManager {
         return doResumeUpload(resumableFileUpload);
     }
 
+    /**
+     * The throttler enforcing the limit of this transfer manager and the limit of the request, if any.
+     */
+    Optional<BandwidthThrottler> bandwidthThrottler(TransferObjectRequest request) {
+        return BandwidthThrottler.create(transferConfiguration.option(BANDWIDTH_SCHEDULER),
+                                         transferConfiguration.option(BANDWIDTH_LIMIT),
+                                         request.bandwidthLimit().orElse(null));
+    }
+
+    /**
+     * Throttles the body before progress is reported, so that progress reflects the bytes actually released to the client.
+     */
+    private AsyncRequestBody bandwidthThrottled(TransferObjectRequest request, AsyncRequestBody requestBody) {
+        return bandwidthThrottler(request).map(throttler -> throttler.throttle(requestBody))
+                                          .orElse(requestBody);
+    }
+
+    /**
+     * Throttles the stream ahead of the progress listener, so that progress reflects the bytes actually consumed.
+     */
+    private <ResultT> AsyncResponseTransformer<GetObjectResponse, ResultT> bandwidthThrottled(
+        TransferObjectRequest request, AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer) {
+        return bandwidthThrottler(request).map(throttler -> throttler.throttle(responseTransformer))
+                                          .orElse(responseTransformer);
+    }
+
     private boolean isS3ClientMultipartEnabled() {
         // TODO use configuration getter when available
         return s3AsyncClient instanceof MultipartS3AsyncClient;
@@ -348,6 +378,7 @@ class GenericS3TransferManager implements S3TransferManager {
                               ? progressUpdater.wrapResponseTransformerForMultipartDownload(
             responseTransformer, downloadRequest.getObjectRequest())
                               : progressUpdater.wrapResponseTransformer(responseTransformer);
+        responseTransformer = bandwidthThrottled(downloadRequest, responseTransformer);
         progressUpdater.registerCompletion(returnFuture);
 
         try {
@@ -401,6 +432,7 @@ class GenericS3TransferManager implements S3TransferManager {
                                   ? progressUpdater.wrapResponseTransformerForMultipartDownload(
                 responseTransformer, downloadRequest.getObjectRequest())
                                   : progressUpdater.wrapResponseTransformer(responseTransformer);
+            responseTransformer = bandwidthThrottled(downloadRequest, responseTransformer);
             progressUpdater.registerCompletion(returnFuture);
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
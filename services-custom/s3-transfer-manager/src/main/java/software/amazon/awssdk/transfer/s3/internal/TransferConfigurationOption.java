@@ -16,7 +16,9 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -35,6 +37,12 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
+    public static final TransferConfigurationOption<BandwidthLimit> BANDWIDTH_LIMIT =
+        new TransferConfigurationOption<>("BandwidthLimit", BandwidthLimit.class);
+
+    public static final TransferConfigurationOption<ScheduledExecutorService> BANDWIDTH_SCHEDULER =
+        new TransferConfigurationOption<>("BandwidthScheduler", ScheduledExecutorService.class);
+
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
@@ -15,15 +15,20 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.BANDWIDTH_LIMIT;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.BANDWIDTH_SCHEDULER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ExecutorUtils;
@@ -42,6 +47,8 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         AttributeMap.Builder standardOptions = AttributeMap.builder();
         standardOptions.put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, builder.uploadDirectoryFollowSymbolicLinks);
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
+        standardOptions.put(BANDWIDTH_LIMIT, builder.bandwidthLimit);
+        standardOptions.put(BANDWIDTH_SCHEDULER, bandwidthScheduler());
         finalizeExecutor(builder, standardOptions);
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
@@ -89,6 +96,19 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         return executor;
     }
 
+    /**
+     * The scheduler that releases throttled slices of transfer bodies. Its single thread is only started once a transfer is
+     * throttled, and it only hands slices over to the subscriber, so it is never busy for long.
+     */
+    private ScheduledExecutorService bandwidthScheduler() {
+        ScheduledThreadPoolExecutor scheduler =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("s3-transfer-manager-bandwidth")
+                                                                         .daemonThreads(true)
+                                                                         .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -98,7 +118,7 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Executor executor;
-
+        private BandwidthLimit bandwidthLimit;
 
         public Builder uploadDirectoryFollowSymbolicLinks(Boolean uploadDirectoryFollowSymbolicLinks) {
             this.uploadDirectoryFollowSymbolicLinks = uploadDirectoryFollowSymbolicLinks;
@@ -115,6 +135,11 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
         public TransferManagerConfiguration build() {
             return new TransferManagerConfiguration(this);
         }
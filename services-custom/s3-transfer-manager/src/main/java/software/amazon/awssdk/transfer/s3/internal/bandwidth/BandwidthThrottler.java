@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.bandwidth;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Applies one or more {@link BandwidthLimit}s to the body of a transfer. Bodies are delivered downstream in slices, and each
+ * slice is held back until every limit has room for it. Delays are scheduled rather than slept, so no thread is blocked
+ * while a transfer is throttled.
+ */
+@SdkInternalApi
+public final class BandwidthThrottler {
+    private final List<TokenBucketBandwidthLimit> limits;
+    private final ScheduledExecutorService scheduler;
+
+    private BandwidthThrottler(List<TokenBucketBandwidthLimit> limits, ScheduledExecutorService scheduler) {
+        this.limits = limits;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a throttler enforcing all non-null limits, or an empty optional if no limit applies.
+     */
+    public static Optional<BandwidthThrottler> create(ScheduledExecutorService scheduler, BandwidthLimit... bandwidthLimits) {
+        List<TokenBucketBandwidthLimit> limits = new ArrayList<>();
+        for (BandwidthLimit bandwidthLimit : bandwidthLimits) {
+            if (bandwidthLimit != null) {
+                limits.add(Validate.isInstanceOf(TokenBucketBandwidthLimit.class, bandwidthLimit,
+                                                 "BandwidthLimit must be created with BandwidthLimit.create()"));
+            }
+        }
+        if (limits.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new BandwidthThrottler(limits, Validate.paramNotNull(scheduler, "scheduler")));
+    }
+
+    public AsyncRequestBody throttle(AsyncRequestBody requestBody) {
+        return new ThrottledAsyncRequestBody(requestBody);
+    }
+
+    public <ResponseT, ResultT> AsyncResponseTransformer<ResponseT, ResultT> throttle(
+        AsyncResponseTransformer<ResponseT, ResultT> responseTransformer) {
+        return new ThrottledAsyncResponseTransformer<>(responseTransformer);
+    }
+
+    SdkPublisher<ByteBuffer> throttlePublisher(Publisher<ByteBuffer> publisher) {
+        return subscriber -> publisher.subscribe(new ThrottlingSubscriber(subscriber, this));
+    }
+
+    /**
+     * Reserves {@code bytes} from every limit and returns the longest wait among them.
+     */
+    long reserve(long bytes) {
+        long delayNanos = 0;
+        for (TokenBucketBandwidthLimit limit : limits) {
+            delayNanos = Math.max(delayNanos, limit.reserve(bytes));
+        }
+        return delayNanos;
+    }
+
+    int sliceSizeInBytes() {
+        int sliceSize = Integer.MAX_VALUE;
+        for (TokenBucketBandwidthLimit limit : limits) {
+            sliceSize = Math.min(sliceSize, limit.sliceSizeInBytes());
+        }
+        return sliceSize;
+    }
+
+    void schedule(Runnable task, long delayNanos) {
+        scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class ThrottledAsyncRequestBody implements AsyncRequestBody {
+        private final AsyncRequestBody delegate;
+
+        private ThrottledAsyncRequestBody(AsyncRequestBody delegate) {
+            this.delegate = Validate.paramNotNull(delegate, "delegate");
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public String contentType() {
+            return delegate.contentType();
+        }
+
+        /**
+         * Keeps the delegate's own splitting (for example, reading file parts in parallel) and throttles each part.
+         */
+        @Override
+        public SdkPublisher<AsyncRequestBody> split(AsyncRequestBodySplitConfiguration splitConfiguration) {
+            return delegate.split(splitConfiguration).map(ThrottledAsyncRequestBody::new);
+        }
+
+        @Override
+        public SdkPublisher<AsyncRequestBody> split(Consumer<AsyncRequestBodySplitConfiguration.Builder> splitConfiguration) {
+            return delegate.split(splitConfiguration).map(ThrottledAsyncRequestBody::new);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            throttlePublisher(delegate).subscribe(subscriber);
+        }
+    }
+
+    private final class ThrottledAsyncResponseTransformer<ResponseT, ResultT>
+        implements AsyncResponseTransformer<ResponseT, ResultT> {
+        private final AsyncResponseTransformer<ResponseT, ResultT> delegate;
+
+        private ThrottledAsyncResponseTransformer(AsyncResponseTransformer<ResponseT, ResultT> delegate) {
+            this.delegate = Validate.paramNotNull(delegate, "delegate");
+        }
+
+        @Override
+        public CompletableFuture<ResultT> prepare() {
+            return delegate.prepare();
+        }
+
+        @Override
+        public void onResponse(ResponseT response) {
+            delegate.onResponse(response);
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            delegate.onStream(throttlePublisher(publisher));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            delegate.exceptionOccurred(error);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.bandwidth;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * A subscriber that re-publishes the buffers it receives as slices of at most {@link BandwidthThrottler#sliceSizeInBytes()}
+ * bytes, delaying each slice until the throttler has room for it.
+ * <p>
+ * At most one buffer is requested from upstream at a time, and at most one slice is waiting to be delivered, so slices are
+ * delivered in order and the amount of data held back is bounded by a single upstream buffer. Each slice counts against
+ * downstream demand.
+ */
+@SdkInternalApi
+final class ThrottlingSubscriber implements Subscriber<ByteBuffer> {
+    private final Subscriber<? super ByteBuffer> downstream;
+    private final BandwidthThrottler throttler;
+    private final Object lock = new Object();
+
+    private volatile Subscription upstream;
+
+    // All fields below are guarded by lock
+    private long demand;
+    private ByteBuffer pending;
+    private boolean upstreamRequested;
+    private boolean sliceInFlight;
+    private boolean upstreamTerminated;
+    private Throwable upstreamError;
+    private boolean done;
+    private boolean draining;
+
+    ThrottlingSubscriber(Subscriber<? super ByteBuffer> downstream, BandwidthThrottler throttler) {
+        this.downstream = downstream;
+        this.throttler = throttler;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        downstream.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    synchronized (lock) {
+                        upstreamTerminate(new IllegalArgumentException("Demand must be positive, but was " + n));
+                    }
+                    upstream.cancel();
+                } else {
+                    synchronized (lock) {
+                        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (lock) {
+                    done = true;
+                    pending = null;
+                }
+                upstream.cancel();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(ByteBuffer byteBuffer) {
+        synchronized (lock) {
+            upstreamRequested = false;
+            // Slicing moves the position, so work on a view rather than the publisher's buffer
+            pending = byteBuffer.duplicate();
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        synchronized (lock) {
+            upstreamTerminate(t);
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            upstreamTerminate(null);
+        }
+        drain();
+    }
+
+    private void upstreamTerminate(Throwable error) {
+        upstreamTerminated = true;
+        if (error != null) {
+            upstreamError = error;
+            pending = null;
+        }
+    }
+
+    /**
+     * Delivers as many slices, and finally the terminal signal, as demand and the throttler allow. Only one thread drains at a
+     * time; a thread that finds another one draining leaves it to pick up the state change on its next iteration.
+     */
+    private void drain() {
+        synchronized (lock) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            ByteBuffer slice = null;
+            boolean requestUpstream = false;
+            boolean terminate = false;
+            Throwable error;
+
+            synchronized (lock) {
+                error = upstreamError;
+                if (pending != null && !pending.hasRemaining()) {
+                    pending = null;
+                }
+
+                if (done || sliceInFlight) {
+                    draining = false;
+                    return;
+                } else if (pending != null) {
+                    if (demand > 0) {
+                        slice = nextSlice();
+                        demand--;
+                        sliceInFlight = true;
+                    }
+                } else if (upstreamTerminated) {
+                    done = true;
+                    terminate = true;
+                } else if (demand > 0 && !upstreamRequested) {
+                    upstreamRequested = true;
+                    requestUpstream = true;
+                }
+
+                if (slice == null && !terminate && !requestUpstream) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            if (slice != null) {
+                long delayNanos = throttler.reserve(slice.remaining());
+                if (delayNanos > 0) {
+                    ByteBuffer delayedSlice = slice;
+                    try {
+                        throttler.schedule(() -> deliver(delayedSlice), delayNanos);
+                    } catch (RejectedExecutionException e) {
+                        synchronized (lock) {
+                            sliceInFlight = false;
+                            upstreamTerminate(SdkClientException.create("Transfer manager has been closed", e));
+                        }
+                        upstream.cancel();
+                    }
+                } else {
+                    deliver(slice);
+                }
+            } else if (terminate) {
+                if (error != null) {
+                    downstream.onError(error);
+                } else {
+                    downstream.onComplete();
+                }
+            } else {
+                upstream.request(1);
+            }
+        }
+    }
+
+    private void deliver(ByteBuffer slice) {
+        boolean cancelled;
+        synchronized (lock) {
+            cancelled = done;
+        }
+        if (!cancelled) {
+            downstream.onNext(slice);
+        }
+        synchronized (lock) {
+            sliceInFlight = false;
+        }
+        drain();
+    }
+
+    private ByteBuffer nextSlice() {
+        int sliceSize = Math.min(pending.remaining(), throttler.sliceSizeInBytes());
+        ByteBuffer slice = pending.duplicate();
+        slice.limit(slice.position() + sliceSize);
+        pending.position(pending.position() + sliceSize);
+        return slice.slice();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.bandwidth;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link BandwidthLimit} backed by a token bucket holding up to one second worth of bytes.
+ * <p>
+ * Callers {@link #reserve(long) reserve} bytes before sending them. A reservation always succeeds, but may leave the bucket
+ * in debt; the caller is told how long to wait for the debt to be repaid. Because every reservation queues behind the debt
+ * left by the previous ones, callers are served in the order in which they reserve, which is what makes concurrent
+ * transfers that reserve one small slice at a time share the bandwidth evenly.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class TokenBucketBandwidthLimit implements BandwidthLimit {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int MIN_SLICE_SIZE_IN_BYTES = 1024;
+    private static final int MAX_SLICE_SIZE_IN_BYTES = 64 * 1024;
+
+    private final LongSupplier nanoClock;
+
+    private long bytesPerSecond;
+    private double availableBytes;
+    private long lastRefillNanos;
+
+    public TokenBucketBandwidthLimit(long bytesPerSecond) {
+        this(bytesPerSecond, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    TokenBucketBandwidthLimit(long bytesPerSecond, LongSupplier nanoClock) {
+        this.bytesPerSecond = Validate.isPositive(bytesPerSecond, "bytesPerSecond");
+        this.nanoClock = nanoClock;
+        this.availableBytes = bytesPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public synchronized long bytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    @Override
+    public synchronized void updateBytesPerSecond(long bytesPerSecond) {
+        Validate.isPositive(bytesPerSecond, "bytesPerSecond");
+        refill();
+        this.bytesPerSecond = bytesPerSecond;
+        this.availableBytes = Math.min(availableBytes, bytesPerSecond);
+    }
+
+    /**
+     * Takes {@code bytes} from the bucket.
+     *
+     * @return the number of nanoseconds the caller must wait before sending the bytes, 0 if they can be sent immediately.
+     */
+    public synchronized long reserve(long bytes) {
+        refill();
+        availableBytes -= bytes;
+        if (availableBytes >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-availableBytes * NANOS_PER_SECOND / bytesPerSecond);
+    }
+
+    /**
+     * The largest number of bytes that should be reserved at once: roughly 50ms worth of bytes, so that a rate change or a
+     * new transfer takes effect quickly, bounded to keep the scheduling overhead low at high rates.
+     */
+    public synchronized int sliceSizeInBytes() {
+        long slice = bytesPerSecond / 20;
+        return (int) Math.max(MIN_SLICE_SIZE_IN_BYTES, Math.min(MAX_SLICE_SIZE_IN_BYTES, slice));
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsedNanos = now - lastRefillNanos;
+        lastRefillNanos = now;
+        availableBytes = Math.min(bytesPerSecond, availableBytes + (double) elapsedNanos * bytesPerSecond / NANOS_PER_SECOND);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BandwidthLimit")
+                       .add("bytesPerSecond", bytesPerSecond())
+                       .build();
+    }
+}
@@ -21,11 +21,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -45,11 +47,13 @@ public final class DownloadFileRequest
     private final Path destination;
     private final GetObjectRequest getObjectRequest;
     private final List<TransferListener> transferListeners;
+    private final BandwidthLimit bandwidthLimit;
 
     private DownloadFileRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
         this.getObjectRequest = Validate.paramNotNull(builder.getObjectRequest, "getObjectRequest");
         this.transferListeners = builder.transferListeners;
+        this.bandwidthLimit = builder.bandwidthLimit;
     }
 
     /**
@@ -92,6 +96,15 @@ public final class DownloadFileRequest
         return transferListeners;
     }
 
+    /**
+     * @return the {@link BandwidthLimit} applied to this transfer, on top of the limit of the {@link S3TransferManager}, if any.
+     * @see Builder#bandwidthLimit(BandwidthLimit)
+     */
+    @Override
+    public Optional<BandwidthLimit> bandwidthLimit() {
+        return Optional.ofNullable(bandwidthLimit);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -109,7 +122,10 @@ public final class DownloadFileRequest
         if (!Objects.equals(getObjectRequest, that.getObjectRequest)) {
             return false;
         }
-        return Objects.equals(transferListeners, that.transferListeners);
+        if (!Objects.equals(transferListeners, that.transferListeners)) {
+            return false;
+        }
+        return Objects.equals(bandwidthLimit, that.bandwidthLimit);
     }
 
     @Override
@@ -117,6 +133,7 @@ public final class DownloadFileRequest
         int result = destination != null ? destination.hashCode() : 0;
         result = 31 * result + (getObjectRequest != null ? getObjectRequest.hashCode() : 0);
         result = 31 * result + (transferListeners != null ? transferListeners.hashCode() : 0);
+        result = 31 * result + (bandwidthLimit != null ? bandwidthLimit.hashCode() : 0);
         return result;
     }
 
@@ -126,6 +143,7 @@ public final class DownloadFileRequest
                        .add("destination", destination)
                        .add("getObjectRequest", getObjectRequest)
                        .add("transferListeners", transferListeners)
+                       .add("bandwidthLimit", bandwidthLimit)
                        .build();
     }
 
@@ -209,12 +227,24 @@ public final class DownloadFileRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * Limits the bandwidth used by this transfer. If the {@link S3TransferManager} is configured with a
+         * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit) bandwidth limit} as well, the transfer is held to the
+         * stricter of the two. The same {@link BandwidthLimit} may be set on several requests to cap them together.
+         *
+         * @param bandwidthLimit the bandwidth limit
+         * @return Returns a reference to this object so that method calls can be chained together.
+         * @see BandwidthLimit
+         */
+        Builder bandwidthLimit(BandwidthLimit bandwidthLimit);
+
     }
 
     private static final class DefaultBuilder implements Builder {
         private Path destination;
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
+        private BandwidthLimit bandwidthLimit;
 
         private DefaultBuilder() {
         }
@@ -223,6 +253,7 @@ public final class DownloadFileRequest
             this.destination = downloadFileRequest.destination;
             this.getObjectRequest = downloadFileRequest.getObjectRequest;
             this.transferListeners = downloadFileRequest.transferListeners;
+            this.bandwidthLimit = downloadFileRequest.bandwidthLimit;
         }
 
         @Override
@@ -276,6 +307,20 @@ public final class DownloadFileRequest
             transferListeners(transferListeners);
         }
 
+        @Override
+        public DefaultBuilder bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
+        public BandwidthLimit getBandwidthLimit() {
+            return bandwidthLimit;
+        }
+
+        public void setBandwidthLimit(BandwidthLimit bandwidthLimit) {
+            bandwidthLimit(bandwidthLimit);
+        }
+
         @Override
         public DownloadFileRequest build() {
             return new DownloadFileRequest(this);
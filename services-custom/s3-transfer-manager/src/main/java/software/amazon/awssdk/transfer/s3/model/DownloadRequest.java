@@ -20,12 +20,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.model.DownloadRequest.TypedBuilder;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
@@ -48,11 +50,13 @@ public final class DownloadRequest<ReturnT>
     private final AsyncResponseTransformer<GetObjectResponse, ReturnT> responseTransformer;
     private final GetObjectRequest getObjectRequest;
     private final List<TransferListener> transferListeners;
+    private final BandwidthLimit bandwidthLimit;
 
     private DownloadRequest(DefaultTypedBuilder<ReturnT> builder) {
         this.responseTransformer = Validate.paramNotNull(builder.responseTransformer, "responseTransformer");
         this.getObjectRequest = Validate.paramNotNull(builder.getObjectRequest, "getObjectRequest");
         this.transferListeners = builder.transferListeners;
+        this.bandwidthLimit = builder.bandwidthLimit;
     }
 
     /**
@@ -96,6 +100,15 @@ public final class DownloadRequest<ReturnT>
         return transferListeners;
     }
 
+    /**
+     * @return the {@link BandwidthLimit} applied to this transfer, on top of the limit of the {@link S3TransferManager}, if any.
+     * @see TypedBuilder#bandwidthLimit(BandwidthLimit)
+     */
+    @Override
+    public Optional<BandwidthLimit> bandwidthLimit() {
+        return Optional.ofNullable(bandwidthLimit);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -113,7 +126,10 @@ public final class DownloadRequest<ReturnT>
         if (!Objects.equals(getObjectRequest, that.getObjectRequest)) {
             return false;
         }
-        return Objects.equals(transferListeners, that.transferListeners);
+        if (!Objects.equals(transferListeners, that.transferListeners)) {
+            return false;
+        }
+        return Objects.equals(bandwidthLimit, that.bandwidthLimit);
     }
 
     @Override
@@ -121,6 +137,7 @@ public final class DownloadRequest<ReturnT>
         int result = responseTransformer != null ? responseTransformer.hashCode() : 0;
         result = 31 * result + (getObjectRequest != null ? getObjectRequest.hashCode() : 0);
         result = 31 * result + (transferListeners != null ? transferListeners.hashCode() : 0);
+        result = 31 * result + (bandwidthLimit != null ? bandwidthLimit.hashCode() : 0);
         return result;
     }
 
@@ -130,6 +147,7 @@ public final class DownloadRequest<ReturnT>
                        .add("responseTransformer", responseTransformer)
                        .add("getObjectRequest", getObjectRequest)
                        .add("transferListeners", transferListeners)
+                       .add("bandwidthLimit", bandwidthLimit)
                        .build();
     }
 
@@ -192,6 +210,17 @@ public final class DownloadRequest<ReturnT>
          */
         UntypedBuilder addTransferListener(TransferListener transferListener);
 
+        /**
+         * Limits the bandwidth used by this transfer. If the {@link S3TransferManager} is configured with a
+         * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit) bandwidth limit} as well, the transfer is held to the
+         * stricter of the two. The same {@link BandwidthLimit} may be set on several requests to cap them together.
+         *
+         * @param bandwidthLimit the bandwidth limit
+         * @return Returns a reference to this object so that method calls can be chained together.
+         * @see BandwidthLimit
+         */
+        UntypedBuilder bandwidthLimit(BandwidthLimit bandwidthLimit);
+
         /**
          * Specifies the {@link AsyncResponseTransformer} that should be used for the download. This method also infers the
          * generic type of {@link DownloadRequest} to create, inferred from the second type parameter of the provided {@link
@@ -210,6 +239,7 @@ public final class DownloadRequest<ReturnT>
     private static final class DefaultUntypedBuilder implements UntypedBuilder {
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
+        private BandwidthLimit bandwidthLimit;
 
         private DefaultUntypedBuilder() {
         }
@@ -243,11 +273,26 @@ public final class DownloadRequest<ReturnT>
             transferListeners(transferListeners);
         }
 
+        @Override
+        public UntypedBuilder bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
+        public BandwidthLimit getBandwidthLimit() {
+            return bandwidthLimit;
+        }
+
+        public void setBandwidthLimit(BandwidthLimit bandwidthLimit) {
+            bandwidthLimit(bandwidthLimit);
+        }
+
         @Override
         public <T> TypedBuilder<T> responseTransformer(AsyncResponseTransformer<GetObjectResponse, T> responseTransformer) {
             return new DefaultTypedBuilder<T>()
                 .getObjectRequest(getObjectRequest)
                 .transferListeners(transferListeners)
+                .bandwidthLimit(bandwidthLimit)
                 .responseTransformer(responseTransformer);
         }
     }
@@ -306,6 +351,17 @@ public final class DownloadRequest<ReturnT>
          */
         TypedBuilder<T> addTransferListener(TransferListener transferListener);
 
+        /**
+         * Limits the bandwidth used by this transfer. If the {@link S3TransferManager} is configured with a
+         * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit) bandwidth limit} as well, the transfer is held to the
+         * stricter of the two. The same {@link BandwidthLimit} may be set on several requests to cap them together.
+         *
+         * @param bandwidthLimit the bandwidth limit
+         * @return Returns a reference to this object so that method calls can be chained together.
+         * @see BandwidthLimit
+         */
+        TypedBuilder<T> bandwidthLimit(BandwidthLimit bandwidthLimit);
+
         /**
          * Specifies the {@link AsyncResponseTransformer} that should be used for the download. The generic type used is
          * constrained by the {@link UntypedBuilder#responseTransformer(AsyncResponseTransformer)} that was previously used to
@@ -321,6 +377,7 @@ public final class DownloadRequest<ReturnT>
     private static class DefaultTypedBuilder<T> implements TypedBuilder<T> {
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
+        private BandwidthLimit bandwidthLimit;
         private AsyncResponseTransformer<GetObjectResponse, T> responseTransformer;
 
         private DefaultTypedBuilder() {
@@ -330,6 +387,7 @@ public final class DownloadRequest<ReturnT>
             this.getObjectRequest = request.getObjectRequest;
             this.responseTransformer = request.responseTransformer;
             this.transferListeners = request.transferListeners;
+            this.bandwidthLimit = request.bandwidthLimit;
         }
 
         @Override
@@ -367,6 +425,20 @@ public final class DownloadRequest<ReturnT>
             transferListeners(transferListeners);
         }
 
+        @Override
+        public TypedBuilder<T> bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
+        public BandwidthLimit getBandwidthLimit() {
+            return bandwidthLimit;
+        }
+
+        public void setBandwidthLimit(BandwidthLimit bandwidthLimit) {
+            bandwidthLimit(bandwidthLimit);
+        }
+
         @Override
         public DownloadRequest<T> build() {
             return new DownloadRequest<>(this);
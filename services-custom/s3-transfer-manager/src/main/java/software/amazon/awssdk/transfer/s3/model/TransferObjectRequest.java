@@ -16,7 +16,9 @@
 package software.amazon.awssdk.transfer.s3.model;
 
 import java.util.List;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 
 /**
@@ -31,4 +33,11 @@ import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 public interface TransferObjectRequest extends TransferRequest {
 
     List<TransferListener> transferListeners();
+
+    /**
+     * @return the {@link BandwidthLimit} applied to this transfer, on top of the limit of the transfer manager, if any.
+     */
+    default Optional<BandwidthLimit> bandwidthLimit() {
+        return Optional.empty();
+    }
 }
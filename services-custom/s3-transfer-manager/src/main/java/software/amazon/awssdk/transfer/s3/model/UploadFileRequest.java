@@ -23,11 +23,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -48,11 +50,13 @@ public final class UploadFileRequest
     private final PutObjectRequest putObjectRequest;
     private final Path source;
     private final List<TransferListener> listeners;
+    private final BandwidthLimit bandwidthLimit;
 
     private UploadFileRequest(DefaultBuilder builder) {
         this.putObjectRequest = paramNotNull(builder.putObjectRequest, "putObjectRequest");
         this.source = paramNotNull(builder.source, "source");
         this.listeners = builder.listeners;
+        this.bandwidthLimit = builder.bandwidthLimit;
     }
 
     /**
@@ -79,6 +83,15 @@ public final class UploadFileRequest
         return listeners;
     }
 
+    /**
+     * @return the {@link BandwidthLimit} applied to this transfer, on top of the limit of the {@link S3TransferManager}, if any.
+     * @see Builder#bandwidthLimit(BandwidthLimit)
+     */
+    @Override
+    public Optional<BandwidthLimit> bandwidthLimit() {
+        return Optional.ofNullable(bandwidthLimit);
+    }
+
     /**
      * Creates a builder that can be used to create a {@link UploadFileRequest}.
      *
@@ -114,7 +127,10 @@ public final class UploadFileRequest
         if (!Objects.equals(source, that.source)) {
             return false;
         }
-        return Objects.equals(listeners, that.listeners);
+        if (!Objects.equals(listeners, that.listeners)) {
+            return false;
+        }
+        return Objects.equals(bandwidthLimit, that.bandwidthLimit);
     }
 
     @Override
@@ -122,6 +138,7 @@ public final class UploadFileRequest
         int result = putObjectRequest != null ? putObjectRequest.hashCode() : 0;
         result = 31 * result + (source != null ? source.hashCode() : 0);
         result = 31 * result + (listeners != null ? listeners.hashCode() : 0);
+        result = 31 * result + (bandwidthLimit != null ? bandwidthLimit.hashCode() : 0);
         return result;
     }
 
@@ -131,6 +148,7 @@ public final class UploadFileRequest
                        .add("putObjectRequest", putObjectRequest)
                        .add("source", source)
                        .add("configuration", listeners)
+                       .add("bandwidthLimit", bandwidthLimit)
                        .build();
     }
 
@@ -210,12 +228,24 @@ public final class UploadFileRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * Limits the bandwidth used by this transfer. If the {@link S3TransferManager} is configured with a
+         * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit) bandwidth limit} as well, the transfer is held to the
+         * stricter of the two. The same {@link BandwidthLimit} may be set on several requests to cap them together.
+         *
+         * @param bandwidthLimit the bandwidth limit
+         * @return Returns a reference to this object so that method calls can be chained together.
+         * @see BandwidthLimit
+         */
+        Builder bandwidthLimit(BandwidthLimit bandwidthLimit);
+
     }
 
     private static class DefaultBuilder implements Builder {
         private PutObjectRequest putObjectRequest;
         private Path source;
         private List<TransferListener> listeners;
+        private BandwidthLimit bandwidthLimit;
 
         private DefaultBuilder() {
         }
@@ -224,6 +254,7 @@ public final class UploadFileRequest
             this.source = uploadFileRequest.source;
             this.putObjectRequest = uploadFileRequest.putObjectRequest;
             this.listeners = uploadFileRequest.listeners;
+            this.bandwidthLimit = uploadFileRequest.bandwidthLimit;
         }
 
         @Override
@@ -277,6 +308,20 @@ public final class UploadFileRequest
             transferListeners(listeners);
         }
 
+        @Override
+        public Builder bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
+        public BandwidthLimit getBandwidthLimit() {
+            return bandwidthLimit;
+        }
+
+        public void setBandwidthLimit(BandwidthLimit bandwidthLimit) {
+            bandwidthLimit(bandwidthLimit);
+        }
+
         @Override
         public UploadFileRequest build() {
             return new UploadFileRequest(this);
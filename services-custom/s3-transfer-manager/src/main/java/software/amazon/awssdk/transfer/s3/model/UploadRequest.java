@@ -21,12 +21,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -47,11 +49,13 @@ public final class UploadRequest
     private final PutObjectRequest putObjectRequest;
     private final AsyncRequestBody requestBody;
     private final List<TransferListener> listeners;
+    private final BandwidthLimit bandwidthLimit;
 
     private UploadRequest(DefaultBuilder builder) {
         this.putObjectRequest = paramNotNull(builder.putObjectRequest, "putObjectRequest");
         this.requestBody = paramNotNull(builder.requestBody, "requestBody");
         this.listeners = builder.listeners;
+        this.bandwidthLimit = builder.bandwidthLimit;
     }
 
     /**
@@ -78,6 +82,15 @@ public final class UploadRequest
         return listeners;
     }
 
+    /**
+     * @return the {@link BandwidthLimit} applied to this transfer, on top of the limit of the {@link S3TransferManager}, if any.
+     * @see Builder#bandwidthLimit(BandwidthLimit)
+     */
+    @Override
+    public Optional<BandwidthLimit> bandwidthLimit() {
+        return Optional.ofNullable(bandwidthLimit);
+    }
+
     /**
      * Creates a builder that can be used to create a {@link UploadRequest}.
      *
@@ -113,7 +126,10 @@ public final class UploadRequest
         if (!Objects.equals(requestBody, that.requestBody)) {
             return false;
         }
-        return Objects.equals(listeners, that.listeners);
+        if (!Objects.equals(listeners, that.listeners)) {
+            return false;
+        }
+        return Objects.equals(bandwidthLimit, that.bandwidthLimit);
     }
 
     @Override
@@ -121,6 +137,7 @@ public final class UploadRequest
         int result = putObjectRequest != null ? putObjectRequest.hashCode() : 0;
         result = 31 * result + (requestBody != null ? requestBody.hashCode() : 0);
         result = 31 * result + (listeners != null ? listeners.hashCode() : 0);
+        result = 31 * result + (bandwidthLimit != null ? bandwidthLimit.hashCode() : 0);
         return result;
     }
 
@@ -130,6 +147,7 @@ public final class UploadRequest
                        .add("putObjectRequest", putObjectRequest)
                        .add("requestBody", requestBody)
                        .add("configuration", listeners)
+                       .add("bandwidthLimit", bandwidthLimit)
                        .build();
     }
 
@@ -196,6 +214,17 @@ public final class UploadRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * Limits the bandwidth used by this transfer. If the {@link S3TransferManager} is configured with a
+         * {@link S3TransferManager.Builder#bandwidthLimit(BandwidthLimit) bandwidth limit} as well, the transfer is held to the
+         * stricter of the two. The same {@link BandwidthLimit} may be set on several requests to cap them together.
+         *
+         * @param bandwidthLimit the bandwidth limit
+         * @return Returns a reference to this object so that method calls can be chained together.
+         * @see BandwidthLimit
+         */
+        Builder bandwidthLimit(BandwidthLimit bandwidthLimit);
+
         /**
          * @return The built request.
          */
@@ -207,6 +236,7 @@ public final class UploadRequest
         private PutObjectRequest putObjectRequest;
         private AsyncRequestBody requestBody;
         private List<TransferListener> listeners;
+        private BandwidthLimit bandwidthLimit;
 
         private DefaultBuilder() {
         }
@@ -215,6 +245,7 @@ public final class UploadRequest
             this.putObjectRequest = uploadRequest.putObjectRequest;
             this.requestBody = uploadRequest.requestBody;
             this.listeners = uploadRequest.listeners;
+            this.bandwidthLimit = uploadRequest.bandwidthLimit;
         }
 
         @Override
@@ -268,6 +299,20 @@ public final class UploadRequest
             transferListeners(listeners);
         }
 
+        @Override
+        public Builder bandwidthLimit(BandwidthLimit bandwidthLimit) {
+            this.bandwidthLimit = bandwidthLimit;
+            return this;
+        }
+
+        public BandwidthLimit getBandwidthLimit() {
+            return bandwidthLimit;
+        }
+
+        public void setBandwidthLimit(BandwidthLimit bandwidthLimit) {
+            bandwidthLimit(bandwidthLimit);
+        }
+
         @Override
         public UploadRequest build() {
             return new UploadRequest(this);
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.bandwidth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class BandwidthThrottlerTest {
+    private static final int BYTES_PER_SECOND = 64 * 1024;
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void create_noLimit_shouldReturnEmpty() {
+        assertThat(BandwidthThrottler.create(scheduler, null, null)).isEmpty();
+    }
+
+    @Test
+    void create_customLimitImplementation_shouldThrow() {
+        BandwidthLimit custom = new BandwidthLimit() {
+            @Override
+            public long bytesPerSecond() {
+                return 1;
+            }
+
+            @Override
+            public void updateBytesPerSecond(long bytesPerSecond) {
+            }
+        };
+
+        assertThatThrownBy(() -> BandwidthThrottler.create(scheduler, custom)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void throttle_requestBody_shouldDeliverAllBytesInOrderInSlices() {
+        byte[] content = bytes(BYTES_PER_SECOND + BYTES_PER_SECOND / 2);
+        BandwidthLimit limit = BandwidthLimit.create(BYTES_PER_SECOND);
+        BandwidthThrottler throttler = BandwidthThrottler.create(scheduler, limit).get();
+
+        AsyncRequestBody throttled = throttler.throttle(AsyncRequestBody.fromBytes(content));
+        List<ByteBuffer> slices = new ArrayList<>();
+        long start = System.nanoTime();
+        throttled.subscribe(slices::add).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(throttled.contentLength()).contains((long) content.length);
+        assertThat(slices).allSatisfy(slice -> assertThat(slice.remaining()).isLessThanOrEqualTo(throttler.sliceSizeInBytes()));
+        assertThat(concat(slices)).isEqualTo(content);
+        // The first second worth of bytes is a burst, the remaining half second is throttled
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(400);
+    }
+
+    @Test
+    void throttle_multipleLimits_shouldUseSmallestSlice() {
+        BandwidthThrottler throttler = BandwidthThrottler.create(scheduler,
+                                                                 BandwidthLimit.create(BYTES_PER_SECOND * 1024L),
+                                                                 BandwidthLimit.create(BYTES_PER_SECOND)).get();
+
+        assertThat(throttler.sliceSizeInBytes()).isEqualTo(BYTES_PER_SECOND / 20);
+    }
+
+    @Test
+    void throttle_splitRequestBody_shouldThrottleEachPart() {
+        byte[] content = bytes(BYTES_PER_SECOND);
+        BandwidthThrottler throttler = BandwidthThrottler.create(scheduler, BandwidthLimit.create(BYTES_PER_SECOND)).get();
+
+        List<AsyncRequestBody> parts = new ArrayList<>();
+        throttler.throttle(AsyncRequestBody.fromBytes(content))
+                 .split(b -> b.chunkSizeInBytes(16 * 1024L).bufferSizeInBytes(64 * 1024L))
+                 .subscribe(parts::add)
+                 .join();
+        List<ByteBuffer> slices = new ArrayList<>();
+        for (AsyncRequestBody part : parts) {
+            part.subscribe(slices::add).join();
+        }
+
+        assertThat(parts).hasSize(4);
+
+        assertThat(slices).allSatisfy(slice -> assertThat(slice.remaining()).isLessThanOrEqualTo(throttler.sliceSizeInBytes()));
+        assertThat(concat(slices)).isEqualTo(content);
+    }
+
+    @Test
+    void throttle_schedulerShutDown_shouldFailStream() {
+        BandwidthThrottler throttler = BandwidthThrottler.create(scheduler, BandwidthLimit.create(1024)).get();
+        scheduler.shutdownNow();
+
+        assertThatThrownBy(() -> throttler.throttle(AsyncRequestBody.fromBytes(bytes(4096))).subscribe(b -> { }).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static byte[] concat(List<ByteBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            byte[] bytes = BinaryUtils.copyAllBytesFrom(buffer);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.bandwidth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.transfer.s3.config.BandwidthLimit;
+
+class TokenBucketBandwidthLimitTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void create_nonPositiveRate_shouldThrow() {
+        assertThatThrownBy(() -> BandwidthLimit.create(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BandwidthLimit.create(1).updateBytesPerSecond(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reserve_withinBurst_shouldNotWait() {
+        TokenBucketBandwidthLimit limit = new TokenBucketBandwidthLimit(1000, clock::get);
+
+        assertThat(limit.reserve(600)).isZero();
+        assertThat(limit.reserve(400)).isZero();
+    }
+
+    @Test
+    void reserve_beyondBurst_shouldWaitForDebtToBeRepaid() {
+        TokenBucketBandwidthLimit limit = new TokenBucketBandwidthLimit(1000, clock::get);
+        limit.reserve(1000);
+
+        assertThat(limit.reserve(500)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        // Queues behind the previous reservation
+        assertThat(limit.reserve(500)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void reserve_afterIdle_shouldRefillUpToOneSecond() {
+        TokenBucketBandwidthLimit limit = new TokenBucketBandwidthLimit(1000, clock::get);
+        limit.reserve(1000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limit.reserve(1000)).isZero();
+        assertThat(limit.reserve(1)).isPositive();
+    }
+
+    @Test
+    void updateBytesPerSecond_shouldApplyToPendingDebt() {
+        TokenBucketBandwidthLimit limit = new TokenBucketBandwidthLimit(1000, clock::get);
+        limit.reserve(1000);
+        limit.updateBytesPerSecond(2000);
+
+        assertThat(limit.bytesPerSecond()).isEqualTo(2000);
+        assertThat(limit.reserve(1000)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void updateBytesPerSecond_lowerRate_shouldCapBurst() {
+        TokenBucketBandwidthLimit limit = new TokenBucketBandwidthLimit(1000, clock::get);
+        limit.updateBytesPerSecond(100);
+
+        assertThat(limit.reserve(100)).isZero();
+        assertThat(limit.reserve(100)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void sliceSizeInBytes_shouldBeBounded() {
+        assertThat(new TokenBucketBandwidthLimit(100, clock::get).sliceSizeInBytes()).isEqualTo(1024);
+        assertThat(new TokenBucketBandwidthLimit(200_000, clock::get).sliceSizeInBytes()).isEqualTo(10_000);
+        assertThat(new TokenBucketBandwidthLimit(1L << 40, clock::get).sliceSizeInBytes()).isEqualTo(64 * 1024);
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Signs CloudFront URLs and cookies with a canned policy, using a single private key and key pair ID.
+ * <p>
+ * Unlike {@link CloudFrontUtilities}, which takes the key with every request, a signer parses the key once and keeps one
+ * initialized {@link Signature} per thread that uses it, and builds the parts of the canned policy that only depend on the
+ * expiration date once for each expiration date. It is intended for applications that sign a large number of URLs with
+ * the same key, and should be created once and reused. Custom policies are supported by {@link CloudFrontUtilities}.
+ * <p>
+ * The URLs and cookies are the same as the ones {@link CloudFrontUtilities} returns for a {@code CannedSignerRequest}
+ * with the same parameters.
+ *
+ * <p><b>Example Usage</b>
+ * <p>
+ * {@snippet :
+ *     CloudFrontUrlSigner signer = CloudFrontUrlSigner.builder()
+ *                                                     .privateKey(keyFile)
+ *                                                     .keyPairId("myKeyPairId")
+ *                                                     .build();
+ *
+ *     Instant expirationDate = Instant.now().plus(Duration.ofDays(7));
+ *     List<SignedUrl> signedUrls = signer.signUrlsWithCannedPolicy(resourceUrls, expirationDate);
+ * }
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class CloudFrontUrlSigner {
+
+    private static final String SIGNATURE_ALGORITHM = "SHA1withRSA";
+    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
+    private static final String SIGNATURE_KEY = "CloudFront-Signature";
+    private static final String EXPIRES_KEY = "CloudFront-Expires";
+
+    /**
+     * The smallest number of URLs worth handing to another thread when signing a batch.
+     */
+    private static final int MIN_URLS_PER_TASK = 16;
+
+    private static final byte[] CANNED_POLICY_PREFIX = "{\"Statement\":[{\"Resource\":\"".getBytes(UTF_8);
+
+    private final PrivateKey privateKey;
+    private final String keyPairId;
+    private final Executor executor;
+    private final int parallelism;
+    private final ThreadLocal<Signature> signatures = ThreadLocal.withInitial(this::newSignature);
+
+    private volatile CannedPolicyTemplate lastTemplate;
+
+    private CloudFrontUrlSigner(DefaultBuilder builder) {
+        this.privateKey = Validate.paramNotNull(builder.privateKey, "privateKey");
+        this.keyPairId = Validate.paramNotNull(builder.keyPairId, "keyPairId");
+        this.executor = builder.executor != null ? builder.executor : ForkJoinPool.commonPool();
+        this.parallelism = builder.executor != null ? Runtime.getRuntime().availableProcessors()
+                                                    : ForkJoinPool.getCommonPoolParallelism() + 1;
+
+        // Fail fast if the key cannot be used for signing, rather than on the first URL.
+        signatures.get();
+    }
+
+    /**
+     * Create a builder that can be used to create a {@link CloudFrontUrlSigner}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Returns a signed URL with a canned policy that grants universal access to the given resource until the given date.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-creating-signed-url-canned-policy.html"
+     * >Creating a signed URL using a canned policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to sign.
+     * @param expirationDate The date after which the signed URL can no longer be used.
+     * @return A signed URL that will permit access to the resource.
+     */
+    public SignedUrl signUrlWithCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(resourceUrl, "resourceUrl");
+        return signUrl(resourceUrl, template(expirationDate));
+    }
+
+    /**
+     * Returns signed URLs with a canned policy that grant universal access to each of the given resources until the given
+     * date. Large batches are split between the caller's thread and the executor configured on the builder.
+     *
+     * @param resourceUrls The URLs of the resources to sign.
+     * @param expirationDate The date after which the signed URLs can no longer be used.
+     * @return The signed URLs, in the same order as the resource URLs.
+     * @see #signUrlWithCannedPolicy(String, Instant)
+     */
+    public List<SignedUrl> signUrlsWithCannedPolicy(List<String> resourceUrls, Instant expirationDate) {
+        Validate.paramNotNull(resourceUrls, "resourceUrls");
+        resourceUrls.forEach(url -> Validate.paramNotNull(url, "resourceUrl"));
+        CannedPolicyTemplate template = template(expirationDate);
+
+        SignedUrl[] signedUrls = new SignedUrl[resourceUrls.size()];
+        int tasks = Math.min(parallelism, resourceUrls.size() / MIN_URLS_PER_TASK);
+        if (tasks <= 1) {
+            signUrls(resourceUrls, template, signedUrls, 0, signedUrls.length);
+            return Collections.unmodifiableList(Arrays.asList(signedUrls));
+        }
+
+        int urlsPerTask = (signedUrls.length + tasks - 1) / tasks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(tasks - 1);
+        for (int start = urlsPerTask; start < signedUrls.length; start += urlsPerTask) {
+            int from = start;
+            int to = Math.min(start + urlsPerTask, signedUrls.length);
+            futures.add(CompletableFuture.runAsync(() -> signUrls(resourceUrls, template, signedUrls, from, to), executor));
+        }
+        signUrls(resourceUrls, template, signedUrls, 0, urlsPerTask);
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return Collections.unmodifiableList(Arrays.asList(signedUrls));
+    }
+
+    /**
+     * Generate signed cookies that allow access to the given resource path until the given date, by applying access
+     * restrictions from a canned policy.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-setting-signed-cookie-canned-policy.html"
+     * >Setting signed cookies using a canned policy</a>.
+     *
+     * @param resourceUrl The URL or path pattern of the resources to grant access to.
+     * @param expirationDate The date after which the signed cookies can no longer be used.
+     * @return The signed cookies with canned policy.
+     */
+    public CookiesForCannedPolicy cookiesForCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(resourceUrl, "resourceUrl");
+        CannedPolicyTemplate template = template(expirationDate);
+        return DefaultCookiesForCannedPolicy.builder()
+                                            .resourceUrl(resourceUrl)
+                                            .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + keyPairId)
+                                            .signatureHeaderValue(SIGNATURE_KEY + "=" + sign(resourceUrl, template))
+                                            .expiresHeaderValue(EXPIRES_KEY + "=" + template.epochSeconds)
+                                            .build();
+    }
+
+    private void signUrls(List<String> resourceUrls, CannedPolicyTemplate template, SignedUrl[] signedUrls, int from, int to) {
+        for (int i = from; i < to; i++) {
+            signedUrls[i] = signUrl(resourceUrls.get(i), template);
+        }
+    }
+
+    private SignedUrl signUrl(String resourceUrl, CannedPolicyTemplate template) {
+        return SigningUtils.buildSignedUrl(resourceUrl,
+                                           template.expiresParameter + sign(resourceUrl, template)
+                                           + "&Key-Pair-Id=" + keyPairId);
+    }
+
+    /**
+     * Signs the canned policy for the given resource, feeding the constant parts of the policy to the signature directly
+     * instead of building the policy string.
+     */
+    private String sign(String resourceUrl, CannedPolicyTemplate template) {
+        Signature signature = signatures.get();
+        try {
+            signature.update(CANNED_POLICY_PREFIX);
+            signature.update(resourceUrl.getBytes(UTF_8));
+            signature.update(template.policySuffix);
+            return SigningUtils.makeBytesUrlSafe(signature.sign());
+        } catch (SignatureException e) {
+            // Don't reuse a signature whose state is unknown
+            signatures.remove();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CannedPolicyTemplate template(Instant expirationDate) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        long epochSeconds = expirationDate.getEpochSecond();
+        CannedPolicyTemplate template = lastTemplate;
+        if (template == null || template.epochSeconds != epochSeconds) {
+            template = new CannedPolicyTemplate(epochSeconds);
+            lastTemplate = template;
+        }
+        return template;
+    }
+
+    private Signature newSignature() {
+        try {
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw SdkClientException.create("Could not initialize the signature with the private key", e);
+        }
+    }
+
+    /**
+     * The parts of a canned policy and of the signed URL query string that only depend on the expiration date.
+     */
+    private static final class CannedPolicyTemplate {
+        private final long epochSeconds;
+        private final byte[] policySuffix;
+        private final String expiresParameter;
+
+        private CannedPolicyTemplate(long epochSeconds) {
+            this.epochSeconds = epochSeconds;
+            this.policySuffix = ("\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":" + epochSeconds + "}}}]}")
+                .getBytes(UTF_8);
+            this.expiresParameter = "Expires=" + epochSeconds + "&Signature=";
+        }
+    }
+
+    @NotThreadSafe
+    @SdkPublicApi
+    public interface Builder {
+
+        /**
+         * Configure the private key used to sign the policies.
+         */
+        Builder privateKey(PrivateKey privateKey);
+
+        /**
+         * Configure the private key used to sign the policies, from a key file in PEM or DER format. The file is only read
+         * once, when this method is called.
+         */
+        Builder privateKey(Path keyFile) throws Exception;
+
+        /**
+         * Configure the ID of the key pair stored in the AWS account.
+         */
+        Builder keyPairId(String keyPairId);
+
+        /**
+         * Configure the executor used to sign large batches of URLs in parallel with the caller's thread. If not
+         * specified, {@link ForkJoinPool#commonPool()} is used.
+         */
+        Builder executor(Executor executor);
+
+        CloudFrontUrlSigner build();
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private PrivateKey privateKey;
+        private String keyPairId;
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder privateKey(PrivateKey privateKey) {
+            this.privateKey = privateKey;
+            return this;
+        }
+
+        @Override
+        public Builder privateKey(Path keyFile) throws Exception {
+            this.privateKey = SigningUtils.loadPrivateKey(keyFile);
+            return this;
+        }
+
+        @Override
+        public Builder keyPairId(String keyPairId) {
+            this.keyPairId = keyPairId;
+            return this;
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public CloudFrontUrlSigner build() {
+            return new CloudFrontUrlSigner(this);
+        }
+    }
+}
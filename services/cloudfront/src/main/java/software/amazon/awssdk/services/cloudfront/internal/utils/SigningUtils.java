@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.cloudfront.internal.utils;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidKeyException;
@@ -32,6 +33,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Pem;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Rsa;
+import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.StringUtils;
 
@@ -138,6 +141,24 @@ public final class SigningUtils {
         }
     }
 
+    /**
+     * Returns the signed URL for the given resource URL, by appending the given signing parameters (e.g.
+     * <tt>"Expires=...&amp;Signature=...&amp;Key-Pair-Id=..."</tt>) to its query string.
+     */
+    public static SignedUrl buildSignedUrl(String resourceUrl, String signingParameters) {
+        URI uri = URI.create(resourceUrl);
+        String protocol = uri.getScheme();
+        String encodedPath = uri.getRawPath()
+                             + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
+                             + signingParameters;
+        return DefaultSignedUrl.builder()
+                               .protocol(protocol)
+                               .domain(uri.getHost())
+                               .encodedPath(encodedPath)
+                               .url(protocol + "://" + uri.getAuthority() + encodedPath)
+                               .build();
+    }
+
     /**
      * Generate a policy document that describes custom access permissions to
      * apply via a private distribution's signed URL.
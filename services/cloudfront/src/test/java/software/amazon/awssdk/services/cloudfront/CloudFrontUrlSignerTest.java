@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+class CloudFrontUrlSignerTest {
+    private static final String RESOURCE_URL = "https://d1npcfkc2mojrf.cloudfront.net/s3ObjectKey";
+    private static final Instant EXPIRATION_DATE = LocalDate.of(2024, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private static KeyPair keyPair;
+    private static CloudFrontUrlSigner signer;
+    private static CloudFrontUtilities cloudFrontUtilities;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        keyPair = kpg.generateKeyPair();
+        signer = CloudFrontUrlSigner.builder()
+                                    .privateKey(keyPair.getPrivate())
+                                    .keyPairId("keyPairId")
+                                    .build();
+        cloudFrontUtilities = CloudFrontUtilities.create();
+    }
+
+    @Test
+    void signUrlWithCannedPolicy_producesSameUrlAsCloudFrontUtilities() {
+        String resourceUrl = "https://d1npcfkc2mojrf.cloudfront.net:65535/s3ObjectKey?a=b&c=d";
+        SignedUrl signedUrl = signer.signUrlWithCannedPolicy(resourceUrl, EXPIRATION_DATE);
+
+        assertThat(signedUrl.url()).isEqualTo(signedWithUtilities(resourceUrl, EXPIRATION_DATE).url());
+        assertThat(signedUrl.url()).startsWith(resourceUrl + "&Expires=1704067200&Signature=")
+                                   .endsWith("&Key-Pair-Id=keyPairId");
+    }
+
+    @Test
+    void signUrlWithCannedPolicy_signatureVerifiesAgainstCannedPolicy() throws Exception {
+        SignedUrl signedUrl = signer.signUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+
+        String url = signedUrl.url();
+        String urlSafeSignature = url.substring(url.indexOf("&Signature=") + "&Signature=".length(),
+                                                url.indexOf("&Key-Pair-Id"));
+        byte[] signatureBytes = Base64.getDecoder().decode(urlSafeSignature.replace('-', '+')
+                                                                           .replace('_', '=')
+                                                                           .replace('~', '/'));
+        Signature signature = Signature.getInstance("SHA1withRSA");
+        signature.initVerify(keyPair.getPublic());
+        signature.update(SigningUtils.buildCannedPolicy(RESOURCE_URL, EXPIRATION_DATE).getBytes(UTF_8));
+        assertThat(signature.verify(signatureBytes)).isTrue();
+    }
+
+    @Test
+    void signUrlWithCannedPolicy_withDifferentExpirationDates_usesEachExpirationDate() {
+        Instant otherExpirationDate = EXPIRATION_DATE.plusSeconds(60);
+
+        SignedUrl first = signer.signUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+        SignedUrl second = signer.signUrlWithCannedPolicy(RESOURCE_URL, otherExpirationDate);
+        SignedUrl third = signer.signUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+
+        assertThat(first.url()).isEqualTo(signedWithUtilities(RESOURCE_URL, EXPIRATION_DATE).url());
+        assertThat(second.url()).isEqualTo(signedWithUtilities(RESOURCE_URL, otherExpirationDate).url());
+        assertThat(third.url()).isEqualTo(first.url());
+    }
+
+    @Test
+    void signUrlsWithCannedPolicy_smallBatch_returnsUrlsInOrder() {
+        List<String> resourceUrls = resourceUrls(5);
+
+        List<SignedUrl> signedUrls = signer.signUrlsWithCannedPolicy(resourceUrls, EXPIRATION_DATE);
+
+        assertThat(signedUrls).extracting(SignedUrl::url)
+                              .containsExactlyElementsOf(urlsSignedWithUtilities(resourceUrls));
+    }
+
+    @Test
+    void signUrlsWithCannedPolicy_largeBatchWithExecutor_returnsUrlsInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CloudFrontUrlSigner parallelSigner = CloudFrontUrlSigner.builder()
+                                                                    .privateKey(keyPair.getPrivate())
+                                                                    .keyPairId("keyPairId")
+                                                                    .executor(executor)
+                                                                    .build();
+            List<String> resourceUrls = resourceUrls(100);
+
+            List<SignedUrl> signedUrls = parallelSigner.signUrlsWithCannedPolicy(resourceUrls, EXPIRATION_DATE);
+
+            assertThat(signedUrls).extracting(SignedUrl::url)
+                                  .containsExactlyElementsOf(urlsSignedWithUtilities(resourceUrls));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void signUrlsWithCannedPolicy_largeBatchWithDefaultExecutor_returnsUrlsInOrder() {
+        List<String> resourceUrls = resourceUrls(100);
+
+        List<SignedUrl> signedUrls = signer.signUrlsWithCannedPolicy(resourceUrls, EXPIRATION_DATE);
+
+        assertThat(signedUrls).extracting(SignedUrl::url)
+                              .containsExactlyElementsOf(urlsSignedWithUtilities(resourceUrls));
+    }
+
+    @Test
+    void signUrlsWithCannedPolicy_withNullResourceUrl_throwsException() {
+        List<String> resourceUrls = new ArrayList<>(resourceUrls(3));
+        resourceUrls.add(null);
+
+        assertThatThrownBy(() -> signer.signUrlsWithCannedPolicy(resourceUrls, EXPIRATION_DATE))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("resourceUrl");
+    }
+
+    @Test
+    void cookiesForCannedPolicy_producesSameCookiesAsCloudFrontUtilities() {
+        CookiesForCannedPolicy cookies = signer.cookiesForCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+        CookiesForCannedPolicy expected = cloudFrontUtilities.getCookiesForCannedPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                             .privateKey(keyPair.getPrivate())
+                                                                                             .keyPairId("keyPairId")
+                                                                                             .expirationDate(EXPIRATION_DATE));
+
+        assertThat(cookies).isEqualTo(expected);
+        assertThat(cookies.expiresHeaderValue()).isEqualTo("CloudFront-Expires=1704067200");
+    }
+
+    @Test
+    void build_withKeyThatCannotSignRsa_throwsException() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+        kpg.initialize(256);
+        KeyPair ecKeyPair = kpg.generateKeyPair();
+
+        assertThatThrownBy(() -> CloudFrontUrlSigner.builder()
+                                                    .privateKey(ecKeyPair.getPrivate())
+                                                    .keyPairId("keyPairId")
+                                                    .build())
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    void build_withoutKeyPairId_throwsException() {
+        assertThatThrownBy(() -> CloudFrontUrlSigner.builder().privateKey(keyPair.getPrivate()).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keyPairId");
+    }
+
+    private static List<String> resourceUrls(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> RESOURCE_URL + "/" + i)
+                        .collect(Collectors.toList());
+    }
+
+    private static List<String> urlsSignedWithUtilities(List<String> resourceUrls) {
+        return resourceUrls.stream()
+                           .map(url -> signedWithUtilities(url, EXPIRATION_DATE).url())
+                           .collect(Collectors.toList());
+    }
+
+    private static SignedUrl signedWithUtilities(String resourceUrl, Instant expirationDate) {
+        return cloudFrontUtilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(resourceUrl)
+                                                                      .privateKey(keyPair.getPrivate())
+                                                                      .keyPairId("keyPairId")
+                                                                      .expirationDate(expirationDate));
+    }
+}
@@ -18,9 +18,12 @@ package software.amazon.awssdk.services.rds;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import software.amazon.awssdk.annotations.Immutable;
+import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.CredentialUtils;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
@@ -35,8 +38,12 @@ import software.amazon.awssdk.services.rds.model.GenerateAuthenticationTokenRequ
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.OneCallerBlocks;
+import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
 
-@Immutable
+@ThreadSafe
 @SdkInternalApi
 final class DefaultRdsUtilities implements RdsUtilities {
     private static final Logger log = Logger.loggerFor(RdsUtilities.class);
@@ -44,10 +51,19 @@ final class DefaultRdsUtilities implements RdsUtilities {
     // The time the IAM token is good for. https://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/UsingWithRDS.IAMDBAuth.html
     private static final Duration EXPIRATION_DURATION = Duration.ofMinutes(15);
 
+    // A cached token starts being replaced this long before it expires, by one caller while the others keep using it...
+    private static final Duration PREFETCH_BEFORE_EXPIRATION = Duration.ofMinutes(5);
+
+    // ...and is no longer handed out this long before it expires, so that it can't expire before it is used.
+    private static final Duration STALE_BEFORE_EXPIRATION = Duration.ofMinutes(1);
+
+    private static final int MAX_CACHED_TOKENS = 100;
+
     private final Aws4Signer signer = Aws4Signer.create();
     private final Region region;
     private final IdentityProvider<? extends AwsCredentialsIdentity> credentialsProvider;
     private final Clock clock;
+    private final LruCache<TokenKey, CachedSupplier<String>> tokenCache;
 
     DefaultRdsUtilities(DefaultBuilder builder) {
         this(builder, Clock.systemUTC());
@@ -60,6 +76,9 @@ final class DefaultRdsUtilities implements RdsUtilities {
         this.credentialsProvider = builder.credentialsProvider;
         this.region = builder.region;
         this.clock = clock;
+        this.tokenCache = Boolean.FALSE.equals(builder.cacheAuthenticationTokens)
+                          ? null
+                          : LruCache.builder(this::newCachedToken).maxSize(MAX_CACHED_TOKENS).build();
     }
 
     /**
@@ -72,24 +91,72 @@ final class DefaultRdsUtilities implements RdsUtilities {
 
     @Override
     public String generateAuthenticationToken(GenerateAuthenticationTokenRequest request) {
+        AwsCredentials credentials = resolveCredentials(request);
+        TokenKey key = new TokenKey(request.hostname(), request.port(), request.username(), resolveRegion(request), credentials);
+
+        Instant now = Instant.now(clock);
+        Instant expirationTime = now.plus(EXPIRATION_DURATION);
+        // A token whose credentials expire within the stale margin would already be stale when cached
+        if (tokenCache == null || !usableUntil(key, expirationTime).minus(STALE_BEFORE_EXPIRATION).isAfter(now)) {
+            return generateToken(key, expirationTime);
+        }
+        return tokenCache.get(key).get();
+    }
+
+    @SdkTestInternalApi
+    int cachedTokenCount() {
+        return tokenCache == null ? 0 : tokenCache.size();
+    }
+
+    private CachedSupplier<String> newCachedToken(TokenKey key) {
+        return CachedSupplier.builder(() -> refreshToken(key))
+                             .prefetchStrategy(new OneCallerBlocks())
+                             .cachedValueName("RdsAuthenticationToken()")
+                             .clock(clock)
+                             .build();
+    }
+
+    private RefreshResult<String> refreshToken(TokenKey key) {
+        Instant expirationTime = Instant.now(clock).plus(EXPIRATION_DURATION);
+        String token = generateToken(key, expirationTime);
+        Instant usableUntil = usableUntil(key, expirationTime);
+
+        return RefreshResult.builder(token)
+                            .prefetchTime(usableUntil.minus(PREFETCH_BEFORE_EXPIRATION))
+                            .staleTime(usableUntil.minus(STALE_BEFORE_EXPIRATION))
+                            .build();
+    }
+
+    /**
+     * A token signed with temporary credentials stops working when they expire, even if that is before the token does.
+     */
+    private static Instant usableUntil(TokenKey key, Instant expirationTime) {
+        if (key.credentials instanceof AwsSessionCredentials) {
+            Instant credentialsExpiration = ((AwsSessionCredentials) key.credentials).expirationTime().orElse(null);
+            if (credentialsExpiration != null && credentialsExpiration.isBefore(expirationTime)) {
+                return credentialsExpiration;
+            }
+        }
+        return expirationTime;
+    }
+
+    private String generateToken(TokenKey key, Instant expirationTime) {
         SdkHttpFullRequest httpRequest = SdkHttpFullRequest.builder()
                                             .method(SdkHttpMethod.GET)
                                             .protocol("https")
-                                            .host(request.hostname())
-                                            .port(request.port())
+                                            .host(key.hostname)
+                                            .port(key.port)
                                             .encodedPath("/")
-                                            .putRawQueryParameter("DBUser", request.username())
+                                            .putRawQueryParameter("DBUser", key.username)
                                             .putRawQueryParameter("Action", "connect")
                                             .build();
 
-        Instant expirationTime = Instant.now(clock).plus(EXPIRATION_DURATION);
-
         Aws4PresignerParams presignRequest = Aws4PresignerParams.builder()
                                                 .signingClockOverride(clock)
                                                 .expirationTime(expirationTime)
-                                                .awsCredentials(resolveCredentials(request))
+                                                .awsCredentials(key.credentials)
                                                 .signingName("rds-db")
-                                                .signingRegion(resolveRegion(request))
+                                                .signingRegion(key.region)
                                                 .build();
 
         SdkHttpFullRequest fullRequest = signer.presign(httpRequest, presignRequest);
@@ -130,10 +197,57 @@ final class DefaultRdsUtilities implements RdsUtilities {
                 "object or RdsUtilities object");
     }
 
+    /**
+     * The parameters a token is generated from. Two requests with equal keys can be given the same token.
+     */
+    private static final class TokenKey {
+        private final String hostname;
+        private final int port;
+        private final String username;
+        private final Region region;
+        private final AwsCredentials credentials;
+
+        private TokenKey(String hostname, int port, String username, Region region, AwsCredentials credentials) {
+            this.hostname = hostname;
+            this.port = port;
+            this.username = username;
+            this.region = region;
+            this.credentials = credentials;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TokenKey that = (TokenKey) o;
+            return Objects.equals(hostname, that.hostname) &&
+                   port == that.port &&
+                   Objects.equals(username, that.username) &&
+                   Objects.equals(region, that.region) &&
+                   Objects.equals(credentials, that.credentials);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(hostname);
+            result = 31 * result + port;
+            result = 31 * result + Objects.hashCode(username);
+            result = 31 * result + Objects.hashCode(region);
+            result = 31 * result + Objects.hashCode(credentials);
+            return result;
+        }
+    }
+
     @SdkInternalApi
     static final class DefaultBuilder implements Builder {
         private Region region;
         private IdentityProvider<? extends AwsCredentialsIdentity> credentialsProvider;
+        private Boolean cacheAuthenticationTokens;
 
         DefaultBuilder() {
         }
@@ -157,6 +271,12 @@ final class DefaultRdsUtilities implements RdsUtilities {
             return this;
         }
 
+        @Override
+        public Builder cacheAuthenticationTokens(Boolean cacheAuthenticationTokens) {
+            this.cacheAuthenticationTokens = cacheAuthenticationTokens;
+            return this;
+        }
+
         /**
          * Construct a {@link RdsUtilities} object.
          */
@@ -110,6 +110,20 @@ public interface RdsUtilities {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Whether {@link RdsUtilities#generateAuthenticationToken} should cache the tokens it generates, and hand out the same
+         * token to every request for the same host, port, user, region and credentials until shortly before it expires. This
+         * avoids signing a new token for every connection when a connection pool opens many connections at once.
+         *
+         * <p>
+         * Tokens are cached by each {@link RdsUtilities} object, so the same object should be reused to benefit from the
+         * cache. By default, tokens are cached.
+         *
+         * @return This object for method chaining
+         */
+        default Builder cacheAuthenticationTokens(Boolean cacheAuthenticationTokens) {
+            throw new UnsupportedOperationException();
+        }
 
         /**
          * Create a {@link RdsUtilities}
@@ -4,12 +4,17 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAmount;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
@@ -164,4 +169,127 @@ public class DefaultRdsUtilitiesTest {
         })).isInstanceOf(IllegalArgumentException.class)
            .hasMessageContaining("CredentialProvider should be provided");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void cachedToken_isReusedUntilShortlyBeforeItExpires() {
+        AdjustableClock clock = new AdjustableClock(fixedClock.instant());
+        DefaultRdsUtilities rdsUtilities = new DefaultRdsUtilities(basicCredentialsBuilder(), clock);
+
+        String token = generateToken(rdsUtilities, "mySQLUser");
+
+        clock.tickForward(Duration.ofMinutes(9));
+        assertThat(generateToken(rdsUtilities, "mySQLUser")).isEqualTo(token);
+
+        clock.tickForward(Duration.ofMinutes(5).plusSeconds(1));
+        assertThat(generateToken(rdsUtilities, "mySQLUser")).isNotEqualTo(token)
+                                                            .contains("X-Amz-Date=20161107T175334Z");
+    }
+
+    @Test
+    public void cachedToken_isOnlyReusedForTheSameParameters() {
+        AdjustableClock clock = new AdjustableClock(fixedClock.instant());
+        DefaultRdsUtilities rdsUtilities = new DefaultRdsUtilities(basicCredentialsBuilder(), clock);
+
+        String token = generateToken(rdsUtilities, "mySQLUser");
+        clock.tickForward(Duration.ofSeconds(1));
+
+        assertThat(generateToken(rdsUtilities, "otherUser")).isNotEqualTo(token)
+                                                            .contains("DBUser=otherUser");
+    }
+
+    @Test
+    public void cachedToken_isNotReusedAfterItsCredentialsExpire() {
+        AdjustableClock clock = new AdjustableClock(fixedClock.instant());
+        AwsSessionCredentials credentials = AwsSessionCredentials.builder()
+                                                                 .accessKeyId("access_key")
+                                                                 .secretAccessKey("secret_key")
+                                                                 .sessionToken("session_token")
+                                                                 .expirationTime(clock.instant().plus(Duration.ofMinutes(3)))
+                                                                 .build();
+        DefaultBuilder utilitiesBuilder = (DefaultBuilder) RdsUtilities.builder()
+                                                                       .credentialsProvider(
+                                                                           StaticCredentialsProvider.create(credentials))
+                                                                       .region(Region.US_EAST_1);
+        DefaultRdsUtilities rdsUtilities = new DefaultRdsUtilities(utilitiesBuilder, clock);
+
+        String token = generateToken(rdsUtilities, "mySQLUser");
+
+        clock.tickForward(Duration.ofMinutes(2).plusSeconds(1));
+        assertThat(generateToken(rdsUtilities, "mySQLUser")).isNotEqualTo(token);
+    }
+
+    @Test
+    public void cachedToken_credentialsExpireWithinStaleMargin_isNotCached() {
+        AdjustableClock clock = new AdjustableClock(fixedClock.instant());
+        AwsSessionCredentials credentials = AwsSessionCredentials.builder()
+                                                                 .accessKeyId("access_key")
+                                                                 .secretAccessKey("secret_key")
+                                                                 .sessionToken("session_token")
+                                                                 .expirationTime(clock.instant().plus(Duration.ofSeconds(30)))
+                                                                 .build();
+        DefaultBuilder utilitiesBuilder = (DefaultBuilder) RdsUtilities.builder()
+                                                                       .credentialsProvider(
+                                                                           StaticCredentialsProvider.create(credentials))
+                                                                       .region(Region.US_EAST_1);
+        DefaultRdsUtilities rdsUtilities = new DefaultRdsUtilities(utilitiesBuilder, clock);
+
+        String token = generateToken(rdsUtilities, "mySQLUser");
+        clock.tickForward(Duration.ofSeconds(1));
+
+        assertThat(generateToken(rdsUtilities, "mySQLUser")).isNotEqualTo(token);
+        assertThat(rdsUtilities.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    public void cachingDisabled_generatesNewTokenEveryTime() {
+        AdjustableClock clock = new AdjustableClock(fixedClock.instant());
+        DefaultBuilder utilitiesBuilder = basicCredentialsBuilder();
+        utilitiesBuilder.cacheAuthenticationTokens(false);
+        DefaultRdsUtilities rdsUtilities = new DefaultRdsUtilities(utilitiesBuilder, clock);
+
+        String token = generateToken(rdsUtilities, "mySQLUser");
+        clock.tickForward(Duration.ofSeconds(1));
+
+        assertThat(generateToken(rdsUtilities, "mySQLUser")).isNotEqualTo(token);
+    }
+
+    private static DefaultBuilder basicCredentialsBuilder() {
+        return (DefaultBuilder) RdsUtilities.builder()
+                                            .credentialsProvider(StaticCredentialsProvider.create(
+                                                AwsBasicCredentials.create("access_key", "secret_key")))
+                                            .region(Region.US_EAST_1);
+    }
+
+    private static String generateToken(DefaultRdsUtilities rdsUtilities, String username) {
+        return rdsUtilities.generateAuthenticationToken(builder -> builder.username(username)
+                                                                          .hostname("host.us-east-1.amazonaws.com")
+                                                                          .port(3306));
+    }
+
+    private static final class AdjustableClock extends Clock {
+        private Instant time;
+
+        private AdjustableClock(Instant time) {
+            this.time = time;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return time;
+        }
+
+        public void tickForward(TemporalAmount amount) {
+            time = time.plus(amount);
+        }
+    }
+}
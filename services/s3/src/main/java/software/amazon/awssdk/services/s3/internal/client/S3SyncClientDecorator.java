@@ -24,11 +24,17 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionSyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ConditionalDecorator;
 
 @SdkInternalApi
 public class S3SyncClientDecorator {
+    public static final AttributeMap.Key<MultipartConfiguration> MULTIPART_CONFIGURATION_KEY =
+        new AttributeMap.Key<MultipartConfiguration>(MultipartConfiguration.class){};
+    public static final AttributeMap.Key<Boolean> MULTIPART_ENABLED_KEY =
+        new AttributeMap.Key<Boolean>(Boolean.class){};
 
     public S3SyncClientDecorator() {
     }
@@ -40,6 +46,12 @@ public class S3SyncClientDecorator {
         decorators.add(ConditionalDecorator.create(isCrossRegionEnabledSync(clientContextParams),
                                                    S3CrossRegionSyncClient::new));
 
+        decorators.add(ConditionalDecorator.create(
+            isMultipartEnable(clientContextParams),
+            client -> {
+                MultipartConfiguration multipartConfiguration = clientContextParams.get(MULTIPART_CONFIGURATION_KEY);
+                return MultipartS3Client.create(client, multipartConfiguration);
+            }));
         return ConditionalDecorator.decorate(base, decorators);
     }
 
@@ -47,4 +59,9 @@ public class S3SyncClientDecorator {
         Boolean crossRegionEnabled = clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED);
         return  client ->  crossRegionEnabled != null && crossRegionEnabled.booleanValue();
     }
+
+    private Predicate<S3Client> isMultipartEnable(AttributeMap clientContextParams) {
+        Boolean multipartEnabled = clientContextParams.get(MULTIPART_ENABLED_KEY);
+        return client -> multipartEnabled != null && multipartEnabled.booleanValue();
+    }
 }
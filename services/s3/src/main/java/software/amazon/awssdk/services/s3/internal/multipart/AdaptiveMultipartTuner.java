@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Chooses the number of parts to send concurrently and the size of those parts from the throughput and latency of the parts
+ * sent so far. One instance is shared by all the uploads of a client, so what is learnt from one upload carries over to the
+ * next.
+ * <p>
+ * Concurrency is tuned by hill climbing on the aggregate throughput: the limit is moved one step at a time, and keeps moving in
+ * the same direction as long as the throughput measured over the following window improves. When the throughput plateaus, the
+ * limit is stepped down, as more connections are not worth it; when it gets worse, the direction is reversed. A failed part
+ * halves the limit, since failures such as throttling usually mean the service or the network is overloaded.
+ * <p>
+ * Part sizes are chosen so that a part takes about two seconds to send on a single connection, which amortizes the
+ * per-request overhead on fast networks while keeping retries cheap on slow ones. The part size of an upload is fixed when it
+ * starts, so this only applies to the uploads started afterwards.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AdaptiveMultipartTuner {
+    private static final Logger log = Logger.loggerFor(AdaptiveMultipartTuner.class);
+
+    private static final long MIB = 1024L * 1024;
+    private static final long MAX_PART_SIZE_IN_BYTES = 5L * 1024 * MIB;
+    private static final long TARGET_PART_DURATION_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long MIN_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int INITIAL_CONCURRENCY = 4;
+    private static final double THROUGHPUT_TOLERANCE = 0.05;
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final long minimumPartSizeInBytes;
+    private final long apiCallBufferSizeInBytes;
+    private final int maxConcurrency;
+    private final LongSupplier nanoClock;
+
+    // All fields below are guarded by this
+    private int concurrencyLimit;
+    private int direction = 1;
+    private double previousWindowThroughput;
+    private long windowStartNanos;
+    private long windowBytes;
+    private int windowParts;
+    private double perConnectionBytesPerSecond;
+
+    public AdaptiveMultipartTuner(long minimumPartSizeInBytes, long apiCallBufferSizeInBytes) {
+        this(minimumPartSizeInBytes, apiCallBufferSizeInBytes, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AdaptiveMultipartTuner(long minimumPartSizeInBytes, long apiCallBufferSizeInBytes, LongSupplier nanoClock) {
+        this.minimumPartSizeInBytes = minimumPartSizeInBytes;
+        this.apiCallBufferSizeInBytes = apiCallBufferSizeInBytes;
+        // Parts are buffered in memory while they are sent, so the memory budget caps the concurrency
+        this.maxConcurrency = (int) Math.max(1, Math.min(Integer.MAX_VALUE, apiCallBufferSizeInBytes / minimumPartSizeInBytes));
+        this.nanoClock = nanoClock;
+        this.concurrencyLimit = Math.min(INITIAL_CONCURRENCY, maxConcurrency);
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return the number of parts of an upload that may currently be in flight at the same time.
+     */
+    public synchronized int concurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Returns the part size to use for a new upload: enough for a part to take about two seconds at the throughput observed on
+     * a single connection, but no less than the configured minimum part size, and no more than what the memory budget allows
+     * at the current concurrency.
+     */
+    public synchronized long partSizeInBytes() {
+        if (perConnectionBytesPerSecond <= 0) {
+            return minimumPartSizeInBytes;
+        }
+        long targetPartSize = (long) (perConnectionBytesPerSecond * TARGET_PART_DURATION_NANOS / TimeUnit.SECONDS.toNanos(1));
+        long maxPartSize = Math.min(MAX_PART_SIZE_IN_BYTES,
+                                    Math.max(minimumPartSizeInBytes, apiCallBufferSizeInBytes / concurrencyLimit));
+        long partSize = Math.min(maxPartSize, Math.max(minimumPartSizeInBytes, targetPartSize));
+        // Round to whole MiBs, so part sizes do not change on every upload because of measurement noise
+        return Math.max(minimumPartSizeInBytes, partSize / MIB * MIB);
+    }
+
+    /**
+     * Records a part of {@code bytes} bytes that was sent successfully in {@code latencyNanos}.
+     */
+    public synchronized void partCompleted(long bytes, long latencyNanos) {
+        if (latencyNanos > 0) {
+            double partThroughput = bytes * (double) TimeUnit.SECONDS.toNanos(1) / latencyNanos;
+            perConnectionBytesPerSecond = perConnectionBytesPerSecond <= 0
+                                          ? partThroughput
+                                          : SMOOTHING_FACTOR * partThroughput
+                                            + (1 - SMOOTHING_FACTOR) * perConnectionBytesPerSecond;
+        }
+
+        windowBytes += bytes;
+        windowParts++;
+
+        long now = nanoClock.getAsLong();
+        long windowNanos = now - windowStartNanos;
+        // Let every slot complete at least one part at the current limit before judging it
+        if (windowNanos < MIN_WINDOW_NANOS || windowParts < concurrencyLimit) {
+            return;
+        }
+
+        double throughput = windowBytes * (double) TimeUnit.SECONDS.toNanos(1) / windowNanos;
+        if (previousWindowThroughput > 0) {
+            if (throughput < previousWindowThroughput * (1 - THROUGHPUT_TOLERANCE)) {
+                direction = -direction;
+            } else if (throughput <= previousWindowThroughput * (1 + THROUGHPUT_TOLERANCE)) {
+                direction = -1;
+            }
+        }
+        int previousLimit = concurrencyLimit;
+        int newLimit = Math.max(1, Math.min(maxConcurrency, previousLimit + direction));
+        if (newLimit == previousLimit) {
+            // Bounced off a bound, probe the other way next time
+            direction = -direction;
+        }
+        concurrencyLimit = newLimit;
+        log.debug(() -> String.format("Measured %.0f bytes/s with %d parts in flight, moving to %d", throughput, previousLimit,
+                                      newLimit));
+
+        previousWindowThroughput = throughput;
+        windowStartNanos = now;
+        windowBytes = 0;
+        windowParts = 0;
+    }
+
+    /**
+     * Records a part that failed to be sent.
+     */
+    public synchronized void partFailed() {
+        concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+        direction = 1;
+        previousWindowThroughput = 0;
+        windowStartNanos = nanoClock.getAsLong();
+        windowBytes = 0;
+        windowParts = 0;
+    }
+}
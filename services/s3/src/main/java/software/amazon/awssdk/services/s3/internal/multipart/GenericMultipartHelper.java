@@ -72,6 +72,10 @@ public final class GenericMultipartHelper<RequestT extends S3Request, ResponseT
     }
 
     public long calculateOptimalPartSizeFor(long contentLengthOfSource, long partSizeInBytes) {
+        return optimalPartSizeFor(contentLengthOfSource, partSizeInBytes);
+    }
+
+    static long optimalPartSizeFor(long contentLengthOfSource, long partSizeInBytes) {
         double optimalPartSize = contentLengthOfSource / (double) MAX_UPLOAD_PARTS;
 
         optimalPartSize = Math.ceil(optimalPartSize);
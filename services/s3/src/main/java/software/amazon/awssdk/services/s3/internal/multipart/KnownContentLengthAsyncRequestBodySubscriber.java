@@ -64,6 +64,11 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+    private final AdaptiveMultipartTuner tuner;
+    /**
+     * The number of parts requested from the publisher or being uploaded, only tracked when a tuner limits the concurrency
+     */
+    private final AtomicInteger partsOutstanding = new AtomicInteger(0);
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -76,6 +81,13 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
+        this(mpuRequestContext, returnFuture, multipartUploadHelper, null);
+    }
+
+    KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
+                                                 CompletableFuture<PutObjectResponse> returnFuture,
+                                                 MultipartUploadHelper multipartUploadHelper,
+                                                 AdaptiveMultipartTuner tuner) {
         this.partSize = mpuRequestContext.partSize();
         this.partCount = determinePartCount(mpuRequestContext.contentLength(), partSize);
         this.putObjectRequest = mpuRequestContext.request().left();
@@ -88,6 +100,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         this.progressListener = putObjectRequest.overrideConfiguration().map(c -> c.executionAttributes()
                                                                                    .getAttribute(JAVA_PROGRESS_LISTENER))
                                                 .orElseGet(PublisherListener::noOp);
+        this.tuner = tuner;
     }
 
     private int determinePartCount(long contentLength, long partSize) {
@@ -130,7 +143,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             return;
         }
         this.subscription = s;
-        s.request(1);
+        requestNextPart();
         returnFuture.whenComplete((r, t) -> {
             if (t != null) {
                 s.cancel();
@@ -150,7 +163,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         if (existingParts.containsKey(partNumber.get())) {
             partNumber.getAndIncrement();
             asyncRequestBody.subscribe(new CancelledSubscriber<>());
-            subscription.request(1);
+            partDone();
+            requestNextPart();
             asyncRequestBody.contentLength().ifPresent(progressListener::subscriberOnNext);
             return;
         }
@@ -160,6 +174,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                                                                      partNumber.getAndIncrement(),
                                                                                      uploadId);
 
+        long partSizeInBytes = asyncRequestBody.contentLength().orElse(0L);
+        long partStartNanos = System.nanoTime();
         Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
                                                                                             completedPart);
         multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
@@ -167,16 +183,52 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                              .whenComplete((r, t) -> {
                                  if (t != null) {
                                      if (shouldFailRequest()) {
+                                         if (tuner != null) {
+                                             tuner.partFailed();
+                                         }
                                          multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture,
                                                                                      putObjectRequest);
                                      }
                                  } else {
+                                     if (tuner != null) {
+                                         tuner.partCompleted(partSizeInBytes, System.nanoTime() - partStartNanos);
+                                     }
                                      completeMultipartUploadIfFinished(asyncRequestBodyInFlight.decrementAndGet());
+                                     if (tuner != null) {
+                                         partDone();
+                                         requestNextPart();
+                                     }
                                  }
                              });
+        requestNextPart();
+    }
+
+    /**
+     * Requests the next part. When a tuner is configured, parts are only requested while the number of parts outstanding is
+     * below its concurrency limit; the next part is then requested when an outstanding one is done.
+     */
+    private void requestNextPart() {
+        if (tuner == null) {
+            subscription.request(1);
+            return;
+        }
+        int limit = tuner.concurrencyLimit();
+        int outstanding;
+        do {
+            outstanding = partsOutstanding.get();
+            if (outstanding >= limit) {
+                return;
+            }
+        } while (!partsOutstanding.compareAndSet(outstanding, outstanding + 1));
         subscription.request(1);
     }
 
+    private void partDone() {
+        if (tuner != null) {
+            partsOutstanding.decrementAndGet();
+        }
+    }
+
     private boolean shouldFailRequest() {
         return failureActionInitiated.compareAndSet(false, true) && !isPaused;
     }
@@ -29,6 +29,7 @@ public final class MultipartConfigurationResolver {
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final boolean adaptiveTuningEnabled;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +38,7 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.adaptiveTuningEnabled = Boolean.TRUE.equals(multipartConfiguration.adaptiveTuningEnabled());
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +52,8 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    public boolean adaptiveTuningEnabled() {
+        return adaptiveTuningEnabled;
+    }
 }
@@ -79,11 +79,11 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         return mpuHelper.uploadObject(putObjectRequest, requestBody);
     }
 
-    private boolean shouldEnableCrc32(PutObjectRequest putObjectRequest) {
+    static boolean shouldEnableCrc32(PutObjectRequest putObjectRequest) {
         return !checksumSetOnRequest(putObjectRequest) && checksumEnabledPerConfig(putObjectRequest);
     }
 
-    private boolean checksumSetOnRequest(PutObjectRequest putObjectRequest) {
+    private static boolean checksumSetOnRequest(PutObjectRequest putObjectRequest) {
         if (putObjectRequest.checksumAlgorithm() != null) {
             return true;
         }
@@ -92,7 +92,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
                      .anyMatch(s -> putObjectRequest.getValueForField(s, String.class).isPresent());
     }
 
-    private boolean checksumEnabledPerConfig(PutObjectRequest putObjectRequest) {
+    private static boolean checksumEnabledPerConfig(PutObjectRequest putObjectRequest) {
         ExecutionAttributes executionAttributes =
             putObjectRequest.overrideConfiguration().map(RequestOverrideConfiguration::executionAttributes).orElse(null);
 
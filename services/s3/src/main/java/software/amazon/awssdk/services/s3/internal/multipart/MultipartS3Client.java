@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.services.s3.DelegatingS3Client;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.internal.UserAgentUtils;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link S3Client} that converts {@link #putObject(PutObjectRequest, Path)} into a multipart upload and
+ * {@link #getObject(GetObjectRequest, Path)} into parallel part downloads. Parts are transferred on a bounded executor owned
+ * by this client, which uses virtual threads when the runtime supports them. CRC32 will be enabled for the PUT requests,
+ * unless the the checksum is specified or checksum validation is disabled. All other operations, including the stream based
+ * overloads of PUT and GET, are passed through to the wrapped client unchanged.
+ *
+ * @see MultipartConfiguration
+ */
+@SdkInternalApi
+public final class MultipartS3Client extends DelegatingS3Client {
+    private static final Logger log = Logger.loggerFor(MultipartS3Client.class);
+
+    private static final ApiName USER_AGENT_API_NAME = ApiName.builder().name("hll").version("s3Multipart").build();
+    private static final String THREAD_NAME_PREFIX = "sdk-s3-multipart";
+
+    private final ExecutorService executor;
+    private final SyncUploadObjectHelper uploadObjectHelper;
+    private final SyncDownloadObjectHelper downloadObjectHelper;
+
+    private MultipartS3Client(S3Client delegate, MultipartConfiguration multipartConfiguration) {
+        super(delegate);
+        MultipartConfiguration validConfiguration = Validate.getOrDefault(multipartConfiguration,
+                                                                          MultipartConfiguration.builder()::build);
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(validConfiguration);
+        this.executor = createExecutor(maxConcurrency(resolver));
+        this.uploadObjectHelper = new SyncUploadObjectHelper(delegate, resolver, executor);
+        this.downloadObjectHelper = new SyncDownloadObjectHelper(delegate, executor);
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, Path sourcePath) {
+        if (MultipartS3AsyncClient.shouldEnableCrc32(putObjectRequest)) {
+            putObjectRequest = putObjectRequest.toBuilder().checksumAlgorithm(ChecksumAlgorithm.CRC32).build();
+        }
+
+        return uploadObjectHelper.uploadObject(putObjectRequest, sourcePath);
+    }
+
+    @Override
+    public GetObjectResponse getObject(GetObjectRequest getObjectRequest, Path destinationPath) {
+        return downloadObjectHelper.downloadObject(getObjectRequest, destinationPath);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        delegate().close();
+    }
+
+    public static MultipartS3Client create(S3Client client, MultipartConfiguration multipartConfiguration) {
+        S3Client clientWithUserAgent = new DelegatingS3Client(client) {
+            @Override
+            protected <T extends S3Request, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
+                T requestWithUserAgent = UserAgentUtils.applyUserAgentInfo(request, c -> c.addApiName(USER_AGENT_API_NAME));
+                return operation.apply(requestWithUserAgent);
+            }
+        };
+        return new MultipartS3Client(clientWithUserAgent, multipartConfiguration);
+    }
+
+    /**
+     * The number of parts transferred in parallel, so that no more than {@code apiCallBufferSizeInBytes} are in flight at once.
+     */
+    @SdkTestInternalApi
+    static int maxConcurrency(MultipartConfigurationResolver resolver) {
+        long concurrency = resolver.apiCallBufferSize() / resolver.minimalPartSizeInBytes();
+        return (int) Math.max(1, Math.min(concurrency, Integer.MAX_VALUE));
+    }
+
+    private static ExecutorService createExecutor(int maxConcurrency) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                                                             60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             threadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Part transfers spend nearly all of their time blocked on I/O, so virtual threads are used when running on Java 21 or
+     * later. The SDK targets Java 8, so they can only be created reflectively.
+     */
+    private static ThreadFactory threadFactory() {
+        try {
+            Class<?> threadBuilder = Class.forName("java.lang.Thread$Builder");
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            virtualThreadBuilder = threadBuilder.getMethod("name", String.class, long.class)
+                                                .invoke(virtualThreadBuilder, THREAD_NAME_PREFIX + "-", 0L);
+            return (ThreadFactory) threadBuilder.getMethod("factory").invoke(virtualThreadBuilder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug(() -> "Virtual threads are not available, using platform threads for multipart transfers.");
+            return new ThreadFactoryBuilder().threadNamePrefix(THREAD_NAME_PREFIX).daemonThreads(true).build();
+        }
+    }
+}
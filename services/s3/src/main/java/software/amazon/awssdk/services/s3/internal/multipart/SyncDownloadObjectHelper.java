@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads an object to a file with the synchronous client. The first part is requested with {@code partNumber=1}; if the
+ * object was uploaded in several parts, the remaining parts are fetched in parallel, conditional on the ETag of the first
+ * part, and each part is written at the offset given by its {@code Content-Range} so that parts can complete in any order.
+ */
+@SdkInternalApi
+public final class SyncDownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(SyncDownloadObjectHelper.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final S3Client s3Client;
+    private final Executor executor;
+
+    public SyncDownloadObjectHelper(S3Client s3Client, Executor executor) {
+        this.s3Client = s3Client;
+        this.executor = executor;
+    }
+
+    public GetObjectResponse downloadObject(GetObjectRequest getObjectRequest, Path destinationPath) {
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number is present in the request, downloading the object in a single request");
+            return s3Client.getObject(getObjectRequest, ResponseTransformer.toFile(destinationPath));
+        }
+
+        FileChannel channel = open(destinationPath);
+        boolean success = false;
+        try {
+            GetObjectResponse firstPart = getPart(getObjectRequest.toBuilder().partNumber(1).build(), channel);
+            Integer partsCount = firstPart.partsCount();
+            if (partsCount != null && partsCount > 1) {
+                log.debug(() -> String.format("Downloading the remaining %d parts of %s", partsCount - 1,
+                                              getObjectRequest.key()));
+                downloadRemainingParts(getObjectRequest, firstPart.eTag(), partsCount, channel);
+            }
+            success = true;
+            return firstPart;
+        } finally {
+            close(channel, destinationPath, success);
+        }
+    }
+
+    private void downloadRemainingParts(GetObjectRequest getObjectRequest, String eTag, int partsCount, FileChannel channel) {
+        SyncPartRunner<GetObjectResponse> parts = new SyncPartRunner<>(executor);
+        try {
+            for (int partNumber = 2; partNumber <= partsCount; partNumber++) {
+                GetObjectRequest.Builder partRequest = getObjectRequest.toBuilder().partNumber(partNumber);
+                if (getObjectRequest.ifMatch() == null) {
+                    partRequest.ifMatch(eTag);
+                }
+                GetObjectRequest request = partRequest.build();
+                parts.submit(() -> getPart(request, channel));
+            }
+            parts.join();
+        } catch (RuntimeException | Error e) {
+            // Don't close and delete the destination while other parts are still being written to it.
+            parts.cancel();
+            throw e;
+        }
+    }
+
+    private GetObjectResponse getPart(GetObjectRequest partRequest, FileChannel channel) {
+        return s3Client.getObject(partRequest, (response, inputStream) -> {
+            writeAt(inputStream, channel, startOffset(response));
+            return response;
+        });
+    }
+
+    /**
+     * Parses the first byte position of a {@code Content-Range: bytes <first>-<last>/<size>} header. An empty object has no
+     * content range and is written at offset 0.
+     */
+    static long startOffset(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            return 0;
+        }
+        int start = contentRange.indexOf(' ') + 1;
+        int end = contentRange.indexOf('-', start);
+        if (end < 0) {
+            throw SdkClientException.create("Unable to parse Content-Range of part: " + contentRange);
+        }
+        return Long.parseLong(contentRange.substring(start, end));
+    }
+
+    private static void writeAt(InputStream inputStream, FileChannel channel, long position) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+            while (byteBuffer.hasRemaining()) {
+                position += channel.write(byteBuffer, position);
+            }
+        }
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to create " + path, e);
+        }
+    }
+
+    private static void close(FileChannel channel, Path path, boolean success) {
+        try {
+            channel.close();
+            if (!success) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn(() -> "Failed to clean up " + path, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Runs the parts of a synchronous multipart transfer on an executor. When a part fails, the parts that have not started yet
+ * are skipped, and {@link #join()} only returns once every part that did start has finished, so that callers never clean up
+ * (abort the upload, delete the file) while requests for other parts are still in flight.
+ */
+@SdkInternalApi
+final class SyncPartRunner<T> {
+    private final Executor executor;
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final List<CompletableFuture<T>> results = new ArrayList<>();
+    private final List<CompletableFuture<Void>> settled = new ArrayList<>();
+
+    SyncPartRunner(Executor executor) {
+        this.executor = executor;
+    }
+
+    void submit(Supplier<T> part) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> partSettled = new CompletableFuture<>();
+        results.add(result);
+        settled.add(partSettled);
+        try {
+            executor.execute(() -> run(part, result, partSettled));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            partSettled.complete(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for all parts to complete and returns their results in submission order. If any part fails, the remaining parts
+     * are stopped, the call waits for the parts already running to finish, and the first failure is rethrown.
+     */
+    List<T> join() {
+        try {
+            CompletableFutureUtils.joinLikeSync(
+                CompletableFutureUtils.allOfExceptionForwarded(results.toArray(new CompletableFuture[0])));
+            return results.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (RuntimeException | Error e) {
+            cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Skips the parts that have not started yet and waits, uninterruptibly, for the parts that are running to finish.
+     */
+    void cancel() {
+        failed.set(true);
+        CompletableFuture<Void> allSettled = CompletableFuture.allOf(settled.toArray(new CompletableFuture[0]));
+        boolean interrupted = false;
+        while (true) {
+            try {
+                allSettled.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(Supplier<T> part, CompletableFuture<T> result, CompletableFuture<Void> partSettled) {
+        try {
+            if (failed.get() || result.isDone()) {
+                result.completeExceptionally(new CancellationException("Another part of the transfer failed."));
+                return;
+            }
+            result.complete(part.get());
+        } catch (Throwable t) {
+            failed.set(true);
+            result.completeExceptionally(t);
+        } finally {
+            partSettled.complete(null);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toAbortMultipartUploadRequest;
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toCompleteMultipartUploadRequest;
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toCompletedPart;
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toCreateMultipartUploadRequest;
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toPutObjectResponse;
+import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toUploadPartRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.io.SdkLengthAwareInputStream;
+import software.amazon.awssdk.core.internal.util.Mimetype;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Uploads a file with the synchronous client, converting it into a multipart upload once it reaches the configured threshold.
+ * Each part is read directly from its range of the file, so the parts in flight are never buffered in memory.
+ */
+@SdkInternalApi
+public final class SyncUploadObjectHelper {
+    private static final Logger log = Logger.loggerFor(SyncUploadObjectHelper.class);
+
+    private final S3Client s3Client;
+    private final long partSizeInBytes;
+    private final long multipartUploadThresholdInBytes;
+    private final Executor executor;
+
+    public SyncUploadObjectHelper(S3Client s3Client, MultipartConfigurationResolver resolver, Executor executor) {
+        this.s3Client = s3Client;
+        this.partSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.multipartUploadThresholdInBytes = resolver.thresholdInBytes();
+        this.executor = executor;
+    }
+
+    public PutObjectResponse uploadObject(PutObjectRequest putObjectRequest, Path sourcePath) {
+        long contentLength = fileSize(sourcePath);
+        if (contentLength < multipartUploadThresholdInBytes) {
+            log.debug(() -> "Content length is less than the threshold, uploading the object in a single request");
+            return s3Client.putObject(putObjectRequest, RequestBody.fromFile(sourcePath));
+        }
+
+        long partSize = GenericMultipartHelper.optimalPartSizeFor(contentLength, partSizeInBytes);
+        int partCount = (int) Math.ceil(contentLength / (double) partSize);
+
+        CreateMultipartUploadResponse createResponse =
+            s3Client.createMultipartUpload(toCreateMultipartUploadRequest(putObjectRequest));
+        String uploadId = createResponse.uploadId();
+        log.debug(() -> String.format("Uploading %d parts of %d bytes, uploadId: %s", partCount, partSize, uploadId));
+
+        SyncPartRunner<CompletedPart> parts = new SyncPartRunner<>(executor);
+        try {
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                int partNumber = partIndex + 1;
+                long offset = partIndex * partSize;
+                long length = Math.min(partSize, contentLength - offset);
+                UploadPartRequest uploadPartRequest = toUploadPartRequest(putObjectRequest, partNumber, uploadId);
+                parts.submit(() -> uploadPart(uploadPartRequest, sourcePath, offset, length));
+            }
+
+            CompletedPart[] completedParts = parts.join().toArray(new CompletedPart[0]);
+            CompleteMultipartUploadResponse completeResponse =
+                s3Client.completeMultipartUpload(toCompleteMultipartUploadRequest(putObjectRequest, uploadId, completedParts));
+            return toPutObjectResponse(completeResponse);
+        } catch (RuntimeException | Error e) {
+            // Parts still being uploaded would be stored again after the abort, so wait for them to finish first.
+            parts.cancel();
+            abort(putObjectRequest, uploadId, e);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(UploadPartRequest uploadPartRequest, Path sourcePath, long offset, long length) {
+        RequestBody body = RequestBody.fromContentProvider(() -> openRange(sourcePath, offset, length),
+                                                           length,
+                                                           Mimetype.MIMETYPE_OCTET_STREAM);
+        UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, body);
+        return toCompletedPart(response, uploadPartRequest.partNumber());
+    }
+
+    private void abort(PutObjectRequest putObjectRequest, String uploadId, Throwable cause) {
+        log.debug(() -> "Aborting multipart upload: " + uploadId);
+        try {
+            s3Client.abortMultipartUpload(toAbortMultipartUploadRequest(putObjectRequest).uploadId(uploadId).build());
+        } catch (RuntimeException e) {
+            log.warn(() -> String.format("Failed to abort previous multipart upload (id: %s). You may need to call "
+                                         + "S3Client#abortMultiPartUpload to free all storage consumed by all parts. ",
+                                         uploadId), e);
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Opens a stream over {@code length} bytes of the file starting at {@code offset}. A new stream is opened each time the
+     * body is retried.
+     */
+    private static SdkLengthAwareInputStream openRange(Path path, long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(offset);
+            return new SdkLengthAwareInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to read part of " + path, e);
+        }
+    }
+
+    private static long fileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to determine the size of " + path, e);
+        }
+    }
+}
@@ -48,10 +48,14 @@ public final class UploadObjectHelper {
                                                                    SdkPojoConversionUtils::toPutObjectResponse);
         this.apiCallBufferSize = resolver.apiCallBufferSize();
         this.multipartUploadThresholdInBytes = resolver.thresholdInBytes();
+        AdaptiveMultipartTuner tuner = resolver.adaptiveTuningEnabled()
+                                       ? new AdaptiveMultipartTuner(partSizeInBytes, apiCallBufferSize)
+                                       : null;
         this.uploadWithKnownContentLength = new UploadWithKnownContentLengthHelper(s3AsyncClient,
                                                                                    partSizeInBytes,
                                                                                    multipartUploadThresholdInBytes,
-                                                                                   apiCallBufferSize);
+                                                                                   apiCallBufferSize,
+                                                                                   tuner);
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
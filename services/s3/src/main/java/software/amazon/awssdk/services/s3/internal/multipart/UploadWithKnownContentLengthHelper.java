@@ -50,11 +50,24 @@ public final class UploadWithKnownContentLengthHelper {
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
     private final MultipartUploadHelper multipartUploadHelper;
+    private final AdaptiveMultipartTuner tuner;
 
     public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                               long partSizeInBytes,
                                               long multipartUploadThresholdInBytes,
                                               long maxMemoryUsageInBytes) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, null);
+    }
+
+    /**
+     * @param tuner adjusts the part size and the number of parts in flight from the observed throughput, may be null to use
+     * the configured part size and send parts as fast as the memory budget allows.
+     */
+    public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                              long partSizeInBytes,
+                                              long multipartUploadThresholdInBytes,
+                                              long maxMemoryUsageInBytes,
+                                              AdaptiveMultipartTuner tuner) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -64,6 +77,7 @@ public final class UploadWithKnownContentLengthHelper {
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
+        this.tuner = tuner;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -120,12 +134,17 @@ public final class UploadWithKnownContentLengthHelper {
                                      CompletableFuture<PutObjectResponse> returnFuture, String uploadId) {
 
         long numPartsCompleted = 0;
-        long partSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
+        long preferredPartSize = tuner != null ? tuner.partSizeInBytes() : partSizeInBytes;
+        long partSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, preferredPartSize);
         int partCount = genericMultipartHelper.determinePartCount(contentLength, partSize);
 
-        if (partSize > partSizeInBytes) {
-            log.debug(() -> String.format("Configured partSize is %d, but using %d to prevent reaching maximum number of "
-                                          + "parts allowed", partSizeInBytes, partSize));
+        if (preferredPartSize > partSizeInBytes) {
+            log.debug(() -> String.format("Configured partSize is %d, but the observed throughput favors %d",
+                                          partSizeInBytes, preferredPartSize));
+        }
+        if (partSize > preferredPartSize) {
+            log.debug(() -> String.format("Preferred partSize is %d, but using %d to prevent reaching maximum number of "
+                                          + "parts allowed", preferredPartSize, partSize));
         }
 
         log.debug(() -> String.format("Starting multipart upload with partCount: %d, optimalPartSize: %d", partCount,
@@ -179,7 +198,7 @@ public final class UploadWithKnownContentLengthHelper {
 
     private void splitAndSubscribe(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture) {
         KnownContentLengthAsyncRequestBodySubscriber subscriber =
-            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper);
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper, tuner);
 
         attachSubscriberToObservable(subscriber, mpuRequestContext.request().left());
 
@@ -0,0 +1,324 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.seekable;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannel;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannelConfiguration;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannelMetrics;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Default {@link S3SeekableByteChannel}. Blocks are stored as futures so that a read of a block that is already being
+ * fetched by read-ahead waits for that request instead of sending a new one.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultS3SeekableByteChannel implements S3SeekableByteChannel {
+    private static final Logger log = Logger.loggerFor(DefaultS3SeekableByteChannel.class);
+
+    private static final long DEFAULT_BLOCK_SIZE_IN_BYTES = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CACHED_BLOCKS = 8;
+    private static final int DEFAULT_READ_AHEAD_BLOCKS = 2;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final GetObjectRequest getObjectRequest;
+    private final long blockSize;
+    private final int readAheadBlocks;
+    private final BlockCache blockCache;
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesFetched = new AtomicLong();
+    private final AtomicLong bytesOverFetched = new AtomicLong();
+
+    private long position;
+    private long size = -1;
+    private String eTag;
+    private long lastBlockRead = -1;
+    private boolean open = true;
+
+    public DefaultS3SeekableByteChannel(S3AsyncClient s3AsyncClient,
+                                        GetObjectRequest getObjectRequest,
+                                        S3SeekableByteChannelConfiguration configuration) {
+        this.s3AsyncClient = Validate.paramNotNull(s3AsyncClient, "s3AsyncClient");
+        this.getObjectRequest = Validate.paramNotNull(getObjectRequest, "getObjectRequest");
+        Validate.isNull(getObjectRequest.range(), "A seekable channel request must not specify a range.");
+        Validate.isNull(getObjectRequest.partNumber(), "A seekable channel request must not specify a part number.");
+        Validate.paramNotNull(configuration, "configuration");
+
+        this.blockSize = Validate.isPositive(resolve(configuration.blockSizeInBytes(), DEFAULT_BLOCK_SIZE_IN_BYTES),
+                                             "blockSizeInBytes");
+        this.readAheadBlocks = Validate.isNotNegative(resolve(configuration.readAheadBlocks(), DEFAULT_READ_AHEAD_BLOCKS),
+                                                      "readAheadBlocks");
+        int maxCachedBlocks = Validate.isPositive(resolve(configuration.maxCachedBlocks(), DEFAULT_MAX_CACHED_BLOCKS),
+                                                  "maxCachedBlocks");
+        Validate.isTrue(maxCachedBlocks > readAheadBlocks,
+                        "maxCachedBlocks (%s) must be greater than readAheadBlocks (%s).", maxCachedBlocks, readAheadBlocks);
+        this.blockCache = new BlockCache(maxCachedBlocks);
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws ClosedChannelException {
+        ensureOpen();
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        long objectSize = size();
+        if (position >= objectSize) {
+            return -1;
+        }
+
+        int totalRead = 0;
+        while (dst.hasRemaining() && position < objectSize) {
+            long blockIndex = position / blockSize;
+            byte[] block = block(blockIndex, objectSize);
+            int offsetInBlock = (int) (position - blockIndex * blockSize);
+            int length = Math.min(dst.remaining(), block.length - offsetInBlock);
+            dst.put(block, offsetInBlock, length);
+            position += length;
+            totalRead += length;
+        }
+        bytesRead.addAndGet(totalRead);
+        return totalRead;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws ClosedChannelException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized DefaultS3SeekableByteChannel position(long newPosition) throws ClosedChannelException {
+        ensureOpen();
+        Validate.isNotNegative(newPosition, "newPosition");
+        this.position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized long size() throws ClosedChannelException {
+        ensureOpen();
+        if (size < 0) {
+            HeadObjectResponse response = CompletableFutureUtils.joinLikeSync(s3AsyncClient.headObject(headObjectRequest()));
+            size = response.contentLength();
+            eTag = response.eTag();
+        }
+        return size;
+    }
+
+    @Override
+    public S3SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        blockCache.clear();
+    }
+
+    @Override
+    public S3SeekableByteChannelMetrics metrics() {
+        return S3SeekableByteChannelMetrics.builder()
+                                           .cacheHits(cacheHits.get())
+                                           .cacheMisses(cacheMisses.get())
+                                           .bytesRead(bytesRead.get())
+                                           .bytesFetched(bytesFetched.get())
+                                           .bytesOverFetched(bytesOverFetched.get())
+                                           .build();
+    }
+
+    private byte[] block(long blockIndex, long objectSize) {
+        Block block = blockCache.get(blockIndex);
+        if (block == null) {
+            cacheMisses.incrementAndGet();
+            block = fetch(blockIndex, objectSize);
+        } else {
+            cacheHits.incrementAndGet();
+        }
+        block.read = true;
+
+        if (blockIndex != lastBlockRead) {
+            if (lastBlockRead >= 0 && blockIndex == lastBlockRead + 1) {
+                readAhead(blockIndex, objectSize);
+            }
+            lastBlockRead = blockIndex;
+        }
+
+        try {
+            return CompletableFutureUtils.joinLikeSync(block.data);
+        } catch (RuntimeException e) {
+            // Don't cache failures, the next read of this block retries the request.
+            blockCache.remove(blockIndex);
+            throw e;
+        }
+    }
+
+    private void readAhead(long blockIndex, long objectSize) {
+        for (long next = blockIndex + 1; next <= blockIndex + readAheadBlocks && next * blockSize < objectSize; next++) {
+            if (!blockCache.contains(next)) {
+                long readAheadBlock = next;
+                log.trace(() -> "Reading ahead block " + readAheadBlock + " of " + getObjectRequest.key());
+                fetch(readAheadBlock, objectSize);
+            }
+        }
+    }
+
+    private Block fetch(long blockIndex, long objectSize) {
+        long start = blockIndex * blockSize;
+        long end = Math.min(start + blockSize, objectSize) - 1;
+        GetObjectRequest.Builder rangedRequest = getObjectRequest.toBuilder().range("bytes=" + start + "-" + end);
+        if (getObjectRequest.ifMatch() == null && eTag != null) {
+            rangedRequest.ifMatch(eTag);
+        }
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> request =
+            s3AsyncClient.getObject(rangedRequest.build(), AsyncResponseTransformer.toBytes());
+        CompletableFuture<byte[]> data = request.thenApply(responseBytes -> {
+            byte[] bytes = responseBytes.asByteArrayUnsafe();
+            bytesFetched.addAndGet(bytes.length);
+            return bytes;
+        });
+        Block block = new Block(request, data);
+        blockCache.put(blockIndex, block);
+        return block;
+    }
+
+    private HeadObjectRequest headObjectRequest() {
+        return HeadObjectRequest.builder()
+                                .bucket(getObjectRequest.bucket())
+                                .key(getObjectRequest.key())
+                                .versionId(getObjectRequest.versionId())
+                                .ifMatch(getObjectRequest.ifMatch())
+                                .ifNoneMatch(getObjectRequest.ifNoneMatch())
+                                .ifModifiedSince(getObjectRequest.ifModifiedSince())
+                                .ifUnmodifiedSince(getObjectRequest.ifUnmodifiedSince())
+                                .sseCustomerAlgorithm(getObjectRequest.sseCustomerAlgorithm())
+                                .sseCustomerKey(getObjectRequest.sseCustomerKey())
+                                .sseCustomerKeyMD5(getObjectRequest.sseCustomerKeyMD5())
+                                .requestPayer(getObjectRequest.requestPayerAsString())
+                                .expectedBucketOwner(getObjectRequest.expectedBucketOwner())
+                                .overrideConfiguration(getObjectRequest.overrideConfiguration().orElse(null))
+                                .build();
+    }
+
+    private void discard(Block block) {
+        if (block.read) {
+            return;
+        }
+        if (block.data.isDone()) {
+            block.data.thenAccept(bytes -> bytesOverFetched.addAndGet(bytes.length));
+        } else {
+            // Cancelling the dependent stage would leave the request running, so cancel the request itself.
+            block.request.cancel(true);
+        }
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private static <T> T resolve(T configured, T defaultValue) {
+        return configured != null ? configured : defaultValue;
+    }
+
+    private static final class Block {
+        private final CompletableFuture<?> request;
+        private final CompletableFuture<byte[]> data;
+        private volatile boolean read;
+
+        private Block(CompletableFuture<?> request, CompletableFuture<byte[]> data) {
+            this.request = request;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Least-recently-used cache of blocks, guarded by the channel's lock.
+     */
+    private final class BlockCache {
+        private final Map<Long, Block> blocks;
+
+        private BlockCache(int maxCachedBlocks) {
+            this.blocks = new LinkedHashMap<Long, Block>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Block> eldest) {
+                    if (size() > maxCachedBlocks) {
+                        discard(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private Block get(long blockIndex) {
+            return blocks.get(blockIndex);
+        }
+
+        private boolean contains(long blockIndex) {
+            return blocks.containsKey(blockIndex);
+        }
+
+        private void put(long blockIndex, Block block) {
+            blocks.put(blockIndex, block);
+        }
+
+        private void remove(long blockIndex) {
+            blocks.remove(blockIndex);
+        }
+
+        private void clear() {
+            blocks.values().forEach(DefaultS3SeekableByteChannel.this::discard);
+            blocks.clear();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -64,6 +65,7 @@ import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -80,6 +82,7 @@ import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.Identity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.protocols.xml.AwsS3ProtocolFactory;
 import software.amazon.awssdk.regions.ServiceMetadataAdvancedOption;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -87,6 +90,7 @@ import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.auth.scheme.S3AuthSchemeProvider;
 import software.amazon.awssdk.services.s3.auth.scheme.internal.S3AuthSchemeInterceptor;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
 import software.amazon.awssdk.services.s3.endpoints.internal.S3RequestSetEndpointInterceptor;
 import software.amazon.awssdk.services.s3.endpoints.internal.S3ResolveEndpointInterceptor;
@@ -151,6 +155,10 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private final UseGlobalEndpointResolver useGlobalEndpointResolver;
     private final Boolean disableS3ExpressSessionAuth;
     private final S3Client s3Client;
+    private final S3EndpointProvider endpointProvider;
+    private final S3AuthSchemeProvider authSchemeProvider;
+    private final Map<String, AuthScheme<?>> authSchemes;
+    private final AttributeMap clientContextParams;
 
     private DefaultS3Presigner(Builder b) {
         super(b);
@@ -212,6 +220,11 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         this.abortMultipartUploadRequestMarshaller = new AbortMultipartUploadRequestMarshaller(protocolFactory);
 
         this.useGlobalEndpointResolver = createUseGlobalEndpointResolver();
+
+        this.endpointProvider = S3EndpointProvider.defaultProvider();
+        this.authSchemeProvider = S3ExpressAuthSchemeProvider.create(S3AuthSchemeProvider.defaultProvider());
+        this.authSchemes = createAuthSchemes();
+        this.clientContextParams = createClientContextParams(s3Client != null ? disableS3ExpressSessionAuth : Boolean.TRUE);
     }
 
     public static S3Presigner.Builder builder() {
@@ -264,12 +277,28 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
     @Override
     public PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request) {
+        return presignGetObject(request, newPresignContext());
+    }
+
+    @Override
+    public List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        Validate.paramNotNull(requests, "requests");
+        PresignContext context = newBatchPresignContext();
+        List<PresignedGetObjectRequest> presignedRequests = new ArrayList<>(requests.size());
+        for (GetObjectPresignRequest request : requests) {
+            presignedRequests.add(presignGetObject(request, context));
+        }
+        return Collections.unmodifiableList(presignedRequests);
+    }
+
+    private PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request, PresignContext context) {
         return presign(PresignedGetObjectRequest.builder(),
                        request,
                        request.getObjectRequest(),
                        GetObjectRequest.class,
                        getObjectRequestMarshaller::marshall,
-                       "GetObject")
+                       "GetObject",
+                       context)
             .build();
     }
 
@@ -280,7 +309,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.putObjectRequest(),
                        PutObjectRequest.class,
                        putObjectRequestMarshaller::marshall,
-                       "PutObject")
+                       "PutObject",
+                       newPresignContext())
             .build();
     }
 
@@ -291,7 +321,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.deleteObjectRequest(),
                        DeleteObjectRequest.class,
                        deleteObjectRequestMarshaller::marshall,
-                       "DeleteObject")
+                       "DeleteObject",
+                       newPresignContext())
             .build();
     }
 
@@ -302,7 +333,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.createMultipartUploadRequest(),
                        CreateMultipartUploadRequest.class,
                        createMultipartUploadRequestMarshaller::marshall,
-                       "CreateMultipartUpload")
+                       "CreateMultipartUpload",
+                       newPresignContext())
             .build();
     }
 
@@ -313,7 +345,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.uploadPartRequest(),
                        UploadPartRequest.class,
                        uploadPartRequestMarshaller::marshall,
-                       "UploadPart")
+                       "UploadPart",
+                       newPresignContext())
             .build();
     }
 
@@ -324,7 +357,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.completeMultipartUploadRequest(),
                        CompleteMultipartUploadRequest.class,
                        completeMultipartUploadRequestMarshaller::marshall,
-                       "CompleteMultipartUpload")
+                       "CompleteMultipartUpload",
+                       newPresignContext())
             .build();
     }
 
@@ -335,7 +369,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.abortMultipartUploadRequest(),
                        AbortMultipartUploadRequest.class,
                        abortMultipartUploadRequestMarshaller::marshall,
-                       "AbortMultipartUpload")
+                       "AbortMultipartUpload",
+                       newPresignContext())
             .build();
     }
 
@@ -343,6 +378,25 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         return serviceConfiguration;
     }
 
+    /**
+     * Creates the state shared by the steps of presigning a single request.
+     */
+    private PresignContext newPresignContext() {
+        return new PresignContext(Instant.now(), useGlobalEndpointResolver.resolve(region()), endpointProvider,
+                                  Function.identity());
+    }
+
+    /**
+     * Creates the state shared by all the requests of a batch. The requests are signed at the same time, and endpoints and
+     * identities are only resolved once for all the requests that resolve them with the same parameters.
+     */
+    private PresignContext newBatchPresignContext() {
+        Map<IdentityProvider<?>, IdentityProvider<?>> identityProviders = new HashMap<>();
+        return new PresignContext(Instant.now(), useGlobalEndpointResolver.resolve(region()),
+                                  new BatchEndpointProvider(endpointProvider),
+                                  p -> identityProviders.computeIfAbsent(p, BatchIdentityProvider::create));
+    }
+
     /**
      * Generate a {@link PresignedRequest} from a {@link PresignedRequest} and {@link SdkRequest}.
      */
@@ -351,17 +405,18 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                                               SdkRequest requestToPresign,
                                                               Class<U> requestToPresignType,
                                                               Function<U, SdkHttpFullRequest> requestMarshaller,
-                                                              String operationName) {
+                                                              String operationName,
+                                                              PresignContext context) {
 
         // A fixed signingClock is used, so that the current time used by the signing logic, as well as to determine expiration
         // are the same.
-        Instant signingInstant = Instant.now();
-        Clock signingClock = Clock.fixed(signingInstant, ZoneOffset.UTC);
+        Instant signingInstant = context.signingInstant;
+        Clock signingClock = context.signingClock;
         Duration expirationDuration = presignRequest.signatureDuration();
         Instant expiration = signingInstant.plus(expirationDuration);
 
         ExecutionContext execCtx =
-            invokeInterceptorsAndCreateExecutionContext(requestToPresign, operationName, expiration, signingClock);
+            invokeInterceptorsAndCreateExecutionContext(requestToPresign, operationName, expiration, signingClock, context);
 
         callBeforeMarshallingHooks(execCtx);
         marshalRequestAndUpdateContext(execCtx, requestToPresignType, requestMarshaller);
@@ -386,7 +441,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private ExecutionContext invokeInterceptorsAndCreateExecutionContext(SdkRequest sdkRequest,
                                                                          String operationName,
                                                                          Instant expiration,
-                                                                         Clock signingClock) {
+                                                                         Clock signingClock,
+                                                                         PresignContext context) {
 
         ExecutionAttributes executionAttributes = new ExecutionAttributes()
             .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, SIGNING_NAME)
@@ -403,20 +459,15 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                           clientConfiguration.option(SdkClientOption.CLIENT_ENDPOINT_PROVIDER))
             .putAttribute(AwsExecutionAttribute.FIPS_ENDPOINT_ENABLED, fipsEnabled())
             .putAttribute(AwsExecutionAttribute.DUALSTACK_ENDPOINT_ENABLED, serviceConfiguration.dualstackEnabled())
-            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER, S3EndpointProvider.defaultProvider())
-            .putAttribute(AwsExecutionAttribute.USE_GLOBAL_ENDPOINT, useGlobalEndpointResolver.resolve(region()))
-            .putAttribute(SdkInternalExecutionAttribute.AUTH_SCHEME_RESOLVER,
-                          S3ExpressAuthSchemeProvider.create(S3AuthSchemeProvider.defaultProvider()))
-            .putAttribute(SdkInternalExecutionAttribute.AUTH_SCHEMES, authSchemes())
-            .putAttribute(SdkInternalExecutionAttribute.IDENTITY_PROVIDERS, resolveIdentityProviders(sdkRequest));
-
-        Boolean resolvedDisableS3ExpressSessionAuth = disableS3ExpressSessionAuth;
+            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER, context.endpointProvider)
+            .putAttribute(AwsExecutionAttribute.USE_GLOBAL_ENDPOINT, context.useGlobalEndpoint)
+            .putAttribute(SdkInternalExecutionAttribute.AUTH_SCHEME_RESOLVER, authSchemeProvider)
+            .putAttribute(SdkInternalExecutionAttribute.AUTH_SCHEMES, authSchemes)
+            .putAttribute(SdkInternalExecutionAttribute.IDENTITY_PROVIDERS, resolveIdentityProviders(sdkRequest, context));
+
         if (s3Client != null) {
             executionAttributes.putAttribute(SdkInternalExecutionAttribute.SDK_CLIENT, s3Client);
-        } else {
-            resolvedDisableS3ExpressSessionAuth = Boolean.TRUE;
         }
-        AttributeMap clientContextParams = createClientContextParams(resolvedDisableS3ExpressSessionAuth);
         executionAttributes.putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS, clientContextParams);
 
         ExecutionInterceptorChain executionInterceptorChain = new ExecutionInterceptorChain(clientInterceptors);
@@ -438,7 +489,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                .build();
     }
 
-    private IdentityProviders resolveIdentityProviders(SdkRequest originalRequest) {
+    private IdentityProviders resolveIdentityProviders(SdkRequest originalRequest, PresignContext context) {
         IdentityProvider<? extends AwsCredentialsIdentity> identityProvider =
             originalRequest.overrideConfiguration()
                            .filter(c -> c instanceof AwsRequestOverrideConfiguration)
@@ -446,12 +497,12 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                            .flatMap(AwsRequestOverrideConfiguration::credentialsIdentityProvider)
                            .orElse(credentialsProvider());
         return IdentityProviders.builder()
-                                .putIdentityProvider(identityProvider)
+                                .putIdentityProvider(context.identityProvider(identityProvider))
                                 .build();
     }
 
 
-    private Map<String, AuthScheme<?>> authSchemes() {
+    private Map<String, AuthScheme<?>> createAuthSchemes() {
         Map<String, AuthScheme<?>> schemes = new HashMap<>(3);
         AwsV4AuthScheme awsV4AuthScheme = AwsV4AuthScheme.create();
         schemes.put(awsV4AuthScheme.schemeId(), awsV4AuthScheme);
@@ -678,6 +729,93 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         return new UseGlobalEndpointResolver(config);
     }
 
+    /**
+     * The state shared by the steps of presigning one request, or by all the requests of a batch.
+     */
+    private static final class PresignContext {
+        private final Instant signingInstant;
+        private final Clock signingClock;
+        private final Boolean useGlobalEndpoint;
+        private final S3EndpointProvider endpointProvider;
+        private final Function<IdentityProvider<?>, IdentityProvider<?>> identityProviders;
+
+        private PresignContext(Instant signingInstant,
+                               Boolean useGlobalEndpoint,
+                               S3EndpointProvider endpointProvider,
+                               Function<IdentityProvider<?>, IdentityProvider<?>> identityProviders) {
+            this.signingInstant = signingInstant;
+            this.signingClock = Clock.fixed(signingInstant, ZoneOffset.UTC);
+            this.useGlobalEndpoint = useGlobalEndpoint;
+            this.endpointProvider = endpointProvider;
+            this.identityProviders = identityProviders;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Identity> IdentityProvider<T> identityProvider(IdentityProvider<T> identityProvider) {
+            return (IdentityProvider<T>) identityProviders.apply(identityProvider);
+        }
+    }
+
+    /**
+     * An endpoint provider that only resolves the endpoint once for each set of parameters in a batch. The Key, Prefix,
+     * CopySource and DeleteObjectKeys parameters are not part of the cache key, because none of the S3 endpoint rules
+     * depend on them, so that all the objects of a bucket share the same endpoint.
+     */
+    private static final class BatchEndpointProvider implements S3EndpointProvider {
+        private final S3EndpointProvider delegate;
+        private final Map<List<Object>, CompletableFuture<Endpoint>> endpoints = new HashMap<>();
+
+        private BatchEndpointProvider(S3EndpointProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<Endpoint> resolveEndpoint(S3EndpointParams params) {
+            List<Object> cacheKey = Arrays.asList(params.bucket(),
+                                                  params.region(),
+                                                  params.useFips(),
+                                                  params.useDualStack(),
+                                                  params.endpoint(),
+                                                  params.forcePathStyle(),
+                                                  params.accelerate(),
+                                                  params.useGlobalEndpoint(),
+                                                  params.useObjectLambdaEndpoint(),
+                                                  params.disableAccessPoints(),
+                                                  params.disableMultiRegionAccessPoints(),
+                                                  params.useArnRegion(),
+                                                  params.useS3ExpressControlEndpoint(),
+                                                  params.disableS3ExpressSessionAuth());
+            return endpoints.computeIfAbsent(cacheKey, k -> delegate.resolveEndpoint(params));
+        }
+    }
+
+    /**
+     * An identity provider that only resolves the identity once for each identity request in a batch, so that all the
+     * requests of a batch are signed with the same identity.
+     */
+    private static final class BatchIdentityProvider<T extends Identity> implements IdentityProvider<T> {
+        private final IdentityProvider<T> delegate;
+        private final Map<ResolveIdentityRequest, CompletableFuture<? extends T>> identities = new HashMap<>();
+
+        private BatchIdentityProvider(IdentityProvider<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        private static <T extends Identity> BatchIdentityProvider<T> create(IdentityProvider<T> delegate) {
+            return new BatchIdentityProvider<>(delegate);
+        }
+
+        @Override
+        public Class<T> identityType() {
+            return delegate.identityType();
+        }
+
+        @Override
+        public CompletableFuture<? extends T> resolveIdentity(ResolveIdentityRequest request) {
+            return identities.computeIfAbsent(request, delegate::resolveIdentity);
+        }
+    }
+
     @SdkInternalApi
     public static final class Builder extends DefaultSdkPresigner.Builder<Builder>
         implements S3Presigner.Builder {
@@ -44,11 +44,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Boolean adaptiveTuningEnabled;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.adaptiveTuningEnabled = builder.adaptiveTuningEnabled;
     }
 
     public static Builder builder() {
@@ -60,7 +62,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .adaptiveTuningEnabled(adaptiveTuningEnabled);
     }
 
     /**
@@ -89,6 +92,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * Indicates whether the part size and the number of parts uploaded concurrently are tuned from the observed throughput.
+     * @return whether adaptive tuning is enabled.
+     */
+    public Boolean adaptiveTuningEnabled() {
+        return this.adaptiveTuningEnabled;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +174,38 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures whether the SDK tunes multipart uploads from the throughput it observes, rather than using the configured
+         * part size with as many parts in flight as the memory budget allows.
+         * <p>
+         * When enabled, the number of parts of an upload sent concurrently is raised as long as it improves the aggregate
+         * throughput, and lowered when it stops helping or when parts fail. Uploads started afterwards use parts large enough to
+         * take a couple of seconds each on a single connection, never smaller than {@link #minimumPartSizeInBytes(Long)}. The
+         * number of parts in flight is still bounded by {@link #apiCallBufferSizeInBytes(Long)}, so increasing it leaves more
+         * room for tuning. What is learnt is shared by all the uploads of the client.
+         * <p>
+         * Only applies to uploads whose content length is known. Downloads are not affected.
+         * <p>
+         * Default value: false
+         *
+         * @param adaptiveTuningEnabled whether to enable adaptive tuning.
+         * @return an instance of this builder.
+         */
+        Builder adaptiveTuningEnabled(Boolean adaptiveTuningEnabled);
+
+        /**
+         * Indicates whether adaptive tuning is enabled.
+         * @return whether adaptive tuning is enabled.
+         */
+        Boolean adaptiveTuningEnabled();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Boolean adaptiveTuningEnabled;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +236,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder adaptiveTuningEnabled(Boolean adaptiveTuningEnabled) {
+            this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean adaptiveTuningEnabled() {
+            return adaptiveTuningEnabled;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
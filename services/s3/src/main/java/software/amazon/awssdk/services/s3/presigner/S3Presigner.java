@@ -17,6 +17,9 @@ package software.amazon.awssdk.services.s3.presigner;
 
 import java.net.URI;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -337,6 +340,47 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Presign a batch of {@link GetObjectRequest}s so that they can be executed at a later time without requiring
+     * additional signing or authentication.
+     * <p/>
+     * This is equivalent to calling {@link #presignGetObject(GetObjectPresignRequest)} for each request, but all the
+     * requests are signed at the same time, and the work that doesn't depend on the object, such as resolving the
+     * endpoint of a bucket and the credentials, is only done once for the whole batch. This makes it much cheaper to
+     * presign a large number of objects at once, for example all the images of a web page.
+     * <p/>
+     *
+     * <b>Example Usage</b>
+     * <p/>
+     *
+     * <pre>
+     * {@code
+     *     S3Presigner presigner = ...;
+     *
+     *     List<GetObjectPresignRequest> presignRequests =
+     *         keys.stream()
+     *             .map(key -> GetObjectPresignRequest.builder()
+     *                                                .signatureDuration(Duration.ofMinutes(10))
+     *                                                .getObjectRequest(r -> r.bucket(bucket).key(key))
+     *                                                .build())
+     *             .collect(Collectors.toList());
+     *
+     *     List<PresignedGetObjectRequest> presignedRequests = presigner.presignGetObjects(presignRequests);
+     * }
+     * </pre>
+     *
+     * @param requests The requests to presign.
+     * @return The presigned requests, in the same order as the given requests.
+     * @see #presignGetObject(GetObjectPresignRequest)
+     */
+    default List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        List<PresignedGetObjectRequest> presignedRequests = new ArrayList<>(requests.size());
+        for (GetObjectPresignRequest request : requests) {
+            presignedRequests.add(presignGetObject(request));
+        }
+        return Collections.unmodifiableList(presignedRequests);
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
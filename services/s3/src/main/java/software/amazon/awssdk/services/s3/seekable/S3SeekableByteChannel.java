@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.seekable;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.seekable.DefaultS3SeekableByteChannel;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+/**
+ * A read-only {@link SeekableByteChannel} over a single S3 object, for random-access readers such as Parquet or ORC.
+ * <p>
+ * The object is read in fixed-size blocks using ranged {@link S3AsyncClient#getObject} requests. Blocks are kept in a
+ * least-recently-used cache, and once consecutive blocks are read the following blocks are fetched ahead in parallel. All
+ * ranged requests are conditional on the ETag of the object observed when the channel first learns its size, so a channel
+ * never mixes bytes from two versions of an object.
+ * <p>
+ * The channel does not own the {@link S3AsyncClient}; closing the channel releases cached blocks and cancels outstanding
+ * read-ahead requests but does not close the client.
+ *
+ * <pre>{@code
+ * try (S3SeekableByteChannel channel = S3SeekableByteChannel.create(s3AsyncClient, r -> r.bucket("bucket").key("key"))) {
+ *     channel.position(channel.size() - 8);
+ *     ByteBuffer footer = ByteBuffer.allocate(8);
+ *     channel.read(footer);
+ * }
+ * }</pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface S3SeekableByteChannel extends SeekableByteChannel {
+
+    /**
+     * Creates a channel over the object identified by the request, using the default configuration.
+     */
+    static S3SeekableByteChannel create(S3AsyncClient s3AsyncClient, GetObjectRequest getObjectRequest) {
+        return create(s3AsyncClient, getObjectRequest, S3SeekableByteChannelConfiguration.builder().build());
+    }
+
+    /**
+     * Creates a channel over the object identified by the request, using the default configuration.
+     */
+    static S3SeekableByteChannel create(S3AsyncClient s3AsyncClient, Consumer<GetObjectRequest.Builder> getObjectRequest) {
+        return create(s3AsyncClient, GetObjectRequest.builder().applyMutation(getObjectRequest).build());
+    }
+
+    /**
+     * Creates a channel over the object identified by the request. The request must not specify a
+     * {@link GetObjectRequest#range() range} or {@link GetObjectRequest#partNumber() part number}.
+     */
+    static S3SeekableByteChannel create(S3AsyncClient s3AsyncClient,
+                                        GetObjectRequest getObjectRequest,
+                                        S3SeekableByteChannelConfiguration configuration) {
+        return new DefaultS3SeekableByteChannel(s3AsyncClient, getObjectRequest, configuration);
+    }
+
+    /**
+     * Returns an {@link InputStream} reading from the current position of this channel. Closing the stream closes the channel.
+     */
+    default InputStream asInputStream() {
+        return Channels.newInputStream(this);
+    }
+
+    /**
+     * Returns a snapshot of the block cache statistics of this channel.
+     */
+    S3SeekableByteChannelMetrics metrics();
+}
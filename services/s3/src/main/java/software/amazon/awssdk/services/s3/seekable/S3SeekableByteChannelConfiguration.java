@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.seekable;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of a {@link S3SeekableByteChannel}: the size of the blocks fetched with ranged GET requests, how many blocks
+ * are cached and how many blocks are read ahead when a sequential read pattern is detected.
+ */
+@SdkPublicApi
+public final class S3SeekableByteChannelConfiguration
+    implements ToCopyableBuilder<S3SeekableByteChannelConfiguration.Builder, S3SeekableByteChannelConfiguration> {
+
+    private final Long blockSizeInBytes;
+    private final Integer maxCachedBlocks;
+    private final Integer readAheadBlocks;
+
+    private S3SeekableByteChannelConfiguration(DefaultBuilder builder) {
+        this.blockSizeInBytes = builder.blockSizeInBytes;
+        this.maxCachedBlocks = builder.maxCachedBlocks;
+        this.readAheadBlocks = builder.readAheadBlocks;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder()
+            .blockSizeInBytes(blockSizeInBytes)
+            .maxCachedBlocks(maxCachedBlocks)
+            .readAheadBlocks(readAheadBlocks);
+    }
+
+    /**
+     * The size, in bytes, of each block fetched from S3.
+     */
+    public Long blockSizeInBytes() {
+        return blockSizeInBytes;
+    }
+
+    /**
+     * The maximum number of blocks kept in the least-recently-used block cache.
+     */
+    public Integer maxCachedBlocks() {
+        return maxCachedBlocks;
+    }
+
+    /**
+     * The number of blocks fetched ahead of the current block when reads are sequential.
+     */
+    public Integer readAheadBlocks() {
+        return readAheadBlocks;
+    }
+
+    /**
+     * Builder for a {@link S3SeekableByteChannelConfiguration}.
+     */
+    public interface Builder extends CopyableBuilder<Builder, S3SeekableByteChannelConfiguration> {
+
+        /**
+         * Configures the size, in bytes, of each block fetched with a ranged GET request. Larger blocks mean fewer requests
+         * but more bytes fetched that may never be read.
+         * <p>
+         * Default value: 8 MiB
+         *
+         * @param blockSizeInBytes the block size
+         * @return an instance of this builder.
+         */
+        Builder blockSizeInBytes(Long blockSizeInBytes);
+
+        /**
+         * Configures the maximum number of blocks held in memory. When the cache is full, the least recently used block is
+         * evicted. Must be greater than {@link #readAheadBlocks(Integer)}.
+         * <p>
+         * Default value: 8
+         *
+         * @param maxCachedBlocks the maximum number of cached blocks
+         * @return an instance of this builder.
+         */
+        Builder maxCachedBlocks(Integer maxCachedBlocks);
+
+        /**
+         * Configures how many blocks are fetched in parallel ahead of the current block once the channel detects that
+         * consecutive blocks are being read. Set to 0 to disable read-ahead.
+         * <p>
+         * Default value: 2
+         *
+         * @param readAheadBlocks the number of blocks to read ahead
+         * @return an instance of this builder.
+         */
+        Builder readAheadBlocks(Integer readAheadBlocks);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Long blockSizeInBytes;
+        private Integer maxCachedBlocks;
+        private Integer readAheadBlocks;
+
+        @Override
+        public Builder blockSizeInBytes(Long blockSizeInBytes) {
+            this.blockSizeInBytes = blockSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder maxCachedBlocks(Integer maxCachedBlocks) {
+            this.maxCachedBlocks = maxCachedBlocks;
+            return this;
+        }
+
+        @Override
+        public Builder readAheadBlocks(Integer readAheadBlocks) {
+            this.readAheadBlocks = readAheadBlocks;
+            return this;
+        }
+
+        @Override
+        public S3SeekableByteChannelConfiguration build() {
+            return new S3SeekableByteChannelConfiguration(this);
+        }
+    }
+}
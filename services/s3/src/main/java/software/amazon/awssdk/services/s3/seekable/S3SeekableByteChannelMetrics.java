@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.seekable;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A point-in-time snapshot of the block cache statistics of a {@link S3SeekableByteChannel}.
+ */
+@SdkPublicApi
+public final class S3SeekableByteChannelMetrics {
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final long bytesRead;
+    private final long bytesFetched;
+    private final long bytesOverFetched;
+
+    private S3SeekableByteChannelMetrics(Builder builder) {
+        this.cacheHits = builder.cacheHits;
+        this.cacheMisses = builder.cacheMisses;
+        this.bytesRead = builder.bytesRead;
+        this.bytesFetched = builder.bytesFetched;
+        this.bytesOverFetched = builder.bytesOverFetched;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The number of block lookups served by a cached or already in-flight block.
+     */
+    public long cacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * The number of block lookups that required a new ranged GET request.
+     */
+    public long cacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * The ratio of cache hits to block lookups, or 0 if no block was looked up yet.
+     */
+    public double hitRate() {
+        long lookups = cacheHits + cacheMisses;
+        return lookups == 0 ? 0 : (double) cacheHits / lookups;
+    }
+
+    /**
+     * The number of bytes returned to the reader.
+     */
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * The number of bytes downloaded from S3.
+     */
+    public long bytesFetched() {
+        return bytesFetched;
+    }
+
+    /**
+     * The number of downloaded bytes belonging to blocks that were evicted, or discarded on close, without ever being read.
+     */
+    public long bytesOverFetched() {
+        return bytesOverFetched;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("S3SeekableByteChannelMetrics")
+                       .add("cacheHits", cacheHits)
+                       .add("cacheMisses", cacheMisses)
+                       .add("bytesRead", bytesRead)
+                       .add("bytesFetched", bytesFetched)
+                       .add("bytesOverFetched", bytesOverFetched)
+                       .build();
+    }
+
+    public static final class Builder {
+        private long cacheHits;
+        private long cacheMisses;
+        private long bytesRead;
+        private long bytesFetched;
+        private long bytesOverFetched;
+
+        private Builder() {
+        }
+
+        public Builder cacheHits(long cacheHits) {
+            this.cacheHits = cacheHits;
+            return this;
+        }
+
+        public Builder cacheMisses(long cacheMisses) {
+            this.cacheMisses = cacheMisses;
+            return this;
+        }
+
+        public Builder bytesRead(long bytesRead) {
+            this.bytesRead = bytesRead;
+            return this;
+        }
+
+        public Builder bytesFetched(long bytesFetched) {
+            this.bytesFetched = bytesFetched;
+            return this;
+        }
+
+        public Builder bytesOverFetched(long bytesOverFetched) {
+            this.bytesOverFetched = bytesOverFetched;
+            return this;
+        }
+
+        public S3SeekableByteChannelMetrics build() {
+            return new S3SeekableByteChannelMetrics(this);
+        }
+    }
+}
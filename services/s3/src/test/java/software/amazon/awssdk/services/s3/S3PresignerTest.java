@@ -29,7 +29,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -54,6 +56,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedDeleteObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
@@ -234,6 +237,86 @@ public class S3PresignerTest {
         });
     }
 
+    @Test
+    public void getObjects_PresignsEachRequestInOrder() {
+        List<GetObjectPresignRequest> requests = Arrays.asList(getObjectPresignRequest("foo34343434", "a"),
+                                                               getObjectPresignRequest("bar34343434", "b"),
+                                                               getObjectPresignRequest("foo34343434", "c"));
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests);
+
+        assertThat(presigned).extracting(p -> p.url().toString())
+                             .satisfiesExactly(url -> assertThat(url).startsWith("https://foo34343434.s3.us-west-2.amazonaws.com/a?"),
+                                               url -> assertThat(url).startsWith("https://bar34343434.s3.us-west-2.amazonaws.com/b?"),
+                                               url -> assertThat(url).startsWith("https://foo34343434.s3.us-west-2.amazonaws.com/c?"));
+        assertThat(presigned).allSatisfy(p -> {
+            assertThat(p.isBrowserExecutable()).isTrue();
+            assertThat(p.signedHeaders().keySet()).containsExactly("host");
+        });
+        assertThat(presigned).extracting(p -> p.httpRequest().firstMatchingRawQueryParameter("X-Amz-Date").get())
+                             .containsOnly(presigned.get(0).httpRequest().firstMatchingRawQueryParameter("X-Amz-Date").get());
+        assertThat(presigned.get(0).httpRequest().firstMatchingRawQueryParameter("X-Amz-Signature"))
+            .isNotEqualTo(presigned.get(2).httpRequest().firstMatchingRawQueryParameter("X-Amz-Signature"));
+    }
+
+    @Test
+    public void getObjects_ResolvesCredentialsOncePerBatch() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        S3Presigner presigner = presignerBuilder().credentialsProvider(() -> {
+            resolveCount.incrementAndGet();
+            return AwsBasicCredentials.create("x", "x");
+        }).build();
+
+        presigner.presignGetObjects(Arrays.asList(getObjectPresignRequest("foo34343434", "a"),
+                                                  getObjectPresignRequest("foo34343434", "b"),
+                                                  getObjectPresignRequest("foo34343434", "c")));
+
+        assertThat(resolveCount).hasValue(1);
+    }
+
+    @Test
+    public void getObjects_CredentialsCanBeOverriddenAtTheRequestLevel() {
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder()
+                                           .credentialsProvider(() -> AwsBasicCredentials.create("b", "b"))
+                                           .build();
+        GetObjectPresignRequest requestWithOverride =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434")
+                                                             .key("b")
+                                                             .overrideConfiguration(overrideConfiguration))
+                                   .build();
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Arrays.asList(getObjectPresignRequest("foo34343434", "a"), requestWithOverride));
+
+        assertThat(presigned.get(0).httpRequest().firstMatchingRawQueryParameter("X-Amz-Credential").get()).startsWith("x");
+        assertThat(presigned.get(1).httpRequest().firstMatchingRawQueryParameter("X-Amz-Credential").get()).startsWith("b");
+    }
+
+    @Test
+    public void getObjects_HonorsEachSignatureDuration() {
+        GetObjectPresignRequest longRequest = getObjectPresignRequest("foo34343434", "a").toBuilder()
+                                                                                        .signatureDuration(Duration.ofHours(1))
+                                                                                        .build();
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Arrays.asList(getObjectPresignRequest("foo34343434", "a"), longRequest));
+
+        assertThat(presigned.get(0).httpRequest().firstMatchingRawQueryParameter("X-Amz-Expires")).hasValue("300");
+        assertThat(presigned.get(1).httpRequest().firstMatchingRawQueryParameter("X-Amz-Expires")).hasValue("3600");
+        assertThat(Duration.between(presigned.get(0).expiration(), presigned.get(1).expiration()))
+            .isEqualTo(Duration.ofMinutes(55));
+    }
+
+    private static GetObjectPresignRequest getObjectPresignRequest(String bucket, String key) {
+        return GetObjectPresignRequest.builder()
+                                      .signatureDuration(Duration.ofMinutes(5))
+                                      .getObjectRequest(go -> go.bucket(bucket).key(key))
+                                      .build();
+    }
+
     @Test
     public void putObject_IsNotUrlCompatible() {
         PresignedPutObjectRequest presigned =
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveMultipartTunerTest {
+    private static final long MIB = 1024 * 1024;
+    private static final long PART_SIZE = 8 * MIB;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void concurrencyLimit_shouldStartLowAndBeCappedByMemory() {
+        assertThat(new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get).concurrencyLimit()).isEqualTo(4);
+        assertThat(new AdaptiveMultipartTuner(PART_SIZE, 2 * PART_SIZE, clock::get).concurrencyLimit()).isEqualTo(2);
+        assertThat(new AdaptiveMultipartTuner(PART_SIZE, PART_SIZE / 2, clock::get).concurrencyLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void partCompleted_throughputImproving_shouldKeepIncreasing() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        // Throughput scales with the number of parts in flight
+        for (int i = 0; i < 5; i++) {
+            runWindow(tuner, tuner.concurrencyLimit() * 10 * MIB);
+        }
+
+        assertThat(tuner.concurrencyLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void partCompleted_throughputPlateau_shouldBackOff() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        runWindow(tuner, 40 * MIB);
+        assertThat(tuner.concurrencyLimit()).isEqualTo(5);
+        runWindow(tuner, 40 * MIB);
+        assertThat(tuner.concurrencyLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void partCompleted_throughputDropping_shouldReverseDirection() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        runWindow(tuner, 40 * MIB);
+        runWindow(tuner, 50 * MIB);
+        assertThat(tuner.concurrencyLimit()).isEqualTo(6);
+        runWindow(tuner, 30 * MIB);
+        assertThat(tuner.concurrencyLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void partCompleted_beforeWindowElapsed_shouldNotChangeLimit() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            tuner.partCompleted(PART_SIZE, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertThat(tuner.concurrencyLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void partFailed_shouldHalveLimit() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        tuner.partFailed();
+        assertThat(tuner.concurrencyLimit()).isEqualTo(2);
+        tuner.partFailed();
+        tuner.partFailed();
+        assertThat(tuner.concurrencyLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void partSizeInBytes_noSample_shouldUseMinimumPartSize() {
+        assertThat(new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get).partSizeInBytes()).isEqualTo(PART_SIZE);
+    }
+
+    @Test
+    void partSizeInBytes_fastConnection_shouldTargetTwoSecondsPerPart() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        // 8 MiB in 200ms, 40 MiB/s per connection
+        tuner.partCompleted(PART_SIZE, TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThat(tuner.partSizeInBytes()).isEqualTo(80 * MIB);
+    }
+
+    @Test
+    void partSizeInBytes_slowConnection_shouldNotGoBelowMinimum() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 100 * PART_SIZE, clock::get);
+
+        tuner.partCompleted(PART_SIZE, TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(tuner.partSizeInBytes()).isEqualTo(PART_SIZE);
+    }
+
+    @Test
+    void partSizeInBytes_shouldFitCurrentConcurrencyInMemory() {
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 8 * PART_SIZE, clock::get);
+
+        tuner.partCompleted(PART_SIZE, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(tuner.partSizeInBytes()).isEqualTo(16 * MIB);
+    }
+
+    /**
+     * Completes one window worth of parts at the current limit, transferring {@code bytesPerSecond} over one second.
+     */
+    private void runWindow(AdaptiveMultipartTuner tuner, long bytesPerSecond) {
+        int parts = tuner.concurrencyLimit();
+        for (int i = 0; i < parts; i++) {
+            if (i == parts - 1) {
+                clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            }
+            tuner.partCompleted(bytesPerSecond / parts, TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
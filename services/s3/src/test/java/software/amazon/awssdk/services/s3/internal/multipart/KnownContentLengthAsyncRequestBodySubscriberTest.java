@@ -18,9 +18,12 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
@@ -98,6 +102,35 @@ public class KnownContentLengthAsyncRequestBodySubscriberTest {
         verifyResumeToken(resumeToken, numExistingParts);
     }
 
+    @Test
+    void onNext_withTuner_shouldNotRequestMorePartsThanConcurrencyLimit() {
+        // The memory budget allows two parts in flight
+        AdaptiveMultipartTuner tuner = new AdaptiveMultipartTuner(PART_SIZE, 2 * PART_SIZE);
+        CompletableFuture<CompletedPart> firstPart = new CompletableFuture<>();
+        when(multipartUploadHelper.sendIndividualUploadPartRequest(any(), any(), any(), any(), any()))
+            .thenReturn(firstPart, new CompletableFuture<>());
+        MpuRequestContext mpuRequestContext = MpuRequestContext.builder()
+                                                               .request(Pair.of(putObjectRequest, asyncRequestBody))
+                                                               .contentLength(MPU_CONTENT_SIZE)
+                                                               .partSize(PART_SIZE)
+                                                               .uploadId(UPLOAD_ID)
+                                                               .existingParts(new HashMap<>())
+                                                               .numPartsCompleted(0L)
+                                                               .build();
+        KnownContentLengthAsyncRequestBodySubscriber subscriber =
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, new CompletableFuture<>(),
+                                                             multipartUploadHelper, tuner);
+        Subscription subscription = mock(Subscription.class);
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(AsyncRequestBody.fromBytes(new byte[(int) PART_SIZE]));
+        subscriber.onNext(AsyncRequestBody.fromBytes(new byte[(int) PART_SIZE]));
+        verify(subscription, times(2)).request(1);
+
+        firstPart.complete(CompletedPart.builder().partNumber(1).build());
+        verify(subscription, times(3)).request(1);
+    }
+
     private S3ResumeToken configureSubscriberAndPause(int numExistingParts,
                                                       CompletableFuture<CompleteMultipartUploadResponse> completeMpuFuture) {
         Map<Integer, CompletedPart> existingParts = existingParts(numExistingParts);
@@ -0,0 +1,284 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.utils.IoUtils;
+
+class MultipartS3ClientTest {
+    private static final long PART_SIZE = 1024;
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String ETAG = "\"etag\"";
+
+    @TempDir
+    Path tempDir;
+
+    private S3Client delegate;
+    private MultipartS3Client multipartClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(S3Client.class);
+        multipartClient = MultipartS3Client.create(delegate, MultipartConfiguration.builder()
+                                                                                   .minimumPartSizeInBytes(PART_SIZE)
+                                                                                   .thresholdInBytes(2 * PART_SIZE)
+                                                                                   .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        multipartClient.close();
+    }
+
+    @Test
+    void maxConcurrency_derivedFromApiCallBufferSize() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(PART_SIZE)
+                                                                     .apiCallBufferSizeInBytes(10 * PART_SIZE)
+                                                                     .build();
+        assertThat(MultipartS3Client.maxConcurrency(new MultipartConfigurationResolver(configuration))).isEqualTo(10);
+        assertThat(MultipartS3Client.maxConcurrency(
+            new MultipartConfigurationResolver(configuration.toBuilder().apiCallBufferSizeInBytes(1L).build()))).isEqualTo(1);
+    }
+
+    @Test
+    void putObject_belowThreshold_usesSinglePutObject() throws IOException {
+        Path file = file(2 * PART_SIZE - 1);
+        when(delegate.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+            .thenReturn(PutObjectResponse.builder().build());
+
+        multipartClient.putObject(putObjectRequest(), file);
+
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(delegate).putObject(requestCaptor.capture(), any(RequestBody.class));
+        assertThat(requestCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32);
+        verify(delegate, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void putObject_aboveThreshold_uploadsFileRangesAsParts() throws IOException {
+        byte[] content = randomBytes(3 * PART_SIZE + 10);
+        Path file = Files.write(tempDir.resolve("upload"), content);
+        Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+        stubMultipartUpload(uploadedParts);
+        when(delegate.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompleteMultipartUploadResponse.builder().eTag(ETAG).build());
+
+        PutObjectResponse response = multipartClient.putObject(putObjectRequest(), file);
+
+        assertThat(response.eTag()).isEqualTo(ETAG);
+        assertThat(uploadedParts).hasSize(4);
+        for (int partNumber = 1; partNumber <= 4; partNumber++) {
+            int start = (int) ((partNumber - 1) * PART_SIZE);
+            int end = (int) Math.min(start + PART_SIZE, content.length);
+            assertThat(uploadedParts.get(partNumber)).isEqualTo(Arrays.copyOfRange(content, start, end));
+        }
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(delegate).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(completeCaptor.getValue().multipartUpload().parts()).extracting(CompletedPart::partNumber)
+                                                                      .containsExactly(1, 2, 3, 4);
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createCaptor = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(delegate).createMultipartUpload(createCaptor.capture());
+        assertThat(createCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32);
+    }
+
+    @Test
+    void putObject_partFails_abortsMultipartUpload() throws IOException {
+        Path file = file(3 * PART_SIZE);
+        when(delegate.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(delegate.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenThrow(S3Exception.builder().message("part failed").build());
+
+        assertThatThrownBy(() -> multipartClient.putObject(putObjectRequest(), file))
+            .isInstanceOf(S3Exception.class)
+            .hasMessageContaining("part failed");
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(delegate).abortMultipartUpload(abortCaptor.capture());
+        assertThat(abortCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(delegate, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void putObject_partFails_waitsForPartsInFlightBeforeAborting() throws IOException {
+        Path file = file(3 * PART_SIZE);
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch secondPartStarted = new CountDownLatch(1);
+        when(delegate.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(delegate.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenAnswer(i -> {
+                UploadPartRequest request = i.getArgument(0);
+                if (request.partNumber() == 1) {
+                    secondPartStarted.await(5, TimeUnit.SECONDS);
+                    throw S3Exception.builder().message("part failed").build();
+                }
+                if (request.partNumber() == 2) {
+                    secondPartStarted.countDown();
+                    Thread.sleep(200);
+                    events.add("part 2 finished");
+                }
+                return UploadPartResponse.builder().eTag("part" + request.partNumber()).build();
+            });
+        when(delegate.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(i -> {
+            events.add("abort");
+            return null;
+        });
+
+        assertThatThrownBy(() -> multipartClient.putObject(putObjectRequest(), file))
+            .hasMessageContaining("part failed");
+
+        assertThat(events).containsExactly("part 2 finished", "abort");
+    }
+
+    @Test
+    void getObject_multipartObject_downloadsPartsInParallelConditionalOnETag() throws IOException {
+        byte[] content = randomBytes(3 * PART_SIZE + 10);
+        List<GetObjectRequest> requests = stubGetObject(content, 4);
+        Path destination = tempDir.resolve("download");
+
+        multipartClient.getObject(GetObjectRequest.builder().bucket("bucket").key("key").build(), destination);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(requests).extracting(GetObjectRequest::partNumber).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(requests).filteredOn(r -> r.partNumber() > 1).extracting(GetObjectRequest::ifMatch).containsOnly(ETAG);
+    }
+
+    @Test
+    void getObject_singlePartObject_sendsOneRequest() throws IOException {
+        byte[] content = randomBytes(PART_SIZE / 2);
+        List<GetObjectRequest> requests = stubGetObject(content, 1);
+        Path destination = tempDir.resolve("download");
+
+        multipartClient.getObject(GetObjectRequest.builder().bucket("bucket").key("key").build(), destination);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void getObject_destinationExists_throwsAndKeepsExistingFile() throws IOException {
+        Path destination = Files.write(tempDir.resolve("download"), new byte[] {1});
+
+        assertThatThrownBy(() -> multipartClient.getObject(GetObjectRequest.builder().bucket("bucket").key("key").build(),
+                                                           destination))
+            .hasMessageContaining("Failed to create");
+        assertThat(Files.readAllBytes(destination)).containsExactly(1);
+    }
+
+    @Test
+    void startOffset_parsesContentRange() {
+        assertThat(SyncDownloadObjectHelper.startOffset(GetObjectResponse.builder().contentRange("bytes 1024-2047/4096").build()))
+            .isEqualTo(1024);
+        assertThat(SyncDownloadObjectHelper.startOffset(GetObjectResponse.builder().build())).isZero();
+    }
+
+    private void stubMultipartUpload(Map<Integer, byte[]> uploadedParts) {
+        when(delegate.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(delegate.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenAnswer(i -> {
+                UploadPartRequest request = i.getArgument(0);
+                RequestBody body = i.getArgument(1);
+                uploadedParts.put(request.partNumber(), IoUtils.toByteArray(body.contentStreamProvider().newStream()));
+                return UploadPartResponse.builder().eTag("part" + request.partNumber()).build();
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GetObjectRequest> stubGetObject(byte[] content, int partsCount) {
+        List<GetObjectRequest> requests = new CopyOnWriteArrayList<>();
+        when(delegate.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class)))
+            .thenAnswer(i -> {
+                GetObjectRequest request = i.getArgument(0);
+                ResponseTransformer<GetObjectResponse, ?> transformer = i.getArgument(1);
+                requests.add(request);
+                int start = (int) ((request.partNumber() - 1) * PART_SIZE);
+                int end = partsCount == 1 ? content.length : (int) Math.min(start + PART_SIZE, content.length);
+                GetObjectResponse response = GetObjectResponse.builder()
+                                                              .eTag(ETAG)
+                                                              .partsCount(partsCount == 1 ? null : partsCount)
+                                                              .contentRange("bytes " + start + "-" + (end - 1) + "/"
+                                                                            + content.length)
+                                                              .build();
+                byte[] part = Arrays.copyOfRange(content, start, end);
+                return transformer.transform(response, AbortableInputStream.create(new ByteArrayInputStream(part)));
+            });
+        return requests;
+    }
+
+    private static PutObjectRequest putObjectRequest() {
+        return PutObjectRequest.builder().bucket("bucket").key("key").build();
+    }
+
+    private Path file(long size) throws IOException {
+        return Files.write(tempDir.resolve("upload"), randomBytes(size));
+    }
+
+    private static byte[] randomBytes(long size) {
+        byte[] bytes = new byte[(int) size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.seekable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannel;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannelConfiguration;
+import software.amazon.awssdk.services.s3.seekable.S3SeekableByteChannelMetrics;
+
+class DefaultS3SeekableByteChannelTest {
+    private static final int BLOCK_SIZE = 100;
+    private static final String ETAG = "\"etag\"";
+
+    private final byte[] object = new byte[1050];
+    private final List<GetObjectRequest> requests = new CopyOnWriteArrayList<>();
+    private S3AsyncClient s3AsyncClient;
+
+    @BeforeEach
+    void setUp() {
+        new Random(7).nextBytes(object);
+        s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder()
+                                                                            .contentLength((long) object.length)
+                                                                            .eTag(ETAG)
+                                                                            .build()));
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenAnswer(i -> {
+                GetObjectRequest request = i.getArgument(0);
+                requests.add(request);
+                String[] range = request.range().substring("bytes=".length()).split("-");
+                byte[] bytes = Arrays.copyOfRange(object, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+                return CompletableFuture.completedFuture(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), bytes));
+            });
+    }
+
+    @Test
+    void read_wholeObject_returnsObjectBytes() throws IOException {
+        try (S3SeekableByteChannel channel = channel(2, 4);
+             InputStream inputStream = channel.asInputStream()) {
+            byte[] read = new byte[object.length];
+            int total = 0;
+            int n;
+            while ((n = inputStream.read(read, total, Math.min(37, read.length - total))) > 0) {
+                total += n;
+            }
+
+            assertThat(total).isEqualTo(object.length);
+            assertThat(read).isEqualTo(object);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void read_rangedRequestsAreConditionalOnETag() throws IOException {
+        try (S3SeekableByteChannel channel = channel(0, 4)) {
+            channel.read(ByteBuffer.allocate(10));
+        }
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).range()).isEqualTo("bytes=0-99");
+        assertThat(requests.get(0).ifMatch()).isEqualTo(ETAG);
+    }
+
+    @Test
+    void read_randomAccess_servedFromCacheAndDoesNotReadAhead() throws IOException {
+        try (S3SeekableByteChannel channel = channel(2, 4)) {
+            assertThat(readAt(channel, 1045, 5)).isEqualTo(Arrays.copyOfRange(object, 1045, 1050));
+            assertThat(readAt(channel, 520, 10)).isEqualTo(Arrays.copyOfRange(object, 520, 530));
+            assertThat(readAt(channel, 1040, 5)).isEqualTo(Arrays.copyOfRange(object, 1040, 1045));
+
+            S3SeekableByteChannelMetrics metrics = channel.metrics();
+            assertThat(metrics.cacheMisses()).isEqualTo(2);
+            assertThat(metrics.cacheHits()).isEqualTo(1);
+            assertThat(metrics.bytesFetched()).isEqualTo(150);
+            assertThat(metrics.bytesRead()).isEqualTo(20);
+        }
+        verify(s3AsyncClient, times(2)).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+
+    @Test
+    void read_sequential_readsAheadInParallel() throws IOException {
+        try (S3SeekableByteChannel channel = channel(2, 4)) {
+            channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+            channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+
+            assertThat(requests).extracting(GetObjectRequest::range)
+                                .containsExactly("bytes=0-99", "bytes=100-199", "bytes=200-299", "bytes=300-399");
+
+            channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+            assertThat(channel.metrics().cacheHits()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void close_unreadReadAheadBlocks_countedAsOverFetched() throws IOException {
+        S3SeekableByteChannel channel = channel(2, 4);
+        channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+        channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+        channel.close();
+
+        assertThat(channel.metrics().bytesOverFetched()).isEqualTo(2 * BLOCK_SIZE);
+        assertThat(channel.isOpen()).isFalse();
+        assertThatThrownBy(() -> channel.read(ByteBuffer.allocate(1))).isInstanceOf(ClosedChannelException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void close_readAheadInProgress_cancelsClientRequests() throws IOException {
+        List<CompletableFuture<?>> inFlight = new CopyOnWriteArrayList<>();
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenAnswer(i -> {
+                GetObjectRequest request = i.getArgument(0);
+                String[] range = request.range().substring("bytes=".length()).split("-");
+                int start = Integer.parseInt(range[0]);
+                if (start >= 2 * BLOCK_SIZE) {
+                    CompletableFuture<ResponseBytes<GetObjectResponse>> pending = new CompletableFuture<>();
+                    inFlight.add(pending);
+                    return pending;
+                }
+                byte[] bytes = Arrays.copyOfRange(object, start, Integer.parseInt(range[1]) + 1);
+                return CompletableFuture.completedFuture(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), bytes));
+            });
+
+        S3SeekableByteChannel channel = channel(2, 4);
+        channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+        channel.read(ByteBuffer.allocate(BLOCK_SIZE));
+        assertThat(inFlight).hasSize(2);
+
+        channel.close();
+
+        assertThat(inFlight).allMatch(CompletableFuture::isCancelled);
+    }
+
+    @Test
+    void read_cacheFull_evictsLeastRecentlyUsedBlock() throws IOException {
+        try (S3SeekableByteChannel channel = channel(0, 2)) {
+            readAt(channel, 0, 1);
+            readAt(channel, 500, 1);
+            readAt(channel, 0, 1);
+            readAt(channel, 900, 1);
+            readAt(channel, 0, 1);
+            readAt(channel, 500, 1);
+        }
+
+        assertThat(requests).extracting(GetObjectRequest::range)
+                            .containsExactly("bytes=0-99", "bytes=500-599", "bytes=900-999", "bytes=500-599");
+    }
+
+    @Test
+    void read_pastEnd_returnsMinusOne() throws IOException {
+        try (S3SeekableByteChannel channel = channel(2, 4)) {
+            channel.position(object.length);
+            assertThat(channel.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+            assertThat(channel.size()).isEqualTo(object.length);
+        }
+    }
+
+    @Test
+    void create_readAheadNotLessThanCacheSize_throws() {
+        assertThatThrownBy(() -> channel(4, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void create_rangedRequest_throws() {
+        GetObjectRequest request = GetObjectRequest.builder().bucket("bucket").key("key").range("bytes=0-1").build();
+        assertThatThrownBy(() -> S3SeekableByteChannel.create(s3AsyncClient, request))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] readAt(S3SeekableByteChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.position(position);
+        channel.read(buffer);
+        return buffer.array();
+    }
+
+    private S3SeekableByteChannel channel(int readAheadBlocks, int maxCachedBlocks) {
+        return S3SeekableByteChannel.create(s3AsyncClient,
+                                            GetObjectRequest.builder().bucket("bucket").key("key").build(),
+                                            S3SeekableByteChannelConfiguration.builder()
+                                                                              .blockSizeInBytes((long) BLOCK_SIZE)
+                                                                              .readAheadBlocks(readAheadBlocks)
+                                                                              .maxCachedBlocks(maxCachedBlocks)
+                                                                              .build());
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sts.auth;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * A cache of assumed-role credentials for many roles, shared by the {@link AwsCredentialsProvider}s it creates with
+ * {@link #credentialsProvider(AssumeRoleRequest)}. This is useful for applications that assume a different role for each of
+ * many tenants, and would otherwise create an {@link StsAssumeRoleCredentialsProvider} per tenant.
+ *
+ * Credentials are cached by the whole {@link AssumeRoleRequest}, apart from its override configuration, since every other field
+ * (such as the session policies, session tags, session name or duration) can change the credentials STS issues. All providers
+ * for equal requests share the same credentials, which are updated by a single {@link StsAssumeRoleCredentialsProvider}
+ * using the first of those requests. Concurrent updates of the same credentials are therefore only sent to STS once. All
+ * updates are sent with the same {@link StsClient}, and asynchronous updates share the same background threads.
+ *
+ * When more than {@link Builder#maxCachedRoles(Integer)} credentials are cached, the least recently used ones are evicted,
+ * and assumed again the next time they are needed.
+ *
+ * Users of this cache must {@link #close()} it when they are finished using it. The {@link StsClient} is not closed.
+ *
+ * This is created using {@link #builder()}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class StsAssumeRoleCredentialsCache implements SdkAutoCloseable {
+    private static final int DEFAULT_MAX_CACHED_ROLES = 1_000;
+
+    private final StsClient stsClient;
+    private final Boolean asyncCredentialUpdateEnabled;
+    private final Duration staleTime;
+    private final Duration prefetchTime;
+    private final Duration staleWhileRevalidateTime;
+    private final LruCache<RoleKey, CachedRole> cachedRoles;
+
+    /**
+     * The providers of all cached roles, including the ones being evicted, so that they can be closed with this cache.
+     */
+    private final Set<StsAssumeRoleCredentialsProvider> openProviders = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed = false;
+
+    private StsAssumeRoleCredentialsCache(Builder builder) {
+        this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
+        this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
+        this.staleTime = builder.staleTime;
+        this.prefetchTime = builder.prefetchTime;
+        this.staleWhileRevalidateTime = builder.staleWhileRevalidateTime;
+        Integer maxCachedRoles = Validate.isPositiveOrNull(builder.maxCachedRoles, "maxCachedRoles");
+        this.cachedRoles = LruCache.builder(this::newCachedRole)
+                                   .maxSize(maxCachedRoles != null ? maxCachedRoles : DEFAULT_MAX_CACHED_ROLES)
+                                   .build();
+    }
+
+    /**
+     * Create a builder for an {@link StsAssumeRoleCredentialsCache}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a credentials provider that resolves the credentials of the given {@link AssumeRoleRequest} from this cache.
+     * Creating a provider is cheap, and it does not need to be closed: its credentials are only cached by this cache.
+     *
+     * @param assumeRoleRequest The request to send to STS whenever the credentials of this request are not cached or are close
+     * to expiring.
+     */
+    public AwsCredentialsProvider credentialsProvider(AssumeRoleRequest assumeRoleRequest) {
+        RoleKey roleKey = new RoleKey(Validate.notNull(assumeRoleRequest, "Assume role request must not be null."));
+        return new CachedRoleCredentialsProvider(roleKey);
+    }
+
+    /**
+     * Similar to {@link #credentialsProvider(AssumeRoleRequest)}, but takes a lambda to configure a new
+     * {@link AssumeRoleRequest.Builder}.
+     */
+    public AwsCredentialsProvider credentialsProvider(Consumer<AssumeRoleRequest.Builder> assumeRoleRequest) {
+        return credentialsProvider(AssumeRoleRequest.builder().applyMutation(assumeRoleRequest).build());
+    }
+
+    private AwsCredentials resolveCredentials(RoleKey roleKey) {
+        Validate.validState(!closed, "The assume role credentials cache has been closed.");
+        return cachedRoles.get(roleKey).provider.resolveCredentials();
+    }
+
+    private CachedRole newCachedRole(RoleKey roleKey) {
+        StsAssumeRoleCredentialsProvider provider =
+            StsAssumeRoleCredentialsProvider.builder()
+                                            .stsClient(stsClient)
+                                            .refreshRequest(roleKey.request)
+                                            .asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled)
+                                            .staleTime(staleTime)
+                                            .prefetchTime(prefetchTime)
+                                            .staleWhileRevalidateTime(staleWhileRevalidateTime)
+                                            .build();
+        openProviders.add(provider);
+        return new CachedRole(provider);
+    }
+
+    /**
+     * Close the providers of all cached roles. Credentials can no longer be resolved from this cache once it is closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        openProviders.forEach(StsAssumeRoleCredentialsProvider::close);
+        openProviders.clear();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("StsAssumeRoleCredentialsCache")
+                       .add("cachedRoles", cachedRoles.size())
+                       .build();
+    }
+
+    /**
+     * The credentials of a role, closed by the {@link LruCache} when they are evicted.
+     */
+    private final class CachedRole implements SdkAutoCloseable {
+        private final StsAssumeRoleCredentialsProvider provider;
+
+        private CachedRole(StsAssumeRoleCredentialsProvider provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void close() {
+            openProviders.remove(provider);
+            provider.close();
+        }
+    }
+
+    private final class CachedRoleCredentialsProvider implements AwsCredentialsProvider {
+        private final RoleKey roleKey;
+
+        private CachedRoleCredentialsProvider(RoleKey roleKey) {
+            this.roleKey = roleKey;
+        }
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            return StsAssumeRoleCredentialsCache.this.resolveCredentials(roleKey);
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("StsAssumeRoleCredentialsCacheProvider")
+                           .add("roleArn", roleKey.request.roleArn())
+                           .build();
+        }
+    }
+
+    /**
+     * The {@link AssumeRoleRequest} that credentials are cached by, without its override configuration, which does not affect
+     * the credentials STS issues.
+     */
+    private static final class RoleKey {
+        private final AssumeRoleRequest request;
+
+        private RoleKey(AssumeRoleRequest request) {
+            this.request = request.toBuilder()
+                                  .overrideConfiguration((AwsRequestOverrideConfiguration) null)
+                                  .build();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            RoleKey that = (RoleKey) o;
+            return request.equals(that.request);
+        }
+
+        @Override
+        public int hashCode() {
+            return request.hashCode();
+        }
+    }
+
+    /**
+     * A builder (created by {@link StsAssumeRoleCredentialsCache#builder()}) for creating an
+     * {@link StsAssumeRoleCredentialsCache}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private StsClient stsClient;
+        private Boolean asyncCredentialUpdateEnabled = false;
+        private Duration staleTime;
+        private Duration prefetchTime;
+        private Duration staleWhileRevalidateTime;
+        private Integer maxCachedRoles;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the {@link StsClient} to use when assuming roles. This client is shared by all roles of the cache, and
+         * must be closed by the caller when it is ready to be disposed.
+         */
+        public Builder stsClient(StsClient stsClient) {
+            this.stsClient = stsClient;
+            return this;
+        }
+
+        /**
+         * Configure whether the cached credentials should be updated asynchronously in the background.
+         *
+         * @see StsCredentialsProvider.BaseBuilder#asyncCredentialUpdateEnabled(Boolean)
+         */
+        public Builder asyncCredentialUpdateEnabled(Boolean asyncCredentialUpdateEnabled) {
+            this.asyncCredentialUpdateEnabled = asyncCredentialUpdateEnabled;
+            return this;
+        }
+
+        /**
+         * Configure the amount of time, relative to STS token expiration, that the cached credentials are considered stale
+         * and must be updated.
+         *
+         * @see StsCredentialsProvider.BaseBuilder#staleTime(Duration)
+         */
+        public Builder staleTime(Duration staleTime) {
+            this.staleTime = staleTime;
+            return this;
+        }
+
+        /**
+         * Configure the amount of time, relative to STS token expiration, that the cached credentials are considered close
+         * to stale and should be updated.
+         *
+         * @see StsCredentialsProvider.BaseBuilder#prefetchTime(Duration)
+         */
+        public Builder prefetchTime(Duration prefetchTime) {
+            this.prefetchTime = prefetchTime;
+            return this;
+        }
+
+        /**
+         * Configure how long after the cached credentials become stale they are still returned while they are updated in the
+         * background, instead of blocking until they are updated.
+         *
+         * @see StsCredentialsProvider.BaseBuilder#staleWhileRevalidateTime(Duration)
+         */
+        public Builder staleWhileRevalidateTime(Duration staleWhileRevalidateTime) {
+            this.staleWhileRevalidateTime = staleWhileRevalidateTime;
+            return this;
+        }
+
+        /**
+         * Configure the maximum number of distinct {@link AssumeRoleRequest}s to cache credentials for. Requests that differ in
+         * any field other than their override configuration are cached separately. When this is exceeded, the credentials of
+         * the least recently used request are evicted.
+         *
+         * <p>By default, this is 1000.</p>
+         */
+        public Builder maxCachedRoles(Integer maxCachedRoles) {
+            this.maxCachedRoles = maxCachedRoles;
+            return this;
+        }
+
+        public StsAssumeRoleCredentialsCache build() {
+            return new StsAssumeRoleCredentialsCache(this);
+        }
+    }
+}
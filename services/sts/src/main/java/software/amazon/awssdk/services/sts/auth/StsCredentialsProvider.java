@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.sts.auth;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -25,6 +26,8 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -42,8 +45,10 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * updating session credentials.
  *
  * When credentials get close to expiration, this class will attempt to update them automatically either with a single calling
- * thread (by default) or asynchronously (if {@link #asyncCredentialUpdateEnabled} is true). If the credentials expire, this
- * class will block all calls to {@link #resolveCredentials()} until the credentials are updated.
+ * thread (by default) or asynchronously (if {@link #asyncCredentialUpdateEnabled} is true). If the credentials become stale,
+ * this class will block all calls to {@link #resolveCredentials()} until the credentials are updated. When updates are
+ * asynchronous and {@link BaseBuilder#staleWhileRevalidateTime(Duration)} is configured, stale credentials are still returned
+ * for that long while they are updated in the background.
  *
  * Users of this provider must {@link #close()} it when they are finished using it.
  */
@@ -67,6 +72,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
     private final Duration staleTime;
     private final Duration prefetchTime;
+    private final Duration staleWhileRevalidateTime;
     private final Boolean asyncCredentialUpdateEnabled;
 
     StsCredentialsProvider(BaseBuilder<?, ?> builder, String asyncThreadName) {
@@ -74,13 +80,19 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
         this.staleTime = Optional.ofNullable(builder.staleTime).orElse(DEFAULT_STALE_TIME);
         this.prefetchTime = Optional.ofNullable(builder.prefetchTime).orElse(DEFAULT_PREFETCH_TIME);
+        this.staleWhileRevalidateTime = Optional.ofNullable(builder.staleWhileRevalidateTime).orElse(Duration.ZERO);
+        Validate.isNotNegative(staleWhileRevalidateTime, "staleWhileRevalidateTime");
+        Validate.isTrue(staleWhileRevalidateTime.compareTo(staleTime) <= 0,
+                        "staleWhileRevalidateTime (%s) must not be longer than staleTime (%s), or expired credentials would be "
+                        + "returned.", staleWhileRevalidateTime, staleTime);
 
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         CachedSupplier.Builder<AwsSessionCredentials> cacheBuilder =
             CachedSupplier.builder(this::updateSessionCredentials)
                           .cachedValueName(toString());
         if (builder.asyncCredentialUpdateEnabled) {
-            cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+            cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName))
+                        .staleWhileRevalidate(this.staleWhileRevalidateTime);
         }
         this.sessionCache = cacheBuilder.build();
     }
@@ -110,11 +122,27 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         return credentials;
     }
 
+    /**
+     * Resolve the credentials without blocking the calling thread. If the session has to be refreshed before it can be
+     * returned, the returned future is completed once STS has been called in the background.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return sessionCache.getAsync().thenApply(credentials -> credentials);
+    }
+
     @Override
     public void close() {
         sessionCache.close();
     }
 
+    /**
+     * Whether the cached credentials are updated asynchronously, for subclasses that delegate to another provider.
+     */
+    boolean asyncCredentialUpdateEnabled() {
+        return asyncCredentialUpdateEnabled;
+    }
+
     /**
      * The amount of time, relative to STS token expiration, that the cached credentials are considered stale and
      * should no longer be used. All threads will block until the value is updated.
@@ -131,6 +159,14 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         return prefetchTime;
     }
 
+    /**
+     * The amount of time after the cached credentials become stale that they are still returned while they are updated
+     * asynchronously.
+     */
+    public Duration staleWhileRevalidateTime() {
+        return staleWhileRevalidateTime;
+    }
+
     @Override
     public String toString() {
         return ToString.create(providerName());
@@ -156,6 +192,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         private StsClient stsClient;
         private Duration staleTime;
         private Duration prefetchTime;
+        private Duration staleWhileRevalidateTime;
 
         BaseBuilder(Function<B, T> providerConstructor) {
             this.providerConstructor = providerConstructor;
@@ -167,6 +204,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             this.stsClient = provider.stsClient;
             this.staleTime = provider.staleTime;
             this.prefetchTime = provider.prefetchTime;
+            this.staleWhileRevalidateTime = provider.staleWhileRevalidateTime;
         }
 
         /**
@@ -185,7 +223,8 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         /**
          * Configure whether the provider should fetch credentials asynchronously in the background. If this is true,
          * threads are less likely to block when credentials are loaded, but additional resources are used to maintain
-         * the provider.
+         * the provider. See {@link #staleWhileRevalidateTime(Duration)} to keep returning stale credentials while they are
+         * updated.
          *
          * <p>By default, this is disabled.</p>
          */
@@ -197,7 +236,11 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
 
         /**
          * Configure the amount of time, relative to STS token expiration, that the cached credentials are considered
-         * stale and must be updated. All threads will block until the value is updated.
+         * stale and must be updated. All threads will block until the value is updated, unless
+         * {@link #asyncCredentialUpdateEnabled} is true and {@link #staleWhileRevalidateTime(Duration)} is configured, in which
+         * case threads only block once that time has also passed. The stale time is a safety margin for clock skew, signing
+         * latency and long running requests, so credentials that are returned always remain valid for at least the stale time
+         * minus the stale-while-revalidate time.
          *
          * <p>By default, this is 1 minute.</p>
          */
@@ -222,6 +265,20 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             return (B) this;
         }
 
+        /**
+         * Configure how long after the cached credentials become stale they are still returned while they are updated in the
+         * background, instead of blocking until they are updated. This only applies if {@link #asyncCredentialUpdateEnabled}
+         * is true, and must not be longer than the {@link #staleTime(Duration)}, so that a margin of the difference between the
+         * two is kept before the credentials expire.
+         *
+         * <p>By default, this is zero: stale credentials are never returned.</p>
+         */
+        @SuppressWarnings("unchecked")
+        public B staleWhileRevalidateTime(Duration staleWhileRevalidateTime) {
+            this.staleWhileRevalidateTime = staleWhileRevalidateTime;
+            return (B) this;
+        }
+
 
         /**
          * Build the credentials provider using the configuration applied to this builder.
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.utils.Validate.notNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -30,10 +31,13 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.internal.WebIdentityTokenCredentialProperties;
 import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.internal.AssumeRoleWithWebIdentityRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
@@ -58,7 +62,7 @@ public final class StsWebIdentityTokenFileCredentialsProvider
     implements ToCopyableBuilder<StsWebIdentityTokenFileCredentialsProvider.Builder, StsWebIdentityTokenFileCredentialsProvider> {
     private static final String PROVIDER_NAME = "StsWebIdentityTokenFileCredentialsProvider";
 
-    private final AwsCredentialsProvider credentialsProvider;
+    private final StsAssumeRoleWithWebIdentityCredentialsProvider credentialsProvider;
     private final RuntimeException loadException;
     private final Supplier<AssumeRoleWithWebIdentityRequest> assumeRoleWithWebIdentityRequest;
 
@@ -95,7 +99,7 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                                                                                         .roleSessionName(sessionName)
                                                                                         .build();
 
-        AwsCredentialsProvider credentialsProviderLocal = null;
+        StsAssumeRoleWithWebIdentityCredentialsProvider credentialsProviderLocal = null;
         RuntimeException loadExceptionLocal = null;
         try {
             AssumeRoleWithWebIdentityRequestSupplier supplier =
@@ -107,6 +111,10 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                 StsAssumeRoleWithWebIdentityCredentialsProvider.builder()
                                                                .stsClient(builder.stsClient)
                                                                .refreshRequest(supplier)
+                                                               .asyncCredentialUpdateEnabled(asyncCredentialUpdateEnabled())
+                                                               .staleTime(staleTime())
+                                                               .staleWhileRevalidateTime(staleWhileRevalidateTime())
+                                                               .prefetchTime(prefetchTime())
                                                                .build();
         } catch (RuntimeException e) {
             // If we couldn't load the credentials provider for some reason, save an exception describing why. This exception
@@ -135,6 +143,22 @@ public final class StsWebIdentityTokenFileCredentialsProvider
         return credentialsProvider.resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (loadException != null) {
+            return CompletableFutureUtils.failedFuture(loadException);
+        }
+        return credentialsProvider.resolveIdentity(request);
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        if (credentialsProvider != null) {
+            credentialsProvider.close();
+        }
+    }
+
     @Override
     protected AwsSessionCredentials getUpdatedCredentials(StsClient stsClient) {
         AssumeRoleWithWebIdentityRequest request = assumeRoleWithWebIdentityRequest.get();
@@ -16,10 +16,13 @@
 package software.amazon.awssdk.services.sts.internal;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.ChildProfileCredentialsProviderFactory;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.Profile;
 import software.amazon.awssdk.profiles.ProfileProperty;
 import software.amazon.awssdk.regions.Region;
@@ -109,6 +112,11 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
             return this.credentialsProvider.resolveCredentials();
         }
 
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            return this.credentialsProvider.resolveIdentity(request);
+        }
+
         @Override
         public void close() {
             IoUtils.closeIfCloseable(parentCredentialsProvider, null);
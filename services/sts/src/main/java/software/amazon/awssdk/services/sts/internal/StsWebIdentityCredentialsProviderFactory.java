@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.sts.internal;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -24,6 +25,8 @@ import software.amazon.awssdk.auth.credentials.WebIdentityTokenCredentialsProvid
 import software.amazon.awssdk.auth.credentials.internal.WebIdentityTokenCredentialProperties;
 import software.amazon.awssdk.core.retry.conditions.OrRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.Profile;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
@@ -109,6 +112,11 @@ public final class StsWebIdentityCredentialsProviderFactory implements WebIdenti
             return this.credentialsProvider.resolveCredentials();
         }
 
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            return this.credentialsProvider.resolveIdentity(request);
+        }
+
         @Override
         public void close() {
             IoUtils.closeQuietly(credentialsProvider, null);
@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sts.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
+import software.amazon.awssdk.services.sts.model.Credentials;
+
+/**
+ * Validate the functionality of {@link StsAssumeRoleCredentialsCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StsAssumeRoleCredentialsCacheTest {
+    private static final String ROLE_ARN = "arn:aws:iam::123456789012:role/tenant-role";
+
+    @Mock
+    private StsClient stsClient;
+
+    private void stubAssumeRole() {
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class)))
+            .thenAnswer(i -> response(i.getArgument(0, AssumeRoleRequest.class).externalId()));
+    }
+
+    @Test
+    public void providersForTheSameRoleShareCredentials() {
+        stubAssumeRole();
+        try (StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder().stsClient(stsClient).build()) {
+            AwsCredentials first = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1")
+                                                                   .roleSessionName("session"))
+                                        .resolveCredentials();
+            AwsCredentials second = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1")
+                                                                    .roleSessionName("session")
+                                                                    .overrideConfiguration(o -> o.putHeader("x", "y")))
+                                         .resolveCredentials();
+
+            assertThat(second).isSameAs(first);
+            verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void providersForRequestsWithDifferentSessionPoliciesOrTagsDoNotShareCredentials() {
+        stubAssumeRole();
+        try (StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder().stsClient(stsClient).build()) {
+            AwsCredentials unscoped = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1"))
+                                           .resolveCredentials();
+            AwsCredentials withPolicyArns =
+                cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1")
+                                                .policyArns(p -> p.arn("arn:aws:iam::aws:policy/ReadOnlyAccess")))
+                     .resolveCredentials();
+            AwsCredentials withTags = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1")
+                                                                      .tags(t -> t.key("tenant").value("1")))
+                                           .resolveCredentials();
+            AwsCredentials withSessionName = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1")
+                                                                             .roleSessionName("session"))
+                                                  .resolveCredentials();
+
+            assertThat(withPolicyArns).isNotSameAs(unscoped);
+            assertThat(withTags).isNotSameAs(unscoped).isNotSameAs(withPolicyArns);
+            assertThat(withSessionName).isNotSameAs(unscoped);
+            verify(stsClient, times(4)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void providersForDifferentExternalIdsOrPoliciesDoNotShareCredentials() {
+        stubAssumeRole();
+        try (StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder().stsClient(stsClient).build()) {
+            AwsCredentials first = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1"))
+                                        .resolveCredentials();
+            AwsCredentials second = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-2"))
+                                         .resolveCredentials();
+            AwsCredentials third = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-2").policy("{}"))
+                                        .resolveCredentials();
+
+            assertThat(first.accessKeyId()).isEqualTo("tenant-1");
+            assertThat(second.accessKeyId()).isEqualTo("tenant-2");
+            assertThat(third).isNotSameAs(second);
+            verify(stsClient, times(3)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void concurrentResolutionsForTheSameRoleAssumeItOnce() throws Exception {
+        CountDownLatch assumeRoleReleased = new CountDownLatch(1);
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenAnswer(i -> {
+            assumeRoleReleased.await();
+            return response("tenant-1");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try (StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder().stsClient(stsClient).build()) {
+            List<Future<AwsCredentials>> resolutions = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                AwsCredentialsProvider provider = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1"));
+                resolutions.add(executor.submit(provider::resolveCredentials));
+            }
+
+            Thread.sleep(500);
+            assumeRoleReleased.countDown();
+
+            for (Future<AwsCredentials> resolution : resolutions) {
+                assertThat(resolution.get(10, TimeUnit.SECONDS).accessKeyId()).isEqualTo("tenant-1");
+            }
+            verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedRoleIsEvictedWhenCacheIsFull() {
+        stubAssumeRole();
+        try (StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder()
+                                                                                .stsClient(stsClient)
+                                                                                .maxCachedRoles(1)
+                                                                                .build()) {
+            AwsCredentialsProvider first = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1"));
+            AwsCredentialsProvider second = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-2"));
+
+            first.resolveCredentials();
+            second.resolveCredentials();
+            assertThat(first.resolveCredentials().accessKeyId()).isEqualTo("tenant-1");
+
+            verify(stsClient, times(3)).assumeRole(any(AssumeRoleRequest.class));
+        }
+    }
+
+    @Test
+    public void closedCacheCannotResolveCredentials() {
+        stubAssumeRole();
+        StsAssumeRoleCredentialsCache cache = StsAssumeRoleCredentialsCache.builder().stsClient(stsClient).build();
+        AwsCredentialsProvider provider = cache.credentialsProvider(r -> r.roleArn(ROLE_ARN).externalId("tenant-1"));
+        provider.resolveCredentials();
+
+        cache.close();
+
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AssumeRoleResponse response(String accessKeyId) {
+        Credentials credentials = Credentials.builder()
+                                             .accessKeyId(accessKeyId)
+                                             .secretAccessKey("secret")
+                                             .sessionToken("token")
+                                             .expiration(Instant.now().plusSeconds(3600))
+                                             .build();
+        return AssumeRoleResponse.builder()
+                                 .credentials(credentials)
+                                 .assumedRoleUser(AssumedRoleUser.builder().arn(ROLE_ARN).build())
+                                 .build();
+    }
+}
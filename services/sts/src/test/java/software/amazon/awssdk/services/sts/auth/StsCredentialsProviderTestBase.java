@@ -16,12 +16,16 @@
 package software.amazon.awssdk.services.sts.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -90,6 +94,56 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
         callClient(verify(stsClient, times(2)), Mockito.any());
     }
 
+    @Test
+    public void asyncUpdateReturnsStaleCredentialsWhileTheyAreUpdated() throws Exception {
+        // Stale, because they expire within the default stale time of 1 minute, but not yet expired.
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plusSeconds(30)).build();
+        RequestT request = getRequest();
+        ResponseT response = getResponse(credentials);
+        CountDownLatch updateReleased = new CountDownLatch(1);
+        when(callClient(stsClient, request)).thenReturn(response).thenAnswer(i -> {
+            updateReleased.await();
+            return response;
+        });
+
+        try (StsCredentialsProvider credentialsProvider = createCredentialsProviderBuilder(request)
+            .stsClient(stsClient)
+            .asyncCredentialUpdateEnabled(true)
+            .staleWhileRevalidateTime(Duration.ofSeconds(45))
+            .build()) {
+            credentialsProvider.resolveCredentials();
+
+            // The update blocks until it is released, so these only return if they don't wait for it.
+            AwsSessionCredentials staleCredentials =
+                CompletableFuture.supplyAsync(() -> (AwsSessionCredentials) credentialsProvider.resolveCredentials())
+                                 .get(5, TimeUnit.SECONDS);
+            assertThat(staleCredentials.accessKeyId()).isEqualTo("a");
+            assertThat(staleCredentials.expirationTime()).contains(credentials.expiration());
+        } finally {
+            updateReleased.countDown();
+        }
+    }
+
+    @Test
+    public void staleCredentialsAreNotReturnedWhileTheyAreUpdatedByDefault() {
+        try (StsCredentialsProvider credentialsProvider = createCredentialsProviderBuilder(getRequest())
+            .stsClient(stsClient)
+            .asyncCredentialUpdateEnabled(true)
+            .build()) {
+            assertThat(credentialsProvider.staleWhileRevalidateTime()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void staleWhileRevalidateTimeLongerThanStaleTimeIsRejected() {
+        assertThatThrownBy(() -> createCredentialsProviderBuilder(getRequest()).stsClient(stsClient)
+                                                                              .staleTime(Duration.ofSeconds(30))
+                                                                              .staleWhileRevalidateTime(Duration.ofMinutes(1))
+                                                                              .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     protected abstract RequestT getRequest();
 
     protected abstract ResponseT getResponse(Credentials credentials);
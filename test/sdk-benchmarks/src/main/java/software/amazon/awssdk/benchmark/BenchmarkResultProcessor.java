@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.util.Statistics;
 import software.amazon.awssdk.benchmark.stats.SdkBenchmarkParams;
@@ -47,6 +48,7 @@ class BenchmarkResultProcessor {
 
     private static final Logger log = Logger.loggerFor(BenchmarkResultProcessor.class);
     private static final double TOLERANCE_LEVEL = 0.05;
+    private static final String ALLOCATION_RATE_RESULT = "gc.alloc.rate.norm";
 
     private Map<String, SdkBenchmarkResult> baseline;
 
@@ -111,9 +113,16 @@ class BenchmarkResultProcessor {
         SdkBenchmarkStatistics sdkBenchmarkStatistics = new SdkBenchmarkStatistics(statistics);
         SdkBenchmarkParams sdkBenchmarkParams = new SdkBenchmarkParams(runResult.getParams());
 
-        return new SdkBenchmarkResult(getBenchmarkId(runResult.getParams()),
-                                      sdkBenchmarkParams,
-                                      sdkBenchmarkStatistics);
+        SdkBenchmarkResult result = new SdkBenchmarkResult(getBenchmarkId(runResult.getParams()),
+                                                           sdkBenchmarkParams,
+                                                           sdkBenchmarkStatistics);
+
+        // Only present when the benchmark was run with the GC profiler
+        Result<?> allocationRate = runResult.getSecondaryResults().get(ALLOCATION_RATE_RESULT);
+        if (allocationRate != null) {
+            result.setAllocatedBytesPerOp(allocationRate.getScore());
+        }
+        return result;
     }
 
     /**
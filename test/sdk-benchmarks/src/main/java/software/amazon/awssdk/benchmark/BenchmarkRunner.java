@@ -32,6 +32,7 @@ import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -41,6 +42,8 @@ import software.amazon.awssdk.benchmark.apicall.MetricsEnabledBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.AwsCrtClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.NettyHttpClientH1Benchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.NettyHttpClientH2Benchmark;
+import software.amazon.awssdk.benchmark.apicall.httpclient.matrix.Http1ClientMatrixBenchmark;
+import software.amazon.awssdk.benchmark.apicall.httpclient.matrix.Http2ClientMatrixBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.ApacheHttpClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.CrtHttpClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.UrlConnectionHttpClientBenchmark;
@@ -81,6 +84,12 @@ public class BenchmarkRunner {
         UrlConnectionHttpClientBenchmark.class.getSimpleName(),
         CrtHttpClientBenchmark.class.getSimpleName());
 
+    // These also match the JdkHttp1ClientMatrixBenchmark and JdkHttp2ClientMatrixBenchmark of the Java 11 source set, which are
+    // built when running on Java 11 or later
+    private static final List<String> HTTP_CLIENT_MATRIX_BENCHMARKS = Arrays.asList(
+        Http1ClientMatrixBenchmark.class.getSimpleName(),
+        Http2ClientMatrixBenchmark.class.getSimpleName());
+
     private static final List<String> COLD_START_BENCHMARKS = Arrays.asList(
         V2OptimizedClientCreationBenchmark.class.getSimpleName(),
         V2DefaultClientCreationBenchmark.class.getSimpleName());
@@ -111,14 +120,21 @@ public class BenchmarkRunner {
     }
 
     public static void main(String... args) throws Exception {
+        BenchmarkRunnerOptions options = parseOptions(args);
+
         List<String> benchmarksToRun = new ArrayList<>();
-        benchmarksToRun.addAll(SYNC_BENCHMARKS);
-        benchmarksToRun.addAll(ASYNC_BENCHMARKS);
-        benchmarksToRun.addAll(PROTOCOL_BENCHMARKS);
-        benchmarksToRun.addAll(COLD_START_BENCHMARKS);
-        log.info(() -> "Skipping tests, to reduce benchmark times: \n" + MAPPER_BENCHMARKS + "\n" + METRIC_BENCHMARKS);
+        if (options.httpClientMatrix) {
+            benchmarksToRun.addAll(HTTP_CLIENT_MATRIX_BENCHMARKS);
+        } else {
+            benchmarksToRun.addAll(SYNC_BENCHMARKS);
+            benchmarksToRun.addAll(ASYNC_BENCHMARKS);
+            benchmarksToRun.addAll(PROTOCOL_BENCHMARKS);
+            benchmarksToRun.addAll(COLD_START_BENCHMARKS);
+            log.info(() -> "Skipping tests, to reduce benchmark times: \n" + MAPPER_BENCHMARKS + "\n" + METRIC_BENCHMARKS
+                           + "\n" + HTTP_CLIENT_MATRIX_BENCHMARKS);
+        }
 
-        BenchmarkRunner runner = new BenchmarkRunner(benchmarksToRun, parseOptions(args));
+        BenchmarkRunner runner = new BenchmarkRunner(benchmarksToRun, options);
 
         runner.runBenchmark();
     }
@@ -130,6 +146,11 @@ public class BenchmarkRunner {
 
         benchmarksToRun.forEach(optionsBuilder::include);
 
+        if (options.httpClientMatrix) {
+            // Reports the allocation rate of each http client alongside its latency percentiles
+            optionsBuilder.addProfiler(GCProfiler.class);
+        }
+
         log.info(() -> "Starting to run: " + benchmarksToRun);
 
         Collection<RunResult> results = new Runner(optionsBuilder.build()).run();
@@ -154,12 +175,16 @@ public class BenchmarkRunner {
                                      "The path to write the benchmark results to.");
         cliOptions.addOption("c", "check", false,
                              "If specified, exit with error code 1 if the results are not within the baseline.");
+        cliOptions.addOption("m", "http-client-matrix", false,
+                             "If specified, only run the benchmarks comparing every http client, with latency "
+                             + "percentiles and allocation rates.");
 
         CommandLineParser parser = new DefaultParser();
         CommandLine cmdLine = parser.parse(cliOptions, args);
 
         BenchmarkRunnerOptions options = new BenchmarkRunnerOptions()
-            .check(cmdLine.hasOption("c"));
+            .check(cmdLine.hasOption("c"))
+            .httpClientMatrix(cmdLine.hasOption("m"));
 
         if (cmdLine.hasOption("o")) {
             options.outputPath(Paths.get(cmdLine.getOptionValue("o")));
@@ -181,6 +206,7 @@ public class BenchmarkRunner {
     private static class BenchmarkRunnerOptions {
         private Path outputPath;
         private boolean check;
+        private boolean httpClientMatrix;
 
         public BenchmarkRunnerOptions outputPath(Path outputPath) {
             this.outputPath = outputPath;
@@ -192,11 +218,17 @@ public class BenchmarkRunner {
             return this;
         }
 
+        public BenchmarkRunnerOptions httpClientMatrix(boolean httpClientMatrix) {
+            this.httpClientMatrix = httpClientMatrix;
+            return this;
+        }
+
         @Override
         public String toString() {
             return "BenchmarkRunnerOptions{" +
                    "outputPath=" + outputPath +
                    ", check=" + check +
+                   ", httpClientMatrix=" + httpClientMatrix +
                    '}';
         }
     }
@@ -16,19 +16,29 @@
 package software.amazon.awssdk.benchmark.apicall.httpclient.async;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.apicall.httpclient.matrix.AsyncHttpClientExecutor;
+import software.amazon.awssdk.benchmark.utils.EchoServlet;
 import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
 
 /**
  * Using aws-crt-client to test against local mock https server.
@@ -45,10 +55,43 @@ public class AwsCrtClientBenchmark extends BaseCrtBenchmark {
         return mock.getHttpsUri();
     }
 
+    /**
+     * Sends a large payload to the mock server, which echoes it back, through the http client directly. Run with the
+     * {@link GCProfiler} to see how much the client allocates on top of the payload itself.
+     */
+    @Benchmark
+    public long largePayloadRoundTrip(LargePayload largePayload) {
+        AsyncHttpClientExecutor executor = new AsyncHttpClientExecutor(sdkHttpClient);
+        URI endpoint = getEndpointOverride(mockServer);
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.POST)
+                                                       .uri(endpoint.resolve(EchoServlet.PATH))
+                                                       .putHeader("Host", endpoint.getHost() + ":" + endpoint.getPort())
+                                                       .putHeader("Content-Length",
+                                                                  String.valueOf(largePayload.payload.length))
+                                                       .build();
+        return executor.execute(request, largePayload.payload);
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargePayload {
+        @Param({"1048576", "8388608"})
+        private int payloadSize;
+
+        private byte[] payload;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            payload = new byte[payloadSize];
+            Arrays.fill(payload, (byte) 'a');
+        }
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
                 .include(AwsCrtClientBenchmark.class.getSimpleName())
                 .addProfiler(StackProfiler.class)
+                .addProfiler(GCProfiler.class)
                 .build();
         new Runner(opt).run();
     }
@@ -41,8 +41,8 @@ import software.amazon.awssdk.utils.AttributeMap;
  */
 public abstract class BaseCrtBenchmark implements SdkHttpClientBenchmark {
 
-    private MockServer mockServer;
-    private SdkAsyncHttpClient sdkHttpClient;
+    protected MockServer mockServer;
+    protected SdkAsyncHttpClient sdkHttpClient;
     private ProtocolRestJsonAsyncClient client;
 
     @Setup(Level.Trial)
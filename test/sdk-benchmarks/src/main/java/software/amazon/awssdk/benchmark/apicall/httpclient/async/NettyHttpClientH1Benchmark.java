@@ -23,6 +23,7 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsA
 import io.netty.handler.ssl.SslProvider;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
@@ -33,7 +34,9 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
@@ -54,12 +57,21 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncCli
 @BenchmarkMode(Mode.Throughput)
 public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
+    /**
+     * The number of threads calling the client at the same time in {@link #highConcurrencyApiCall(Blackhole)}, which is also
+     * the maximum number of connections, so that every caller can have a request in flight.
+     */
+    private static final int HIGH_CONCURRENCY_CALLERS = 128;
+
     private MockServer mockServer;
     private SdkAsyncHttpClient sdkHttpClient;
 
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({"false", "true"})
+    private boolean eventLoopAffinity;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
@@ -69,6 +81,8 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopAffinity(eventLoopAffinity)
+                                               .maxConcurrency(HIGH_CONCURRENCY_CALLERS)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
@@ -79,6 +93,16 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
         client.allTypes().join();
     }
 
+    /**
+     * Many callers, each on its own thread and waiting for its own request, which is the load the event loop affinity mode is
+     * meant for: each calling thread sticks to one event loop.
+     */
+    @Benchmark
+    @Threads(HIGH_CONCURRENCY_CALLERS)
+    public void highConcurrencyApiCall(Blackhole blackhole) {
+        blackhole.consume(client.allTypes().join());
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         mockServer.stop();
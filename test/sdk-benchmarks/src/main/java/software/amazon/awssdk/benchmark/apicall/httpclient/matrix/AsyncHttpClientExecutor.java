@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * {@link HttpClientExecutor} for a {@link SdkAsyncHttpClient}, which blocks until the response body has been received.
+ */
+public final class AsyncHttpClientExecutor implements HttpClientExecutor {
+
+    private final SdkAsyncHttpClient client;
+
+    public AsyncHttpClientExecutor(SdkAsyncHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public long execute(SdkHttpFullRequest request, byte[] body) {
+        DrainingResponseHandler responseHandler = new DrainingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(new ByteArrayContentPublisher(body))
+                                          .responseHandler(responseHandler)
+                                          .build())
+              .join();
+        return responseHandler.bytesRead().join();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static final class ByteArrayContentPublisher implements SdkHttpContentPublisher {
+        private final AsyncRequestBody body;
+
+        private ByteArrayContentPublisher(byte[] body) {
+            // The benchmark never modifies the body, so there is no need to copy it
+            this.body = AsyncRequestBody.fromBytesUnsafe(body);
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return body.contentLength();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            body.subscribe(subscriber);
+        }
+    }
+
+    /**
+     * Counts the bytes of the response body without keeping them.
+     */
+    private static final class DrainingResponseHandler implements SdkAsyncHttpResponseHandler, Subscriber<ByteBuffer> {
+        private final CompletableFuture<Long> bytesRead = new CompletableFuture<>();
+        private long count;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            if (!headers.isSuccessful()) {
+                bytesRead.completeExceptionally(
+                    new IllegalStateException("Unexpected response status: " + headers.statusCode()));
+            }
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            count += byteBuffer.remaining();
+        }
+
+        /**
+         * Called both when the request fails and when the response body stream fails.
+         */
+        @Override
+        public void onError(Throwable error) {
+            bytesRead.completeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            bytesRead.complete(count);
+        }
+
+        CompletableFuture<Long> bytesRead() {
+            return bytesRead;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Benchmarking the http clients that support HTTP/2. Without TLS, the clients use HTTP/2 with prior knowledge.
+ */
+public class Http2ClientMatrixBenchmark extends HttpClientMatrixBenchmark {
+
+    @Param({"NETTY", "APACHE5_ASYNC"})
+    private MatrixHttpClient client;
+
+    @Override
+    protected HttpClientExecutor createClient(AttributeMap config) {
+        return client.create(config);
+    }
+
+    @Override
+    protected Protocol protocol() {
+        return Protocol.HTTP2;
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Http2ClientMatrixBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
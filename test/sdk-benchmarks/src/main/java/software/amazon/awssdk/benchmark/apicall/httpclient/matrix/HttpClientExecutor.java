@@ -0,0 +1,33 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Sends requests through either a sync or an async http client, so that both kinds of clients can be benchmarked the same
+ * way.
+ */
+public interface HttpClientExecutor extends SdkAutoCloseable {
+
+    /**
+     * Sends the request with the given body, and waits for the whole response to be received.
+     *
+     * @return the number of bytes of the response body
+     */
+    long execute(SdkHttpFullRequest request, byte[] body);
+}
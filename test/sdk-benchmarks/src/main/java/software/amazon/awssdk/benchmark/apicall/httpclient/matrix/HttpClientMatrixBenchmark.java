@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.CONCURRENT_CALLS;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECTIONS;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.utils.BaseMockServer;
+import software.amazon.awssdk.benchmark.utils.EchoServlet;
+import software.amazon.awssdk.benchmark.utils.MockH2Server;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Base class for the benchmarks comparing every http client against the local mock servers, for each combination of payload
+ * size, TLS on or off, and number of concurrent requests.
+ *
+ * <p>The benchmarks run in {@link Mode#SampleTime}, so that the results include the latency percentiles of the requests, and
+ * are meant to be run with the {@link org.openjdk.jmh.profile.GCProfiler} to also report the allocation rate of each client.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(1) // The matrix is large, so a single fork is used to keep the run time reasonable
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class HttpClientMatrixBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int payloadSize;
+
+    @Param({"true", "false"})
+    private boolean tls;
+
+    private BaseMockServer mockServer;
+    private HttpClientExecutor httpClient;
+    private SdkHttpFullRequest request;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // With TLS, the HTTP/2 server negotiates h2 through ALPN, which the java.net.http clients require. Without TLS, it
+        // accepts both prior knowledge and an upgrade from HTTP/1.1.
+        mockServer = protocol() == Protocol.HTTP2 ? new MockH2Server(true) : new MockServer();
+        mockServer.start();
+        URI endpoint = tls ? mockServer.getHttpsUri() : mockServer.getHttpUri();
+
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'a');
+        request = SdkHttpFullRequest.builder()
+                                    .method(SdkHttpMethod.POST)
+                                    .uri(endpoint.resolve(EchoServlet.PATH))
+                                    .putHeader("Host", endpoint.getHost() + ":" + endpoint.getPort())
+                                    .putHeader("Content-Length", String.valueOf(payloadSize))
+                                    .build();
+
+        httpClient = createClient(trustAllTlsAttributeMapBuilder().put(PROTOCOL, protocol())
+                                                                  .put(MAX_CONNECTIONS, CONCURRENT_CALLS)
+                                                                  .build());
+
+        // Making sure the request actually succeeds
+        long responseSize = httpClient.execute(request, payload);
+        if (responseSize != payloadSize) {
+            throw new IllegalStateException("Expected a response of " + payloadSize + " bytes, but got " + responseSize);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        httpClient.close();
+        mockServer.stop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long sequentialRequest() {
+        return httpClient.execute(request, payload);
+    }
+
+    @Benchmark
+    @Threads(10)
+    public long concurrentRequests10() {
+        return httpClient.execute(request, payload);
+    }
+
+    @Benchmark
+    @Threads(CONCURRENT_CALLS)
+    public long concurrentRequests50() {
+        return httpClient.execute(request, payload);
+    }
+
+    /**
+     * Creates the client being benchmarked, with the given configuration.
+     */
+    protected abstract HttpClientExecutor createClient(AttributeMap config);
+
+    /**
+     * The protocol the client is configured with, and the mock server is started for.
+     */
+    protected abstract Protocol protocol();
+}
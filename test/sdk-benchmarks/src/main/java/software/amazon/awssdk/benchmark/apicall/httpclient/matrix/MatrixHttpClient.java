@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.nio.apache5.Apache5AsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * The http clients that are part of the {@link HttpClientMatrixBenchmark}s. The clients that need Java 11 are in
+ * {@code JdkMatrixHttpClient}, in the Java 11 source set.
+ */
+public enum MatrixHttpClient {
+    APACHE {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new SyncHttpClientExecutor(ApacheHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    URL_CONNECTION {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new SyncHttpClientExecutor(UrlConnectionHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    AWS_CRT {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new SyncHttpClientExecutor(AwsCrtHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    NETTY {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new AsyncHttpClientExecutor(NettyNioAsyncHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    AWS_CRT_ASYNC {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new AsyncHttpClientExecutor(AwsCrtAsyncHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    APACHE5_ASYNC {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new AsyncHttpClientExecutor(Apache5AsyncHttpClient.builder().buildWithDefaults(config));
+        }
+    };
+
+    abstract HttpClientExecutor create(AttributeMap config);
+}
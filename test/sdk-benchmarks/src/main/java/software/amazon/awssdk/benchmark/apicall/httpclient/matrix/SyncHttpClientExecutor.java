@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * {@link HttpClientExecutor} for a {@link SdkHttpClient}.
+ */
+public final class SyncHttpClientExecutor implements HttpClientExecutor {
+
+    /**
+     * Reused to read the response bodies, so that the allocations of the benchmark itself don't add to the ones of the client.
+     */
+    private static final ThreadLocal<byte[]> READ_BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    private final SdkHttpClient client;
+
+    public SyncHttpClientExecutor(SdkHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public long execute(SdkHttpFullRequest request, byte[] body) {
+        HttpExecuteRequest executeRequest = HttpExecuteRequest.builder()
+                                                              .request(request)
+                                                              .contentStreamProvider(() -> new ByteArrayInputStream(body))
+                                                              .build();
+        try {
+            HttpExecuteResponse response = client.prepareRequest(executeRequest).call();
+            if (!response.httpResponse().isSuccessful()) {
+                throw new IllegalStateException("Unexpected response status: " + response.httpResponse().statusCode());
+            }
+
+            if (!response.responseBody().isPresent()) {
+                return 0;
+            }
+
+            try (AbortableInputStream content = response.responseBody().get()) {
+                return drain(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long drain(InputStream content) throws IOException {
+        byte[] buffer = READ_BUFFER.get();
+        long total = 0;
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUrlSigner;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+/**
+ * Compares signing CloudFront URLs with a canned policy through {@link CloudFrontUtilities}, one request at a time, with
+ * signing them through a reusable {@link CloudFrontUrlSigner}, one at a time and in batches.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CloudFrontSignerBenchmark {
+    private static final String RESOURCE_URL = "https://d111111abcdef8.cloudfront.net/videos/segment-";
+    private static final String KEY_PAIR_ID = "K2JCJMDEHXQW5F";
+    private static final int BATCH_SIZE = 1000;
+
+    private PrivateKey privateKey;
+    private Instant expirationDate;
+    private List<String> resourceUrls;
+    private CloudFrontUtilities utilities;
+    private CloudFrontUrlSigner signer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        privateKey = kpg.generateKeyPair().getPrivate();
+        expirationDate = Instant.now().plus(1, ChronoUnit.DAYS);
+        resourceUrls = IntStream.range(0, BATCH_SIZE)
+                                .mapToObj(i -> RESOURCE_URL + i + ".ts")
+                                .collect(Collectors.toList());
+        utilities = CloudFrontUtilities.create();
+        signer = CloudFrontUrlSigner.builder()
+                                    .privateKey(privateKey)
+                                    .keyPairId(KEY_PAIR_ID)
+                                    .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void cloudFrontUtilities(Blackhole blackhole) {
+        for (String resourceUrl : resourceUrls) {
+            blackhole.consume(utilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(resourceUrl)
+                                                                           .privateKey(privateKey)
+                                                                           .keyPairId(KEY_PAIR_ID)
+                                                                           .expirationDate(expirationDate)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void signerOneAtATime(Blackhole blackhole) {
+        for (String resourceUrl : resourceUrls) {
+            blackhole.consume(signer.signUrlWithCannedPolicy(resourceUrl, expirationDate));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<SignedUrl> signerBatch() {
+        return signer.signUrlsWithCannedPolicy(resourceUrls, expirationDate);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CloudFrontSignerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
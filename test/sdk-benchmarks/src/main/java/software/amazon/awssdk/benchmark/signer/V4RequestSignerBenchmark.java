@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.DefaultV4RequestSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4CanonicalRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4Properties;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4RequestSigningResult;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Compares computing a SigV4 signature the way {@link DefaultV4RequestSigner} used to, by creating the canonical request and
+ * the string-to-sign as strings and hashing their UTF-8 bytes, with {@link DefaultV4RequestSigner#sign(SdkHttpRequest.Builder)},
+ * which builds and hashes both in a per-thread workspace. Run with the GC profiler to compare allocations per signature.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class V4RequestSignerBenchmark {
+    private static final String CONTENT_HASH = "UNSIGNED-PAYLOAD";
+
+    private SdkHttpRequest request;
+    private V4Properties properties;
+    private DefaultV4RequestSigner signer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        request = SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.POST)
+                                .uri(URI.create("https://dynamodb.us-west-2.amazonaws.com/"))
+                                .putHeader("Host", "dynamodb.us-west-2.amazonaws.com")
+                                .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                .putHeader("Content-Length", "48")
+                                .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                .putHeader("X-Amz-Date", "20240101T000000Z")
+                                .putHeader("amz-sdk-invocation-id", "0b6e1e4e-6c5d-4c2e-9a6a-1b2c3d4e5f60")
+                                .putHeader("amz-sdk-request", "attempt=1; max=3")
+                                .putHeader("User-Agent", "aws-sdk-java/2.x")
+                                .putRawQueryParameter("versionId", "3HL4kqtJlcpXroDTDmJ+rmSpXd3dIbrHY")
+                                .build();
+        properties = V4Properties.builder()
+                                 .credentials(AwsCredentialsIdentity.create("akid", "skid"))
+                                 .credentialScope(new CredentialScope("us-west-2", "dynamodb", Instant.EPOCH))
+                                 .signingClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC))
+                                 .doubleUrlEncode(true)
+                                 .normalizePath(true)
+                                 .build();
+        signer = new DefaultV4RequestSigner(properties, CONTENT_HASH);
+    }
+
+    @Benchmark
+    public String signWithStrings() {
+        V4CanonicalRequest canonicalRequest = new V4CanonicalRequest(request, CONTENT_HASH,
+                                                                     new V4CanonicalRequest.Options(true, true));
+        String canonicalRequestHash = SignerUtils.hashCanonicalRequest(canonicalRequest.getCanonicalRequestString());
+        String stringToSign = SignerConstant.AWS4_SIGNING_ALGORITHM + SignerConstant.LINE_SEPARATOR
+                              + properties.getCredentialScope().getDatetime() + SignerConstant.LINE_SEPARATOR
+                              + properties.getCredentialScope().scope() + SignerConstant.LINE_SEPARATOR
+                              + canonicalRequestHash;
+        byte[] signingKey = SignerUtils.deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
+        return BinaryUtils.toHex(SignerUtils.computeSignature(stringToSign, signingKey));
+    }
+
+    @Benchmark
+    public V4RequestSigningResult signWithWorkspace() {
+        return signer.sign(request.toBuilder());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V4RequestSignerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -29,6 +29,8 @@ public class SdkBenchmarkResult {
 
     private SdkBenchmarkStatistics statistics;
 
+    private Double allocatedBytesPerOp;
+
     @JsonCreator
     public SdkBenchmarkResult(@JsonProperty("id") String benchmarkId,
                               @JsonProperty("params") SdkBenchmarkParams params,
@@ -61,4 +63,16 @@ public class SdkBenchmarkResult {
     public void setParams(SdkBenchmarkParams params) {
         this.params = params;
     }
+
+    /**
+     * The number of bytes allocated per operation, or null if the benchmark was not run with the
+     * {@link org.openjdk.jmh.profile.GCProfiler}.
+     */
+    public Double getAllocatedBytesPerOp() {
+        return allocatedBytesPerOp;
+    }
+
+    public void setAllocatedBytesPerOp(Double allocatedBytesPerOp) {
+        this.allocatedBytesPerOp = allocatedBytesPerOp;
+    }
 }
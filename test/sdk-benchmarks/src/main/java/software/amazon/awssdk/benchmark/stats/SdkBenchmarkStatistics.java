@@ -37,6 +37,12 @@ public class SdkBenchmarkStatistics implements StatisticalSummary {
 
     private double sum;
 
+    private double p50;
+
+    private double p99;
+
+    private double p999;
+
     public SdkBenchmarkStatistics() {
     }
 
@@ -48,6 +54,9 @@ public class SdkBenchmarkStatistics implements StatisticalSummary {
         this.min = statistics.getMin();
         this.n = statistics.getN();
         this.sum = statistics.getSum();
+        this.p50 = statistics.getPercentile(50);
+        this.p99 = statistics.getPercentile(99);
+        this.p999 = statistics.getPercentile(99.9);
     }
 
     @Override
@@ -112,4 +121,32 @@ public class SdkBenchmarkStatistics implements StatisticalSummary {
     public void setSum(double sum) {
         this.sum = sum;
     }
+
+    /**
+     * The median of the samples. For benchmarks run in {@link org.openjdk.jmh.annotations.Mode#SampleTime}, the samples are
+     * the latencies of the individual operations.
+     */
+    public double getP50() {
+        return p50;
+    }
+
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public void setP999(double p999) {
+        this.p999 = p999;
+    }
 }
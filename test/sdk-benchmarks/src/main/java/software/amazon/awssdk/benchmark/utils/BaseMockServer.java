@@ -35,4 +35,8 @@ public abstract class BaseMockServer {
     public URI getHttpsUri() {
         return URI.create(String.format("https://localhost:%s", httpsPort));
     }
+
+    public abstract void start() throws Exception;
+
+    public abstract void stop() throws Exception;
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.matrix;
+
+import software.amazon.awssdk.http.jdk.JdkAsyncHttpClient;
+import software.amazon.awssdk.http.jdk.JdkHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * The http clients that are part of the {@link HttpClientMatrixBenchmark}s and need Java 11.
+ */
+public enum JdkMatrixHttpClient {
+    JDK {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new SyncHttpClientExecutor(JdkHttpClient.builder().buildWithDefaults(config));
+        }
+    },
+    JDK_ASYNC {
+        @Override
+        HttpClientExecutor create(AttributeMap config) {
+            return new AsyncHttpClientExecutor(JdkAsyncHttpClient.builder().buildWithDefaults(config));
+        }
+    };
+
+    abstract HttpClientExecutor create(AttributeMap config);
+}
@@ -157,11 +157,12 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
     private int transfer(ByteBuffer in, ByteBuffer out) {
         int amountToTransfer = Math.min(in.remaining(), out.remaining());
 
-        ByteBuffer truncatedIn = in.duplicate();
-        truncatedIn.limit(truncatedIn.position() + amountToTransfer);
-
-        out.put(truncatedIn);
-        in.position(truncatedIn.position());
+        // The stored buffer is our own duplicate (see onNext), so its limit can be narrowed in place instead of allocating
+        // another duplicate for every transfer.
+        int originalLimit = in.limit();
+        in.limit(in.position() + amountToTransfer);
+        out.put(in);
+        in.limit(originalLimit);
 
         if (!in.hasRemaining()) {
             storingSubscriber.poll();
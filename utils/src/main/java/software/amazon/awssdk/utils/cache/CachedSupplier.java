@@ -21,9 +21,11 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -40,7 +42,10 @@ import software.amazon.awssdk.utils.Validate;
  * value.
  *
  * For example, the {@link OneCallerBlocks} strategy will have a single caller block to update the value, and the
- * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background.
+ * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background. Callers that
+ * must not block at all can use {@link #getAsync()}, which never waits for a refresh on the calling thread. When a
+ * {@link Builder#staleWhileRevalidate(Duration)} window is configured, callers keep receiving the cached value for that long
+ * after it becomes stale while it is refreshed using the same strategy, instead of blocking on the refresh.
  *
  * This should be created using {@link #builder(Supplier)}.
  */
@@ -93,6 +98,11 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final String cachedValueName;
 
+    /**
+     * How long after its stale time the cached value is still returned while it is refreshed by the {@link #prefetchStrategy}.
+     */
+    private final Duration staleWhileRevalidate;
+
     /**
      * The value currently stored in this cache.
      */
@@ -103,6 +113,11 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final Supplier<RefreshResult<T>> valueSupplier;
 
+    /**
+     * The refresh started by {@link #getAsync()} that callers are currently waiting for, if any.
+     */
+    private final AtomicReference<CompletableFuture<T>> asyncRefresh = new AtomicReference<>();
+
     /**
      * Random instance used for jittering refresh results.
      */
@@ -117,6 +132,7 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         this.staleValueBehavior = Validate.notNull(builder.staleValueBehavior, "builder.staleValueBehavior");
         this.clock = Validate.notNull(builder.clock, "builder.clock");
         this.cachedValueName = Validate.notNull(builder.cachedValueName, "builder.cachedValueName");
+        this.staleWhileRevalidate = Validate.isNotNegative(builder.staleWhileRevalidate, "builder.staleWhileRevalidate");
     }
 
     /**
@@ -131,8 +147,14 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     @Override
     public T get() {
         if (cacheIsStale()) {
-            log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed.");
-            refreshCache();
+            if (canReturnStaleValue()) {
+                log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed while it is still "
+                                + "being returned.");
+                prefetchCache();
+            } else {
+                log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed.");
+                refreshCache();
+            }
         } else if (shouldInitiateCachePrefetch()) {
             log.debug(() -> "(" + cachedValueName + ") Cached value has reached prefetch time and will be refreshed.");
             prefetchCache();
@@ -141,12 +163,85 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         return this.cachedValue.value();
     }
 
+    /**
+     * Retrieve the cached value without blocking the calling thread.
+     *
+     * If {@link #get()} would return the cached value without waiting for it to be refreshed, the returned future is already
+     * completed with that value, and any refresh that is due is started in the background. Otherwise, the value is refreshed
+     * on a thread shared by all cached suppliers, and all callers waiting for this supplier's value share the same refresh.
+     * These refreshes count against the same limit on concurrent refreshes as the {@link NonBlocking} background refreshes.
+     */
+    public CompletableFuture<T> getAsync() {
+        RefreshResult<T> currentCachedValue = cachedValue;
+
+        if (!cacheIsStale(currentCachedValue)) {
+            if (shouldInitiateCachePrefetch(currentCachedValue)) {
+                prefetchWithoutBlocking();
+            }
+            return CompletableFuture.completedFuture(currentCachedValue.value());
+        }
+
+        if (canReturnStaleValue(currentCachedValue)) {
+            prefetchWithoutBlocking();
+            return CompletableFuture.completedFuture(currentCachedValue.value());
+        }
+
+        return refreshAsync();
+    }
+
+    /**
+     * Start a prefetch of the cached value without blocking the calling thread. The {@link NonBlocking} strategy already
+     * prefetches in the background, so it is used directly; other strategies may prefetch on the calling thread, so they are
+     * invoked from a background thread instead.
+     */
+    private void prefetchWithoutBlocking() {
+        if (prefetchStrategy instanceof NonBlocking) {
+            prefetchCache();
+        } else {
+            refreshAsync();
+        }
+    }
+
+    /**
+     * Call {@link #get()} in the background, or join the background call that is already in progress.
+     */
+    private CompletableFuture<T> refreshAsync() {
+        while (true) {
+            CompletableFuture<T> refreshInProgress = asyncRefresh.get();
+            if (refreshInProgress != null) {
+                return refreshInProgress;
+            }
+
+            CompletableFuture<T> refresh = new CompletableFuture<>();
+            if (asyncRefresh.compareAndSet(null, refresh)) {
+                NonBlocking.runRefresh(() -> completeAsyncRefresh(refresh), e -> {
+                    asyncRefresh.compareAndSet(refresh, null);
+                    refresh.completeExceptionally(e);
+                });
+                return refresh;
+            }
+        }
+    }
+
+    private void completeAsyncRefresh(CompletableFuture<T> refresh) {
+        try {
+            T value = get();
+            asyncRefresh.compareAndSet(refresh, null);
+            refresh.complete(value);
+        } catch (RuntimeException | Error e) {
+            asyncRefresh.compareAndSet(refresh, null);
+            refresh.completeExceptionally(e);
+        }
+    }
+
     /**
      * Determines whether the value in this cache is stale, and all threads should block and wait for an updated value.
      */
     private boolean cacheIsStale() {
-        RefreshResult<T> currentCachedValue = cachedValue;
+        return cacheIsStale(cachedValue);
+    }
 
+    private boolean cacheIsStale(RefreshResult<T> currentCachedValue) {
         if (currentCachedValue == null) {
             return true;
         }
@@ -159,13 +254,31 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         return !now.isBefore(currentCachedValue.staleTime());
     }
 
+    /**
+     * Determines whether the cached value, which is stale, is still within the {@link #staleWhileRevalidate} window and can be
+     * returned while it is refreshed.
+     */
+    private boolean canReturnStaleValue() {
+        return canReturnStaleValue(cachedValue);
+    }
+
+    private boolean canReturnStaleValue(RefreshResult<T> currentCachedValue) {
+        if (staleWhileRevalidate.isZero() || currentCachedValue == null || currentCachedValue.staleTime() == null) {
+            return false;
+        }
+
+        return clock.instant().isBefore(currentCachedValue.staleTime().plus(staleWhileRevalidate));
+    }
+
     /**
      * Determines whether the cached value's prefetch time has passed and we should initiate a pre-fetch on the value using the
      * configured {@link #prefetchStrategy}.
      */
     private boolean shouldInitiateCachePrefetch() {
-        RefreshResult<T> currentCachedValue = cachedValue;
+        return shouldInitiateCachePrefetch(cachedValue);
+    }
 
+    private boolean shouldInitiateCachePrefetch(RefreshResult<T> currentCachedValue) {
         if (currentCachedValue == null) {
             return false;
         }
@@ -362,6 +475,7 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         private StaleValueBehavior staleValueBehavior = StaleValueBehavior.STRICT;
         private Clock clock = Clock.systemUTC();
         private String cachedValueName = "unknown";
+        private Duration staleWhileRevalidate = Duration.ZERO;
 
         private Builder(Supplier<RefreshResult<T>> supplier) {
             this.supplier = supplier;
@@ -401,6 +515,22 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Configure how long after its {@link RefreshResult#staleTime()} the cached value is still returned while it is
+         * refreshed using the configured {@link PrefetchStrategy}, instead of having callers block until it is refreshed. With
+         * the {@link NonBlocking} strategy, no caller blocks on a refresh during this window. Once it has passed without a
+         * successful refresh, callers block as if no window was configured.
+         *
+         * This should only be used when the value remains usable for at least this long after its stale time, for example
+         * when the stale time is set a safety margin ahead of the value's actual expiration.
+         *
+         * By default, this is zero and callers always block when the cached value is stale.
+         */
+        public Builder<T> staleWhileRevalidate(Duration staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+            return this;
+        }
+
         /**
          * Configure the clock used for this cached supplier. Configurable for testing.
          */
@@ -21,11 +21,13 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -37,16 +39,26 @@ import software.amazon.awssdk.utils.ThreadFactoryBuilder;
  * prefetch on this strategy will never return.
  *
  * Multiple calls to {@link #prefetch(Runnable)} will still only result in one background task performing the update.
+ *
+ * All instances share the same scheduler and refresh threads, and no more than {@link #MAX_CONCURRENT_REFRESHES} refreshes run
+ * at a time. A refresh that can't start because too many others are running is tried again after a random delay, so that many
+ * instances whose values expire at the same time are refreshed a bounded number at a time instead of some not at all.
  */
 @SdkProtectedApi
 public class NonBlocking implements CachedSupplier.PrefetchStrategy {
     private static final Logger log = Logger.loggerFor(NonBlocking.class);
 
     /**
-     * The maximum number of concurrent refreshes before we start logging warnings and skipping refreshes.
+     * The maximum number of concurrent refreshes before we start deferring refreshes.
      */
     private static final int MAX_CONCURRENT_REFRESHES = 100;
 
+    /**
+     * The range of the random delay after which a deferred refresh is tried again.
+     */
+    private static final long MIN_REFRESH_DEFERRAL_MILLIS = 100;
+    private static final long MAX_REFRESH_DEFERRAL_MILLIS = 1_000;
+
     /**
      * The semaphore around concurrent background refreshes, enforcing the {@link #MAX_CONCURRENT_REFRESHES}.
      */
@@ -63,8 +75,8 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
 
     /**
      * Threads used to do the actual work of refreshing the values (because the cached supplier might block, so we don't
-     * want the work to be done by a small thread pool). This executor is created as unbounded, but we start complaining and
-     * skipping refreshes when there are more than {@link #MAX_CONCURRENT_REFRESHES} running.
+     * want the work to be done by a small thread pool). This executor is created as unbounded, but we start deferring
+     * refreshes when there are more than {@link #MAX_CONCURRENT_REFRESHES} running.
      */
     private static final ThreadPoolExecutor EXECUTOR =
         new ThreadPoolExecutor(1, Integer.MAX_VALUE,
@@ -118,6 +130,38 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         this.asyncThreadName = asyncThreadName + "-" + INSTANCE_NUMBER.getAndIncrement();
     }
 
+    /**
+     * Run a refresh on the thread pool shared by all instances, counting it against {@link #MAX_CONCURRENT_REFRESHES} like
+     * the background refreshes. {@link CachedSupplier#getAsync()} uses this to refresh values without blocking the calling
+     * thread, whatever the prefetch strategy. Callers are waiting for the refresh, so unlike background refreshes it is
+     * deferred even after instances are closed, and {@code onSubmitFailure} is called if it can't be scheduled at all.
+     */
+    static void runRefresh(Runnable refresh, Consumer<Throwable> onSubmitFailure) {
+        if (!CONCURRENT_REFRESH_LEASES.tryAcquire()) {
+            long delayMillis = ThreadLocalRandom.current().nextLong(MIN_REFRESH_DEFERRAL_MILLIS, MAX_REFRESH_DEFERRAL_MILLIS);
+            log.debug(() -> "Deferring a refresh by " + delayMillis + " ms because there are too many other refreshes running.");
+            try {
+                SCHEDULER.schedule(() -> runRefresh(refresh, onSubmitFailure), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (Throwable t) {
+                onSubmitFailure.accept(t);
+            }
+            return;
+        }
+
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    refresh.run();
+                } finally {
+                    CONCURRENT_REFRESH_LEASES.release();
+                }
+            });
+        } catch (Throwable t) {
+            CONCURRENT_REFRESH_LEASES.release();
+            onSubmitFailure.accept(t);
+        }
+    }
+
     @SdkTestInternalApi
     static ThreadPoolExecutor executor() {
         return EXECUTOR;
@@ -210,8 +254,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
 
     public void tryRunBackgroundTask(Runnable runnable, Runnable runOnCompletion) {
         if (!CONCURRENT_REFRESH_LEASES.tryAcquire()) {
-            log.warn(() -> "Skipping a background refresh task because there are too many other tasks running.");
-            runOnCompletion.run();
+            deferBackgroundTask(runnable, runOnCompletion);
             return;
         }
 
@@ -235,6 +278,23 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         }
     }
 
+    private void deferBackgroundTask(Runnable runnable, Runnable runOnCompletion) {
+        if (shutdown) {
+            runOnCompletion.run();
+            return;
+        }
+
+        long delayMillis = ThreadLocalRandom.current().nextLong(MIN_REFRESH_DEFERRAL_MILLIS, MAX_REFRESH_DEFERRAL_MILLIS);
+        log.debug(() -> "Deferring a background refresh task by " + delayMillis + " ms because there are too many other tasks "
+                        + "running.");
+        try {
+            SCHEDULER.schedule(() -> tryRunBackgroundTask(runnable, runOnCompletion), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (Throwable t) {
+            log.warn(() -> "Exception occurred when deferring AWS SDK background task.", t);
+            runOnCompletion.run();
+        }
+    }
+
     public void runWithInstanceThreadName(Runnable runnable) {
         String baseThreadName = Thread.currentThread().getName();
         try {
@@ -375,6 +375,32 @@ public class ByteBufferStoringSubscriberTest {
         assertThat(out.hasRemaining()).isFalse();
     }
 
+    @Test
+    public void partialTransfers_deliverAllDataAndLeavePublishedBufferUnchanged() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5});
+
+        ByteBufferStoringSubscriber subscriber = new ByteBufferStoringSubscriber(5);
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(buffer);
+        subscriber.onComplete();
+
+        ByteBuffer out = emptyByteBufferOfSize(2);
+        assertThat(subscriber.transferTo(out)).isEqualTo(TransferResult.SUCCESS);
+        assertThat(out.array()).containsExactly(1, 2);
+
+        out.clear();
+        assertThat(subscriber.transferTo(out)).isEqualTo(TransferResult.SUCCESS);
+        assertThat(out.array()).containsExactly(3, 4);
+
+        out.clear();
+        assertThat(subscriber.transferTo(out)).isEqualTo(TransferResult.END_OF_STREAM);
+        assertThat(out.position()).isEqualTo(1);
+        assertThat(out.get(0)).isEqualTo((byte) 5);
+
+        assertThat(buffer.position()).isEqualTo(0);
+        assertThat(buffer.limit()).isEqualTo(5);
+    }
+
     @Test
     @Timeout(30)
     public void stochastic_subscriberSeemsThreadSafe() throws Throwable {
@@ -27,6 +27,7 @@ import static software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavi
 
 import java.io.Closeable;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -34,6 +35,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -486,6 +488,133 @@ public class CachedSupplierTest {
         }
     }
 
+    @Test
+    public void staleValueIsReturnedWhileItIsRefreshedWithinStaleWhileRevalidateWindow() throws InterruptedException {
+        AdjustableClock clock = new AdjustableClock();
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(() -> now().plus(1, ChronoUnit.MINUTES), this::future);
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .prefetchStrategy(new NonBlocking("test-%s"))
+                                                                   .staleWhileRevalidate(Duration.ofMinutes(2))
+                                                                   .clock(clock)
+                                                                   .build()) {
+            // Perform one successful "get".
+            waitingSupplier.permits.release(1);
+            clock.time = now();
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // Perform "get"s on the stale value, which should return without waiting for the refresh to finish.
+            clock.time = now().plus(61, ChronoUnit.SECONDS);
+            waitFor(performAsyncGets(cachedSupplier, 5));
+            waitingSupplier.waitForGetsToHaveStarted(2);
+
+            // Make sure the refresh was only done once, in the background.
+            Thread.sleep(1_000);
+            assertThat(waitingSupplier.startedGetPermits.availablePermits()).isZero();
+            assertThat(waitingSupplier.finishedGetPermits.availablePermits()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void staleValueBlocksAllCallsAfterStaleWhileRevalidateWindow() throws InterruptedException {
+        AdjustableClock clock = new AdjustableClock();
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(() -> now().plus(1, ChronoUnit.MINUTES), this::future);
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .prefetchStrategy(new NonBlocking("test-%s"))
+                                                                   .staleWhileRevalidate(Duration.ofMinutes(2))
+                                                                   .clock(clock)
+                                                                   .build()) {
+            // Perform one successful "get".
+            waitingSupplier.permits.release(1);
+            clock.time = now();
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // Perform two "get"s after the window has passed, and wait for them to get stuck.
+            clock.time = now().plus(181, ChronoUnit.SECONDS);
+            List<Future<?>> futures = performAsyncGets(cachedSupplier, 2);
+            waitingSupplier.waitForGetsToHaveStarted(2);
+            Thread.sleep(1_000);
+            assertThat(futures).allMatch(f -> !f.isDone());
+
+            // Release any "gets" that blocked and wait for them to finish.
+            waitingSupplier.permits.release(50);
+            waitForAsyncGetsToFinish();
+        }
+    }
+
+    @Test
+    public void getAsyncDoesNotBlockWhileValueIsRefreshed() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), future());
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier).build()) {
+            CompletableFuture<String> first = cachedSupplier.getAsync();
+            CompletableFuture<String> second = cachedSupplier.getAsync();
+
+            // Both callers wait for the same refresh, which hasn't been allowed to finish yet.
+            waitingSupplier.waitForGetsToHaveStarted(1);
+            assertThat(first).isNotDone();
+            assertThat(second).isSameAs(first);
+
+            waitingSupplier.permits.release(1);
+            assertThat(first.join()).isEqualTo("value");
+            assertThat(waitingSupplier.startedGetPermits.availablePermits()).isZero();
+
+            // Once the value is cached, it is returned immediately.
+            assertThat(cachedSupplier.getAsync()).isCompletedWithValue("value");
+        }
+    }
+
+    @Test
+    public void getAsyncReturnsStaleValueWithinStaleWhileRevalidateWindow() {
+        AdjustableClock clock = new AdjustableClock();
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(() -> now().plus(1, ChronoUnit.MINUTES), this::future);
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .staleWhileRevalidate(Duration.ofMinutes(2))
+                                                                   .clock(clock)
+                                                                   .build()) {
+            waitingSupplier.permits.release(1);
+            clock.time = now();
+            assertThat(cachedSupplier.getAsync().join()).isEqualTo("value");
+
+            // The stale value is returned immediately, while it is refreshed in the background.
+            clock.time = now().plus(61, ChronoUnit.SECONDS);
+            assertThat(cachedSupplier.getAsync()).isCompletedWithValue("value");
+            waitingSupplier.waitForGetsToHaveStarted(2);
+        }
+    }
+
+    @Test
+    public void getAsyncWithNonBlockingStrategyPrefetchesOnceWithoutWaiting() {
+        AdjustableClock clock = new AdjustableClock();
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(() -> now().plus(1, ChronoUnit.HOURS),
+                                                                   () -> now().plus(1, ChronoUnit.MINUTES));
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .prefetchStrategy(new NonBlocking("test-%s"))
+                                                                   .jitterEnabled(false)
+                                                                   .clock(clock)
+                                                                   .build()) {
+            waitingSupplier.permits.release(1);
+            clock.time = now();
+            assertThat(cachedSupplier.getAsync().join()).isEqualTo("value");
+
+            // Callers in the prefetch window share the one background prefetch, and never wait for it.
+            clock.time = now().plus(2, ChronoUnit.MINUTES);
+            for (int i = 0; i < 10; i++) {
+                assertThat(cachedSupplier.getAsync()).isCompletedWithValue("value");
+            }
+            waitingSupplier.waitForGetsToHaveStarted(2);
+            assertThat(waitingSupplier.startedGetPermits.availablePermits()).isZero();
+
+            waitingSupplier.permits.release(1);
+        }
+    }
+
+    @Test
+    public void getAsyncCompletesExceptionallyWhenRefreshFails() {
+        RuntimeException failure = new RuntimeException("refresh failed");
+        try (CachedSupplier<String> cachedSupplier = CachedSupplier.builder(new MutableSupplier().set(failure)).build()) {
+            assertThatThrownBy(() -> cachedSupplier.getAsync().join()).hasCause(failure);
+        }
+    }
+
     @Test
     public void threadsAreSharedBetweenNonBlockingInstances() throws InterruptedException {
         int maxActive = runAndCountThreads(() -> {
@@ -542,6 +671,28 @@ public class CachedSupplierTest {
         }
     }
 
+    @Test
+    public void getAsyncRefreshesHaveMaxCount() throws InterruptedException {
+        List<CompletableFuture<String>> values = new ArrayList<>();
+        int maxActive = runAndCountThreads(() -> {
+            List<CachedSupplier<?>> css = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                CachedSupplier<String> supplier =
+                    CachedSupplier.builder(() -> {
+                        invokeSafely(() -> Thread.sleep(100));
+                        return RefreshResult.builder("foo").staleTime(future()).build();
+                    }).build();
+                values.add(supplier.getAsync());
+                css.add(supplier);
+            }
+            return css;
+        });
+
+        assertThat(maxActive).isBetween(2, 150);
+        assertThat(CompletableFuture.allOf(values.toArray(new CompletableFuture[0])))
+            .succeedsWithin(Duration.ofSeconds(30));
+    }
+
     /**
      * Run the provided supplier, measure the non-blocking executor thread count, and return the result. If the result is 0,
      * try again. This makes our stochastic tests ~100% reliable instead of ~99%.